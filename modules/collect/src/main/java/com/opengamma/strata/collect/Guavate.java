@@ -18,6 +18,7 @@ import java.util.Optional;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -830,6 +831,30 @@ public final class Guavate {
     return collectingAndThen(entriesToImmutableMap(), Guavate::combineFuturesAsMap);
   }
 
+  /**
+   * Waits for the result of a future, rethrowing any runtime exception thrown by its task.
+   * <p>
+   * The {@link CompletableFuture#join()} method wraps any exception of the task in a {@link CompletionException}.
+   * This method unwraps the exception if it is a runtime exception, allowing tasks run by an executor
+   * to fail with the same exceptions as when they are run in the calling thread.
+   * Other exceptions, including cancellation, are thrown as by {@code join()}.
+   *
+   * @param <T> the type of the result
+   * @param future  the future to wait for
+   * @return the result of the future
+   * @throws RuntimeException if the task throws a runtime exception
+   */
+  public static <T> T join(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException ex) {
+      if (ex.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) ex.getCause();
+      }
+      throw ex;
+    }
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Polls on a regular frequency until a result is found.
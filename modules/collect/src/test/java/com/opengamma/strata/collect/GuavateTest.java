@@ -415,6 +415,25 @@ public class GuavateTest {
     assertEquals(combined.get(1), "B");
   }
 
+  public void test_join() {
+    CompletableFuture<String> future = CompletableFuture.supplyAsync(() -> "A");
+    assertEquals(Guavate.join(future), "A");
+  }
+
+  public void test_join_runtimeException() {
+    CompletableFuture<String> future = CompletableFuture.supplyAsync(() -> {
+      throw new IllegalStateException("Oops");
+    });
+    assertThrows(IllegalStateException.class, () -> Guavate.join(future));
+  }
+
+  public void test_join_error() {
+    CompletableFuture<String> future = CompletableFuture.supplyAsync(() -> {
+      throw new AssertionError("Oops");
+    });
+    assertThrows(CompletionException.class, () -> Guavate.join(future));
+  }
+
   //-------------------------------------------------------------------------
   public void test_combineFuturesAsMap() {
     CompletableFuture<String> future1 = new CompletableFuture<>();
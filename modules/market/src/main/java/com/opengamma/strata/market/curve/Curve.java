@@ -14,6 +14,7 @@ import java.util.stream.IntStream;
 import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
 import com.opengamma.strata.market.param.ParameterMetadata;
 import com.opengamma.strata.market.param.ParameterPerturbation;
@@ -114,6 +115,64 @@ public interface Curve extends ParameterizedData {
    */
   public abstract double firstDerivative(double x);
 
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the y-values for the specified x-values.
+   * <p>
+   * The x-values may be in any order, although implementations may be faster
+   * if they are sorted from low to high.
+   * The result is the same as calling {@link #yValue(double)} for each x-value.
+   * 
+   * @param xValues  the x-values to find the y-values for
+   * @return the values at the x-values, one for each x-value
+   */
+  public default double[] yValue(double[] xValues) {
+    double[] result = new double[xValues.length];
+    for (int i = 0; i < xValues.length; i++) {
+      result[i] = yValue(xValues[i]);
+    }
+    return result;
+  }
+
+  /**
+   * Computes the sensitivities of the y-values with respect to the curve parameters.
+   * <p>
+   * This returns a matrix with one row for each x-value and one column for each parameter of the curve.
+   * The x-values may be in any order, although implementations may be faster
+   * if they are sorted from low to high.
+   * Each row is the same as the sensitivity returned by {@link #yValueParameterSensitivity(double)}.
+   * 
+   * @param xValues  the x-values at which the parameter sensitivities are computed
+   * @return the sensitivities, one row for each x-value
+   * @throws RuntimeException if a sensitivity cannot be calculated
+   */
+  public default DoubleMatrix yValueParameterSensitivity(double[] xValues) {
+    double[][] result = new double[xValues.length][];
+    for (int i = 0; i < xValues.length; i++) {
+      result[i] = yValueParameterSensitivity(xValues[i]).getSensitivity().toArrayUnsafe();
+    }
+    return DoubleMatrix.ofUnsafe(result);
+  }
+
+  /**
+   * Computes the first derivatives of the curve at the specified x-values.
+   * <p>
+   * The x-values may be in any order, although implementations may be faster
+   * if they are sorted from low to high.
+   * The result is the same as calling {@link #firstDerivative(double)} for each x-value.
+   * 
+   * @param xValues  the x-values at which the derivatives are taken
+   * @return the first derivatives, one for each x-value
+   * @throws RuntimeException if a derivative cannot be calculated
+   */
+  public default double[] firstDerivative(double[] xValues) {
+    double[] result = new double[xValues.length];
+    for (int i = 0; i < xValues.length; i++) {
+      result[i] = firstDerivative(xValues[i]);
+    }
+    return result;
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Creates a parameter sensitivity instance for this curve when the sensitivity values are known.
@@ -31,6 +31,7 @@ import org.joda.beans.impl.direct.DirectMetaPropertyMap;
 
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
 import com.opengamma.strata.market.curve.interpolator.BoundCurveInterpolator;
 import com.opengamma.strata.market.curve.interpolator.CurveExtrapolator;
 import com.opengamma.strata.market.curve.interpolator.CurveExtrapolators;
@@ -253,6 +254,21 @@ public final class InterpolatedNodalCurve
     return boundInterpolator.firstDerivative(x);
   }
 
+  @Override
+  public double[] yValue(double[] xValues) {
+    return boundInterpolator.interpolate(xValues);
+  }
+
+  @Override
+  public DoubleMatrix yValueParameterSensitivity(double[] xValues) {
+    return boundInterpolator.parameterSensitivity(xValues);
+  }
+
+  @Override
+  public double[] firstDerivative(double[] xValues) {
+    return boundInterpolator.firstDerivative(xValues);
+  }
+
   //-------------------------------------------------------------------------
   @Override
   public InterpolatedNodalCurve withMetadata(CurveMetadata metadata) {
@@ -0,0 +1,629 @@
+/*
+ * Copyright (C) 2018 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.curve;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.stream.IntStream;
+
+import org.joda.beans.Bean;
+import org.joda.beans.BeanBuilder;
+import org.joda.beans.ImmutableBean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
+import org.joda.beans.gen.BeanDefinition;
+import org.joda.beans.gen.ImmutableConstructor;
+import org.joda.beans.gen.ImmutableDefaults;
+import org.joda.beans.gen.PropertyDefinition;
+import org.joda.beans.impl.direct.DirectMetaBean;
+import org.joda.beans.impl.direct.DirectMetaProperty;
+import org.joda.beans.impl.direct.DirectMetaPropertyMap;
+import org.joda.beans.impl.direct.DirectPrivateBeanBuilder;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.data.scenario.ScenarioArray;
+import com.opengamma.strata.market.curve.interpolator.CurveExtrapolator;
+import com.opengamma.strata.market.curve.interpolator.CurveExtrapolators;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolator;
+
+/**
+ * A scenario array of interpolated nodal curves sharing the same nodes.
+ * <p>
+ * Each scenario has the same metadata, x-values, interpolator and extrapolators.
+ * The y-values are held as a matrix, with one row for each scenario.
+ * <p>
+ * The y-value methods evaluate all the scenarios at a single x-value, returning
+ * a {@link DoubleArray} with one element for each scenario.
+ * <p>
+ * As the class implements {@code ScenarioArray<Curve>}, it can be used directly
+ * as the scenario value of a curve in scenario market data.
+ */
+@BeanDefinition(builderScope = "private")
+public final class InterpolatedNodalCurveScenarioArray
+    implements ScenarioArray<Curve>, ImmutableBean, Serializable {
+
+  /**
+   * The curve metadata, shared by all scenarios.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final CurveMetadata metadata;
+  /**
+   * The array of x-values, one for each node, shared by all scenarios.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final DoubleArray xValues;
+  /**
+   * The matrix of y-values, one row for each scenario and one column for each node.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final DoubleMatrix yValues;
+  /**
+   * The interpolator.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final CurveInterpolator interpolator;
+  /**
+   * The extrapolator for x-values on the left, defaulted to 'Flat".
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final CurveExtrapolator extrapolatorLeft;
+  /**
+   * The extrapolator for x-values on the right, defaulted to 'Flat".
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final CurveExtrapolator extrapolatorRight;
+  /**
+   * The curves, one for each scenario.
+   */
+  private final transient ImmutableList<InterpolatedNodalCurve> curves;  // derived, not a property
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance from the shared definition and a matrix of y-values.
+   *
+   * @param metadata  the curve metadata
+   * @param xValues  the x-values
+   * @param yValues  the y-values, one row for each scenario
+   * @param interpolator  the interpolator
+   * @param extrapolatorLeft  the extrapolator for extrapolating off the left-hand end of the curve
+   * @param extrapolatorRight  the extrapolator for extrapolating off the right-hand end of the curve
+   * @return the scenario curves
+   */
+  public static InterpolatedNodalCurveScenarioArray of(
+      CurveMetadata metadata,
+      DoubleArray xValues,
+      DoubleMatrix yValues,
+      CurveInterpolator interpolator,
+      CurveExtrapolator extrapolatorLeft,
+      CurveExtrapolator extrapolatorRight) {
+
+    return new InterpolatedNodalCurveScenarioArray(
+        metadata, xValues, yValues, interpolator, extrapolatorLeft, extrapolatorRight);
+  }
+
+  /**
+   * Obtains an instance from a list of curves, one for each scenario.
+   * <p>
+   * The curves must have the same x-values, interpolator and extrapolators.
+   * The metadata of the first curve is used.
+   *
+   * @param curves  the curves, one for each scenario
+   * @return the scenario curves
+   * @throws IllegalArgumentException if the curves do not share the same nodes
+   */
+  public static InterpolatedNodalCurveScenarioArray of(List<InterpolatedNodalCurve> curves) {
+    ArgChecker.notEmpty(curves, "curves");
+    InterpolatedNodalCurve first = curves.get(0);
+    for (InterpolatedNodalCurve curve : curves) {
+      ArgChecker.isTrue(
+          curve.getXValues().equals(first.getXValues()) &&
+              curve.getInterpolator().equals(first.getInterpolator()) &&
+              curve.getExtrapolatorLeft().equals(first.getExtrapolatorLeft()) &&
+              curve.getExtrapolatorRight().equals(first.getExtrapolatorRight()),
+          "Curves must share the same x-values, interpolator and extrapolators");
+    }
+    DoubleMatrix yValues = DoubleMatrix.ofArrayObjects(
+        curves.size(), first.getParameterCount(), i -> curves.get(i).getYValues());
+    return new InterpolatedNodalCurveScenarioArray(
+        first.getMetadata(),
+        first.getXValues(),
+        yValues,
+        first.getInterpolator(),
+        first.getExtrapolatorLeft(),
+        first.getExtrapolatorRight());
+  }
+
+  //-------------------------------------------------------------------------
+  @ImmutableConstructor
+  private InterpolatedNodalCurveScenarioArray(
+      CurveMetadata metadata,
+      DoubleArray xValues,
+      DoubleMatrix yValues,
+      CurveInterpolator interpolator,
+      CurveExtrapolator extrapolatorLeft,
+      CurveExtrapolator extrapolatorRight) {
+
+    JodaBeanUtils.notNull(metadata, "metadata");
+    JodaBeanUtils.notNull(xValues, "xValues");
+    JodaBeanUtils.notNull(yValues, "yValues");
+    JodaBeanUtils.notNull(interpolator, "interpolator");
+    JodaBeanUtils.notNull(extrapolatorLeft, "extrapolatorLeft");
+    JodaBeanUtils.notNull(extrapolatorRight, "extrapolatorRight");
+    ArgChecker.isTrue(yValues.rowCount() > 0, "There must be at least one scenario");
+    ArgChecker.isTrue(
+        yValues.columnCount() == xValues.size(), "Length of x-values and columns of y-values must match");
+    this.metadata = metadata;
+    this.xValues = xValues;
+    this.yValues = yValues;
+    this.interpolator = interpolator;
+    this.extrapolatorLeft = extrapolatorLeft;
+    this.extrapolatorRight = extrapolatorRight;
+    this.curves = IntStream.range(0, yValues.rowCount())
+        .mapToObj(i -> InterpolatedNodalCurve.of(
+            metadata, xValues, yValues.row(i), interpolator, extrapolatorLeft, extrapolatorRight))
+        .collect(toImmutableList());
+  }
+
+  @ImmutableDefaults
+  private static void applyDefaults(Builder builder) {
+    builder.extrapolatorLeft = CurveExtrapolators.FLAT;
+    builder.extrapolatorRight = CurveExtrapolators.FLAT;
+  }
+
+  // ensure standard constructor is invoked
+  private Object readResolve() {
+    return new InterpolatedNodalCurveScenarioArray(
+        metadata, xValues, yValues, interpolator, extrapolatorLeft, extrapolatorRight);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public int getScenarioCount() {
+    return yValues.rowCount();
+  }
+
+  @Override
+  public InterpolatedNodalCurve get(int scenarioIndex) {
+    return curves.get(scenarioIndex);
+  }
+
+  /**
+   * Gets the curve name.
+   *
+   * @return the curve name
+   */
+  public CurveName getName() {
+    return metadata.getCurveName();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the y-value for the specified x-value in each scenario.
+   *
+   * @param x  the x-value to find the y-value for
+   * @return the y-values, one for each scenario
+   */
+  public DoubleArray yValue(double x) {
+    double[] result = new double[curves.size()];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = curves.get(i).yValue(x);
+    }
+    return DoubleArray.ofUnsafe(result);
+  }
+
+  /**
+   * Computes the first derivative of the curve at the specified x-value in each scenario.
+   *
+   * @param x  the x-value at which the derivative is taken
+   * @return the first derivatives, one for each scenario
+   */
+  public DoubleArray firstDerivative(double x) {
+    double[] result = new double[curves.size()];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = curves.get(i).firstDerivative(x);
+    }
+    return DoubleArray.ofUnsafe(result);
+  }
+
+  //------------------------- AUTOGENERATED START -------------------------
+  /**
+   * The meta-bean for {@code InterpolatedNodalCurveScenarioArray}.
+   * @return the meta-bean, not null
+   */
+  public static InterpolatedNodalCurveScenarioArray.Meta meta() {
+    return InterpolatedNodalCurveScenarioArray.Meta.INSTANCE;
+  }
+
+  static {
+    MetaBean.register(InterpolatedNodalCurveScenarioArray.Meta.INSTANCE);
+  }
+
+  /**
+   * The serialization version id.
+   */
+  private static final long serialVersionUID = 1L;
+
+  @Override
+  public InterpolatedNodalCurveScenarioArray.Meta metaBean() {
+    return InterpolatedNodalCurveScenarioArray.Meta.INSTANCE;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the curve metadata, shared by all scenarios.
+   * @return the value of the property, not null
+   */
+  public CurveMetadata getMetadata() {
+    return metadata;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the array of x-values, one for each node, shared by all scenarios.
+   * @return the value of the property, not null
+   */
+  public DoubleArray getXValues() {
+    return xValues;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the matrix of y-values, one row for each scenario and one column for each node.
+   * @return the value of the property, not null
+   */
+  public DoubleMatrix getYValues() {
+    return yValues;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the interpolator.
+   * @return the value of the property, not null
+   */
+  public CurveInterpolator getInterpolator() {
+    return interpolator;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the extrapolator for x-values on the left, defaulted to 'Flat".
+   * @return the value of the property, not null
+   */
+  public CurveExtrapolator getExtrapolatorLeft() {
+    return extrapolatorLeft;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the extrapolator for x-values on the right, defaulted to 'Flat".
+   * @return the value of the property, not null
+   */
+  public CurveExtrapolator getExtrapolatorRight() {
+    return extrapolatorRight;
+  }
+
+  //-----------------------------------------------------------------------
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj != null && obj.getClass() == this.getClass()) {
+      InterpolatedNodalCurveScenarioArray other = (InterpolatedNodalCurveScenarioArray) obj;
+      return JodaBeanUtils.equal(metadata, other.metadata) &&
+          JodaBeanUtils.equal(xValues, other.xValues) &&
+          JodaBeanUtils.equal(yValues, other.yValues) &&
+          JodaBeanUtils.equal(interpolator, other.interpolator) &&
+          JodaBeanUtils.equal(extrapolatorLeft, other.extrapolatorLeft) &&
+          JodaBeanUtils.equal(extrapolatorRight, other.extrapolatorRight);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = getClass().hashCode();
+    hash = hash * 31 + JodaBeanUtils.hashCode(metadata);
+    hash = hash * 31 + JodaBeanUtils.hashCode(xValues);
+    hash = hash * 31 + JodaBeanUtils.hashCode(yValues);
+    hash = hash * 31 + JodaBeanUtils.hashCode(interpolator);
+    hash = hash * 31 + JodaBeanUtils.hashCode(extrapolatorLeft);
+    hash = hash * 31 + JodaBeanUtils.hashCode(extrapolatorRight);
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder buf = new StringBuilder(224);
+    buf.append("InterpolatedNodalCurveScenarioArray{");
+    buf.append("metadata").append('=').append(metadata).append(',').append(' ');
+    buf.append("xValues").append('=').append(xValues).append(',').append(' ');
+    buf.append("yValues").append('=').append(yValues).append(',').append(' ');
+    buf.append("interpolator").append('=').append(interpolator).append(',').append(' ');
+    buf.append("extrapolatorLeft").append('=').append(extrapolatorLeft).append(',').append(' ');
+    buf.append("extrapolatorRight").append('=').append(JodaBeanUtils.toString(extrapolatorRight));
+    buf.append('}');
+    return buf.toString();
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * The meta-bean for {@code InterpolatedNodalCurveScenarioArray}.
+   */
+  public static final class Meta extends DirectMetaBean {
+    /**
+     * The singleton instance of the meta-bean.
+     */
+    static final Meta INSTANCE = new Meta();
+
+    /**
+     * The meta-property for the {@code metadata} property.
+     */
+    private final MetaProperty<CurveMetadata> metadata = DirectMetaProperty.ofImmutable(
+        this, "metadata", InterpolatedNodalCurveScenarioArray.class, CurveMetadata.class);
+    /**
+     * The meta-property for the {@code xValues} property.
+     */
+    private final MetaProperty<DoubleArray> xValues = DirectMetaProperty.ofImmutable(
+        this, "xValues", InterpolatedNodalCurveScenarioArray.class, DoubleArray.class);
+    /**
+     * The meta-property for the {@code yValues} property.
+     */
+    private final MetaProperty<DoubleMatrix> yValues = DirectMetaProperty.ofImmutable(
+        this, "yValues", InterpolatedNodalCurveScenarioArray.class, DoubleMatrix.class);
+    /**
+     * The meta-property for the {@code interpolator} property.
+     */
+    private final MetaProperty<CurveInterpolator> interpolator = DirectMetaProperty.ofImmutable(
+        this, "interpolator", InterpolatedNodalCurveScenarioArray.class, CurveInterpolator.class);
+    /**
+     * The meta-property for the {@code extrapolatorLeft} property.
+     */
+    private final MetaProperty<CurveExtrapolator> extrapolatorLeft = DirectMetaProperty.ofImmutable(
+        this, "extrapolatorLeft", InterpolatedNodalCurveScenarioArray.class, CurveExtrapolator.class);
+    /**
+     * The meta-property for the {@code extrapolatorRight} property.
+     */
+    private final MetaProperty<CurveExtrapolator> extrapolatorRight = DirectMetaProperty.ofImmutable(
+        this, "extrapolatorRight", InterpolatedNodalCurveScenarioArray.class, CurveExtrapolator.class);
+    /**
+     * The meta-properties.
+     */
+    private final Map<String, MetaProperty<?>> metaPropertyMap$ = new DirectMetaPropertyMap(
+        this, null,
+        "metadata",
+        "xValues",
+        "yValues",
+        "interpolator",
+        "extrapolatorLeft",
+        "extrapolatorRight");
+
+    /**
+     * Restricted constructor.
+     */
+    private Meta() {
+    }
+
+    @Override
+    protected MetaProperty<?> metaPropertyGet(String propertyName) {
+      switch (propertyName.hashCode()) {
+        case -450004177:  // metadata
+          return metadata;
+        case 1681280954:  // xValues
+          return xValues;
+        case -1726182661:  // yValues
+          return yValues;
+        case 2096253127:  // interpolator
+          return interpolator;
+        case 1271703994:  // extrapolatorLeft
+          return extrapolatorLeft;
+        case 773779145:  // extrapolatorRight
+          return extrapolatorRight;
+      }
+      return super.metaPropertyGet(propertyName);
+    }
+
+    @Override
+    public BeanBuilder<? extends InterpolatedNodalCurveScenarioArray> builder() {
+      return new InterpolatedNodalCurveScenarioArray.Builder();
+    }
+
+    @Override
+    public Class<? extends InterpolatedNodalCurveScenarioArray> beanType() {
+      return InterpolatedNodalCurveScenarioArray.class;
+    }
+
+    @Override
+    public Map<String, MetaProperty<?>> metaPropertyMap() {
+      return metaPropertyMap$;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The meta-property for the {@code metadata} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<CurveMetadata> metadata() {
+      return metadata;
+    }
+
+    /**
+     * The meta-property for the {@code xValues} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<DoubleArray> xValues() {
+      return xValues;
+    }
+
+    /**
+     * The meta-property for the {@code yValues} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<DoubleMatrix> yValues() {
+      return yValues;
+    }
+
+    /**
+     * The meta-property for the {@code interpolator} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<CurveInterpolator> interpolator() {
+      return interpolator;
+    }
+
+    /**
+     * The meta-property for the {@code extrapolatorLeft} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<CurveExtrapolator> extrapolatorLeft() {
+      return extrapolatorLeft;
+    }
+
+    /**
+     * The meta-property for the {@code extrapolatorRight} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<CurveExtrapolator> extrapolatorRight() {
+      return extrapolatorRight;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    protected Object propertyGet(Bean bean, String propertyName, boolean quiet) {
+      switch (propertyName.hashCode()) {
+        case -450004177:  // metadata
+          return ((InterpolatedNodalCurveScenarioArray) bean).getMetadata();
+        case 1681280954:  // xValues
+          return ((InterpolatedNodalCurveScenarioArray) bean).getXValues();
+        case -1726182661:  // yValues
+          return ((InterpolatedNodalCurveScenarioArray) bean).getYValues();
+        case 2096253127:  // interpolator
+          return ((InterpolatedNodalCurveScenarioArray) bean).getInterpolator();
+        case 1271703994:  // extrapolatorLeft
+          return ((InterpolatedNodalCurveScenarioArray) bean).getExtrapolatorLeft();
+        case 773779145:  // extrapolatorRight
+          return ((InterpolatedNodalCurveScenarioArray) bean).getExtrapolatorRight();
+      }
+      return super.propertyGet(bean, propertyName, quiet);
+    }
+
+    @Override
+    protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
+      metaProperty(propertyName);
+      if (quiet) {
+        return;
+      }
+      throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
+    }
+
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * The bean-builder for {@code InterpolatedNodalCurveScenarioArray}.
+   */
+  private static final class Builder extends DirectPrivateBeanBuilder<InterpolatedNodalCurveScenarioArray> {
+
+    private CurveMetadata metadata;
+    private DoubleArray xValues;
+    private DoubleMatrix yValues;
+    private CurveInterpolator interpolator;
+    private CurveExtrapolator extrapolatorLeft;
+    private CurveExtrapolator extrapolatorRight;
+
+    /**
+     * Restricted constructor.
+     */
+    private Builder() {
+      applyDefaults(this);
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public Object get(String propertyName) {
+      switch (propertyName.hashCode()) {
+        case -450004177:  // metadata
+          return metadata;
+        case 1681280954:  // xValues
+          return xValues;
+        case -1726182661:  // yValues
+          return yValues;
+        case 2096253127:  // interpolator
+          return interpolator;
+        case 1271703994:  // extrapolatorLeft
+          return extrapolatorLeft;
+        case 773779145:  // extrapolatorRight
+          return extrapolatorRight;
+        default:
+          throw new NoSuchElementException("Unknown property: " + propertyName);
+      }
+    }
+
+    @Override
+    public Builder set(String propertyName, Object newValue) {
+      switch (propertyName.hashCode()) {
+        case -450004177:  // metadata
+          this.metadata = (CurveMetadata) newValue;
+          break;
+        case 1681280954:  // xValues
+          this.xValues = (DoubleArray) newValue;
+          break;
+        case -1726182661:  // yValues
+          this.yValues = (DoubleMatrix) newValue;
+          break;
+        case 2096253127:  // interpolator
+          this.interpolator = (CurveInterpolator) newValue;
+          break;
+        case 1271703994:  // extrapolatorLeft
+          this.extrapolatorLeft = (CurveExtrapolator) newValue;
+          break;
+        case 773779145:  // extrapolatorRight
+          this.extrapolatorRight = (CurveExtrapolator) newValue;
+          break;
+        default:
+          throw new NoSuchElementException("Unknown property: " + propertyName);
+      }
+      return this;
+    }
+
+    @Override
+    public InterpolatedNodalCurveScenarioArray build() {
+      return new InterpolatedNodalCurveScenarioArray(
+          metadata,
+          xValues,
+          yValues,
+          interpolator,
+          extrapolatorLeft,
+          extrapolatorRight);
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public String toString() {
+      StringBuilder buf = new StringBuilder(224);
+      buf.append("InterpolatedNodalCurveScenarioArray.Builder{");
+      buf.append("metadata").append('=').append(JodaBeanUtils.toString(metadata)).append(',').append(' ');
+      buf.append("xValues").append('=').append(JodaBeanUtils.toString(xValues)).append(',').append(' ');
+      buf.append("yValues").append('=').append(JodaBeanUtils.toString(yValues)).append(',').append(' ');
+      buf.append("interpolator").append('=').append(JodaBeanUtils.toString(interpolator)).append(',').append(' ');
+      buf.append("extrapolatorLeft").append('=').append(JodaBeanUtils.toString(extrapolatorLeft)).append(',').append(' ');
+      buf.append("extrapolatorRight").append('=').append(JodaBeanUtils.toString(extrapolatorRight));
+      buf.append('}');
+      return buf.toString();
+    }
+
+  }
+
+  //-------------------------- AUTOGENERATED END --------------------------
+}
@@ -7,6 +7,7 @@ package com.opengamma.strata.market.curve.interpolator;
 
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
 
 /**
  * Abstract interpolator implementation.
@@ -27,6 +28,10 @@ public abstract class AbstractBoundCurveInterpolator
    * The right extrapolator.
    */
   private final BoundCurveExtrapolator extrapolatorRight;
+  /**
+   * The x-values of the nodes.
+   */
+  private final double[] nodeXValues;
   /**
    * The x-value of the first node.
    */
@@ -54,6 +59,7 @@ public abstract class AbstractBoundCurveInterpolator
     ArgChecker.isTrue(size > 1, "Curve node arrays must have at least two nodes");
     this.extrapolatorLeft = ExceptionCurveExtrapolator.INSTANCE;
     this.extrapolatorRight = ExceptionCurveExtrapolator.INSTANCE;
+    this.nodeXValues = xValues.toArrayUnsafe();
     this.firstXValue = xValues.get(0);
     this.lastXValue = xValues.get(size - 1);
     this.lastYValue = yValues.get(size - 1);
@@ -73,6 +79,7 @@ public abstract class AbstractBoundCurveInterpolator
 
     this.extrapolatorLeft = ArgChecker.notNull(extrapolatorLeft, "extrapolatorLeft");
     this.extrapolatorRight = ArgChecker.notNull(extrapolatorRight, "extrapolatorRight");
+    this.nodeXValues = base.nodeXValues;
     this.firstXValue = base.firstXValue;
     this.lastXValue = base.lastXValue;
     this.lastYValue = base.lastYValue;
@@ -101,6 +108,21 @@ public abstract class AbstractBoundCurveInterpolator
    */
   protected abstract double doInterpolate(double xValue);
 
+  /**
+   * Method for subclasses to calculate the interpolated value when the lower bound index is known.
+   * <p>
+   * This is used by the batch methods, where the index is found by a cursor rather than a search.
+   * The index is the value that {@link #lowerBoundIndex(double, double[])} would return.
+   * Subclasses that search for the index in {@link #doInterpolate(double)} should override this method.
+   * 
+   * @param xValue  the x-value
+   * @param lowerIndex  the index of the last node whose x-value is lower than or equal to the x-value
+   * @return the interpolated y-value
+   */
+  protected double doInterpolate(double xValue, int lowerIndex) {
+    return doInterpolate(xValue);
+  }
+
   /**
    * Method for {@code InterpolatorCurveExtrapolator} to calculate the interpolated value.
    * <p>
@@ -134,6 +156,19 @@ public abstract class AbstractBoundCurveInterpolator
    */
   protected abstract double doFirstDerivative(double xValue);
 
+  /**
+   * Method for subclasses to calculate the first derivative when the lower bound index is known.
+   * <p>
+   * See {@link #doInterpolate(double, int)}.
+   * 
+   * @param xValue  the x-value
+   * @param lowerIndex  the index of the last node whose x-value is lower than or equal to the x-value
+   * @return the first derivative
+   */
+  protected double doFirstDerivative(double xValue, int lowerIndex) {
+    return doFirstDerivative(xValue);
+  }
+
   @Override
   public final DoubleArray parameterSensitivity(double xValue) {
     if (xValue < firstXValue) {
@@ -152,6 +187,108 @@ public abstract class AbstractBoundCurveInterpolator
    */
   protected abstract DoubleArray doParameterSensitivity(double xValue);
 
+  /**
+   * Method for subclasses to calculate parameter sensitivity when the lower bound index is known.
+   * <p>
+   * See {@link #doInterpolate(double, int)}.
+   * 
+   * @param xValue  the x-value
+   * @param lowerIndex  the index of the last node whose x-value is lower than or equal to the x-value
+   * @return the parameter sensitivity
+   */
+  protected DoubleArray doParameterSensitivity(double xValue, int lowerIndex) {
+    return doParameterSensitivity(xValue);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public double[] interpolate(double[] xValues) {
+    if (!isSorted(xValues)) {
+      return BoundCurveInterpolator.super.interpolate(xValues);
+    }
+    double[] result = new double[xValues.length];
+    int lowerIndex = 0;
+    for (int i = 0; i < xValues.length; i++) {
+      double xValue = xValues[i];
+      if (xValue < firstXValue) {
+        result[i] = extrapolatorLeft.leftExtrapolate(xValue);
+      } else if (xValue > lastXValue) {
+        result[i] = extrapolatorRight.rightExtrapolate(xValue);
+      } else if (xValue == lastXValue) {
+        result[i] = lastYValue;
+      } else {
+        lowerIndex = advanceLowerBoundIndex(xValue, lowerIndex);
+        result[i] = doInterpolate(xValue, lowerIndex);
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public double[] firstDerivative(double[] xValues) {
+    if (!isSorted(xValues)) {
+      return BoundCurveInterpolator.super.firstDerivative(xValues);
+    }
+    double[] result = new double[xValues.length];
+    int lowerIndex = 0;
+    for (int i = 0; i < xValues.length; i++) {
+      double xValue = xValues[i];
+      if (xValue < firstXValue) {
+        result[i] = extrapolatorLeft.leftExtrapolateFirstDerivative(xValue);
+      } else if (xValue > lastXValue) {
+        result[i] = extrapolatorRight.rightExtrapolateFirstDerivative(xValue);
+      } else {
+        lowerIndex = advanceLowerBoundIndex(xValue, lowerIndex);
+        result[i] = doFirstDerivative(xValue, lowerIndex);
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public DoubleMatrix parameterSensitivity(double[] xValues) {
+    if (!isSorted(xValues)) {
+      return BoundCurveInterpolator.super.parameterSensitivity(xValues);
+    }
+    double[][] result = new double[xValues.length][];
+    int lowerIndex = 0;
+    for (int i = 0; i < xValues.length; i++) {
+      double xValue = xValues[i];
+      DoubleArray sensitivity;
+      if (xValue < firstXValue) {
+        sensitivity = extrapolatorLeft.leftExtrapolateParameterSensitivity(xValue);
+      } else if (xValue > lastXValue) {
+        sensitivity = extrapolatorRight.rightExtrapolateParameterSensitivity(xValue);
+      } else {
+        lowerIndex = advanceLowerBoundIndex(xValue, lowerIndex);
+        sensitivity = doParameterSensitivity(xValue, lowerIndex);
+      }
+      result[i] = sensitivity.toArrayUnsafe();
+    }
+    return DoubleMatrix.ofUnsafe(result);
+  }
+
+  // checks if the x-values are sorted from low to high
+  private static boolean isSorted(double[] xValues) {
+    for (int i = 1; i < xValues.length; i++) {
+      if (xValues[i] < xValues[i - 1]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // moves the cursor forward to the lower bound index of an x-value within the nodes
+  // the x-value must not be lower than the x-value at the cursor, which holds for sorted input
+  // the result matches lowerBoundIndex(), including for negative zero as -0d <= 0d
+  private int advanceLowerBoundIndex(double xValue, int lowerIndex) {
+    int index = lowerIndex;
+    while (index < nodeXValues.length - 1 && nodeXValues[index + 1] <= xValue) {
+      index++;
+    }
+    return index;
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Returns the index of the last value in the input array which is lower than the specified value.
@@ -6,6 +6,7 @@
 package com.opengamma.strata.market.curve.interpolator;
 
 import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
 
 /**
  * A curve interpolator that has been bound to a specific curve.
@@ -52,6 +53,65 @@ public interface BoundCurveInterpolator {
    */
   public abstract DoubleArray parameterSensitivity(double x);
 
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the y-values for the specified x-values by interpolation.
+   * <p>
+   * The x-values may be in any order, although implementations may be faster
+   * if they are sorted from low to high.
+   * The result is the same as calling {@link #interpolate(double)} for each x-value.
+   * 
+   * @param xValues  the x-values to find the y-values for
+   * @return the values at the x-values, one for each x-value
+   * @throws RuntimeException if a y-value cannot be calculated
+   */
+  public default double[] interpolate(double[] xValues) {
+    double[] result = new double[xValues.length];
+    for (int i = 0; i < xValues.length; i++) {
+      result[i] = interpolate(xValues[i]);
+    }
+    return result;
+  }
+
+  /**
+   * Computes the first derivatives of the y-value for the specified x-values.
+   * <p>
+   * The x-values may be in any order, although implementations may be faster
+   * if they are sorted from low to high.
+   * The result is the same as calling {@link #firstDerivative(double)} for each x-value.
+   * 
+   * @param xValues  the x-values at which the derivatives are taken
+   * @return the first derivatives, one for each x-value
+   * @throws RuntimeException if a derivative cannot be calculated
+   */
+  public default double[] firstDerivative(double[] xValues) {
+    double[] result = new double[xValues.length];
+    for (int i = 0; i < xValues.length; i++) {
+      result[i] = firstDerivative(xValues[i]);
+    }
+    return result;
+  }
+
+  /**
+   * Computes the sensitivities of the y-values with respect to the curve parameters.
+   * <p>
+   * This returns a matrix with one row for each x-value and one column for each parameter of the curve.
+   * The x-values may be in any order, although implementations may be faster
+   * if they are sorted from low to high.
+   * Each row is the same as calling {@link #parameterSensitivity(double)} for the x-value.
+   * 
+   * @param xValues  the x-values at which the parameter sensitivities are computed
+   * @return the sensitivities, one row for each x-value
+   * @throws RuntimeException if a sensitivity cannot be calculated
+   */
+  public default DoubleMatrix parameterSensitivity(double[] xValues) {
+    double[][] result = new double[xValues.length][];
+    for (int i = 0; i < xValues.length; i++) {
+      result[i] = parameterSensitivity(xValues[i]).toArrayUnsafe();
+    }
+    return DoubleMatrix.ofUnsafe(result);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Binds this interpolator to the specified extrapolators.
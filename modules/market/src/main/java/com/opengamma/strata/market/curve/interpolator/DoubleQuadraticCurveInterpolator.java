@@ -148,8 +148,12 @@ final class DoubleQuadraticCurveInterpolator
     //-------------------------------------------------------------------------
     @Override
     protected double doInterpolate(double xValue) {
+      return doInterpolate(xValue, lowerBoundIndex(xValue, xValues));
+    }
+
+    @Override
+    protected double doInterpolate(double xValue, int lowerIndex) {
       // x-value is less than the x-value of the last node (lowerIndex < intervalCount)
-      int lowerIndex = lowerBoundIndex(xValue, xValues);
       int higherIndex = lowerIndex + 1;
       // at start of curve
       if (lowerIndex == 0) {
@@ -173,7 +177,11 @@ final class DoubleQuadraticCurveInterpolator
 
     @Override
     protected double doFirstDerivative(double xValue) {
-      int lowerIndex = lowerBoundIndex(xValue, xValues);
+      return doFirstDerivative(xValue, lowerBoundIndex(xValue, xValues));
+    }
+
+    @Override
+    protected double doFirstDerivative(double xValue, int lowerIndex) {
       int higherIndex = lowerIndex + 1;
       RealPolynomialFunction1D[] quadFirstDerivative = quadraticsFirstDerivative.get();
       // at start of curve, or only one interval
@@ -201,7 +209,11 @@ final class DoubleQuadraticCurveInterpolator
 
     @Override
     protected DoubleArray doParameterSensitivity(double xValue) {
-      int lowerIndex = lowerBoundIndex(xValue, xValues);
+      return doParameterSensitivity(xValue, lowerBoundIndex(xValue, xValues));
+    }
+
+    @Override
+    protected DoubleArray doParameterSensitivity(double xValue, int lowerIndex) {
       int higherIndex = lowerIndex + 1;
       int n = xValues.length;
       double[] result = new double[n];
@@ -10,15 +10,9 @@ import java.io.Serializable;
 import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
 import com.opengamma.strata.collect.array.DoubleArray;
-import com.opengamma.strata.collect.array.DoubleMatrix;
-import com.opengamma.strata.math.impl.FunctionUtils;
 import com.opengamma.strata.math.impl.interpolation.LogNaturalSplineHelper;
 import com.opengamma.strata.math.impl.interpolation.MonotonicityPreservingCubicSplineInterpolator;
 import com.opengamma.strata.math.impl.interpolation.PiecewisePolynomialInterpolator;
-import com.opengamma.strata.math.impl.interpolation.PiecewisePolynomialResult;
-import com.opengamma.strata.math.impl.interpolation.PiecewisePolynomialResultsWithSensitivity;
-import com.opengamma.strata.math.impl.matrix.MatrixAlgebra;
-import com.opengamma.strata.math.impl.matrix.OGMatrixAlgebra;
 
 /**
  * Log natural cubic interpolation with monotonicity filter.
@@ -42,10 +36,6 @@ final class LogNaturalSplineMonotoneCubicInterpolator
    * The serialization version id.
    */
   private static final long serialVersionUID = 1L;
-  /**
-   * Underlying matrix algebra.
-   */
-  private static final MatrixAlgebra MA = new OGMatrixAlgebra();
 
   /**
    * Restricted constructor.
@@ -82,19 +72,22 @@ final class LogNaturalSplineMonotoneCubicInterpolator
   static class Bound extends AbstractBoundCurveInterpolator {
     private final double[] xValues;
     private final double[] yValues;
-    private final PiecewisePolynomialResult poly;
-    private final Supplier<PiecewisePolynomialResultsWithSensitivity> polySens;
-    private double[] logYValues;
+    private final PiecewisePolynomialKernel kernel;
+    private final Supplier<double[][]> coefSensitivity;
+    private final double[] logYValues;
+    private final double[] knotValues;
 
     Bound(DoubleArray xValues, DoubleArray yValues) {
       super(xValues, yValues);
       this.xValues = xValues.toArrayUnsafe();
       this.yValues = yValues.toArrayUnsafe();
       this.logYValues = getYLogValues(this.yValues);
+      this.knotValues = getValues(logYValues);
       PiecewisePolynomialInterpolator underlying =
           new MonotonicityPreservingCubicSplineInterpolator(new LogNaturalSplineHelper());
-      this.poly = underlying.interpolate(xValues.toArray(), logYValues);
-      this.polySens = Suppliers.memoize(() -> underlying.interpolateWithSensitivity(xValues.toArray(), logYValues));
+      this.kernel = PiecewisePolynomialKernel.of(underlying.interpolate(xValues.toArray(), logYValues));
+      this.coefSensitivity = Suppliers.memoize(() -> PiecewisePolynomialKernel.flatten(
+          underlying.interpolateWithSensitivity(xValues.toArray(), logYValues).getCoefficientSensitivityAll()));
     }
 
     Bound(Bound base, BoundCurveExtrapolator extrapolatorLeft, BoundCurveExtrapolator extrapolatorRight) {
@@ -102,60 +95,12 @@ final class LogNaturalSplineMonotoneCubicInterpolator
       this.xValues = base.xValues;
       this.yValues = base.yValues;
       this.logYValues = base.logYValues;
-      this.poly = base.poly;
-      this.polySens = base.polySens;
+      this.knotValues = base.knotValues;
+      this.kernel = base.kernel;
+      this.coefSensitivity = base.coefSensitivity;
     }
 
     //-------------------------------------------------------------------------
-    private static double evaluate(
-        double xValue,
-        DoubleArray knots,
-        DoubleMatrix coefMatrix,
-        int dimensions) {
-
-      // check for 1 less interval than knots 
-      int lowerBound = FunctionUtils.getLowerBoundIndex(knots, xValue);
-      int indicator = lowerBound == knots.size() - 1 ? lowerBound - 1 : lowerBound;
-      DoubleArray coefs = coefMatrix.row(dimensions * indicator);
-      return getValue(coefs.toArrayUnsafe(), xValue, knots.get(indicator));
-    }
-
-    private static double differentiate(
-        double xValue,
-        DoubleArray knots,
-        DoubleMatrix coefMatrix,
-        int dimensions,
-        int nCoefs,
-        int numberOfIntervals) {
-
-      int rowCount = dimensions * numberOfIntervals;
-      int colCount = nCoefs - 1;
-      DoubleMatrix coef = DoubleMatrix.of(
-          rowCount,
-          colCount,
-          (i, j) -> coefMatrix.get(i, j) * (nCoefs - j - 1));
-      return evaluate(xValue, knots, coef, dimensions);
-    }
-
-    private static DoubleArray nodeSensitivity(
-        double xValue,
-        DoubleArray knots,
-        DoubleMatrix coefMatrix,
-        int dimensions,
-        int interval,
-        DoubleMatrix coefficientSensitivity) {
-
-      double s = xValue - knots.get(interval);
-      int nCoefs = coefficientSensitivity.rowCount();
-
-      DoubleArray res = coefficientSensitivity.row(0);
-      for (int i = 1; i < nCoefs; i++) {
-        res = (DoubleArray) MA.scale(res, s);
-        res = (DoubleArray) MA.add(res, coefficientSensitivity.row(i));
-      }
-      return res;
-    }
-
     private static double[] getValues(double[] bareValues) {
       int nValues = bareValues.length;
       double[] res = new double[nValues];
@@ -166,23 +111,6 @@ final class LogNaturalSplineMonotoneCubicInterpolator
       return res;
     }
 
-    /**
-     * @param coefs  {a_n,a_{n-1},...} of f(x) = a_n x^{n} + a_{n-1} x^{n-1} + ....
-     * @param x  the x
-     * @param leftknot  the knot specifying underlying interpolation function
-     * @return the value of the underlying interpolation function at the value of x
-     */
-    private static double getValue(double[] coefs, double x, double leftknot) {
-      int nCoefs = coefs.length;
-      double s = x - leftknot;
-      double res = coefs[0];
-      for (int i = 1; i < nCoefs; i++) {
-        res *= s;
-        res += coefs[i];
-      }
-      return res;
-    }
-
     private static double[] getYLogValues(double[] yValues) {
       int nData = yValues.length;
       double[] logYValues = new double[nData];
@@ -195,37 +123,37 @@ final class LogNaturalSplineMonotoneCubicInterpolator
     //-------------------------------------------------------------------------
     @Override
     protected double doInterpolate(double xValue) {
-      double resValue = evaluate(xValue, poly.getKnots(), poly.getCoefMatrix(), poly.getDimensions());
-      return Math.exp(resValue);
+      return doInterpolate(xValue, lowerBoundIndex(xValue, kernel.knots()));
+    }
+
+    @Override
+    protected double doInterpolate(double xValue, int lowerIndex) {
+      return Math.exp(kernel.value(xValue, lowerIndex));
     }
 
     @Override
     protected double doFirstDerivative(double xValue) {
-      double resValue = evaluate(xValue, poly.getKnots(), poly.getCoefMatrix(), poly.getDimensions());
-      int nCoefs = poly.getOrder();
-      int numberOfIntervals = poly.getNumberOfIntervals();
-      double resDerivative = differentiate(
-          xValue, poly.getKnots(), poly.getCoefMatrix(), poly.getDimensions(), nCoefs, numberOfIntervals);
+      return doFirstDerivative(xValue, lowerBoundIndex(xValue, kernel.knots()));
+    }
 
+    @Override
+    protected double doFirstDerivative(double xValue, int lowerIndex) {
+      double resValue = kernel.value(xValue, lowerIndex);
+      double resDerivative = kernel.firstDerivative(xValue, lowerIndex);
       return Math.exp(resValue) * resDerivative;
     }
 
     @Override
     protected DoubleArray doParameterSensitivity(double xValue) {
-      int interval = FunctionUtils.getLowerBoundIndex(poly.getKnots(), xValue);
-      if (interval == poly.getKnots().size() - 1) {
-        interval--; // there is 1 less interval that knots
-      }
+      return doParameterSensitivity(xValue, lowerBoundIndex(xValue, kernel.knots()));
+    }
 
-      DoubleMatrix coefficientSensitivity = polySens.get().getCoefficientSensitivity(interval);
-      double[] resSense = nodeSensitivity(
-          xValue, poly.getKnots(), poly.getCoefMatrix(), poly.getDimensions(), interval, coefficientSensitivity).toArray();
-      double resValue = Math.exp(evaluate(xValue, poly.getKnots(), poly.getCoefMatrix(), poly.getDimensions()));
-      double[] knotValues = getValues(logYValues);
-      final int knotValuesLength = knotValues.length;
-      double[] res = new double[knotValuesLength];
-      for (int i = 0; i < knotValuesLength; ++i) {
-        res[i] = resSense[i] * resValue / knotValues[i];
+    @Override
+    protected DoubleArray doParameterSensitivity(double xValue, int lowerIndex) {
+      double[] res = kernel.nodeSensitivity(xValue, lowerIndex, coefSensitivity.get());
+      double resValue = Math.exp(kernel.value(xValue, lowerIndex));
+      for (int i = 0; i < res.length; ++i) {
+        res[i] = res[i] * resValue / knotValues[i];
       }
       return DoubleArray.ofUnsafe(res);
     }
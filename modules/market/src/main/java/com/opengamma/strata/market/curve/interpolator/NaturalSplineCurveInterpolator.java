@@ -10,14 +10,8 @@ import java.io.Serializable;
 import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
 import com.opengamma.strata.collect.array.DoubleArray;
-import com.opengamma.strata.collect.array.DoubleMatrix;
-import com.opengamma.strata.math.impl.FunctionUtils;
 import com.opengamma.strata.math.impl.interpolation.NaturalSplineInterpolator;
 import com.opengamma.strata.math.impl.interpolation.PiecewisePolynomialInterpolator;
-import com.opengamma.strata.math.impl.interpolation.PiecewisePolynomialResult;
-import com.opengamma.strata.math.impl.interpolation.PiecewisePolynomialResultsWithSensitivity;
-import com.opengamma.strata.math.impl.matrix.MatrixAlgebra;
-import com.opengamma.strata.math.impl.matrix.OGMatrixAlgebra;
 
 /**
  * Natural spline interpolator.
@@ -38,10 +32,6 @@ final class NaturalSplineCurveInterpolator
    * The serialization version id.
    */
   private static final long serialVersionUID = 1L;
-  /**
-   * Underlying matrix algebra.
-   */
-  private static final MatrixAlgebra MA = new OGMatrixAlgebra();
 
   /**
    * Restricted constructor.
@@ -78,102 +68,56 @@ final class NaturalSplineCurveInterpolator
   static class Bound extends AbstractBoundCurveInterpolator {
     private final double[] xValues;
     private final double[] yValues;
-    private final PiecewisePolynomialResult poly;
-    private final Supplier<PiecewisePolynomialResultsWithSensitivity> polySens;
+    private final PiecewisePolynomialKernel kernel;
+    private final Supplier<double[][]> coefSensitivity;
 
     Bound(DoubleArray xValues, DoubleArray yValues) {
       super(xValues, yValues);
       this.xValues = xValues.toArrayUnsafe();
       this.yValues = yValues.toArrayUnsafe();
       PiecewisePolynomialInterpolator underlying = new NaturalSplineInterpolator();
-      this.poly = underlying.interpolate(xValues.toArray(), yValues.toArray());
-      this.polySens = Suppliers.memoize(() -> underlying.interpolateWithSensitivity(xValues.toArray(), yValues.toArray()));
+      this.kernel = PiecewisePolynomialKernel.of(underlying.interpolate(xValues.toArray(), yValues.toArray()));
+      this.coefSensitivity = Suppliers.memoize(() -> PiecewisePolynomialKernel.flatten(
+          underlying.interpolateWithSensitivity(xValues.toArray(), yValues.toArray()).getCoefficientSensitivityAll()));
     }
 
     Bound(Bound base, BoundCurveExtrapolator extrapolatorLeft, BoundCurveExtrapolator extrapolatorRight) {
       super(base, extrapolatorLeft, extrapolatorRight);
       this.xValues = base.xValues;
       this.yValues = base.yValues;
-      this.poly = base.poly;
-      this.polySens = base.polySens;
+      this.kernel = base.kernel;
+      this.coefSensitivity = base.coefSensitivity;
     }
 
     //-------------------------------------------------------------------------
-    private static double evaluate(
-        double xValue,
-        DoubleArray knots,
-        DoubleMatrix coefMatrix,
-        int dimensions) {
-
-      // check for 1 less interval than knots 
-      int lowerBound = FunctionUtils.getLowerBoundIndex(knots, xValue);
-      int indicator = lowerBound == knots.size() - 1 ? lowerBound - 1 : lowerBound;
-      DoubleArray coefs = coefMatrix.row(dimensions * indicator);
-      return getValue(coefs.toArrayUnsafe(), xValue, knots.get(indicator));
+    @Override
+    protected double doInterpolate(double xValue) {
+      return doInterpolate(xValue, lowerBoundIndex(xValue, kernel.knots()));
     }
 
-    private static double differentiate(
-        double xValue,
-        DoubleArray knots,
-        DoubleMatrix coefMatrix,
-        int dimensions,
-        int nCoefs,
-        int numberOfIntervals) {
-
-      int rowCount = dimensions * numberOfIntervals;
-      int colCount = nCoefs - 1;
-      DoubleMatrix coef = DoubleMatrix.of(
-          rowCount,
-          colCount,
-          (i, j) -> coefMatrix.get(i, j) * (nCoefs - j - 1));
-      return evaluate(xValue, knots, coef, dimensions);
+    @Override
+    protected double doInterpolate(double xValue, int lowerIndex) {
+      return kernel.value(xValue, lowerIndex);
     }
 
-    /**
-     * @param coefs  {a_n,a_{n-1},...} of f(x) = a_n x^{n} + a_{n-1} x^{n-1} + ....
-     * @param x  the x
-     * @param leftknot  the knot specifying underlying interpolation function
-     * @return the value of the underlying interpolation function at the value of x
-     */
-    private static double getValue(double[] coefs, double x, double leftknot) {
-      int nCoefs = coefs.length;
-      double s = x - leftknot;
-      double res = coefs[0];
-      for (int i = 1; i < nCoefs; i++) {
-        res *= s;
-        res += coefs[i];
-      }
-      return res;
+    @Override
+    protected double doFirstDerivative(double xValue) {
+      return doFirstDerivative(xValue, lowerBoundIndex(xValue, kernel.knots()));
     }
 
-    //-------------------------------------------------------------------------
     @Override
-    protected double doInterpolate(double xValue) {
-      return evaluate(xValue, poly.getKnots(), poly.getCoefMatrix(), poly.getDimensions());
+    protected double doFirstDerivative(double xValue, int lowerIndex) {
+      return kernel.firstDerivative(xValue, lowerIndex);
     }
 
     @Override
-    protected double doFirstDerivative(double xValue) {
-      int nCoefs = poly.getOrder();
-      int numberOfIntervals = poly.getNumberOfIntervals();
-      return differentiate(xValue, poly.getKnots(), poly.getCoefMatrix(), poly.getDimensions(), nCoefs, numberOfIntervals);
+    protected DoubleArray doParameterSensitivity(double xValue) {
+      return doParameterSensitivity(xValue, lowerBoundIndex(xValue, kernel.knots()));
     }
 
     @Override
-    protected DoubleArray doParameterSensitivity(double xValue) {
-      int interval = FunctionUtils.getLowerBoundIndex(poly.getKnots(), xValue);
-      if (interval == poly.getKnots().size() - 1) {
-        interval--; // there is 1 less interval than knots
-      }
-      DoubleMatrix coefficientSensitivity = polySens.get().getCoefficientSensitivity(interval);
-      int nCoefs = coefficientSensitivity.rowCount();
-      double s = xValue - poly.getKnots().get(interval);
-      DoubleArray res = coefficientSensitivity.row(0);
-      for (int i = 1; i < nCoefs; i++) {
-        res = (DoubleArray) MA.scale(res, s);
-        res = (DoubleArray) MA.add(res, coefficientSensitivity.row(i));
-      }
-      return res;
+    protected DoubleArray doParameterSensitivity(double xValue, int lowerIndex) {
+      return DoubleArray.ofUnsafe(kernel.nodeSensitivity(xValue, lowerIndex, coefSensitivity.get()));
     }
 
     @Override
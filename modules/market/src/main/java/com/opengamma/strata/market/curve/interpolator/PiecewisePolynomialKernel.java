@@ -0,0 +1,179 @@
+/*
+ * Copyright (C) 2018 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.curve.interpolator;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.math.impl.interpolation.PiecewisePolynomialResult;
+
+/**
+ * A one-dimensional piecewise polynomial held in flat primitive arrays.
+ * <p>
+ * This is used by the spline interpolators to evaluate the polynomial without
+ * extracting a row of a {@link DoubleMatrix} on each call.
+ * The coefficients of each interval are stored contiguously, highest order first,
+ * and are evaluated relative to the left knot of the interval.
+ * <p>
+ * The evaluation methods take the lower bound index of the x-value within the knots,
+ * as returned by {@link AbstractBoundCurveInterpolator#lowerBoundIndex(double, double[])}.
+ */
+final class PiecewisePolynomialKernel {
+
+  /**
+   * The knots.
+   */
+  private final double[] knots;
+  /**
+   * The coefficients, order values for each interval.
+   */
+  private final double[] coefs;
+  /**
+   * The number of coefficients of each interval.
+   */
+  private final int order;
+  /**
+   * The index of the last interval.
+   */
+  private final int lastInterval;
+
+  /**
+   * Creates an instance from the result of a polynomial interpolator.
+   *
+   * @param poly  the piecewise polynomial, which must be one-dimensional
+   * @return the kernel
+   */
+  static PiecewisePolynomialKernel of(PiecewisePolynomialResult poly) {
+    ArgChecker.isTrue(poly.getDimensions() == 1, "Piecewise polynomial must be one-dimensional");
+    DoubleMatrix coefMatrix = poly.getCoefMatrix();
+    int order = coefMatrix.columnCount();
+    int intervalCount = coefMatrix.rowCount();
+    double[] coefs = new double[intervalCount * order];
+    for (int i = 0; i < intervalCount; i++) {
+      System.arraycopy(coefMatrix.rowArray(i), 0, coefs, i * order, order);
+    }
+    return new PiecewisePolynomialKernel(poly.getKnots().toArray(), coefs, order);
+  }
+
+  // restricted constructor
+  private PiecewisePolynomialKernel(double[] knots, double[] coefs, int order) {
+    this.knots = knots;
+    this.coefs = coefs;
+    this.order = order;
+    this.lastInterval = knots.length - 2;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the knots.
+   * <p>
+   * The array must not be mutated.
+   *
+   * @return the knots
+   */
+  double[] knots() {
+    return knots;
+  }
+
+  /**
+   * Gets the interval to use for the lower bound index.
+   * <p>
+   * There is one less interval than knots, so the last knot uses the last interval.
+   *
+   * @param lowerIndex  the lower bound index of the x-value within the knots
+   * @return the interval
+   */
+  int interval(int lowerIndex) {
+    return Math.min(lowerIndex, lastInterval);
+  }
+
+  /**
+   * Evaluates the polynomial.
+   *
+   * @param xValue  the x-value
+   * @param lowerIndex  the lower bound index of the x-value within the knots
+   * @return the value
+   */
+  double value(double xValue, int lowerIndex) {
+    int interval = interval(lowerIndex);
+    int offset = interval * order;
+    double s = xValue - knots[interval];
+    double res = coefs[offset];
+    for (int i = 1; i < order; i++) {
+      res *= s;
+      res += coefs[offset + i];
+    }
+    return res;
+  }
+
+  /**
+   * Evaluates the first derivative of the polynomial.
+   *
+   * @param xValue  the x-value
+   * @param lowerIndex  the lower bound index of the x-value within the knots
+   * @return the first derivative
+   */
+  double firstDerivative(double xValue, int lowerIndex) {
+    int interval = interval(lowerIndex);
+    int offset = interval * order;
+    double s = xValue - knots[interval];
+    double res = coefs[offset] * (order - 1);
+    for (int i = 1; i < order - 1; i++) {
+      res *= s;
+      res += coefs[offset + i] * (order - i - 1);
+    }
+    return res;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Flattens the coefficient sensitivities of a polynomial interpolator.
+   * <p>
+   * Each input matrix holds the sensitivity of the coefficients of one interval to the node values,
+   * with one row per coefficient. The result holds the same values with the rows of each matrix
+   * stored contiguously.
+   *
+   * @param coefficientSensitivities  the coefficient sensitivities, one matrix for each interval
+   * @return the flattened sensitivities, one array for each interval
+   */
+  static double[][] flatten(DoubleMatrix[] coefficientSensitivities) {
+    double[][] flat = new double[coefficientSensitivities.length][];
+    for (int i = 0; i < coefficientSensitivities.length; i++) {
+      DoubleMatrix matrix = coefficientSensitivities[i];
+      int columnCount = matrix.columnCount();
+      double[] array = new double[matrix.rowCount() * columnCount];
+      for (int j = 0; j < matrix.rowCount(); j++) {
+        System.arraycopy(matrix.rowArray(j), 0, array, j * columnCount, columnCount);
+      }
+      flat[i] = array;
+    }
+    return flat;
+  }
+
+  /**
+   * Calculates the sensitivity of the value of the polynomial to the node values.
+   *
+   * @param xValue  the x-value
+   * @param lowerIndex  the lower bound index of the x-value within the knots
+   * @param coefficientSensitivities  the flattened coefficient sensitivities, see {@link #flatten(DoubleMatrix[])}
+   * @return the sensitivity, one value for each node
+   */
+  double[] nodeSensitivity(double xValue, int lowerIndex, double[][] coefficientSensitivities) {
+    int interval = interval(lowerIndex);
+    double[] sensitivity = coefficientSensitivities[interval];
+    int nodeCount = sensitivity.length / order;
+    double s = xValue - knots[interval];
+    double[] res = new double[nodeCount];
+    System.arraycopy(sensitivity, 0, res, 0, nodeCount);
+    for (int i = 1; i < order; i++) {
+      int offset = i * nodeCount;
+      for (int j = 0; j < nodeCount; j++) {
+        res[j] = res[j] * s + sensitivity[offset + j];
+      }
+    }
+    return res;
+  }
+
+}
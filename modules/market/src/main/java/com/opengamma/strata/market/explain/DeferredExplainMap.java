@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2018 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.explain;
+
+import java.io.BufferedWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Supplier;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Unchecked;
+
+/**
+ * An explanation of a calculation that is built when it is read.
+ * <p>
+ * An {@link ExplainMap} holds an entry for each part of the calculation, such as each leg and
+ * payment period of a trade, thus it is large when requested across a portfolio.
+ * Instead, this captures the inputs of the calculation, typically the trade and a reference
+ * to the market data, and performs the calculation each time the explanation is read.
+ * The explanation is not retained.
+ * <p>
+ * The explanation of a portfolio can be written to a file, see {@link #writeExplanations(Iterable, Path)}.
+ * Only the explanation of one calculation is held in memory at a time.
+ * <p>
+ * This class is immutable and thread-safe if the captured inputs are.
+ */
+public final class DeferredExplainMap {
+
+  /**
+   * The calculation that builds the explanation.
+   */
+  private final Supplier<ExplainMap> calculation;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance from the calculation that builds the explanation.
+   * <p>
+   * The calculation is invoked each time the explanation is read.
+   * It should capture the inputs, not the explanation.
+   *
+   * @param calculation  the calculation that builds the explanation
+   * @return the deferred explanation
+   */
+  public static DeferredExplainMap of(Supplier<ExplainMap> calculation) {
+    ArgChecker.notNull(calculation, "calculation");
+    return new DeferredExplainMap(calculation);
+  }
+
+  // restricted constructor
+  private DeferredExplainMap(Supplier<ExplainMap> calculation) {
+    this.calculation = calculation;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Builds the explanation.
+   * <p>
+   * The calculation is performed each time this method is called.
+   *
+   * @return the explanation
+   */
+  public ExplainMap build() {
+    return calculation.get();
+  }
+
+  /**
+   * Builds the explanation and writes it to the specified appendable.
+   * <p>
+   * This writes the same text as {@link ExplainMap#explanationString()}.
+   *
+   * @param appendable  the appendable to write to
+   * @throws UncheckedIOException if an IO exception occurs
+   */
+  public void writeExplanation(Appendable appendable) {
+    ArgChecker.notNull(appendable, "appendable");
+    build().writeExplanation(appendable);
+  }
+
+  /**
+   * Builds each explanation in turn and writes it to the specified file.
+   * <p>
+   * The file is written in UTF-8, replacing any existing file.
+   * Each explanation is discarded once written.
+   *
+   * @param explanations  the explanations to write
+   * @param file  the file to write to
+   * @throws UncheckedIOException if an IO exception occurs
+   */
+  public static void writeExplanations(Iterable<DeferredExplainMap> explanations, Path file) {
+    ArgChecker.noNulls(explanations, "explanations");
+    ArgChecker.notNull(file, "file");
+    Unchecked.wrap(() -> {
+      try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+        for (DeferredExplainMap explanation : explanations) {
+          explanation.writeExplanation(writer);
+        }
+      }
+    });
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return new StringBuilder(64)
+        .append("DeferredExplainMap{calculation=")
+        .append(calculation)
+        .append('}')
+        .toString();
+  }
+
+}
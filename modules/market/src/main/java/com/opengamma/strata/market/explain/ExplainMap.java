@@ -5,7 +5,9 @@
  */
 package com.opengamma.strata.market.explain;
 
+import java.io.IOException;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -27,6 +29,7 @@ import org.joda.beans.impl.direct.DirectPrivateBeanBuilder;
 import org.joda.convert.StringConvert;
 
 import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.collect.Unchecked;
 
 /**
  * A map of explanatory values.
@@ -85,51 +88,73 @@ public final class ExplainMap
    */
   public String explanationString() {
     StringBuilder buf = new StringBuilder(1024);
-    buf.append("ExplainMap ");
-    explanationString(buf, "");
-    buf.append(System.lineSeparator());
+    writeExplanation(buf);
     return buf.toString();
   }
 
-  // append the explanation with indent
-  private void explanationString(StringBuilder buf, String indent) {
+  /**
+   * Writes the explanation to the specified appendable.
+   * <p>
+   * This writes the same multi-line text as {@link #explanationString()}.
+   * Each part is written as it is formed, thus the text can be streamed to a file
+   * without holding the whole explanation in memory.
+   * 
+   * @param appendable  the appendable to write to
+   * @throws UncheckedIOException if an IO exception occurs
+   */
+  public void writeExplanation(Appendable appendable) {
+    Unchecked.wrap(() -> {
+      appendable.append("ExplainMap ");
+      writeExplanation(appendable, "");
+      appendable.append(System.lineSeparator());
+    });
+  }
+
+  // write the explanation with indent
+  private void writeExplanation(Appendable buf, String indent) throws IOException {
     buf.append("{").append(System.lineSeparator());
     String entryIndent = indent + "  ";
+    boolean first = true;
     for (Entry<ExplainKey<?>, Object> entry : map.entrySet()) {
-      buf.append(entryIndent).append(entry.getKey()).append(" = ");
+      if (!first) {
+        buf.append(',').append(System.lineSeparator());
+      }
+      first = false;
+      buf.append(entryIndent).append(entry.getKey().toString()).append(" = ");
       if (entry.getValue() instanceof List) {
         // list
         @SuppressWarnings("unchecked")
         List<ExplainMap> list = (List<ExplainMap>) entry.getValue();
-        explanationString(buf, entryIndent, list);
+        writeExplanation(buf, entryIndent, list);
       } else {
         // single entry
+        String str;
         try {
-          buf.append(StringConvert.INSTANCE.convertToString(entry.getValue()));
+          str = StringConvert.INSTANCE.convertToString(entry.getValue());
         } catch (Exception ex) {
-          buf.append(entry.getValue());
+          str = String.valueOf(entry.getValue());
         }
+        buf.append(str);
       }
-      buf.append(',').append(System.lineSeparator());
     }
-    if (!map.entrySet().isEmpty()) {
-      buf.deleteCharAt(buf.lastIndexOf(","));
+    if (!first) {
+      buf.append(System.lineSeparator());
     }
     buf.append(indent).append("}");
   }
 
-  // append a list of entries
-  private void explanationString(StringBuilder buf, String indent, List<ExplainMap> list) {
-    if (list.isEmpty()) {
-      buf.append("[]");
-    } else {
-      buf.append("[");
-      for (ExplainMap child : list) {
-        child.explanationString(buf, indent);
+  // write a list of entries
+  private void writeExplanation(Appendable buf, String indent, List<ExplainMap> list) throws IOException {
+    buf.append("[");
+    boolean first = true;
+    for (ExplainMap child : list) {
+      if (!first) {
         buf.append(',');
       }
-      buf.setCharAt(buf.length() - 1, ']');
+      first = false;
+      child.writeExplanation(buf, indent);
     }
+    buf.append("]");
   }
 
   //------------------------- AUTOGENERATED START -------------------------
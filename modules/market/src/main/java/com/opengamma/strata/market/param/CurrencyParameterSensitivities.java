@@ -7,6 +7,7 @@ package com.opengamma.strata.market.param;
 
 import static com.opengamma.strata.basics.currency.MultiCurrencyAmount.toMultiCurrencyAmount;
 import static com.opengamma.strata.collect.Guavate.toImmutableList;
+import static java.util.stream.Collector.Characteristics.UNORDERED;
 
 import java.io.Serializable;
 import java.util.ArrayList;
@@ -17,6 +18,7 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.function.DoubleUnaryOperator;
+import java.util.stream.Collector;
 import java.util.stream.Collectors;
 
 import org.joda.beans.Bean;
@@ -131,6 +133,58 @@ public final class CurrencyParameterSensitivities
     return new CurrencyParameterSensitivities(ImmutableList.copyOf(mutable));
   }
 
+  /**
+   * Returns a builder that can be used to create an instance of {@code CurrencyParameterSensitivities}.
+   * <p>
+   * The builder is indexed by market data name and currency and adds the sensitivity values in place.
+   * It is more efficient than repeated calls to {@link #combinedWith(CurrencyParameterSensitivities)}
+   * when summing a large number of sensitivities.
+   * <p>
+   * Unlike {@code combinedWith}, sensitivities to the same market data with different parameter metadata
+   * are merged by metadata, see {@link CurrencyParameterSensitivitiesBuilder}.
+   * Use {@link #positionalBuilder()} to add the parameters by position in all cases.
+   * 
+   * @return the builder
+   */
+  public static CurrencyParameterSensitivitiesBuilder builder() {
+    return new CurrencyParameterSensitivitiesBuilder(true);
+  }
+
+  /**
+   * Returns a builder that adds sensitivities to the same market data parameter by parameter.
+   * <p>
+   * This builder has exactly the semantics of {@link #combinedWith(CurrencyParameterSensitivity)}.
+   * The parameter metadata is not used to match the parameters, the metadata and parameter split
+   * of the first sensitivity added are retained, and an exception is thrown if the number of parameters differs.
+   * This differs from {@link #builder()} when the parameter metadata of two sensitivities to the same
+   * market data differs.
+   * 
+   * @return the builder
+   */
+  public static CurrencyParameterSensitivitiesBuilder positionalBuilder() {
+    return new CurrencyParameterSensitivitiesBuilder(false);
+  }
+
+  /**
+   * Returns a collector that can be used to sum a stream of sensitivities.
+   * <p>
+   * Sensitivities with the same market data name and currency are added together using
+   * {@link CurrencyParameterSensitivitiesBuilder}. The collector supports parallel streams.
+   * 
+   * @return the collector
+   */
+  public static Collector<CurrencyParameterSensitivities, ?, CurrencyParameterSensitivities>
+      toCurrencyParameterSensitivities() {
+
+    return Collector.<CurrencyParameterSensitivities, CurrencyParameterSensitivitiesBuilder,
+        CurrencyParameterSensitivities>of(
+            CurrencyParameterSensitivities::builder,
+            CurrencyParameterSensitivitiesBuilder::add,
+            CurrencyParameterSensitivitiesBuilder::combinedWith,
+            CurrencyParameterSensitivitiesBuilder::build,
+            UNORDERED);
+  }
+
   // used when not pre-sorted
   @ImmutableConstructor
   private CurrencyParameterSensitivities(List<? extends CurrencyParameterSensitivity> sensitivities) {
@@ -237,6 +291,17 @@ public final class CurrencyParameterSensitivities
     }
   }
 
+  /**
+   * Returns a builder populated with the sensitivities of this instance.
+   * <p>
+   * This instance is immutable and unaffected by changes to the builder.
+   * 
+   * @return the builder
+   */
+  public CurrencyParameterSensitivitiesBuilder toBuilder() {
+    return builder().add(this);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Converts the sensitivities in this instance to an equivalent in the specified currency.
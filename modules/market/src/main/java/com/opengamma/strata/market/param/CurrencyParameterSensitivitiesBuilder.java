@@ -0,0 +1,275 @@
+/*
+ * Copyright (C) 2018 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.param;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.tuple.Pair;
+import com.opengamma.strata.data.MarketDataName;
+
+/**
+ * Builder for {@code CurrencyParameterSensitivities}.
+ * <p>
+ * This is a mutable builder used to sum a large number of parameter sensitivities.
+ * The entries are indexed by market data name and currency, thus finding the entry to add to
+ * does not depend on the number of entries. The sensitivity values of each entry are held in a
+ * {@code double[]} which is updated in place, thus adding does not create a new array each time.
+ * <p>
+ * When two sensitivities to the same market data have the same parameter metadata, the values
+ * are added parameter by parameter, as per {@link CurrencyParameterSensitivities#combinedWith}.
+ * When the parameter metadata differs, the values are merged by parameter metadata, with
+ * any parameter not yet present being added at the end. The parameter metadata of each sensitivity
+ * must be unique in this case, and the parameter split of the merged entry is discarded if
+ * a parameter is added.
+ * <p>
+ * A builder created by {@link CurrencyParameterSensitivities#positionalBuilder()} does not merge by metadata.
+ * Sensitivities to the same market data are always added parameter by parameter, retaining the metadata
+ * and parameter split of the first sensitivity, and an exception is thrown if the number of parameters differs.
+ * This matches {@link CurrencyParameterSensitivities#combinedWith} in all cases.
+ * <p>
+ * An instance can be combined with another, allowing it to be used as a parallel reduction,
+ * see {@link CurrencyParameterSensitivities#toCurrencyParameterSensitivities()}.
+ * <p>
+ * This is a mutable builder that is not intended for use in multiple threads.
+ */
+public final class CurrencyParameterSensitivitiesBuilder {
+
+  /**
+   * The entries, keyed by market data name and currency.
+   */
+  private final Map<Pair<MarketDataName<?>, Currency>, Entry> entries = new LinkedHashMap<>();
+  /**
+   * Whether sensitivities with different parameter metadata are merged by metadata.
+   */
+  private final boolean mergeByMetadata;
+
+  /**
+   * Creates an empty instance.
+   * 
+   * @param mergeByMetadata  whether sensitivities with different parameter metadata are merged by metadata,
+   *  rather than added by position
+   */
+  CurrencyParameterSensitivitiesBuilder(boolean mergeByMetadata) {
+    this.mergeByMetadata = mergeByMetadata;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the number of sensitivity entries.
+   * <p>
+   * This is the number of distinct market data name and currency pairs.
+   *
+   * @return the number of entries
+   */
+  public int size() {
+    return entries.size();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Adds the sensitivities of another instance.
+   *
+   * @param sensitivities  the sensitivities to add
+   * @return this, for chaining
+   */
+  public CurrencyParameterSensitivitiesBuilder add(CurrencyParameterSensitivities sensitivities) {
+    ArgChecker.notNull(sensitivities, "sensitivities");
+    for (CurrencyParameterSensitivity sensitivity : sensitivities.getSensitivities()) {
+      add(sensitivity);
+    }
+    return this;
+  }
+
+  /**
+   * Adds a single sensitivity.
+   * <p>
+   * If there is already an entry for the market data name and currency, the sensitivity is merged into it.
+   *
+   * @param sensitivity  the sensitivity to add
+   * @return this, for chaining
+   * @throws IllegalArgumentException if the metadata differs from the existing entry and is not unique,
+   *  or if the builder adds by position and the number of parameters differs from the existing entry
+   */
+  public CurrencyParameterSensitivitiesBuilder add(CurrencyParameterSensitivity sensitivity) {
+    ArgChecker.notNull(sensitivity, "sensitivity");
+    Pair<MarketDataName<?>, Currency> key = Pair.of(sensitivity.getMarketDataName(), sensitivity.getCurrency());
+    Entry entry = entries.get(key);
+    if (entry == null) {
+      entries.put(key, new Entry(sensitivity));
+    } else {
+      entry.merge(sensitivity, mergeByMetadata);
+    }
+    return this;
+  }
+
+  /**
+   * Adds the sensitivities of another builder.
+   * <p>
+   * The other builder is unaffected by this method.
+   * This is used to combine the partial results of a parallel reduction.
+   *
+   * @param other  the other builder
+   * @return this, for chaining
+   */
+  public CurrencyParameterSensitivitiesBuilder combinedWith(CurrencyParameterSensitivitiesBuilder other) {
+    ArgChecker.notNull(other, "other");
+    for (Entry entry : other.entries.values()) {
+      add(entry.toSensitivity());
+    }
+    return this;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Builds the sensitivities from the entries of the builder.
+   * <p>
+   * The builder may continue to be used after this method is called.
+   *
+   * @return the sensitivities
+   */
+  public CurrencyParameterSensitivities build() {
+    List<CurrencyParameterSensitivity> sensitivities = new ArrayList<>(entries.size());
+    for (Entry entry : entries.values()) {
+      sensitivities.add(entry.toSensitivity());
+    }
+    sensitivities.sort(CurrencyParameterSensitivity::compareKey);
+    return CurrencyParameterSensitivities.of(sensitivities);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return new StringBuilder(64)
+        .append("CurrencyParameterSensitivitiesBuilder{sensitivities=")
+        .append(build().getSensitivities())
+        .append('}')
+        .toString();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * The sensitivity to a single market data name and currency.
+   * <p>
+   * The first sensitivity added is retained as is, and only copied into a mutable array
+   * when a second sensitivity is merged.
+   */
+  private static final class Entry {
+    // the first sensitivity added
+    private final CurrencyParameterSensitivity first;
+    // the parameter metadata
+    private List<ParameterMetadata> metadata;
+    // the parameter split, null if none
+    private List<ParameterSize> split;
+    // the sensitivity values, null until a second sensitivity is merged
+    private double[] values;
+    // the number of parameters
+    private int size;
+    // the index of each parameter by metadata, null until a merge by metadata is needed
+    private Map<ParameterMetadata, Integer> index;
+
+    private Entry(CurrencyParameterSensitivity first) {
+      this.first = first;
+      this.metadata = first.getParameterMetadata();
+      this.split = first.getParameterSplit().orElse(null);
+      this.size = first.getParameterCount();
+    }
+
+    // merges the sensitivity into this entry
+    private void merge(CurrencyParameterSensitivity other, boolean mergeByMetadata) {
+      double[] otherValues = other.getSensitivity().toArrayUnsafe();
+      if (!mergeByMetadata && otherValues.length != size) {
+        throw new IllegalArgumentException(Messages.format(
+            "Unable to add sensitivity: {} for {}, number of parameters {} differs from {}",
+            other.getMarketDataName(),
+            other.getCurrency(),
+            otherValues.length,
+            size));
+      }
+      if (values == null) {
+        values = first.getSensitivity().toArray();
+      }
+      List<ParameterMetadata> otherMetadata = other.getParameterMetadata();
+      if (otherValues.length == size &&
+          (!mergeByMetadata || otherMetadata == metadata || otherMetadata.equals(metadata))) {
+        for (int i = 0; i < size; i++) {
+          values[i] += otherValues[i];
+        }
+      } else {
+        mergeByMetadata(other, otherMetadata, otherValues);
+      }
+    }
+
+    // merges the sensitivity into this entry, matching the parameters by metadata
+    private void mergeByMetadata(
+        CurrencyParameterSensitivity other,
+        List<ParameterMetadata> otherMetadata,
+        double[] otherValues) {
+
+      if (index == null) {
+        Map<ParameterMetadata, Integer> created = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+          created.put(metadata.get(i), i);
+        }
+        if (created.size() != size) {
+          throw new IllegalArgumentException(nonUniqueMessage(other));
+        }
+        index = created;
+        metadata = new ArrayList<>(metadata);
+      }
+      if (new HashSet<>(otherMetadata).size() != otherMetadata.size()) {
+        throw new IllegalArgumentException(nonUniqueMessage(other));
+      }
+      for (int j = 0; j < otherValues.length; j++) {
+        ParameterMetadata otherParam = otherMetadata.get(j);
+        Integer existing = index.get(otherParam);
+        if (existing != null) {
+          values[existing] += otherValues[j];
+        } else {
+          if (size == values.length) {
+            values = Arrays.copyOf(values, Math.max(size + 1, size + (size >> 1)));
+          }
+          values[size] = otherValues[j];
+          metadata.add(otherParam);
+          index.put(otherParam, size);
+          size++;
+          split = null;
+        }
+      }
+    }
+
+    // the message used when the parameter metadata is not unique
+    private static String nonUniqueMessage(CurrencyParameterSensitivity other) {
+      return Messages.format(
+          "Unable to merge sensitivity: {} for {}, parameter metadata must be unique",
+          other.getMarketDataName(),
+          other.getCurrency());
+    }
+
+    // converts this entry to a sensitivity
+    private CurrencyParameterSensitivity toSensitivity() {
+      if (values == null) {
+        return first;
+      }
+      return CurrencyParameterSensitivity.of(
+          first.getMarketDataName(),
+          metadata,
+          first.getCurrency(),
+          DoubleArray.copyOf(values, 0, size),
+          split);
+    }
+  }
+
+}
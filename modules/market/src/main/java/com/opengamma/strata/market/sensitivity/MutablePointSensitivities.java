@@ -152,6 +152,11 @@ public final class MutablePointSensitivities
     return (combination == this ? combination : combination.addAll(this));
   }
 
+  @Override
+  public PointSensitivityAccumulator buildInto(PointSensitivityAccumulator accumulator) {
+    return accumulator.addAll(sensitivities);
+  }
+
   @Override
   public PointSensitivities build() {
     return toImmutable();
@@ -189,20 +194,18 @@ public final class MutablePointSensitivities
    */
   @Override
   public MutablePointSensitivities normalize() {
-    sensitivities.sort(PointSensitivity::compareKey);
-    PointSensitivity previous = sensitivities.get(0);
-    for (int i = 1; i < sensitivities.size(); i++) {
-      PointSensitivity current = sensitivities.get(i);
-      if (current.compareKey(previous) == 0) {
-        sensitivities.set(i - 1, previous.withSensitivity(previous.getSensitivity() + current.getSensitivity()));
-        sensitivities.remove(i);
-        i--;
-      }
-      previous = current;
-    }
+    PointSensitivityAccumulator accumulator = new PointSensitivityAccumulator(sensitivities.size());
+    List<PointSensitivity> normalized = accumulator.addAll(sensitivities).normalize().toList();
+    sensitivities.clear();
+    sensitivities.addAll(normalized);
     return this;
   }
 
+  // the internal list, for use by the accumulator
+  List<PointSensitivity> sensitivities() {
+    return sensitivities;
+  }
+
   //-----------------------------------------------------------------------
   /**
    * Returns an immutable version of this object.
@@ -53,6 +53,11 @@ final class NoPointSensitivity
     return combination;
   }
 
+  @Override
+  public PointSensitivityAccumulator buildInto(PointSensitivityAccumulator accumulator) {
+    return accumulator;
+  }
+
   @Override
   public NoPointSensitivity cloned() {
     return this;
@@ -0,0 +1,347 @@
+/*
+ * Copyright (C) 2018 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.sensitivity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.DoubleUnaryOperator;
+
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.collect.ArgChecker;
+
+/**
+ * Mutable accumulator of point sensitivities held in columnar form.
+ * <p>
+ * Each entry consists of a key and a sensitivity value, held in two parallel arrays.
+ * The key is a {@link PointSensitivity} that identifies the point, such as the curve or index,
+ * the currency and the date or year fraction, as defined by {@link PointSensitivity#compareKey(PointSensitivity)}.
+ * The sensitivity value of the key itself is ignored, thus the same key can be added many times
+ * with different values without creating a point sensitivity bean for each value.
+ * <p>
+ * Scaling the sensitivities operates on the primitive values.
+ * Normalization sorts the entries once and then merges adjacent entries with the same key,
+ * rather than inserting each entry into a sorted list.
+ * A point sensitivity bean is only created for each distinct key when the result is built.
+ * <p>
+ * This is a mutable builder that is not intended for use in multiple threads.
+ */
+public final class PointSensitivityAccumulator
+    implements PointSensitivityBuilder {
+
+  /**
+   * The default initial capacity.
+   */
+  private static final int DEFAULT_CAPACITY = 16;
+
+  /**
+   * The keys, one for each entry.
+   */
+  private PointSensitivity[] keys;
+  /**
+   * The sensitivity values, one for each entry.
+   */
+  private double[] values;
+  /**
+   * The number of entries.
+   */
+  private int size;
+
+  /**
+   * Creates an empty instance.
+   */
+  public PointSensitivityAccumulator() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates an empty instance with the specified initial capacity.
+   *
+   * @param initialCapacity  the expected number of entries
+   */
+  public PointSensitivityAccumulator(int initialCapacity) {
+    ArgChecker.notNegative(initialCapacity, "initialCapacity");
+    this.keys = new PointSensitivity[initialCapacity];
+    this.values = new double[initialCapacity];
+  }
+
+  // creates an instance
+  private PointSensitivityAccumulator(PointSensitivity[] keys, double[] values, int size) {
+    this.keys = keys;
+    this.values = values;
+    this.size = size;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the number of entries.
+   *
+   * @return the number of entries
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Gets the key of an entry.
+   * <p>
+   * The sensitivity value of the key is not meaningful, see {@link #getValue(int)}.
+   *
+   * @param index  the index of the entry
+   * @return the key
+   * @throws IllegalArgumentException if the index is invalid
+   */
+  public PointSensitivity getKey(int index) {
+    ArgChecker.inRange(index, 0, size, "index");
+    return keys[index];
+  }
+
+  /**
+   * Gets the sensitivity value of an entry.
+   *
+   * @param index  the index of the entry
+   * @return the sensitivity value
+   * @throws IllegalArgumentException if the index is invalid
+   */
+  public double getValue(int index) {
+    ArgChecker.inRange(index, 0, size, "index");
+    return values[index];
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Adds a point sensitivity, using its sensitivity value.
+   *
+   * @param sensitivity  the sensitivity to add
+   * @return {@code this}, for method chaining
+   */
+  public PointSensitivityAccumulator add(PointSensitivity sensitivity) {
+    ArgChecker.notNull(sensitivity, "sensitivity");
+    return add(sensitivity, sensitivity.getSensitivity());
+  }
+
+  /**
+   * Adds a sensitivity value for the point identified by the key.
+   * <p>
+   * The sensitivity value of the key is ignored.
+   *
+   * @param key  the key identifying the point
+   * @param value  the sensitivity value
+   * @return {@code this}, for method chaining
+   */
+  public PointSensitivityAccumulator add(PointSensitivity key, double value) {
+    ArgChecker.notNull(key, "key");
+    ensureCapacity(size + 1);
+    keys[size] = key;
+    values[size] = value;
+    size++;
+    return this;
+  }
+
+  /**
+   * Adds a list of point sensitivities.
+   *
+   * @param sensitivities  the sensitivities to add
+   * @return {@code this}, for method chaining
+   */
+  public PointSensitivityAccumulator addAll(List<? extends PointSensitivity> sensitivities) {
+    ArgChecker.notNull(sensitivities, "sensitivities");
+    ensureCapacity(size + sensitivities.size());
+    for (PointSensitivity sensitivity : sensitivities) {
+      add(sensitivity);
+    }
+    return this;
+  }
+
+  /**
+   * Adds the point sensitivities of a builder.
+   * <p>
+   * The builder must not be used after this method is called.
+   *
+   * @param builder  the builder to add
+   * @return {@code this}, for method chaining
+   */
+  public PointSensitivityAccumulator addAll(PointSensitivityBuilder builder) {
+    ArgChecker.notNull(builder, "builder");
+    return builder.buildInto(this);
+  }
+
+  // grows the arrays if necessary
+  private void ensureCapacity(int required) {
+    if (required > keys.length) {
+      int capacity = Math.max(required, keys.length + (keys.length >> 1) + 1);
+      keys = Arrays.copyOf(keys, capacity);
+      values = Arrays.copyOf(values, capacity);
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public PointSensitivityAccumulator withCurrency(Currency currency) {
+    for (int i = 0; i < size; i++) {
+      keys[i] = keys[i].withCurrency(currency);
+    }
+    return this;
+  }
+
+  @Override
+  public PointSensitivityAccumulator multipliedBy(double factor) {
+    for (int i = 0; i < size; i++) {
+      values[i] *= factor;
+    }
+    return this;
+  }
+
+  @Override
+  public PointSensitivityAccumulator mapSensitivity(DoubleUnaryOperator operator) {
+    for (int i = 0; i < size; i++) {
+      values[i] = operator.applyAsDouble(values[i]);
+    }
+    return this;
+  }
+
+  /**
+   * Normalizes the entries by sorting and merging.
+   * <p>
+   * The entries are sorted by key and then merged in a single pass.
+   * Any two entries that represent the same curve query are merged, summing the sensitivity value.
+   * The sort is stable, thus the values of the same key are summed in the order they were added,
+   * and the key of the first entry is retained.
+   *
+   * @return {@code this}, for method chaining
+   */
+  @Override
+  public PointSensitivityAccumulator normalize() {
+    if (size < 2) {
+      return this;
+    }
+    int[] order = sortedOrder();
+    PointSensitivity[] sortedKeys = new PointSensitivity[size];
+    double[] sortedValues = new double[size];
+    int count = 0;
+    PointSensitivity previous = null;
+    for (int i = 0; i < size; i++) {
+      PointSensitivity key = keys[order[i]];
+      double value = values[order[i]];
+      if (previous != null && key.compareKey(previous) == 0) {
+        sortedValues[count - 1] += value;
+      } else {
+        sortedKeys[count] = key;
+        sortedValues[count] = value;
+        previous = key;
+        count++;
+      }
+    }
+    keys = sortedKeys;
+    values = sortedValues;
+    size = count;
+    return this;
+  }
+
+  // the stable sort order of the entries by key
+  private int[] sortedOrder() {
+    int[] order = new int[size];
+    for (int i = 0; i < size; i++) {
+      order[i] = i;
+    }
+    boolean sorted = true;
+    for (int i = 1; i < size && sorted; i++) {
+      sorted = keys[i - 1].compareKey(keys[i]) <= 0;
+    }
+    if (!sorted) {
+      mergeSort(order, new int[size], 0, size);
+    }
+    return order;
+  }
+
+  // sorts the indices between from (inclusive) and to (exclusive), using the buffer as workspace
+  private void mergeSort(int[] order, int[] buffer, int from, int to) {
+    if (to - from < 2) {
+      return;
+    }
+    int mid = (from + to) >>> 1;
+    mergeSort(order, buffer, from, mid);
+    mergeSort(order, buffer, mid, to);
+    if (keys[order[mid - 1]].compareKey(keys[order[mid]]) <= 0) {
+      return;  // already in order
+    }
+    System.arraycopy(order, from, buffer, from, to - from);
+    int left = from;
+    int right = mid;
+    for (int i = from; i < to; i++) {
+      if (right >= to || (left < mid && keys[buffer[left]].compareKey(keys[buffer[right]]) <= 0)) {
+        order[i] = buffer[left++];
+      } else {
+        order[i] = buffer[right++];
+      }
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public PointSensitivityAccumulator combinedWith(PointSensitivityBuilder other) {
+    return other.buildInto(this);
+  }
+
+  @Override
+  public MutablePointSensitivities buildInto(MutablePointSensitivities combination) {
+    for (int i = 0; i < size; i++) {
+      combination.add(toPointSensitivity(i));
+    }
+    return combination;
+  }
+
+  @Override
+  public PointSensitivityAccumulator buildInto(PointSensitivityAccumulator accumulator) {
+    if (accumulator == this) {
+      return accumulator;
+    }
+    accumulator.ensureCapacity(accumulator.size + size);
+    System.arraycopy(keys, 0, accumulator.keys, accumulator.size, size);
+    System.arraycopy(values, 0, accumulator.values, accumulator.size, size);
+    accumulator.size += size;
+    return accumulator;
+  }
+
+  @Override
+  public PointSensitivities build() {
+    return PointSensitivities.of(toList());
+  }
+
+  @Override
+  public PointSensitivityAccumulator cloned() {
+    return new PointSensitivityAccumulator(keys.clone(), values.clone(), size);
+  }
+
+  // the entries as point sensitivities
+  List<PointSensitivity> toList() {
+    List<PointSensitivity> list = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      list.add(toPointSensitivity(i));
+    }
+    return list;
+  }
+
+  // the entry as a point sensitivity, reusing the key if it has the right value
+  private PointSensitivity toPointSensitivity(int index) {
+    PointSensitivity key = keys[index];
+    double value = values[index];
+    return Double.doubleToLongBits(key.getSensitivity()) == Double.doubleToLongBits(value) ?
+        key :
+        key.withSensitivity(value);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return new StringBuilder(64)
+        .append("PointSensitivityAccumulator{sensitivities=")
+        .append(toList())
+        .append('}')
+        .toString();
+  }
+
+}
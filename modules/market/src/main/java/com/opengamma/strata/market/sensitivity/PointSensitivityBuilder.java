@@ -173,6 +173,19 @@ public interface PointSensitivityBuilder {
    */
   public abstract MutablePointSensitivities buildInto(MutablePointSensitivities combination);
 
+  /**
+   * Builds the point sensitivity, adding to the specified accumulator.
+   * <p>
+   * The accumulator holds the sensitivities in columnar form, which is more efficient
+   * when combining and normalizing a large number of sensitivities.
+   * 
+   * @param accumulator  the accumulator to add to
+   * @return the specified accumulator is returned, for method chaining
+   */
+  public default PointSensitivityAccumulator buildInto(PointSensitivityAccumulator accumulator) {
+    return accumulator.addAll(buildInto(new MutablePointSensitivities()).sensitivities());
+  }
+
   /**
    * Builds the resulting point sensitivity.
    * <p>
@@ -80,6 +80,15 @@ public class ConstantCurveTest {
     assertThat(test.firstDerivative(100d)).isEqualTo(0d);
   }
 
+  public void test_lookup_batch() {
+    ConstantCurve test = ConstantCurve.of(CURVE_NAME, VALUE);
+    double[] xValues = {-10d, 0d, 100d};
+    assertThat(test.yValue(xValues)).containsExactly(VALUE, VALUE, VALUE);
+    assertThat(test.firstDerivative(xValues)).containsExactly(0d, 0d, 0d);
+    assertThat(test.yValueParameterSensitivity(xValues).rowCount()).isEqualTo(3);
+    assertThat(test.yValueParameterSensitivity(xValues).row(1).toArray()).containsExactly(1d);
+  }
+
   //-------------------------------------------------------------------------
   public void coverage() {
     ConstantCurve test = ConstantCurve.of(CURVE_NAME, VALUE);
@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2018 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.curve;
+
+import static com.opengamma.strata.basics.date.DayCounts.ACT_365F;
+import static com.opengamma.strata.collect.TestHelper.assertSerialization;
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static com.opengamma.strata.collect.TestHelper.coverBeanEquals;
+import static com.opengamma.strata.collect.TestHelper.coverImmutableBean;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.market.curve.interpolator.CurveExtrapolator;
+import com.opengamma.strata.market.curve.interpolator.CurveExtrapolators;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolator;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
+
+/**
+ * Test {@link InterpolatedNodalCurveScenarioArray}.
+ */
+@Test
+public class InterpolatedNodalCurveScenarioArrayTest {
+
+  private static final CurveName CURVE_NAME = CurveName.of("TestCurve");
+  private static final CurveMetadata METADATA = Curves.zeroRates(CURVE_NAME, ACT_365F);
+  private static final DoubleArray XVALUES = DoubleArray.of(1d, 2d, 3d);
+  private static final DoubleMatrix YVALUES = DoubleMatrix.of(3, 3,
+      5d, 7d, 8d,
+      4d, 6d, 9d,
+      6d, 6d, 6d);
+  private static final CurveInterpolator INTERPOLATOR = CurveInterpolators.LINEAR;
+  private static final CurveExtrapolator FLAT_EXTRAPOLATOR = CurveExtrapolators.FLAT;
+  private static final CurveExtrapolator LINEAR_EXTRAPOLATOR = CurveExtrapolators.LINEAR;
+
+  //-------------------------------------------------------------------------
+  public void test_of() {
+    InterpolatedNodalCurveScenarioArray test = InterpolatedNodalCurveScenarioArray.of(
+        METADATA, XVALUES, YVALUES, INTERPOLATOR, FLAT_EXTRAPOLATOR, LINEAR_EXTRAPOLATOR);
+    assertThat(test.getName()).isEqualTo(CURVE_NAME);
+    assertThat(test.getMetadata()).isEqualTo(METADATA);
+    assertThat(test.getXValues()).isEqualTo(XVALUES);
+    assertThat(test.getYValues()).isEqualTo(YVALUES);
+    assertThat(test.getInterpolator()).isEqualTo(INTERPOLATOR);
+    assertThat(test.getExtrapolatorLeft()).isEqualTo(FLAT_EXTRAPOLATOR);
+    assertThat(test.getExtrapolatorRight()).isEqualTo(LINEAR_EXTRAPOLATOR);
+    assertThat(test.getScenarioCount()).isEqualTo(3);
+    for (int i = 0; i < 3; i++) {
+      assertThat(test.get(i)).isEqualTo(InterpolatedNodalCurve.of(
+          METADATA, XVALUES, YVALUES.row(i), INTERPOLATOR, FLAT_EXTRAPOLATOR, LINEAR_EXTRAPOLATOR));
+    }
+    assertThat(test.stream().count()).isEqualTo(3);
+  }
+
+  public void test_of_curves() {
+    InterpolatedNodalCurve curve0 = InterpolatedNodalCurve.of(METADATA, XVALUES, YVALUES.row(0), INTERPOLATOR);
+    InterpolatedNodalCurve curve1 = InterpolatedNodalCurve.of(METADATA, XVALUES, YVALUES.row(1), INTERPOLATOR);
+    InterpolatedNodalCurveScenarioArray test = InterpolatedNodalCurveScenarioArray.of(ImmutableList.of(curve0, curve1));
+    assertThat(test.getScenarioCount()).isEqualTo(2);
+    assertThat(test.get(0)).isEqualTo(curve0);
+    assertThat(test.get(1)).isEqualTo(curve1);
+    assertThat(test.getYValues()).isEqualTo(DoubleMatrix.ofArrayObjects(2, 3, YVALUES::row));
+  }
+
+  public void test_of_curves_mismatch() {
+    InterpolatedNodalCurve curve0 = InterpolatedNodalCurve.of(METADATA, XVALUES, YVALUES.row(0), INTERPOLATOR);
+    InterpolatedNodalCurve curve1 = InterpolatedNodalCurve.of(
+        METADATA, DoubleArray.of(1d, 2d, 4d), YVALUES.row(1), INTERPOLATOR);
+    InterpolatedNodalCurve curve2 = InterpolatedNodalCurve.of(
+        METADATA, XVALUES, YVALUES.row(1), CurveInterpolators.LOG_LINEAR);
+    assertThrowsIllegalArg(() -> InterpolatedNodalCurveScenarioArray.of(ImmutableList.of(curve0, curve1)));
+    assertThrowsIllegalArg(() -> InterpolatedNodalCurveScenarioArray.of(ImmutableList.of(curve0, curve2)));
+    assertThrowsIllegalArg(() -> InterpolatedNodalCurveScenarioArray.of(ImmutableList.of()));
+  }
+
+  public void test_of_invalid() {
+    assertThrowsIllegalArg(() -> InterpolatedNodalCurveScenarioArray.of(
+        METADATA, DoubleArray.of(1d, 2d), YVALUES, INTERPOLATOR, FLAT_EXTRAPOLATOR, FLAT_EXTRAPOLATOR));
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_yValue_firstDerivative() {
+    InterpolatedNodalCurveScenarioArray test = InterpolatedNodalCurveScenarioArray.of(
+        METADATA, XVALUES, YVALUES, INTERPOLATOR, FLAT_EXTRAPOLATOR, LINEAR_EXTRAPOLATOR);
+    for (double x : new double[] {0.5d, 1d, 1.7d, 2.5d, 3d, 4d}) {
+      DoubleArray yValues = test.yValue(x);
+      DoubleArray derivatives = test.firstDerivative(x);
+      for (int i = 0; i < test.getScenarioCount(); i++) {
+        assertThat(yValues.get(i)).isEqualTo(test.get(i).yValue(x));
+        assertThat(derivatives.get(i)).isEqualTo(test.get(i).firstDerivative(x));
+      }
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  public void coverage() {
+    InterpolatedNodalCurveScenarioArray test = InterpolatedNodalCurveScenarioArray.of(
+        METADATA, XVALUES, YVALUES, INTERPOLATOR, FLAT_EXTRAPOLATOR, FLAT_EXTRAPOLATOR);
+    coverImmutableBean(test);
+    InterpolatedNodalCurveScenarioArray test2 = InterpolatedNodalCurveScenarioArray.of(
+        Curves.zeroRates("Other", ACT_365F),
+        DoubleArray.of(1d, 2d),
+        DoubleMatrix.of(1, 2, 1d, 2d),
+        CurveInterpolators.LOG_LINEAR,
+        LINEAR_EXTRAPOLATOR,
+        LINEAR_EXTRAPOLATOR);
+    coverBeanEquals(test, test2);
+  }
+
+  public void test_serialization() {
+    InterpolatedNodalCurveScenarioArray test = InterpolatedNodalCurveScenarioArray.of(
+        METADATA, XVALUES, YVALUES, INTERPOLATOR, FLAT_EXTRAPOLATOR, FLAT_EXTRAPOLATOR);
+    assertSerialization(test);
+  }
+
+}
@@ -20,6 +20,7 @@ import org.testng.annotations.Test;
 
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
 import com.opengamma.strata.market.ValueType;
 import com.opengamma.strata.market.curve.interpolator.BoundCurveInterpolator;
 import com.opengamma.strata.market.curve.interpolator.CurveExtrapolator;
@@ -125,6 +126,19 @@ public class InterpolatedNodalCurveTest {
     assertThat(test.firstDerivative(10d)).isEqualTo(interp.firstDerivative(10d));
   }
 
+  public void test_lookup_batch() {
+    InterpolatedNodalCurve test = InterpolatedNodalCurve.of(METADATA, XVALUES, YVALUES, INTERPOLATOR);
+    double[] xValues = {0.5d, 1d, 1.5d, 2.5d, 3d, 10d};
+    double[] yValues = test.yValue(xValues);
+    double[] derivatives = test.firstDerivative(xValues);
+    DoubleMatrix sensitivities = test.yValueParameterSensitivity(xValues);
+    for (int i = 0; i < xValues.length; i++) {
+      assertThat(yValues[i]).isEqualTo(test.yValue(xValues[i]));
+      assertThat(derivatives[i]).isEqualTo(test.firstDerivative(xValues[i]));
+      assertThat(sensitivities.row(i)).isEqualTo(test.yValueParameterSensitivity(xValues[i]).getSensitivity());
+    }
+  }
+
   //-------------------------------------------------------------------------
   public void test_withMetadata() {
     InterpolatedNodalCurve base = InterpolatedNodalCurve.of(METADATA, XVALUES, YVALUES, INTERPOLATOR);
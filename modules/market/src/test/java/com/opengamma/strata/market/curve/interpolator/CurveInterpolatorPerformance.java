@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2018 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.curve.interpolator;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+
+/**
+ * Vague performance test of the curve interpolators.
+ * <p>
+ * For each interpolator, this reports the time to bind to a 20 node curve and the time per point
+ * to evaluate the value, first derivative and parameter sensitivity, one point at a time
+ * and as a sorted batch.
+ */
+public class CurveInterpolatorPerformance {
+
+  private static final DoubleArray X_VALUES = DoubleArray.of(
+      0.1, 0.25, 0.5, 0.75, 1, 1.5, 2, 3, 4, 5, 6, 7, 8, 9, 10, 12, 15, 20, 25, 30);
+  private static final DoubleArray Y_VALUES = DoubleArray.of(X_VALUES.size(), i -> Math.exp(
+      -X_VALUES.get(i) * (0.01 + 0.002 * Math.log(1 + X_VALUES.get(i)))));
+  private static final int POINT_COUNT = 500;
+  private static final double[] POINTS = new double[POINT_COUNT];
+  static {
+    for (int i = 0; i < POINT_COUNT; i++) {
+      POINTS[i] = 0.1 + (30 - 0.1) * i / POINT_COUNT;
+    }
+  }
+  private static final int BIND_COUNT = 2_000;
+  private static final int EVALUATE_COUNT = 500;
+
+  public static void main(String[] args) throws Exception {
+    Set<CurveInterpolator> interpolators = new LinkedHashSet<>(CurveInterpolator.extendedEnum().lookupAll().values());
+    System.out.println("Go");
+    for (int i = 0; i < 5; i++) {
+      double total = 0d;
+      for (CurveInterpolator interpolator : interpolators) {
+        total += run(interpolator);
+      }
+      System.out.println("Avoiding hotspot: " + total);
+    }
+  }
+
+  private static double run(CurveInterpolator interpolator) {
+    double total = 0d;
+    long start = System.nanoTime();
+    for (int i = 0; i < BIND_COUNT; i++) {
+      BoundCurveInterpolator bound = interpolator.bind(
+          X_VALUES, Y_VALUES, CurveExtrapolators.FLAT, CurveExtrapolators.FLAT);
+      total += bound.interpolate(1.2);
+    }
+    long bind = System.nanoTime();
+
+    BoundCurveInterpolator bound = interpolator.bind(
+        X_VALUES, Y_VALUES, CurveExtrapolators.FLAT, CurveExtrapolators.FLAT);
+    for (int i = 0; i < EVALUATE_COUNT; i++) {
+      for (double x : POINTS) {
+        total += bound.interpolate(x) + bound.firstDerivative(x);
+      }
+    }
+    long scalarValue = System.nanoTime();
+    for (int i = 0; i < EVALUATE_COUNT; i++) {
+      for (double x : POINTS) {
+        total += bound.parameterSensitivity(x).get(0);
+      }
+    }
+    long scalarSensitivity = System.nanoTime();
+    for (int i = 0; i < EVALUATE_COUNT; i++) {
+      total += bound.interpolate(POINTS)[1] + bound.firstDerivative(POINTS)[1];
+    }
+    long batchValue = System.nanoTime();
+    for (int i = 0; i < EVALUATE_COUNT; i++) {
+      total += bound.parameterSensitivity(POINTS).get(1, 0);
+    }
+    long batchSensitivity = System.nanoTime();
+
+    double points = EVALUATE_COUNT * (double) POINT_COUNT;
+    System.out.println(String.format(
+        Locale.ENGLISH,
+        "%-34s bind %8.2f us, value+derivative %7.1f ns, sensitivity %7.1f ns, " +
+            "batch value+derivative %7.1f ns, batch sensitivity %7.1f ns",
+        interpolator.getName(),
+        (bind - start) / (double) BIND_COUNT / 1000d,
+        (scalarValue - bind) / points,
+        (scalarSensitivity - scalarValue) / points,
+        (batchValue - scalarSensitivity) / points,
+        (batchSensitivity - batchValue) / points));
+    return total;
+  }
+
+}
@@ -30,6 +30,7 @@ import org.testng.annotations.Test;
 
 import com.google.common.collect.ImmutableMap;
 import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
 
 /**
  * Test {@link CurveInterpolator}.
@@ -148,4 +149,28 @@ public class CurveInterpolatorTest {
     assertJodaConvert(CurveInterpolator.class, LOG_LINEAR);
   }
 
+  //-------------------------------------------------------------------------
+  @Test(dataProvider = "name")
+  public void test_batch(CurveInterpolator interpolator, String name) {
+    DoubleArray xValues = DoubleArray.of(0.5, 1d, 2d, 3.5d, 5d);
+    DoubleArray yValues = DoubleArray.of(0.95, 0.92, 0.88, 0.80, 0.74);
+    BoundCurveInterpolator bound = interpolator.bind(
+        xValues, yValues, CurveExtrapolators.FLAT, CurveExtrapolators.LINEAR);
+    double[] sorted = {0d, 0.5d, 0.7d, 1d, 1d, 1.5d, 2d, 3.4d, 3.5d, 4.2d, 5d, 6d};
+    double[] unsorted = {3.4d, 0d, 5d, 0.7d, 6d, 1d, 4.2d, 0.5d, 2d, 1.5d};
+    for (double[] x : new double[][] {sorted, unsorted, {}}) {
+      double[] values = bound.interpolate(x);
+      double[] derivatives = bound.firstDerivative(x);
+      DoubleMatrix sensitivities = bound.parameterSensitivity(x);
+      assertEquals(values.length, x.length);
+      assertEquals(derivatives.length, x.length);
+      assertEquals(sensitivities.rowCount(), x.length);
+      for (int i = 0; i < x.length; i++) {
+        assertEquals(values[i], bound.interpolate(x[i]));
+        assertEquals(derivatives[i], bound.firstDerivative(x[i]));
+        assertEquals(sensitivities.row(i), bound.parameterSensitivity(x[i]));
+      }
+    }
+  }
+
 }
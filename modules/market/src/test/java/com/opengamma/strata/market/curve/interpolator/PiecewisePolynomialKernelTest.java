@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2018 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.curve.interpolator;
+
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static org.testng.Assert.assertEquals;
+
+import org.testng.annotations.Test;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.math.impl.function.PiecewisePolynomialFunction1D;
+import com.opengamma.strata.math.impl.function.PiecewisePolynomialWithSensitivityFunction1D;
+import com.opengamma.strata.math.impl.interpolation.NaturalSplineInterpolator;
+import com.opengamma.strata.math.impl.interpolation.PiecewisePolynomialResult;
+import com.opengamma.strata.math.impl.interpolation.PiecewisePolynomialResultsWithSensitivity;
+
+/**
+ * Test {@link PiecewisePolynomialKernel}.
+ */
+@Test
+public class PiecewisePolynomialKernelTest {
+
+  private static final double[] X_DATA = {0.5, 1.0, 2.0, 3.5, 5.0, 10.0};
+  private static final double[] Y_DATA = {0.02, 0.025, 0.023, 0.03, 0.032, 0.031};
+  private static final double[] X_TEST = {0.5, 0.7, 1.0, 1.9, 2.0, 4.2, 9.9, 10.0};
+  private static final double TOL = 1e-14;
+
+  private static final NaturalSplineInterpolator INTERPOLATOR = new NaturalSplineInterpolator();
+  private static final PiecewisePolynomialFunction1D FUNCTION = new PiecewisePolynomialFunction1D();
+  private static final PiecewisePolynomialWithSensitivityFunction1D SENSITIVITY_FUNCTION =
+      new PiecewisePolynomialWithSensitivityFunction1D();
+
+  public void test_value_firstDerivative() {
+    PiecewisePolynomialResult poly = INTERPOLATOR.interpolate(X_DATA, Y_DATA);
+    PiecewisePolynomialKernel test = PiecewisePolynomialKernel.of(poly);
+    assertEquals(test.knots(), X_DATA);
+    for (double x : X_TEST) {
+      int lowerIndex = AbstractBoundCurveInterpolator.lowerBoundIndex(x, test.knots());
+      assertEquals(test.value(x, lowerIndex), FUNCTION.evaluate(poly, x).get(0), TOL);
+      assertEquals(test.firstDerivative(x, lowerIndex), FUNCTION.differentiate(poly, x).get(0), TOL);
+    }
+  }
+
+  public void test_nodeSensitivity() {
+    PiecewisePolynomialResultsWithSensitivity poly = INTERPOLATOR.interpolateWithSensitivity(X_DATA, Y_DATA);
+    PiecewisePolynomialKernel test = PiecewisePolynomialKernel.of(poly);
+    double[][] coefSensitivity = PiecewisePolynomialKernel.flatten(poly.getCoefficientSensitivityAll());
+    for (double x : X_TEST) {
+      int lowerIndex = AbstractBoundCurveInterpolator.lowerBoundIndex(x, test.knots());
+      DoubleArray expected = SENSITIVITY_FUNCTION.nodeSensitivity(poly, x);
+      DoubleArray computed = DoubleArray.ofUnsafe(test.nodeSensitivity(x, lowerIndex, coefSensitivity));
+      assertEquals(computed.size(), X_DATA.length);
+      for (int i = 0; i < X_DATA.length; i++) {
+        assertEquals(computed.get(i), expected.get(i), TOL);
+      }
+    }
+  }
+
+  public void test_interval() {
+    PiecewisePolynomialKernel test = PiecewisePolynomialKernel.of(INTERPOLATOR.interpolate(X_DATA, Y_DATA));
+    assertEquals(test.interval(0), 0);
+    assertEquals(test.interval(X_DATA.length - 2), X_DATA.length - 2);
+    assertEquals(test.interval(X_DATA.length - 1), X_DATA.length - 2);
+  }
+
+  public void test_of_multiDimensional() {
+    PiecewisePolynomialResult poly = new PiecewisePolynomialResult(
+        DoubleArray.of(0d, 1d), DoubleMatrix.of(2, 2, 1d, 2d, 3d, 4d), 2, 2);
+    assertThrowsIllegalArg(() -> PiecewisePolynomialKernel.of(poly));
+  }
+
+}
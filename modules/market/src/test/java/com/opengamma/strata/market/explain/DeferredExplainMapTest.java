@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2018 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.explain;
+
+import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+
+/**
+ * Test {@link DeferredExplainMap}.
+ */
+@Test
+public class DeferredExplainMapTest {
+
+  private static final ExplainMap EXPLAIN1 = ExplainMap.builder()
+      .put(ExplainKey.START_DATE, date(2015, 6, 30))
+      .put(ExplainKey.PRESENT_VALUE, CurrencyAmount.of(GBP, 1000))
+      .build();
+  private static final ExplainMap EXPLAIN2 = ExplainMap.builder()
+      .put(ExplainKey.START_DATE, date(2015, 9, 30))
+      .build();
+
+  //-------------------------------------------------------------------------
+  public void test_build() {
+    AtomicInteger count = new AtomicInteger();
+    DeferredExplainMap test = DeferredExplainMap.of(() -> {
+      count.incrementAndGet();
+      return ExplainMap.of(EXPLAIN1.getMap());
+    });
+    assertEquals(count.get(), 0);
+    ExplainMap built = test.build();
+    assertEquals(built, EXPLAIN1);
+    assertEquals(count.get(), 1);
+    assertNotSame(test.build(), built);
+    assertEquals(count.get(), 2);
+  }
+
+  public void test_of_null() {
+    assertThrowsIllegalArg(() -> DeferredExplainMap.of(null));
+  }
+
+  public void test_writeExplanation() {
+    DeferredExplainMap test = DeferredExplainMap.of(() -> EXPLAIN1);
+    StringBuilder buf = new StringBuilder();
+    test.writeExplanation(buf);
+    assertEquals(buf.toString(), EXPLAIN1.explanationString());
+  }
+
+  public void test_writeExplanations() throws IOException {
+    Path file = Files.createTempFile("explain", ".txt");
+    try {
+      DeferredExplainMap.writeExplanations(
+          ImmutableList.of(DeferredExplainMap.of(() -> EXPLAIN1), DeferredExplainMap.of(() -> EXPLAIN2)), file);
+      String written = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+      assertEquals(written, EXPLAIN1.explanationString() + EXPLAIN2.explanationString());
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+}
@@ -146,6 +146,30 @@ public class ExplainMapTest {
         "}" + EOL);
   }
 
+  public void test_writeExplanation() {
+    Map<ExplainKey<?>, Object> childMap = new LinkedHashMap<>();
+    childMap.put(ExplainKey.INDEX_VALUE, 2.3d);
+    Map<ExplainKey<?>, Object> map = new LinkedHashMap<>();
+    map.put(ExplainKey.START_DATE, DATE1);
+    map.put(ExplainKey.OBSERVATIONS, ImmutableList.of(ExplainMap.of(childMap), ExplainMap.of(ImmutableMap.of())));
+    ExplainMap test = ExplainMap.of(map);
+    StringBuilder buf = new StringBuilder();
+    test.writeExplanation(buf);
+    assertEquals(buf.toString(), test.explanationString());
+    assertEquals(buf.toString(), "" +
+        "ExplainMap {" + EOL +
+        "  StartDate = 2015-06-30," + EOL +
+        "  Observations = [{" + EOL +
+        "    IndexValue = 2.3" + EOL +
+        "  },{" + EOL +
+        "  }]" + EOL +
+        "}" + EOL);
+  }
+
+  public void test_explanationString_empty() {
+    assertEquals(ExplainMap.of(ImmutableMap.of()).explanationString(), "ExplainMap {" + EOL + "}" + EOL);
+  }
+
   //-------------------------------------------------------------------------
   public void coverage() {
     Map<ExplainKey<?>, Object> map = new HashMap<>();
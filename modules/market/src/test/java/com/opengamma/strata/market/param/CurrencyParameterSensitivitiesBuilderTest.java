@@ -0,0 +1,216 @@
+/*
+ * Copyright (C) 2018 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.param;
+
+import static com.opengamma.strata.basics.currency.Currency.EUR;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.basics.date.Tenor.TENOR_10Y;
+import static com.opengamma.strata.basics.date.Tenor.TENOR_1Y;
+import static com.opengamma.strata.basics.date.Tenor.TENOR_2Y;
+import static com.opengamma.strata.basics.date.Tenor.TENOR_3M;
+import static com.opengamma.strata.basics.date.Tenor.TENOR_5Y;
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.market.curve.CurveName;
+
+/**
+ * Test {@link CurrencyParameterSensitivitiesBuilder}.
+ */
+@Test
+public class CurrencyParameterSensitivitiesBuilderTest {
+
+  private static final CurveName NAME1 = CurveName.of("NAME-1");
+  private static final CurveName NAME2 = CurveName.of("NAME-2");
+  private static final CurveName NAME3 = CurveName.of("NAME-3");
+  private static final TenorParameterMetadata META_1Y = TenorParameterMetadata.of(TENOR_1Y);
+  private static final TenorParameterMetadata META_2Y = TenorParameterMetadata.of(TENOR_2Y);
+  private static final TenorParameterMetadata META_5Y = TenorParameterMetadata.of(TENOR_5Y);
+  private static final TenorParameterMetadata META_10Y = TenorParameterMetadata.of(TENOR_10Y);
+  private static final CurrencyParameterSensitivity ENTRY1 = CurrencyParameterSensitivity.of(
+      NAME1, ImmutableList.of(META_1Y, META_2Y, META_5Y), USD, DoubleArray.of(1, 2, 3));
+  private static final CurrencyParameterSensitivity ENTRY1B = CurrencyParameterSensitivity.of(
+      NAME1, ImmutableList.of(META_1Y, META_2Y, META_5Y), USD, DoubleArray.of(10, 20, 30));
+  private static final CurrencyParameterSensitivity ENTRY1_EUR = CurrencyParameterSensitivity.of(
+      NAME1, ImmutableList.of(META_1Y, META_2Y, META_5Y), EUR, DoubleArray.of(4, 5, 6));
+  private static final CurrencyParameterSensitivity ENTRY2 = CurrencyParameterSensitivity.of(
+      NAME2, USD, DoubleArray.of(7, 8));
+
+  //-------------------------------------------------------------------------
+  public void test_add() {
+    CurrencyParameterSensitivitiesBuilder test = CurrencyParameterSensitivities.builder();
+    assertEquals(test.size(), 0);
+    assertEquals(test.build(), CurrencyParameterSensitivities.empty());
+    test.add(ENTRY2).add(ENTRY1).add(ENTRY1_EUR).add(ENTRY1B);
+    assertEquals(test.size(), 3);
+    CurrencyParameterSensitivities expected = CurrencyParameterSensitivities.of(ENTRY2)
+        .combinedWith(ENTRY1)
+        .combinedWith(ENTRY1_EUR)
+        .combinedWith(ENTRY1B);
+    assertEquals(test.build(), expected);
+    assertEquals(test.build().getSensitivities().get(0).getSensitivity(), DoubleArray.of(4, 5, 6));
+    assertEquals(test.build().getSensitivities().get(1).getSensitivity(), DoubleArray.of(11, 22, 33));
+  }
+
+  public void test_add_unchangedAfterBuild() {
+    CurrencyParameterSensitivitiesBuilder test = CurrencyParameterSensitivities.builder().add(ENTRY1);
+    CurrencyParameterSensitivities first = test.build();
+    assertSame(first.getSensitivities().get(0), ENTRY1);
+    test.add(ENTRY1B);
+    CurrencyParameterSensitivities second = test.build();
+    test.add(ENTRY1B);
+    assertEquals(first, CurrencyParameterSensitivities.of(ENTRY1));
+    assertEquals(second.getSensitivities().get(0).getSensitivity(), DoubleArray.of(11, 22, 33));
+    assertEquals(test.build().getSensitivities().get(0).getSensitivity(), DoubleArray.of(21, 42, 63));
+    assertEquals(ENTRY1.getSensitivity(), DoubleArray.of(1, 2, 3));
+  }
+
+  public void test_add_sensitivities() {
+    CurrencyParameterSensitivities base = CurrencyParameterSensitivities.of(ENTRY1, ENTRY2);
+    CurrencyParameterSensitivitiesBuilder test = base.toBuilder().add(base);
+    assertEquals(test.build(), base.multipliedBy(2));
+    assertEquals(base, CurrencyParameterSensitivities.of(ENTRY1, ENTRY2));
+  }
+
+  public void test_add_parameterSplit() {
+    CurrencyParameterSensitivity combined = CurrencyParameterSensitivity.combine(NAME3, ENTRY1, ENTRY2);
+    CurrencyParameterSensitivities test = CurrencyParameterSensitivities.builder()
+        .add(combined)
+        .add(combined)
+        .build();
+    assertEquals(test, CurrencyParameterSensitivities.of(combined.multipliedBy(2)));
+    assertEquals(test.getSensitivities().get(0).getParameterSplit(), combined.getParameterSplit());
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_add_mergeByMetadata() {
+    CurrencyParameterSensitivity other = CurrencyParameterSensitivity.of(
+        NAME1, ImmutableList.of(META_10Y, META_2Y), USD, DoubleArray.of(100, 200));
+    CurrencyParameterSensitivity reordered = CurrencyParameterSensitivity.of(
+        NAME1, ImmutableList.of(META_5Y, META_1Y, META_10Y, META_2Y), USD, DoubleArray.of(1000, 2000, 3000, 4000));
+    CurrencyParameterSensitivities test = CurrencyParameterSensitivities.builder()
+        .add(ENTRY1)
+        .add(other)
+        .add(reordered)
+        .add(ENTRY1B)
+        .build();
+    CurrencyParameterSensitivity expected = CurrencyParameterSensitivity.of(
+        NAME1,
+        ImmutableList.of(META_1Y, META_2Y, META_5Y, META_10Y),
+        USD,
+        DoubleArray.of(2011, 4222, 1033, 3100));
+    assertEquals(test, CurrencyParameterSensitivities.of(expected));
+  }
+
+  public void test_add_mergeByMetadata_dropSplit() {
+    CurrencyParameterSensitivity entry2 = CurrencyParameterSensitivity.of(
+        NAME2, ImmutableList.of(TenorParameterMetadata.of(TENOR_3M)), USD, DoubleArray.of(7));
+    CurrencyParameterSensitivity combined = CurrencyParameterSensitivity.combine(NAME3, ENTRY1, entry2);
+    CurrencyParameterSensitivity other = CurrencyParameterSensitivity.of(
+        NAME3, ImmutableList.of(META_10Y), USD, DoubleArray.of(100));
+    CurrencyParameterSensitivities test = CurrencyParameterSensitivities.builder()
+        .add(combined)
+        .add(other)
+        .build();
+    CurrencyParameterSensitivity result = test.getSensitivities().get(0);
+    assertEquals(result.getParameterCount(), 5);
+    assertEquals(result.getParameterMetadata(4), META_10Y);
+    assertEquals(result.getParameterSplit().isPresent(), false);
+  }
+
+  public void test_add_mergeByMetadata_notUnique() {
+    CurrencyParameterSensitivity emptyMeta = CurrencyParameterSensitivity.of(NAME2, USD, DoubleArray.of(1, 2, 3));
+    assertThrowsIllegalArg(() -> CurrencyParameterSensitivities.builder().add(ENTRY2).add(emptyMeta));
+    CurrencyParameterSensitivity duplicate = CurrencyParameterSensitivity.of(
+        NAME1, ImmutableList.of(META_10Y, META_10Y), USD, DoubleArray.of(1, 2));
+    assertThrowsIllegalArg(() -> CurrencyParameterSensitivities.builder().add(ENTRY1).add(duplicate));
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_positionalBuilder() {
+    CurrencyParameterSensitivity other = CurrencyParameterSensitivity.of(
+        NAME1, ImmutableList.of(META_10Y, META_2Y, META_1Y), USD, DoubleArray.of(100, 200, 300));
+    CurrencyParameterSensitivities test = CurrencyParameterSensitivities.positionalBuilder()
+        .add(ENTRY1)
+        .add(ENTRY2)
+        .add(other)
+        .add(ENTRY1B)
+        .build();
+    CurrencyParameterSensitivities expected = CurrencyParameterSensitivities.of(ENTRY1)
+        .combinedWith(ENTRY2)
+        .combinedWith(other)
+        .combinedWith(ENTRY1B);
+    assertEquals(test, expected);
+    assertEquals(test.getSensitivities().get(0).getParameterMetadata(), ENTRY1.getParameterMetadata());
+    assertEquals(test.getSensitivities().get(0).getSensitivity(), DoubleArray.of(111, 222, 333));
+  }
+
+  public void test_positionalBuilder_parameterSplit() {
+    CurrencyParameterSensitivity combined = CurrencyParameterSensitivity.combine(NAME3, ENTRY1, ENTRY2);
+    CurrencyParameterSensitivity other = CurrencyParameterSensitivity.of(
+        NAME3, USD, DoubleArray.of(10, 20, 30, 40, 50));
+    CurrencyParameterSensitivities test = CurrencyParameterSensitivities.positionalBuilder()
+        .add(combined)
+        .add(other)
+        .build();
+    assertEquals(test, CurrencyParameterSensitivities.of(combined).combinedWith(other));
+    assertEquals(test.getSensitivities().get(0).getParameterSplit(), combined.getParameterSplit());
+  }
+
+  public void test_positionalBuilder_differentSize() {
+    CurrencyParameterSensitivity other = CurrencyParameterSensitivity.of(
+        NAME1, ImmutableList.of(META_10Y, META_2Y), USD, DoubleArray.of(100, 200));
+    assertThrowsIllegalArg(() -> CurrencyParameterSensitivities.of(ENTRY1).combinedWith(other));
+    assertThrowsIllegalArg(() -> CurrencyParameterSensitivities.positionalBuilder().add(ENTRY1).add(other));
+    CurrencyParameterSensitivity longer = CurrencyParameterSensitivity.of(
+        NAME2, USD, DoubleArray.of(1, 2, 3));
+    assertThrowsIllegalArg(() -> CurrencyParameterSensitivities.positionalBuilder().add(ENTRY2).add(longer));
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_combinedWith() {
+    CurrencyParameterSensitivitiesBuilder other = CurrencyParameterSensitivities.builder().add(ENTRY1B).add(ENTRY2);
+    CurrencyParameterSensitivitiesBuilder test = CurrencyParameterSensitivities.builder().add(ENTRY1);
+    assertSame(test.combinedWith(other), test);
+    assertEquals(test.build(), CurrencyParameterSensitivities.of(ENTRY1.plus(ENTRY1B), ENTRY2));
+    assertEquals(other.build(), CurrencyParameterSensitivities.of(ENTRY1B, ENTRY2));
+  }
+
+  public void test_collector() {
+    Random random = new Random(1);
+    List<CurrencyParameterSensitivities> list = new ArrayList<>();
+    for (int i = 0; i < 500; i++) {
+      list.add(CurrencyParameterSensitivities.of(
+          ENTRY1.multipliedBy(random.nextInt(10)),
+          ENTRY1_EUR.multipliedBy(random.nextInt(10)),
+          ENTRY2.multipliedBy(random.nextInt(10))));
+    }
+    CurrencyParameterSensitivities expected = list.stream()
+        .reduce(CurrencyParameterSensitivities.empty(), CurrencyParameterSensitivities::combinedWith);
+    CurrencyParameterSensitivities test = list.stream()
+        .collect(CurrencyParameterSensitivities.toCurrencyParameterSensitivities());
+    assertEquals(test, expected);
+    CurrencyParameterSensitivities testParallel = list.parallelStream()
+        .collect(CurrencyParameterSensitivities.toCurrencyParameterSensitivities());
+    assertTrue(testParallel.equalWithTolerance(expected, 0d));
+  }
+
+  public void test_toString() {
+    CurrencyParameterSensitivitiesBuilder test = CurrencyParameterSensitivities.builder().add(ENTRY1);
+    assertEquals(test.toString().contains(ENTRY1.toString()), true);
+  }
+
+}
@@ -113,6 +113,14 @@ public class MutablePointSensitivitiesTest {
     assertEquals(test.getSensitivities(), ImmutableList.of(CS1));
   }
 
+  public void test_buildInto_accumulator() {
+    MutablePointSensitivities base = new MutablePointSensitivities(Lists.newArrayList(CS2, CS1));
+    PointSensitivityAccumulator combo = new PointSensitivityAccumulator();
+    PointSensitivityAccumulator test = base.buildInto(combo);
+    assertSame(test, combo);
+    assertEquals(test.build().getSensitivities(), ImmutableList.of(CS2, CS1));
+  }
+
   public void test_buildInto_same() {
     MutablePointSensitivities base = new MutablePointSensitivities(CS1);
     MutablePointSensitivities test = base.buildInto(base);
@@ -159,6 +167,19 @@ public class MutablePointSensitivitiesTest {
     assertEquals(test.getSensitivities(), ImmutableList.of(CS1, CS2, CS3.withSensitivity(35d)));
   }
 
+  public void test_normalize_threeSame() {
+    MutablePointSensitivities test = new MutablePointSensitivities();
+    test.addAll(Lists.newArrayList(CS3, CS3B, CS2, CS3B));
+    test.normalize();
+    assertEquals(test.getSensitivities(), ImmutableList.of(CS2, CS3.withSensitivity(38d)));
+  }
+
+  public void test_normalize_empty() {
+    MutablePointSensitivities test = new MutablePointSensitivities();
+    test.normalize();
+    assertEquals(test.size(), 0);
+  }
+
   //-------------------------------------------------------------------------
   public void test_toImmutable() {
     MutablePointSensitivities test = new MutablePointSensitivities();
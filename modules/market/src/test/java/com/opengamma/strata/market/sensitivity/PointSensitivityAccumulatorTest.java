@@ -0,0 +1,153 @@
+/*
+ * Copyright (C) 2018 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.sensitivity;
+
+import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Test {@link PointSensitivityAccumulator}.
+ */
+@Test
+public class PointSensitivityAccumulatorTest {
+
+  private static final PointSensitivity CS1 = DummyPointSensitivity.of(GBP, date(2015, 6, 30), 12d);
+  private static final PointSensitivity CS2 = DummyPointSensitivity.of(GBP, date(2015, 7, 30), 22d);
+  private static final PointSensitivity CS3 = DummyPointSensitivity.of(GBP, date(2015, 8, 30), 32d);
+  private static final PointSensitivity CS3B = DummyPointSensitivity.of(GBP, date(2015, 8, 30), 3d);
+  private static final PointSensitivity CS3C = DummyPointSensitivity.of(GBP, date(2015, 8, 30), 5d);
+
+  //-------------------------------------------------------------------------
+  public void test_add() {
+    PointSensitivityAccumulator test = new PointSensitivityAccumulator(1);
+    assertEquals(test.size(), 0);
+    test.add(CS1).add(CS2, 7d);
+    assertEquals(test.size(), 2);
+    assertSame(test.getKey(0), CS1);
+    assertEquals(test.getValue(0), 12d);
+    assertSame(test.getKey(1), CS2);
+    assertEquals(test.getValue(1), 7d);
+    assertEquals(test.build().getSensitivities(), ImmutableList.of(CS1, CS2.withSensitivity(7d)));
+    assertThrowsIllegalArg(() -> test.getKey(2));
+    assertThrowsIllegalArg(() -> test.getValue(-1));
+  }
+
+  public void test_addAll() {
+    PointSensitivityAccumulator test = new PointSensitivityAccumulator();
+    test.addAll(ImmutableList.of(CS3, CS2));
+    test.addAll(new MutablePointSensitivities(CS1));
+    test.addAll(PointSensitivityBuilder.none());
+    test.addAll((DummyPointSensitivity) CS3B);
+    assertEquals(test.build().getSensitivities(), ImmutableList.of(CS3, CS2, CS1, CS3B));
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_withCurrency() {
+    PointSensitivityAccumulator test = new PointSensitivityAccumulator().add(CS2).add(CS1, 2d);
+    test.withCurrency(USD);
+    assertEquals(
+        test.build().getSensitivities(),
+        ImmutableList.of(CS2.withCurrency(USD), CS1.withCurrency(USD).withSensitivity(2d)));
+  }
+
+  public void test_multipliedBy() {
+    PointSensitivityAccumulator test = new PointSensitivityAccumulator().add(CS2).add(CS1);
+    test.multipliedBy(2d);
+    assertEquals(
+        test.build().getSensitivities(),
+        ImmutableList.of(CS2.withSensitivity(44d), CS1.withSensitivity(24d)));
+  }
+
+  public void test_mapSensitivity() {
+    PointSensitivityAccumulator test = new PointSensitivityAccumulator().add(CS2).add(CS1);
+    test.mapSensitivity(s -> s / 2);
+    assertEquals(
+        test.build().getSensitivities(),
+        ImmutableList.of(CS2.withSensitivity(11d), CS1.withSensitivity(6d)));
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_normalize() {
+    PointSensitivityAccumulator test = new PointSensitivityAccumulator();
+    test.addAll(ImmutableList.of(CS3, CS2, CS3B, CS1, CS3C));
+    test.normalize();
+    assertEquals(test.size(), 3);
+    assertEquals(test.build().getSensitivities(), ImmutableList.of(CS1, CS2, CS3.withSensitivity(40d)));
+  }
+
+  public void test_normalize_emptyAndSorted() {
+    assertEquals(new PointSensitivityAccumulator().normalize().size(), 0);
+    PointSensitivityAccumulator test = new PointSensitivityAccumulator().add(CS1).add(CS2).add(CS3).add(CS3B);
+    test.normalize();
+    assertEquals(test.build().getSensitivities(), ImmutableList.of(CS1, CS2, CS3.withSensitivity(35d)));
+  }
+
+  public void test_normalize_large() {
+    Random random = new Random(1);
+    List<PointSensitivity> list = new ArrayList<>();
+    LocalDate base = date(2015, 1, 1);
+    for (int i = 0; i < 2000; i++) {
+      list.add(DummyPointSensitivity.of(random.nextBoolean() ? GBP : USD, base.plusDays(random.nextInt(300)), i));
+    }
+    PointSensitivities expected = PointSensitivities.of(list).toMutable().sort().toImmutable();
+    PointSensitivityAccumulator test = new PointSensitivityAccumulator().addAll(list).normalize();
+    double total = 0d;
+    for (int i = 0; i < test.size(); i++) {
+      total += test.getValue(i);
+      if (i > 0) {
+        assertEquals(test.getKey(i - 1).compareKey(test.getKey(i)) < 0, true);
+      }
+    }
+    assertEquals(total, 1999d * 2000d / 2d);
+    assertEquals(test.build().normalized(), test.build());
+    assertEquals(expected.normalized(), test.build());
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_combinedWith() {
+    PointSensitivityAccumulator test = new PointSensitivityAccumulator().add(CS1);
+    PointSensitivityBuilder combined = test.combinedWith(new PointSensitivityAccumulator().add(CS2));
+    assertSame(combined, test);
+    assertEquals(test.build().getSensitivities(), ImmutableList.of(CS1, CS2));
+  }
+
+  public void test_buildInto() {
+    PointSensitivityAccumulator test = new PointSensitivityAccumulator().add(CS1);
+    MutablePointSensitivities combo = new MutablePointSensitivities(CS2);
+    assertSame(test.buildInto(combo), combo);
+    assertEquals(combo.getSensitivities(), ImmutableList.of(CS2, CS1));
+    assertSame(test.buildInto(test), test);
+    assertEquals(test.size(), 1);
+  }
+
+  public void test_cloned() {
+    PointSensitivityAccumulator base = new PointSensitivityAccumulator().add(CS1);
+    PointSensitivityAccumulator test = base.cloned();
+    base.add(CS2);
+    test.add(CS3);
+    assertEquals(base.build().getSensitivities(), ImmutableList.of(CS1, CS2));
+    assertEquals(test.build().getSensitivities(), ImmutableList.of(CS1, CS3));
+  }
+
+  public void test_toString() {
+    PointSensitivityAccumulator test = new PointSensitivityAccumulator().add(CS1);
+    assertEquals(test.toString().contains(CS1.toString()), true);
+  }
+
+}
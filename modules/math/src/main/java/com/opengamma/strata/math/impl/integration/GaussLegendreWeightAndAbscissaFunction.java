@@ -6,10 +6,8 @@
 package com.opengamma.strata.math.impl.integration;
 
 import com.opengamma.strata.collect.ArgChecker;
-import com.opengamma.strata.collect.tuple.Pair;
-import com.opengamma.strata.math.impl.function.DoubleFunction1D;
+import com.opengamma.strata.math.MathException;
 import com.opengamma.strata.math.impl.function.special.LegendrePolynomialFunction;
-import com.opengamma.strata.math.impl.rootfinding.NewtonRaphsonSingleRootFinder;
 
 /**
  * Class that generates weights and abscissas for Gauss-Legendre quadrature.
@@ -21,13 +19,21 @@ import com.opengamma.strata.math.impl.rootfinding.NewtonRaphsonSingleRootFinder;
  * $$
  * where $x_i$ is the $i^{th}$ root of the orthogonal polynomial and $L_i'$ is
  * the first derivative of the $i^{th}$ polynomial. The orthogonal polynomial
- * is generated by
- * {@link LegendrePolynomialFunction}.
+ * is that of {@link LegendrePolynomialFunction}.
+ * <p>
+ * The roots are found by Newton's method. The polynomial and its derivative are evaluated
+ * by the three-term recurrence relation, which is stable for a large number of points.
  */
 public class GaussLegendreWeightAndAbscissaFunction implements QuadratureWeightAndAbscissaFunction {
 
-  private static final LegendrePolynomialFunction LEGENDRE = new LegendrePolynomialFunction();
-  private static final NewtonRaphsonSingleRootFinder ROOT_FINDER = new NewtonRaphsonSingleRootFinder(1e-15);
+  /**
+   * The tolerance on the roots.
+   */
+  private static final double ROOT_TOLERANCE = 1e-15;
+  /**
+   * The maximum number of Newton iterations for each root.
+   */
+  private static final int MAX_ITERATIONS = 100;
 
   /**
    * {@inheritDoc}
@@ -38,16 +44,29 @@ public class GaussLegendreWeightAndAbscissaFunction implements QuadratureWeightA
     int mid = (n + 1) / 2;
     double[] x = new double[n];
     double[] w = new double[n];
-    Pair<DoubleFunction1D, DoubleFunction1D>[] polynomials = LEGENDRE.getPolynomialsAndFirstDerivative(n);
-    Pair<DoubleFunction1D, DoubleFunction1D> pair = polynomials[n];
-    DoubleFunction1D function = pair.getFirst();
-    DoubleFunction1D derivative = pair.getSecond();
     for (int i = 0; i < mid; i++) {
-      double root = ROOT_FINDER.getRoot(function, derivative, getInitialRootGuess(i, n));
+      double root = getInitialRootGuess(i, n);
+      double derivative;
+      double step;
+      int count = 0;
+      do {
+        if (count++ == MAX_ITERATIONS) {
+          throw new MathException("Could not find root " + i + " of the Legendre polynomial of degree " + n);
+        }
+        double value = 1d;
+        double previous = 0d;
+        for (int j = 0; j < n; j++) {
+          double beforePrevious = previous;
+          previous = value;
+          value = ((2d * j + 1d) * root * previous - j * beforePrevious) / (j + 1d);
+        }
+        derivative = n * (root * value - previous) / (root * root - 1d);
+        step = value / derivative;
+        root -= step;
+      } while (Math.abs(step) > ROOT_TOLERANCE);
       x[i] = -root;
       x[n - i - 1] = root;
-      double dp = derivative.applyAsDouble(root);
-      w[i] = 2 / ((1 - root * root) * dp * dp);
+      w[i] = 2 / ((1 - root * root) * derivative * derivative);
       w[n - i - 1] = w[i];
     }
     return new GaussianQuadratureData(x, w);
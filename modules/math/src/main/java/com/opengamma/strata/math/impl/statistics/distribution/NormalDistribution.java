@@ -26,6 +26,7 @@ import com.opengamma.strata.math.impl.cern.RandomEngine;
 public class NormalDistribution implements ProbabilityDistribution<Double> {
 
   private static final double ROOT2 = Math.sqrt(2);
+  private static final double INV_ROOT_2PI = 1.0 / Math.sqrt(2.0 * Math.PI);
 
   // TODO need a better seed
   private final double _mean;
@@ -53,6 +54,33 @@ public class NormalDistribution implements ProbabilityDistribution<Double> {
     _normal = new Normal(mean, standardDeviation, randomEngine);
   }
 
+  /**
+   * Calculates the cumulative distribution function of the standard normal distribution.
+   * <p>
+   * The result is the same as {@link #getCDF(Double)} for a mean of 0 and a standard deviation of 1,
+   * but the argument is not boxed, thus no object is created.
+   *
+   * @param x The value at which to calculate the function
+   * @return The cumulative distribution function
+   */
+  public static double getStandardCDF(double x) {
+    return DERFC.getErfc(-x / ROOT2) / 2;
+  }
+
+  /**
+   * Calculates the probability density function of the standard normal distribution.
+   * <p>
+   * The result is the same as {@link #getPDF(Double)} for a mean of 0 and a standard deviation of 1,
+   * but the argument is not boxed, thus no object is created.
+   *
+   * @param x The value at which to calculate the function
+   * @return The probability density function
+   */
+  public static double getStandardPDF(double x) {
+    return INV_ROOT_2PI * Math.exp(-(x * x) / 2.0);
+  }
+
+  //-------------------------------------------------------------------------
   /**
    * {@inheritDoc}
    */
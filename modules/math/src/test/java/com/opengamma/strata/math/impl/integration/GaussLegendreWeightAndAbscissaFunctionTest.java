@@ -5,6 +5,9 @@
  */
 package com.opengamma.strata.math.impl.integration;
 
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
 import org.testng.annotations.Test;
 
 /**
@@ -33,6 +36,27 @@ public class GaussLegendreWeightAndAbscissaFunctionTest extends WeightAndAbsciss
     assertResults(F.generate(5), X5, W5);
   }
 
+  @Test
+  public void test_largeNumberOfPoints() {
+    for (int n : new int[] {11, 13, 14, 16, 24, 64, 128}) {
+      GaussianQuadratureData data = F.generate(n);
+      double[] x = data.getAbscissas();
+      double[] w = data.getWeights();
+      assertEquals(x.length, n);
+      // exact for the polynomials of degree up to 2n-1
+      double sumWeights = 0d;
+      double sumMonomial = 0d;
+      for (int i = 0; i < n; i++) {
+        assertEquals(x[i], -x[n - 1 - i], 1e-15);
+        assertTrue(i == 0 || x[i] > x[i - 1]);
+        sumWeights += w[i];
+        sumMonomial += w[i] * Math.pow(x[i], 2 * n - 2);
+      }
+      assertEquals(sumWeights, 2d, 1e-13);
+      assertEquals(sumMonomial, 2d / (2 * n - 1), 1e-13);
+    }
+  }
+
   @Override
   protected QuadratureWeightAndAbscissaFunction getFunction() {
     return F;
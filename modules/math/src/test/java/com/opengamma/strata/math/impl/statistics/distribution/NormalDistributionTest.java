@@ -46,6 +46,14 @@ public class NormalDistributionTest extends ProbabilityDistributionTestCase {
     }
   }
 
+  public void testStandard() {
+    for (int i = 0; i < 41; i++) {
+      double x = -10.0 + 0.5 * i;
+      assertEquals(NORMAL.getCDF(x), NormalDistribution.getStandardCDF(x), 0d);
+      assertEquals(NORMAL.getPDF(x), NormalDistribution.getStandardPDF(x), 0d);
+    }
+  }
+
   public void testObject() {
     NormalDistribution other = new NormalDistribution(0, 1, ENGINE);
     assertEquals(NORMAL, other);
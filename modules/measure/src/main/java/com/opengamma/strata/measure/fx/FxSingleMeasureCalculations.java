@@ -16,6 +16,7 @@ import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.measure.rate.RatesScenarioMarketData;
 import com.opengamma.strata.pricer.fx.DiscountingFxSingleTradePricer;
 import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.pricer.rate.RatesProviderScenarioArray;
 import com.opengamma.strata.pricer.sensitivity.MarketQuoteSensitivityCalculator;
 import com.opengamma.strata.product.fx.ResolvedFxSingleTrade;
 
@@ -61,9 +62,11 @@ final class FxSingleMeasureCalculations {
       ResolvedFxSingleTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return MultiCurrencyScenarioArray.of(
+    // the trade is valued against all scenarios together
+    RatesProviderScenarioArray ratesProviders = RatesProviderScenarioArray.of(
         marketData.getScenarioCount(),
-        i -> presentValue(trade, marketData.scenario(i).ratesProvider()));
+        i -> marketData.scenario(i).ratesProvider());
+    return tradePricer.presentValue(trade, ratesProviders);
   }
 
   // present value for one scenario
@@ -35,6 +35,7 @@ import com.opengamma.strata.market.amount.LegAmounts;
 import com.opengamma.strata.market.amount.SwapLegAmount;
 import com.opengamma.strata.market.curve.Curve;
 import com.opengamma.strata.market.curve.CurveId;
+import com.opengamma.strata.market.explain.DeferredExplainMap;
 import com.opengamma.strata.market.explain.ExplainMap;
 import com.opengamma.strata.market.param.CrossGammaParameterSensitivities;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
@@ -43,6 +44,7 @@ import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.measure.rate.RatesMarketData;
 import com.opengamma.strata.measure.rate.RatesScenarioMarketData;
 import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.pricer.rate.RatesProviderScenarioArray;
 import com.opengamma.strata.pricer.sensitivity.CurveGammaCalculator;
 import com.opengamma.strata.pricer.sensitivity.MarketQuoteSensitivityCalculator;
 import com.opengamma.strata.pricer.swap.DiscountingSwapTradePricer;
@@ -102,9 +104,11 @@ final class SwapMeasureCalculations {
       ResolvedSwapTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return MultiCurrencyScenarioArray.of(
+    // the trade is valued against all scenarios together
+    RatesProviderScenarioArray ratesProviders = RatesProviderScenarioArray.of(
         marketData.getScenarioCount(),
-        i -> presentValue(trade, marketData.scenario(i).ratesProvider()));
+        i -> marketData.scenario(i).ratesProvider());
+    return tradePricer.presentValue(trade, ratesProviders);
   }
 
   // present value for one scenario
@@ -134,6 +138,27 @@ final class SwapMeasureCalculations {
     return tradePricer.explainPresentValue(trade, ratesProvider);
   }
 
+  // calculates deferred explain present value for all scenarios
+  ScenarioArray<DeferredExplainMap> deferredExplainPresentValue(
+      ResolvedSwapTrade trade,
+      RatesScenarioMarketData marketData) {
+
+    return ScenarioArray.of(
+        marketData.getScenarioCount(),
+        i -> {
+          RatesMarketData scenario = marketData.scenario(i);
+          return DeferredExplainMap.of(() -> explainPresentValue(trade, scenario.ratesProvider()));
+        });
+  }
+
+  // deferred explain present value for one scenario
+  DeferredExplainMap deferredExplainPresentValue(
+      ResolvedSwapTrade trade,
+      RatesProvider ratesProvider) {
+
+    return DeferredExplainMap.of(() -> explainPresentValue(trade, ratesProvider));
+  }
+
   //-------------------------------------------------------------------------
   // calculates calibrated sum PV01 for all scenarios
   MultiCurrencyScenarioArray pv01CalibratedSum(
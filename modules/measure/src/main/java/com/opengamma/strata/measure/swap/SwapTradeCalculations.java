@@ -12,6 +12,7 @@ import com.opengamma.strata.data.scenario.ScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
 import com.opengamma.strata.market.amount.CashFlows;
 import com.opengamma.strata.market.amount.LegAmounts;
+import com.opengamma.strata.market.explain.DeferredExplainMap;
 import com.opengamma.strata.market.explain.ExplainMap;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
 import com.opengamma.strata.measure.rate.RatesMarketDataLookup;
@@ -125,6 +126,45 @@ public class SwapTradeCalculations {
     return calc.explainPresentValue(trade, ratesProvider);
   }
 
+  /**
+   * Explains the present value calculation across one or more scenarios, building the explanation when read.
+   * <p>
+   * This is equivalent to
+   * {@link #explainPresentValue(ResolvedSwapTrade, RatesMarketDataLookup, ScenarioMarketData)},
+   * except that each explanation captures only the trade and the market data of the scenario.
+   * The explanation is calculated each time it is read, and is not retained.
+   * 
+   * @param trade  the trade
+   * @param lookup  the lookup used to query the market data
+   * @param marketData  the market data
+   * @return the deferred present value explanation, one entry per scenario
+   */
+  public ScenarioArray<DeferredExplainMap> deferredExplainPresentValue(
+      ResolvedSwapTrade trade,
+      RatesMarketDataLookup lookup,
+      ScenarioMarketData marketData) {
+
+    return calc.deferredExplainPresentValue(trade, lookup.marketDataView(marketData));
+  }
+
+  /**
+   * Explains the present value calculation for a single set of market data, building the explanation when read.
+   * <p>
+   * This is equivalent to {@link #explainPresentValue(ResolvedSwapTrade, RatesProvider)},
+   * except that the explanation captures only the trade and the market data.
+   * The explanation is calculated each time it is read, and is not retained.
+   * 
+   * @param trade  the trade
+   * @param ratesProvider  the market data
+   * @return the deferred present value explanation
+   */
+  public DeferredExplainMap deferredExplainPresentValue(
+      ResolvedSwapTrade trade,
+      RatesProvider ratesProvider) {
+
+    return calc.deferredExplainPresentValue(trade, ratesProvider);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Calculates present value sensitivity across one or more scenarios.
@@ -16,6 +16,7 @@ import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
 import com.opengamma.strata.market.amount.CashFlows;
+import com.opengamma.strata.market.explain.DeferredExplainMap;
 import com.opengamma.strata.market.explain.ExplainMap;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
@@ -69,6 +70,18 @@ public class SwapTradeCalculationsTest {
         MultiCurrencyScenarioArray.of(ImmutableList.of(expectedCurrentCash)));
   }
 
+  public void test_deferredExplainPresentValue() {
+    ScenarioMarketData md = SwapTradeCalculationFunctionTest.marketData();
+    RatesProvider provider = RATES_LOOKUP.marketDataView(md.scenario(0)).ratesProvider();
+    ExplainMap expected = DiscountingSwapTradePricer.DEFAULT.explainPresentValue(RTRADE, provider);
+
+    ScenarioArray<DeferredExplainMap> test =
+        SwapTradeCalculations.DEFAULT.deferredExplainPresentValue(RTRADE, RATES_LOOKUP, md);
+    assertEquals(test.getScenarioCount(), 1);
+    assertEquals(test.get(0).build(), expected);
+    assertEquals(SwapTradeCalculations.DEFAULT.deferredExplainPresentValue(RTRADE, provider).build(), expected);
+  }
+
   public void test_pv01() {
     ScenarioMarketData md = SwapTradeCalculationFunctionTest.marketData();
     RatesProvider provider = RATES_LOOKUP.marketDataView(md.scenario(0)).ratesProvider();
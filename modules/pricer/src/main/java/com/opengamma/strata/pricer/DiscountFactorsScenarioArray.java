@@ -0,0 +1,176 @@
+/*
+ * Copyright (C) 2018 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.date.DayCount;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.data.scenario.ScenarioArray;
+import com.opengamma.strata.market.curve.Curve;
+import com.opengamma.strata.market.curve.CurveInfoType;
+import com.opengamma.strata.market.curve.InterpolatedNodalCurveScenarioArray;
+
+/**
+ * Discount factors for a single currency across a number of scenarios.
+ * <p>
+ * This provides discount factors for all scenarios in a single call, returning a {@link DoubleArray}.
+ * Where the scenarios share the valuation date and day count, the relative year fraction
+ * of a date is calculated once and used for all scenarios.
+ */
+public final class DiscountFactorsScenarioArray
+    implements ScenarioArray<DiscountFactors> {
+
+  /**
+   * The discount factors, one for each scenario.
+   */
+  private final ImmutableList<DiscountFactors> discountFactors;
+  /**
+   * The currency.
+   */
+  private final Currency currency;
+  /**
+   * The valuation date.
+   */
+  private final LocalDate valuationDate;
+  /**
+   * Whether the relative year fraction can be shared between scenarios.
+   */
+  private final boolean sharedYearFraction;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance from a list of discount factors, one for each scenario.
+   * <p>
+   * The discount factors must have the same currency and valuation date.
+   *
+   * @param discountFactors  the discount factors, one for each scenario
+   * @return the scenario discount factors
+   */
+  public static DiscountFactorsScenarioArray of(List<? extends DiscountFactors> discountFactors) {
+    return new DiscountFactorsScenarioArray(discountFactors);
+  }
+
+  /**
+   * Obtains an instance from a scenario array of curves.
+   * <p>
+   * The curves must have x-values of year fractions with the day count specified, and
+   * y-values of zero rates or discount factors, as described in {@link DiscountFactors}.
+   *
+   * @param currency  the currency
+   * @param valuationDate  the valuation date for which the curves are valid
+   * @param curves  the curves, one for each scenario
+   * @return the scenario discount factors
+   */
+  public static DiscountFactorsScenarioArray of(
+      Currency currency,
+      LocalDate valuationDate,
+      InterpolatedNodalCurveScenarioArray curves) {
+
+    return new DiscountFactorsScenarioArray(
+        curves.stream()
+            .map(curve -> DiscountFactors.of(currency, valuationDate, curve))
+            .collect(toImmutableList()));
+  }
+
+  // creates an instance
+  private DiscountFactorsScenarioArray(List<? extends DiscountFactors> discountFactors) {
+    ArgChecker.notEmpty(discountFactors, "discountFactors");
+    this.discountFactors = ImmutableList.copyOf(discountFactors);
+    DiscountFactors first = discountFactors.get(0);
+    this.currency = first.getCurrency();
+    this.valuationDate = first.getValuationDate();
+    Optional<DayCount> firstDayCount = dayCount(first);
+    boolean shared = firstDayCount.isPresent();
+    for (DiscountFactors scenario : discountFactors) {
+      ArgChecker.isTrue(scenario.getCurrency().equals(currency), "Discount factors must have the same currency");
+      ArgChecker.isTrue(
+          scenario.getValuationDate().equals(valuationDate), "Discount factors must have the same valuation date");
+      shared &= dayCount(scenario).equals(firstDayCount);
+    }
+    this.sharedYearFraction = shared;
+  }
+
+  // finds the day count used by the standard curve based implementations
+  private static Optional<DayCount> dayCount(DiscountFactors discountFactors) {
+    Curve curve = null;
+    if (discountFactors instanceof ZeroRateDiscountFactors) {
+      curve = ((ZeroRateDiscountFactors) discountFactors).getCurve();
+    } else if (discountFactors instanceof SimpleDiscountFactors) {
+      curve = ((SimpleDiscountFactors) discountFactors).getCurve();
+    } else if (discountFactors instanceof ZeroRatePeriodicDiscountFactors) {
+      curve = ((ZeroRatePeriodicDiscountFactors) discountFactors).getCurve();
+    }
+    return curve == null ? Optional.empty() : curve.getMetadata().findInfo(CurveInfoType.DAY_COUNT);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the currency.
+   *
+   * @return the currency
+   */
+  public Currency getCurrency() {
+    return currency;
+  }
+
+  /**
+   * Gets the valuation date.
+   *
+   * @return the valuation date
+   */
+  public LocalDate getValuationDate() {
+    return valuationDate;
+  }
+
+  @Override
+  public int getScenarioCount() {
+    return discountFactors.size();
+  }
+
+  @Override
+  public DiscountFactors get(int scenarioIndex) {
+    return discountFactors.get(scenarioIndex);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the discount factor for the specified date in each scenario.
+   * <p>
+   * The result matches calling {@link DiscountFactors#discountFactor(LocalDate)} for each scenario.
+   *
+   * @param date  the date to discount to
+   * @return the discount factors, one for each scenario
+   */
+  public DoubleArray discountFactor(LocalDate date) {
+    double[] result = new double[discountFactors.size()];
+    if (sharedYearFraction) {
+      double yearFraction = discountFactors.get(0).relativeYearFraction(date);
+      for (int i = 0; i < result.length; i++) {
+        result[i] = discountFactors.get(i).discountFactor(yearFraction);
+      }
+    } else {
+      for (int i = 0; i < result.length; i++) {
+        result[i] = discountFactors.get(i).discountFactor(date);
+      }
+    }
+    return DoubleArray.ofUnsafe(result);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "DiscountFactorsScenarioArray[" + currency + ", " + discountFactors.size() + " scenarios]";
+  }
+
+}
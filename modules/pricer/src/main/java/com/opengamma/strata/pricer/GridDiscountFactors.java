@@ -0,0 +1,222 @@
+/*
+ * Copyright (C) 2018 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Optional;
+
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.data.MarketDataName;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.ParameterMetadata;
+import com.opengamma.strata.market.param.ParameterPerturbation;
+
+/**
+ * Discount factors that are precomputed on a grid of dates.
+ * <p>
+ * When a portfolio pays on a small set of dates, the discount factor for each date
+ * can be computed once, before pricing starts. This wraps the underlying discount factors,
+ * answering {@link #discountFactor(LocalDate)} by binary search in the grid when the date is
+ * one of the grid dates. All other requests, including dates not in the grid, are passed to
+ * the underlying discount factors. The discount factors in the grid are those of the
+ * underlying discount factors, thus the results are unchanged.
+ * <p>
+ * The result of {@link #withParameter(int, double)} and {@link #withPerturbation(ParameterPerturbation)}
+ * is that of the underlying discount factors, without the grid.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class GridDiscountFactors
+    implements DiscountFactors {
+
+  /**
+   * The underlying discount factors.
+   */
+  private final DiscountFactors underlying;
+  /**
+   * The grid dates, as epoch days, sorted.
+   */
+  private final long[] epochDays;
+  /**
+   * The discount factor for each grid date.
+   */
+  private final double[] discountFactors;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance computing the discount factors for the specified dates.
+   * <p>
+   * The dates do not need to be sorted or distinct.
+   * If the underlying discount factors are already a grid, the grid is rebuilt from its underlying.
+   *
+   * @param underlying  the underlying discount factors
+   * @param dates  the dates of the grid
+   * @return the discount factors
+   */
+  public static GridDiscountFactors of(DiscountFactors underlying, Collection<LocalDate> dates) {
+    ArgChecker.notNull(underlying, "underlying");
+    ArgChecker.noNulls(dates, "dates");
+    DiscountFactors base = underlying instanceof GridDiscountFactors ?
+        ((GridDiscountFactors) underlying).underlying :
+        underlying;
+    long[] epochDays = dates.stream().mapToLong(LocalDate::toEpochDay).sorted().distinct().toArray();
+    double[] discountFactors = new double[epochDays.length];
+    for (int i = 0; i < epochDays.length; i++) {
+      discountFactors[i] = base.discountFactor(LocalDate.ofEpochDay(epochDays[i]));
+    }
+    return new GridDiscountFactors(base, epochDays, discountFactors);
+  }
+
+  // restricted constructor
+  private GridDiscountFactors(DiscountFactors underlying, long[] epochDays, double[] discountFactors) {
+    this.underlying = underlying;
+    this.epochDays = epochDays;
+    this.discountFactors = discountFactors;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the underlying discount factors.
+   *
+   * @return the underlying discount factors
+   */
+  public DiscountFactors getUnderlying() {
+    return underlying;
+  }
+
+  /**
+   * Gets the number of dates in the grid.
+   *
+   * @return the number of dates
+   */
+  public int getGridSize() {
+    return epochDays.length;
+  }
+
+  @Override
+  public Currency getCurrency() {
+    return underlying.getCurrency();
+  }
+
+  @Override
+  public LocalDate getValuationDate() {
+    return underlying.getValuationDate();
+  }
+
+  @Override
+  public <T> Optional<T> findData(MarketDataName<T> name) {
+    return underlying.findData(name);
+  }
+
+  @Override
+  public int getParameterCount() {
+    return underlying.getParameterCount();
+  }
+
+  @Override
+  public double getParameter(int parameterIndex) {
+    return underlying.getParameter(parameterIndex);
+  }
+
+  @Override
+  public ParameterMetadata getParameterMetadata(int parameterIndex) {
+    return underlying.getParameterMetadata(parameterIndex);
+  }
+
+  @Override
+  public DiscountFactors withParameter(int parameterIndex, double newValue) {
+    return underlying.withParameter(parameterIndex, newValue);
+  }
+
+  @Override
+  public DiscountFactors withPerturbation(ParameterPerturbation perturbation) {
+    return underlying.withPerturbation(perturbation);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public double relativeYearFraction(LocalDate date) {
+    return underlying.relativeYearFraction(date);
+  }
+
+  @Override
+  public double discountFactor(LocalDate date) {
+    int index = Arrays.binarySearch(epochDays, date.toEpochDay());
+    if (index >= 0) {
+      return discountFactors[index];
+    }
+    return underlying.discountFactor(date);
+  }
+
+  @Override
+  public double discountFactor(double yearFraction) {
+    return underlying.discountFactor(yearFraction);
+  }
+
+  @Override
+  public double discountFactorTimeDerivative(double yearFraction) {
+    return underlying.discountFactorTimeDerivative(yearFraction);
+  }
+
+  @Override
+  public double discountFactorWithSpread(
+      double yearFraction,
+      double zSpread,
+      CompoundedRateType compoundedRateType,
+      int periodsPerYear) {
+
+    return underlying.discountFactorWithSpread(yearFraction, zSpread, compoundedRateType, periodsPerYear);
+  }
+
+  @Override
+  public double zeroRate(double yearFraction) {
+    return underlying.zeroRate(yearFraction);
+  }
+
+  @Override
+  public ZeroRateSensitivity zeroRatePointSensitivity(double yearFraction, Currency sensitivityCurrency) {
+    return underlying.zeroRatePointSensitivity(yearFraction, sensitivityCurrency);
+  }
+
+  @Override
+  public ZeroRateSensitivity zeroRatePointSensitivityWithSpread(
+      double yearFraction,
+      Currency sensitivityCurrency,
+      double zSpread,
+      CompoundedRateType compoundedRateType,
+      int periodsPerYear) {
+
+    return underlying.zeroRatePointSensitivityWithSpread(
+        yearFraction, sensitivityCurrency, zSpread, compoundedRateType, periodsPerYear);
+  }
+
+  @Override
+  public CurrencyParameterSensitivities parameterSensitivity(ZeroRateSensitivity pointSensitivity) {
+    return underlying.parameterSensitivity(pointSensitivity);
+  }
+
+  @Override
+  public CurrencyParameterSensitivities createParameterSensitivity(Currency currency, DoubleArray sensitivities) {
+    return underlying.createParameterSensitivity(currency, sensitivities);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return new StringBuilder(64)
+        .append("GridDiscountFactors{underlying=")
+        .append(underlying)
+        .append(", gridSize=")
+        .append(epochDays.length)
+        .append('}')
+        .toString();
+  }
+
+}
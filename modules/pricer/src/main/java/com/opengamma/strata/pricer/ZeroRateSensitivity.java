@@ -28,6 +28,7 @@ import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.FxRateProvider;
 import com.opengamma.strata.market.sensitivity.MutablePointSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivity;
+import com.opengamma.strata.market.sensitivity.PointSensitivityAccumulator;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 
 /**
@@ -147,6 +148,11 @@ public final class ZeroRateSensitivity
     return combination.add(this);
   }
 
+  @Override
+  public PointSensitivityAccumulator buildInto(PointSensitivityAccumulator accumulator) {
+    return accumulator.add(this);
+  }
+
   @Override
   public ZeroRateSensitivity cloned() {
     return this;
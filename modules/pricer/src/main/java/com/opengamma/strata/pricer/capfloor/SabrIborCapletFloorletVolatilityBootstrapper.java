@@ -5,6 +5,7 @@
  */
 package com.opengamma.strata.pricer.capfloor;
 
+import static com.opengamma.strata.collect.Guavate.join;
 import static com.opengamma.strata.math.impl.linearalgebra.DecompositionFactory.SV_COMMONS;
 import static com.opengamma.strata.math.impl.matrix.MatrixAlgebraFactory.OG_ALGEBRA;
 
@@ -14,7 +15,10 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.stream.Collectors;
 
 import com.opengamma.strata.basics.ReferenceData;
@@ -56,6 +60,9 @@ import com.opengamma.strata.product.capfloor.ResolvedIborCapFloorLeg;
  * <p>
  * The calibration to SABR is computed once the option volatility date is converted to prices. Thus we should note that 
  * the error values in {@code RawOptionData} are applied in the price space rather than the volatility space.
+ * <p>
+ * The calibration can be multi-threaded by specifying an executor. The expiries are still bootstrapped in turn,
+ * but the caps of the expiry being calibrated are priced as separate tasks in each iteration of the least-squares fit.
  */
 public class SabrIborCapletFloorletVolatilityBootstrapper extends IborCapletFloorletVolatilityCalibrator {
 
@@ -134,6 +141,44 @@ public class SabrIborCapletFloorletVolatilityBootstrapper extends IborCapletFloo
       RawOptionData capFloorData,
       RatesProvider ratesProvider) {
 
+    return bootstrap(definition, calibrationDateTime, capFloorData, ratesProvider, null);
+  }
+
+  /**
+   * Calibrates caplet volatilities to cap volatilities, spreading the cap pricing across an executor.
+   * <p>
+   * This produces the same result as
+   * {@link #calibrate(IborCapletFloorletVolatilityDefinition, ZonedDateTime, RawOptionData, RatesProvider)}.
+   * In each iteration of the least-squares fit of an expiry, the price and the parameter sensitivity
+   * of each cap is a separate task run by the executor. The values are assembled in the order of the caps,
+   * thus the result does not depend on the order in which the tasks complete.
+   * 
+   * @param definition  the caplet volatility definition
+   * @param calibrationDateTime  the calibration time
+   * @param capFloorData  the cap data
+   * @param ratesProvider  the rates provider
+   * @param executor  the executor used to price the caps
+   * @return the calibration result
+   */
+  public IborCapletFloorletVolatilityCalibrationResult calibrate(
+      IborCapletFloorletVolatilityDefinition definition,
+      ZonedDateTime calibrationDateTime,
+      RawOptionData capFloorData,
+      RatesProvider ratesProvider,
+      Executor executor) {
+
+    ArgChecker.notNull(executor, "executor");
+    return bootstrap(definition, calibrationDateTime, capFloorData, ratesProvider, executor);
+  }
+
+  // bootstraps the expiries in turn, pricing the caps sequentially if the executor is null
+  private IborCapletFloorletVolatilityCalibrationResult bootstrap(
+      IborCapletFloorletVolatilityDefinition definition,
+      ZonedDateTime calibrationDateTime,
+      RawOptionData capFloorData,
+      RatesProvider ratesProvider,
+      Executor executor) {
+
     ArgChecker.isTrue(ratesProvider.getValuationDate().equals(calibrationDateTime.toLocalDate()),
         "valuationDate of ratesProvider should be coherent to calibrationDateTime");
     ArgChecker.isTrue(definition instanceof SabrIborCapletFloorletVolatilityBootstrapDefinition,
@@ -225,9 +270,9 @@ public class SabrIborCapletFloorletVolatilityBootstrapper extends IborCapletFloo
       int nCaplets = startIndex[i + 1] - startIndex[i];
       int currentStart = startIndex[i];
       Function<DoubleArray, DoubleArray> valueFunction = createPriceFunction(
-          ratesProvider, vols, prevExpiry, capList, priceList, startIndex, nExpiries, i, nCaplets, betaFix);
-      Function<DoubleArray, DoubleMatrix> jacobianFunction = createJacobianFunction(
-          ratesProvider, vols, prevExpiry, capList, priceList, index.getCurrency(), startIndex, nExpiries, i, nCaplets, betaFix);
+          ratesProvider, vols, prevExpiry, capList, priceList, startIndex, nExpiries, i, nCaplets, betaFix, executor);
+      Function<DoubleArray, DoubleMatrix> jacobianFunction = createJacobianFunction(ratesProvider, vols, prevExpiry,
+          capList, priceList, index.getCurrency(), startIndex, nExpiries, i, nCaplets, betaFix, executor);
       NonLinearTransformFunction transFunc = new NonLinearTransformFunction(valueFunction, jacobianFunction, transform);
       DoubleArray adjustedPrices = adjustedPrices(ratesProvider, vols, prevExpiry, capList, priceList, startIndex, i, nCaplets);
       DoubleArray errors = DoubleArray.of(nCaplets, n -> errorList.get(currentStart + n));
@@ -284,18 +329,21 @@ public class SabrIborCapletFloorletVolatilityBootstrapper extends IborCapletFloo
       int nExpiries,
       int timeIndex,
       int nCaplets,
-      boolean betaFixed) {
+      boolean betaFixed,
+      Executor executor) {
 
     int currentStart = startIndex[timeIndex];
     Function<DoubleArray, DoubleArray> priceFunction = new Function<DoubleArray, DoubleArray>() {
       @Override
       public DoubleArray apply(DoubleArray x) {
         SabrParametersIborCapletFloorletVolatilities volsNew = updateParameters(volatilities, nExpiries, timeIndex, betaFixed, x);
-        return DoubleArray.of(nCaplets,
+        List<Double> values = capValues(nCaplets,
             n -> capList.get(currentStart + n).getCapletFloorletPeriods().stream()
                 .filter(p -> p.getFixingDateTime().isAfter(prevExpiry))
                 .mapToDouble(p -> sabrPeriodPricer.presentValue(p, ratesProvider, volsNew).getAmount())
-                .sum() / priceList.get(currentStart + n));
+                .sum() / priceList.get(currentStart + n),
+            executor);
+        return DoubleArray.of(nCaplets, n -> values.get(n));
       }
     };
     return priceFunction;
@@ -313,7 +361,8 @@ public class SabrIborCapletFloorletVolatilityBootstrapper extends IborCapletFloo
       int nExpiries,
       int timeIndex,
       int nCaplets,
-      boolean betaFixed) {
+      boolean betaFixed,
+      Executor executor) {
 
     Curve alphaCurve = volatilities.getParameters().getAlphaCurve();
     Curve betaCurve = volatilities.getParameters().getBetaCurve();
@@ -324,8 +373,8 @@ public class SabrIborCapletFloorletVolatilityBootstrapper extends IborCapletFloo
       @Override
       public DoubleMatrix apply(DoubleArray x) {
         SabrParametersIborCapletFloorletVolatilities volsNew = updateParameters(volatilities, nExpiries, timeIndex, betaFixed, x);
-        double[][] jacobian = new double[nCaplets][4];
-        for (int i = 0; i < nCaplets; ++i) {
+        IntFunction<double[]> jacobianRow = i -> {
+          double[] row = new double[4];
           PointSensitivities point = capList.get(currentStart + i).getCapletFloorletPeriods().stream()
               .filter(p -> p.getFixingDateTime().isAfter(prevExpiry))
               .map(p -> sabrPeriodPricer.presentValueSensitivityModelParamsSabr(p, ratesProvider, volsNew))
@@ -334,19 +383,21 @@ public class SabrIborCapletFloorletVolatilityBootstrapper extends IborCapletFloo
               .build();
           double targetPrice = priceList.get(currentStart + i);
           CurrencyParameterSensitivities sensi = volsNew.parameterSensitivity(point);
-          jacobian[i][0] = sensi.getSensitivity(alphaCurve.getName(), currency).getSensitivity().get(timeIndex) / targetPrice;
+          row[0] = sensi.getSensitivity(alphaCurve.getName(), currency).getSensitivity().get(timeIndex) / targetPrice;
           if (betaFixed) {
-            jacobian[i][1] = 0d;
-            jacobian[i][2] = sensi.getSensitivity(rhoCurve.getName(), currency).getSensitivity().get(timeIndex) / targetPrice;
+            row[1] = 0d;
+            row[2] = sensi.getSensitivity(rhoCurve.getName(), currency).getSensitivity().get(timeIndex) / targetPrice;
 
           } else {
-            jacobian[i][1] = sensi.getSensitivity(betaCurve.getName(), currency).getSensitivity().get(timeIndex) / targetPrice;
-            jacobian[i][2] = 0d;
+            row[1] = sensi.getSensitivity(betaCurve.getName(), currency).getSensitivity().get(timeIndex) / targetPrice;
+            row[2] = 0d;
 
           }
-          jacobian[i][3] = sensi.getSensitivity(nuCurve.getName(), currency).getSensitivity().get(timeIndex) / targetPrice;
-        }
-        return DoubleMatrix.ofUnsafe(jacobian);
+          row[3] = sensi.getSensitivity(nuCurve.getName(), currency).getSensitivity().get(timeIndex) / targetPrice;
+          return row;
+        };
+        List<double[]> jacobian = capValues(nCaplets, jacobianRow, executor);
+        return DoubleMatrix.ofUnsafe(jacobian.toArray(new double[nCaplets][]));
       }
     };
     return jacobianFunction;
@@ -395,4 +446,25 @@ public class SabrIborCapletFloorletVolatilityBootstrapper extends IborCapletFloo
             .sum()) / priceList.get(currentStart + n));
   }
 
+  // values of each cap, in order, computed as separate tasks if the executor is not null
+  private static <T> List<T> capValues(int nCaplets, IntFunction<T> valueFunction, Executor executor) {
+    List<T> values = new ArrayList<>(nCaplets);
+    if (executor == null) {
+      for (int n = 0; n < nCaplets; ++n) {
+        values.add(valueFunction.apply(n));
+      }
+      return values;
+    }
+    // all the tasks are submitted before any is joined
+    List<CompletableFuture<T>> futures = new ArrayList<>(nCaplets);
+    for (int n = 0; n < nCaplets; ++n) {
+      int capIndex = n;
+      futures.add(CompletableFuture.supplyAsync(() -> valueFunction.apply(capIndex), executor));
+    }
+    for (CompletableFuture<T> future : futures) {
+      values.add(join(future));
+    }
+    return values;
+  }
+
 }
@@ -5,6 +5,7 @@
  */
 package com.opengamma.strata.pricer.capfloor;
 
+import static com.opengamma.strata.collect.Guavate.join;
 import static com.opengamma.strata.market.ValueType.NORMAL_VOLATILITY;
 
 import java.time.LocalDate;
@@ -12,6 +13,8 @@ import java.time.Period;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 import com.opengamma.strata.basics.ReferenceData;
@@ -19,6 +22,7 @@ import com.opengamma.strata.basics.index.IborIndex;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.market.curve.ConstantCurve;
 import com.opengamma.strata.market.curve.Curve;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
@@ -46,6 +50,9 @@ import com.opengamma.strata.product.capfloor.ResolvedIborCapFloorLeg;
  * returned otherwise. 
  * On the other hand, if the shift curve is present in {@code SurfaceIborCapletFloorletBootstrapVolatilityDefinition}, 
  * Black caplet volatilities are returned for any input volatility type. 
+ * <p>
+ * The calibration can be multi-threaded by specifying an executor. The expiries are still bootstrapped in turn,
+ * but the caplet volatilities of the strikes of the expiry being calibrated are solved as separate tasks.
  */
 public class SurfaceIborCapletFloorletVolatilityBootstrapper extends IborCapletFloorletVolatilityCalibrator {
 
@@ -83,12 +90,63 @@ public class SurfaceIborCapletFloorletVolatilityBootstrapper extends IborCapletF
       RawOptionData capFloorData,
       RatesProvider ratesProvider) {
 
+    return bootstrap(definition, calibrationDateTime, capFloorData, ratesProvider, null);
+  }
+
+  /**
+   * Calibrates caplet volatilities to cap volatilities, spreading the strikes of each expiry across an executor.
+   * <p>
+   * The expiries are bootstrapped in turn. The caplet volatilities of the strikes of an expiry are then
+   * solved independently, each as a separate task run by the executor, from the volatilities calibrated
+   * for the previous expiries. The volatilities are assembled in the order of the strikes,
+   * thus the result does not depend on the order in which the tasks complete.
+   * <p>
+   * The strikes of an expiry are independent if the caplets of a cap only depend on the node of the cap strike.
+   * The surface interpolation is exact at the nodes, thus this is the case if the caplets have the strike
+   * of a node, that is if the shift curve is not present or is a {@link ConstantCurve}.
+   * The result is then the same as
+   * {@link #calibrate(IborCapletFloorletVolatilityDefinition, ZonedDateTime, RawOptionData, RatesProvider)},
+   * in which the strikes are solved sequentially, each from the volatilities of the previous strikes.
+   * With any other shift curve, the shifted strikes of the caplets differ from those of the nodes,
+   * thus the strikes are not independent and are solved sequentially, without using the executor.
+   * 
+   * @param definition  the caplet volatility definition
+   * @param calibrationDateTime  the calibration time
+   * @param capFloorData  the cap data
+   * @param ratesProvider  the rates provider
+   * @param executor  the executor used to solve the caplet volatilities
+   * @return the calibration result
+   */
+  public IborCapletFloorletVolatilityCalibrationResult calibrate(
+      IborCapletFloorletVolatilityDefinition definition,
+      ZonedDateTime calibrationDateTime,
+      RawOptionData capFloorData,
+      RatesProvider ratesProvider,
+      Executor executor) {
+
+    ArgChecker.notNull(executor, "executor");
+    return bootstrap(definition, calibrationDateTime, capFloorData, ratesProvider, executor);
+  }
+
+  // bootstraps the expiries in turn, solving the strikes sequentially if the executor is null
+  // or if the shifted strikes of the caplets are not those of the nodes
+  private IborCapletFloorletVolatilityCalibrationResult bootstrap(
+      IborCapletFloorletVolatilityDefinition definition,
+      ZonedDateTime calibrationDateTime,
+      RawOptionData capFloorData,
+      RatesProvider ratesProvider,
+      Executor executor) {
+
     ArgChecker.isTrue(ratesProvider.getValuationDate().equals(calibrationDateTime.toLocalDate()),
         "valuationDate of ratesProvider should be coherent to calibrationDateTime");
     ArgChecker.isTrue(definition instanceof SurfaceIborCapletFloorletVolatilityBootstrapDefinition,
         "definition should be SurfaceIborCapletFloorletVolatilityBootstrapDefinition");
     SurfaceIborCapletFloorletVolatilityBootstrapDefinition bsDefinition =
         (SurfaceIborCapletFloorletVolatilityBootstrapDefinition) definition;
+    boolean independentStrikes = bsDefinition.getShiftCurve()
+        .map(shiftCurve -> shiftCurve instanceof ConstantCurve)
+        .orElse(true);
+    Executor strikeExecutor = independentStrikes ? executor : null;
     IborIndex index = bsDefinition.getIndex();
     LocalDate calibrationDate = calibrationDateTime.toLocalDate();
     LocalDate baseDate = index.getEffectiveDateOffset().adjust(calibrationDate, getReferenceData());
@@ -145,12 +203,31 @@ public class SurfaceIborCapletFloorletVolatilityBootstrapper extends IborCapletF
       prevExpiry = capList.get(startIndex[1] - 1).getFinalFixingDateTime();
     }
     for (int i = start; i < nExpiries; ++i) {
-      for (int j = startIndex[i]; j < startIndex[i + 1]; ++j) {
-        Function<Double, double[]> func = getValueVegaFunction(capList.get(j), ratesProvider, vols, prevExpiry, j);
-        GenericImpliedVolatiltySolver solver = new GenericImpliedVolatiltySolver(func);
-        double priceFixed = i == 0 ? 0d : priceFixed(capList.get(j), ratesProvider, vols, prevExpiry);
-        double capletVol = solver.impliedVolatility(priceList.get(j) - priceFixed, initialVol.get(j));
-        vols = vols.withParameter(j, capletVol);
+      if (strikeExecutor == null) {
+        for (int j = startIndex[i]; j < startIndex[i + 1]; ++j) {
+          double capletVol = capletVolatility(
+              capList.get(j), priceList.get(j), initialVol.get(j), ratesProvider, vols, prevExpiry, i, j);
+          vols = vols.withParameter(j, capletVol);
+        }
+      } else {
+        // all the tasks are submitted before any is joined
+        List<CompletableFuture<Double>> capletVols = new ArrayList<>();
+        for (int j = startIndex[i]; j < startIndex[i + 1]; ++j) {
+          ResolvedIborCapFloorLeg cap = capList.get(j);
+          double price = priceList.get(j);
+          double guess = initialVol.get(j);
+          IborCapletFloorletVolatilities currentVols = vols;
+          ZonedDateTime currentPrevExpiry = prevExpiry;
+          int expiryIndex = i;
+          int nodeIndex = j;
+          capletVols.add(CompletableFuture.supplyAsync(
+              () -> capletVolatility(
+                  cap, price, guess, ratesProvider, currentVols, currentPrevExpiry, expiryIndex, nodeIndex),
+              strikeExecutor));
+        }
+        for (int j = startIndex[i]; j < startIndex[i + 1]; ++j) {
+          vols = vols.withParameter(j, join(capletVols.get(j - startIndex[i])));
+        }
       }
       prevExpiry = capList.get(startIndex[i + 1] - 1).getFinalFixingDateTime();
     }
@@ -158,6 +235,23 @@ public class SurfaceIborCapletFloorletVolatilityBootstrapper extends IborCapletF
   }
 
   //-------------------------------------------------------------------------
+  // solves the caplet volatility of the node such that the cap is priced
+  private double capletVolatility(
+      ResolvedIborCapFloorLeg cap,
+      double capPrice,
+      double initialVol,
+      RatesProvider ratesProvider,
+      IborCapletFloorletVolatilities vols,
+      ZonedDateTime prevExpiry,
+      int expiryIndex,
+      int nodeIndex) {
+
+    Function<Double, double[]> func = getValueVegaFunction(cap, ratesProvider, vols, prevExpiry, nodeIndex);
+    GenericImpliedVolatiltySolver solver = new GenericImpliedVolatiltySolver(func);
+    double priceFixed = expiryIndex == 0 ? 0d : priceFixed(cap, ratesProvider, vols, prevExpiry);
+    return solver.impliedVolatility(capPrice - priceFixed, initialVol);
+  }
+
   // price and vega function
   private Function<Double, double[]> getValueVegaFunction(
       ResolvedIborCapFloorLeg cap,
@@ -5,6 +5,13 @@
  */
 package com.opengamma.strata.pricer.cms;
 
+import static com.opengamma.strata.collect.Guavate.join;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import com.opengamma.strata.basics.currency.CurrencyAmount;
@@ -65,6 +72,34 @@ public class SabrExtrapolationReplicationCmsLegPricer {
         .get();
   }
 
+  /**
+   * Calculates the present value of the CMS leg, pricing the periods across an executor.
+   * <p>
+   * The present value of each period is a separate task run by the executor.
+   * The values are summed in the order of the periods, thus the result is the same as that of
+   * {@link #presentValue(ResolvedCmsLeg, RatesProvider, SabrSwaptionVolatilities)}.
+   * 
+   * @param cmsLeg  the CMS leg
+   * @param ratesProvider  the rates provider
+   * @param swaptionVolatilities  the swaption volatilities
+   * @param executor  the executor used to price the periods
+   * @return the present value
+   */
+  public CurrencyAmount presentValue(
+      ResolvedCmsLeg cmsLeg,
+      RatesProvider ratesProvider,
+      SabrSwaptionVolatilities swaptionVolatilities,
+      Executor executor) {
+
+    ArgChecker.notNull(executor, "executor");
+    validate(ratesProvider, swaptionVolatilities);
+    return periodValues(
+        cmsLeg, cmsPeriod -> cmsPeriodPricer.presentValue(cmsPeriod, ratesProvider, swaptionVolatilities), executor)
+        .stream()
+        .reduce((c1, c2) -> c1.plus(c2))
+        .get();
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Explains the present value of a CMS leg.
@@ -120,6 +155,36 @@ public class SabrExtrapolationReplicationCmsLegPricer {
         .get();
   }
 
+  /**
+   * Calculates the present value curve sensitivity of the CMS leg, pricing the periods across an executor.
+   * <p>
+   * The sensitivity of each period is a separate task run by the executor.
+   * The sensitivities are combined in the order of the periods, thus the result is the same as that of
+   * {@link #presentValueSensitivityRates(ResolvedCmsLeg, RatesProvider, SabrSwaptionVolatilities)}.
+   * 
+   * @param cmsLeg  the CMS leg
+   * @param ratesProvider  the rates provider
+   * @param swaptionVolatilities  the swaption volatilities
+   * @param executor  the executor used to price the periods
+   * @return the present value sensitivity
+   */
+  public PointSensitivityBuilder presentValueSensitivityRates(
+      ResolvedCmsLeg cmsLeg,
+      RatesProvider ratesProvider,
+      SabrSwaptionVolatilities swaptionVolatilities,
+      Executor executor) {
+
+    ArgChecker.notNull(executor, "executor");
+    validate(ratesProvider, swaptionVolatilities);
+    return periodValues(
+        cmsLeg,
+        cmsPeriod -> cmsPeriodPricer.presentValueSensitivityRates(cmsPeriod, ratesProvider, swaptionVolatilities),
+        executor)
+        .stream()
+        .reduce((p1, p2) -> p1.combinedWith(p2))
+        .get();
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Calculates the present value sensitivity to the SABR model parameters.
@@ -144,6 +209,37 @@ public class SabrExtrapolationReplicationCmsLegPricer {
         .normalize();
   }
 
+  /**
+   * Calculates the present value sensitivity to the SABR model parameters, pricing the periods across an executor.
+   * <p>
+   * The sensitivity of each period is a separate task run by the executor.
+   * The sensitivities are combined in the order of the periods, thus the result is the same as that of
+   * {@link #presentValueSensitivityModelParamsSabr(ResolvedCmsLeg, RatesProvider, SabrSwaptionVolatilities)}.
+   * 
+   * @param cmsLeg  the CMS leg
+   * @param ratesProvider  the rates provider
+   * @param swaptionVolatilities  the swaption volatilities
+   * @param executor  the executor used to price the periods
+   * @return the present value sensitivity
+   */
+  public PointSensitivityBuilder presentValueSensitivityModelParamsSabr(
+      ResolvedCmsLeg cmsLeg,
+      RatesProvider ratesProvider,
+      SabrSwaptionVolatilities swaptionVolatilities,
+      Executor executor) {
+
+    ArgChecker.notNull(executor, "executor");
+    validate(ratesProvider, swaptionVolatilities);
+    return periodValues(
+        cmsLeg,
+        cmsPeriod -> cmsPeriodPricer.presentValueSensitivityModelParamsSabr(
+            cmsPeriod, ratesProvider, swaptionVolatilities),
+        executor)
+        .stream()
+        .reduce(PointSensitivityBuilder.none(), PointSensitivityBuilder::combinedWith)
+        .normalize();
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Calculates the present value sensitivity to the strike value.
@@ -190,6 +286,24 @@ public class SabrExtrapolationReplicationCmsLegPricer {
   }
 
   //-------------------------------------------------------------------------
+  // the values of the periods, in the order of the periods, each period being a task run by the executor
+  private static <T> List<T> periodValues(
+      ResolvedCmsLeg cmsLeg,
+      Function<CmsPeriod, T> valueFunction,
+      Executor executor) {
+
+    // all the tasks are submitted before any is joined
+    List<CompletableFuture<T>> futures = new ArrayList<>(cmsLeg.getCmsPeriods().size());
+    for (CmsPeriod cmsPeriod : cmsLeg.getCmsPeriods()) {
+      futures.add(CompletableFuture.supplyAsync(() -> valueFunction.apply(cmsPeriod), executor));
+    }
+    List<T> values = new ArrayList<>(futures.size());
+    for (CompletableFuture<T> future : futures) {
+      values.add(join(future));
+    }
+    return values;
+  }
+
   private void validate(RatesProvider ratesProvider, SabrSwaptionVolatilities swaptionVolatilities) {
     ArgChecker.isTrue(swaptionVolatilities.getValuationDate().equals(ratesProvider.getValuationDate()),
         "volatility and rate data must be for the same date");
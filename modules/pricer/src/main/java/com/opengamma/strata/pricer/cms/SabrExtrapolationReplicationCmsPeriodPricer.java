@@ -14,6 +14,7 @@ import java.time.LocalDate;
 import java.time.ZonedDateTime;
 import java.util.OptionalDouble;
 import java.util.function.Function;
+import java.util.stream.DoubleStream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,6 +28,8 @@ import com.opengamma.strata.market.explain.ExplainKey;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.math.MathException;
+import com.opengamma.strata.math.impl.integration.GaussLegendreWeightAndAbscissaFunction;
+import com.opengamma.strata.math.impl.integration.GaussianQuadratureData;
 import com.opengamma.strata.math.impl.integration.RungeKuttaIntegrator1D;
 import com.opengamma.strata.pricer.impl.option.SabrExtrapolationRightFunction;
 import com.opengamma.strata.pricer.impl.volatility.smile.SabrFormulaData;
@@ -50,7 +53,9 @@ import com.opengamma.strata.product.swap.SwapLegType;
  *  The extrapolation is done on call prices above a certain strike. See {@link SabrExtrapolationRightFunction} for
  *  more details on the extrapolation method.
  *  <p>
- *  The replication requires numerical integration. This is completed by {@link RungeKuttaIntegrator1D}.
+ *  The replication requires numerical integration. This is completed by {@link RungeKuttaIntegrator1D}, or by
+ *  a Gauss-Legendre quadrature of fixed order if the pricer is obtained by
+ *  {@link #ofGaussLegendre(DiscountingSwapProductPricer, double, double, int)}.
  *  <p>
  *  The consistency between {@code RatesProvider} and {@code SabrParametersSwaptionVolatilities} is not checked in this 
  *  class, but validated only once in {@link SabrExtrapolationReplicationCmsLegPricer}.
@@ -99,6 +104,11 @@ public final class SabrExtrapolationReplicationCmsPeriodPricer {
    * For expiry below that value, the forward rate is used for present value.
    */
   private static final double MIN_TIME = 1e-4;
+  /**
+   * The generator of the nodes and weights of the Gauss-Legendre quadrature.
+   */
+  private static final GaussLegendreWeightAndAbscissaFunction GAUSS_LEGENDRE =
+      new GaussLegendreWeightAndAbscissaFunction();
 
   /**
    * Pricer for the underlying swap.
@@ -116,6 +126,10 @@ public final class SabrExtrapolationReplicationCmsPeriodPricer {
    * This must be greater than 0 in order to ensure that the call price converges to 0 for infinite strike.
    */
   private final double mu;
+  /**
+   * The nodes and weights of the Gauss-Legendre quadrature, null if the Runge-Kutta integrator is used.
+   */
+  private final GaussianQuadratureData quadrature;
 
   //-------------------------------------------------------------------------
   /**
@@ -131,7 +145,7 @@ public final class SabrExtrapolationReplicationCmsPeriodPricer {
       double cutOffStrike,
       double mu) {
 
-    return new SabrExtrapolationReplicationCmsPeriodPricer(swapPricer, cutOffStrike, mu);
+    return new SabrExtrapolationReplicationCmsPeriodPricer(swapPricer, cutOffStrike, mu, null);
   }
 
   /**
@@ -145,14 +159,45 @@ public final class SabrExtrapolationReplicationCmsPeriodPricer {
     return of(DiscountingSwapProductPricer.DEFAULT, cutOffStrike, mu);
   }
 
+  /**
+   * Obtains the pricer integrating by a Gauss-Legendre quadrature.
+   * <p>
+   * The replication integrals are split into intervals at the forward, at the cut-off strike and at the zero
+   * bound of the shifted strike, and a quadrature with the number of points specified is applied to each interval.
+   * The nodes and weights are computed once, when the pricer is created.
+   * The integrants of the present value and of the sensitivities are evaluated at all the nodes at once,
+   * with a fixed number of evaluations of the SABR formula, thus this is faster than the adaptive Runge-Kutta
+   * integration. The accuracy depends on the number of points.
+   * With 16 points, the present values typically agree with those of the Runge-Kutta integration
+   * to 1.0E-9 of the notional.
+   * 
+   * @param swapPricer  the pricer for underlying swap
+   * @param cutOffStrike  the cut-off strike value
+   * @param mu  the tail thickness
+   * @param nbPoints  the number of points of the quadrature in each interval
+   * @return the pricer
+   */
+  public static SabrExtrapolationReplicationCmsPeriodPricer ofGaussLegendre(
+      DiscountingSwapProductPricer swapPricer,
+      double cutOffStrike,
+      double mu,
+      int nbPoints) {
+
+    ArgChecker.notNegativeOrZero(nbPoints, "nbPoints");
+    return new SabrExtrapolationReplicationCmsPeriodPricer(
+        swapPricer, cutOffStrike, mu, GAUSS_LEGENDRE.generate(nbPoints));
+  }
+
   private SabrExtrapolationReplicationCmsPeriodPricer(
       DiscountingSwapProductPricer swapPricer,
       double cutOffStrike,
-      double mu) {
+      double mu,
+      GaussianQuadratureData quadrature) {
 
     this.swapPricer = ArgChecker.notNull(swapPricer, "swapPricer");
     this.cutOffStrike = cutOffStrike;
     this.mu = ArgChecker.notNegativeOrZero(mu, "mu");
+    this.quadrature = quadrature;
   }
 
   //-------------------------------------------------------------------------
@@ -206,13 +251,13 @@ public final class SabrExtrapolationReplicationCmsPeriodPricer {
     double strikePart = factor * intProv.k(strikeCpn) * intProv.bs(strikeCpn);
     RungeKuttaIntegrator1D integrator = new RungeKuttaIntegrator1D(ABS_TOL, REL_TOL, NUM_ITER);
     double integralPart = 0d;
-    Function<Double, Double> integrant = intProv.integrant();
+    Integrant integrant = intProv.integrant();
     try {
       if (intProv.getPutCall().isCall()) {
         integralPart = dfPayment *
             integrateCall(integrator, integrant, swaptionVolatilities, forward, strikeCpn, expiryTime, tenor);
       } else {
-        integralPart = -dfPayment * integrator.integrate(integrant, -shift + ZERO_SHIFT, strikeCpn);
+        integralPart = -dfPayment * integrate(integrator, integrant, -shift + ZERO_SHIFT, strikeCpn, forward, shift);
       }
     } catch (Exception e) {
       throw new MathException(e);
@@ -330,8 +375,8 @@ public final class SabrExtrapolationReplicationCmsPeriodPricer {
     double strikePartPrice = intProv.k(strikeCpn) * n[0] * bs[0];
     double integralPartPrice = 0d;
     double integralPart = 0d;
-    Function<Double, Double> integrant = intProv.integrant();
-    Function<Double, Double> integrantDelta = intProv.integrantDelta();
+    Integrant integrant = intProv.integrant();
+    Integrant integrantDelta = intProv.integrantDelta();
     try {
       if (intProv.getPutCall().isCall()) {
         integralPartPrice =
@@ -339,8 +384,8 @@ public final class SabrExtrapolationReplicationCmsPeriodPricer {
         integralPart = dfPayment *
             integrateCall(integrator, integrantDelta, swaptionVolatilities, forward, strikeCpn, expiryTime, tenor);
       } else {
-        integralPartPrice = -integrator.integrate(integrant, -shift + ZERO_SHIFT, strikeCpn);
-        integralPart = -dfPayment * integrator.integrate(integrantDelta, -shift, strikeCpn);
+        integralPartPrice = -integrate(integrator, integrant, -shift + ZERO_SHIFT, strikeCpn, forward, shift);
+        integralPart = -dfPayment * integrate(integrator, integrantDelta, -shift, strikeCpn, forward, shift);
       }
     } catch (Exception e) {
       throw new MathException(e);
@@ -408,13 +453,13 @@ public final class SabrExtrapolationReplicationCmsPeriodPricer {
     double[] totalSensi = new double[4];
     for (int loopparameter = 0; loopparameter < 4; loopparameter++) {
       double integralPart = 0d;
-      Function<Double, Double> integrant = intProv.integrantVega(loopparameter);
+      Integrant integrant = intProv.integrantVega(loopparameter);
       try {
         if (intProv.getPutCall().isCall()) {
           integralPart = dfPayment *
               integrateCall(integrator, integrant, swaptionVolatilities, forward, strikeCpn, expiryTime, tenor);
         } else {
-          integralPart = -dfPayment * integrator.integrate(integrant, -shift + ZERO_SHIFT, strikeCpn);
+          integralPart = -dfPayment * integrate(integrator, integrant, -shift + ZERO_SHIFT, strikeCpn, forward, shift);
         }
       } catch (Exception e) {
         throw new RuntimeException(e);
@@ -490,13 +535,13 @@ public final class SabrExtrapolationReplicationCmsPeriodPricer {
     double[] kpkpp = intProv.kpkpp(strike);
     double firstPart;
     double thirdPart;
-    Function<Double, Double> integrant = intProv.integrantDualDelta();
+    Integrant integrant = intProv.integrantDualDelta();
     if (intProv.getPutCall().isCall()) {
       firstPart = -kpkpp[0] * intProv.bs(strike);
       thirdPart = integrateCall(integrator, integrant, swaptionVolatilities, forward, strike, expiryTime, tenor);
     } else {
       firstPart = -kpkpp[0] * intProv.bs(strike);
-      thirdPart = -integrator.integrate(integrant, -shift + ZERO_SHIFT, strike);
+      thirdPart = -integrate(integrator, integrant, -shift + ZERO_SHIFT, strike, forward, shift);
     }
     double secondPart =
         intProv.k(strike) * intProv.getSabrExtrapolation().priceDerivativeStrike(strike + shift, intProv.getPutCall());
@@ -523,7 +568,7 @@ public final class SabrExtrapolationReplicationCmsPeriodPricer {
 
   private double integrateCall(
       RungeKuttaIntegrator1D integrator,
-      Function<Double, Double> integrant,
+      Integrant integrant,
       SabrSwaptionVolatilities swaptionVolatilities,
       double forward,
       double strike,
@@ -532,16 +577,17 @@ public final class SabrExtrapolationReplicationCmsPeriodPricer {
 
     double res;
     double vol = swaptionVolatilities.volatility(expiryTime, tenor, forward, forward);
+    double shift = swaptionVolatilities.shift(expiryTime, tenor);
     double upper0 = Math.max(
         forward * Math.exp(6d * vol * Math.sqrt(expiryTime)),
         Math.max(cutOffStrike, 2d * strike));  // To ensure that the integral covers a good part of the smile
     double upper = Math.min(upper0, 1d); // To ensure that we don't miss the meaningful part
-    res = integrator.integrate(integrant, strike, upper);
+    res = integrate(integrator, integrant, strike, upper, forward, shift);
     double reminder = integrant.apply(upper) * upper;
     double error = reminder / res;
     int count = 0;
     while (Math.abs(error) > integrator.getRelativeTolerance() && count < MAX_COUNT) {
-      res += integrator.integrate(integrant, upper, 2d * upper);
+      res += integrate(integrator, integrant, upper, 2d * upper, forward, shift);
       upper *= 2d;
       reminder = integrant.apply(upper) * upper;
       error = reminder / res;
@@ -554,6 +600,63 @@ public final class SabrExtrapolationReplicationCmsPeriodPricer {
     return res;
   }
 
+  // integrates by the Runge-Kutta integrator, or by the Gauss-Legendre quadrature if available
+  private double integrate(
+      RungeKuttaIntegrator1D integrator,
+      Integrant integrant,
+      double lower,
+      double upper,
+      double forward,
+      double shift) {
+
+    if (quadrature == null) {
+      return integrator.integrate(integrant, lower, upper);
+    }
+    if (lower > upper) {
+      return -integrateGaussLegendre(integrant, upper, lower, forward, shift);
+    }
+    return integrateGaussLegendre(integrant, lower, upper, forward, shift);
+  }
+
+  // the Gauss-Legendre quadrature on each interval between the bounds, the forward, the cut-off strike
+  // and the zero bound of the shifted strike, where the integrant is not smooth
+  private double integrateGaussLegendre(
+      Integrant integrant,
+      double lower,
+      double upper,
+      double forward,
+      double shift) {
+
+    double[] bounds = DoubleStream.of(lower, forward, cutOffStrike, -shift, upper)
+        .filter(x -> x >= lower && x <= upper)
+        .sorted()
+        .distinct()
+        .toArray();
+    double[] abscissas = quadrature.getAbscissas();
+    double[] weights = quadrature.getWeights();
+    int nbPoints = abscissas.length;
+    int nbIntervals = bounds.length - 1;
+    double[] x = new double[nbIntervals * nbPoints];
+    for (int loopint = 0; loopint < nbIntervals; loopint++) {
+      double halfWidth = 0.5 * (bounds[loopint + 1] - bounds[loopint]);
+      double middle = 0.5 * (bounds[loopint + 1] + bounds[loopint]);
+      for (int looppt = 0; looppt < nbPoints; looppt++) {
+        x[loopint * nbPoints + looppt] = middle + halfWidth * abscissas[looppt];
+      }
+    }
+    double[] values = new double[x.length];
+    integrant.apply(x, values);
+    double res = 0d;
+    for (int loopint = 0; loopint < nbIntervals; loopint++) {
+      double sum = 0d;
+      for (int looppt = 0; looppt < nbPoints; looppt++) {
+        sum += weights[looppt] * values[loopint * nbPoints + looppt];
+      }
+      res += 0.5 * (bounds[loopint + 1] - bounds[loopint]) * sum;
+    }
+    return res;
+  }
+
   /**
    * Explains the present value of the CMS period.
    * <p>
@@ -588,6 +691,26 @@ public final class SabrExtrapolationReplicationCmsPeriodPricer {
   }
 
   //-------------------------------------------------------------------------
+  /**
+   * An integrant of the replication, which can be evaluated at a set of points at once.
+   */
+  private interface Integrant extends Function<Double, Double> {
+
+    /**
+     * Evaluates the integrant at a set of points.
+     * <p>
+     * By default the points are evaluated one at a time.
+     * 
+     * @param x  the points
+     * @param values  the array used to return the values, of the same length as the points
+     */
+    default void apply(double[] x, double[] values) {
+      for (int i = 0; i < x.length; i++) {
+        values[i] = apply(x[i]);
+      }
+    }
+  }
+
   /**
    * Inner class to implement the integration used in price replication.
    */
@@ -699,14 +822,23 @@ public final class SabrExtrapolationReplicationCmsPeriodPricer {
      * 
      * @return the integrant
      */
-    Function<Double, Double> integrant() {
-      return new Function<Double, Double>() {
+    Integrant integrant() {
+      return new Integrant() {
         @Override
         public Double apply(Double x) {
           double[] kD = kpkpp(x);
           // Implementation note: kD[0] contains the first derivative of k; kD[1] the second derivative of k.
           return factor * (kD[1] * (x - strike) + 2d * kD[0]) * bs(x);
         }
+
+        @Override
+        public void apply(double[] x, double[] values) {
+          sabrExtrapolation.price(strikesShifted(x), putCall, values);
+          for (int i = 0; i < x.length; i++) {
+            double[] kD = kpkpp(x[i]);
+            values[i] = factor * (kD[1] * (x[i] - strike) + 2d * kD[0]) * values[i];
+          }
+        }
       };
     }
 
@@ -716,8 +848,8 @@ public final class SabrExtrapolationReplicationCmsPeriodPricer {
      * @param i  the index of SABR parameters
      * @return the vega integrant
      */
-    Function<Double, Double> integrantVega(int i) {
-      return new Function<Double, Double>() {
+    Integrant integrantVega(int i) {
+      return new Integrant() {
         @Override
         public Double apply(Double x) {
           double[] kD = kpkpp(x);
@@ -726,6 +858,16 @@ public final class SabrExtrapolationReplicationCmsPeriodPricer {
           DoubleArray priceDerivativeSabr = getSabrExtrapolation().priceAdjointSabr(xShifted, putCall).getDerivatives();
           return priceDerivativeSabr.get(i) * (factor * (kD[1] * (x - strike) + 2d * kD[0]));
         }
+
+        @Override
+        public void apply(double[] x, double[] values) {
+          double[][] priceDerivativeSabr = new double[x.length][];
+          getSabrExtrapolation().priceAdjointSabr(strikesShifted(x), putCall, values, priceDerivativeSabr);
+          for (int j = 0; j < x.length; j++) {
+            double[] kD = kpkpp(x[j]);
+            values[j] = priceDerivativeSabr[j][i] * (factor * (kD[1] * (x[j] - strike) + 2d * kD[0]));
+          }
+        }
       };
     }
 
@@ -734,14 +876,23 @@ public final class SabrExtrapolationReplicationCmsPeriodPricer {
      * 
      * @return the dual delta integrant
      */
-    Function<Double, Double> integrantDualDelta() {
-      return new Function<Double, Double>() {
+    Integrant integrantDualDelta() {
+      return new Integrant() {
         @Override
         public Double apply(Double x) {
           double[] kD = kpkpp(x);
           // Implementation note: kD[0] contains the first derivative of k; kD[1] the second derivative of k.
           return -kD[1] * bs(x);
         }
+
+        @Override
+        public void apply(double[] x, double[] values) {
+          sabrExtrapolation.price(strikesShifted(x), putCall, values);
+          for (int i = 0; i < x.length; i++) {
+            double[] kD = kpkpp(x[i]);
+            values[i] = -kD[1] * values[i];
+          }
+        }
       };
     }
 
@@ -839,6 +990,20 @@ public final class SabrExtrapolationReplicationCmsPeriodPricer {
       double strikeShifted = Math.max(strike + getShift(), 0d); // handle tiny but negative number
       return sabrExtrapolation.price(strikeShifted, putCall);
     }
+
+    /**
+     * The shifted strikes at which the Black prices of a set of strikes are computed.
+     * 
+     * @param strikes  the strikes.
+     * @return the shifted strikes.
+     */
+    double[] strikesShifted(double[] strikes) {
+      double[] strikesShifted = new double[strikes.length];
+      for (int i = 0; i < strikes.length; i++) {
+        strikesShifted[i] = Math.max(strikes[i] + getShift(), 0d); // handle tiny but negative number
+      }
+      return strikesShifted;
+    }
   }
 
   /**
@@ -876,8 +1041,8 @@ public final class SabrExtrapolationReplicationCmsPeriodPricer {
      * 
      * @return the delta integrant
      */
-    Function<Double, Double> integrantDelta() {
-      return new Function<Double, Double>() {
+    Integrant integrantDelta() {
+      return new Integrant() {
         @Override
         public Double apply(Double x) {
           double[] kD = kpkpp(x);
@@ -885,6 +1050,18 @@ public final class SabrExtrapolationReplicationCmsPeriodPricer {
           double[] bs = bsbsp(x);
           return (kD[1] * (x - getStrike()) + 2d * kD[0]) * (nnp[1] * bs[0] + nnp[0] * bs[1]);
         }
+
+        @Override
+        public void apply(double[] x, double[] values) {
+          double[] strikesShifted = strikesShifted(x);
+          double[] derivatives = new double[x.length];
+          getSabrExtrapolation().price(strikesShifted, getPutCall(), values);
+          getSabrExtrapolation().priceDerivativeForward(strikesShifted, getPutCall(), derivatives);
+          for (int i = 0; i < x.length; i++) {
+            double[] kD = kpkpp(x[i]);
+            values[i] = (kD[1] * (x[i] - getStrike()) + 2d * kD[0]) * (nnp[1] * values[i] + nnp[0] * derivatives[i]);
+          }
+        }
       };
     }
 
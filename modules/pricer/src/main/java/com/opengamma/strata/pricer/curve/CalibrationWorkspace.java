@@ -0,0 +1,189 @@
+/*
+ * Copyright (C) 2018 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.curve;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.ImmutableSetMultimap;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.index.Index;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.market.curve.Curve;
+import com.opengamma.strata.market.curve.CurveDefinition;
+import com.opengamma.strata.market.curve.CurveMetadata;
+import com.opengamma.strata.market.curve.CurveName;
+import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
+import com.opengamma.strata.market.curve.InterpolatedNodalCurveDefinition;
+import com.opengamma.strata.market.curve.JacobianCalibrationMatrix;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+
+/**
+ * Workspace used to generate rates providers while the root finder iterates.
+ * <p>
+ * The root finder calls the value and derivative functions many times, frequently
+ * with the same parameters twice in a row, and often with only some curves changed.
+ * This workspace holds the curves generated for the last parameters.
+ * Curves whose parameters are unchanged are retained, and interpolated nodal curves
+ * are rebound to new parameters without recomputing node times and metadata.
+ * If the parameters are unchanged, the last provider is returned.
+ * <p>
+ * The workspace reduces the work done on each iteration, but does not avoid allocation.
+ * Each curve whose parameters changed is a new curve instance, and each change of parameters
+ * builds a new provider from the known provider, copying the maps of discount and index curves.
+ * <p>
+ * Only the plain form of generation, without Jacobian or market quote sensitivity,
+ * is handled by the workspace. Other forms are passed to the underlying generator.
+ * <p>
+ * This class is mutable and not thread-safe.
+ * A single instance is used by one root finding operation.
+ */
+final class CalibrationWorkspace
+    implements RatesProviderGenerator {
+
+  /**
+   * The underlying generator.
+   */
+  private final ImmutableRatesProviderGenerator underlying;
+  /**
+   * The underlying known data.
+   */
+  private final ImmutableRatesProvider knownProvider;
+  /**
+   * The curve definitions for the new curves to be generated.
+   */
+  private final List<CurveDefinition> curveDefinitions;
+  /**
+   * The list of curve metadata associated with each definition.
+   */
+  private final List<CurveMetadata> curveMetadata;
+  /**
+   * The map between curve name and currencies for discounting.
+   */
+  private final ImmutableSetMultimap<CurveName, Currency> discountCurveNames;
+  /**
+   * The map between curve name and indices for forward rates and prices.
+   */
+  private final ImmutableSetMultimap<CurveName, Index> forwardCurveNames;
+  /**
+   * The discount curves, updated in place and copied into each provider generated.
+   */
+  private final Map<Currency, Curve> discountCurves;
+  /**
+   * The index curves, updated in place and copied into each provider generated.
+   */
+  private final Map<Index, Curve> indexCurves;
+  /**
+   * The curves generated for the last parameters, by definition.
+   */
+  private final Curve[] curves;
+  /**
+   * The last parameters, null if not yet generated.
+   */
+  private DoubleArray lastParameters;
+  /**
+   * The provider generated for the last parameters, null if not yet generated.
+   */
+  private ImmutableRatesProvider lastProvider;
+
+  /**
+   * Creates an instance.
+   *
+   * @param underlying  the underlying generator
+   * @param knownProvider  the underlying known provider
+   * @param curveDefinitions  the curve definitions
+   * @param curveMetadata  the curve metadata
+   * @param discountCurveNames  the map of discount curves
+   * @param forwardCurveNames  the map of index forward curves
+   */
+  CalibrationWorkspace(
+      ImmutableRatesProviderGenerator underlying,
+      ImmutableRatesProvider knownProvider,
+      List<CurveDefinition> curveDefinitions,
+      List<CurveMetadata> curveMetadata,
+      ImmutableSetMultimap<CurveName, Currency> discountCurveNames,
+      ImmutableSetMultimap<CurveName, Index> forwardCurveNames) {
+
+    this.underlying = underlying;
+    this.knownProvider = knownProvider;
+    this.curveDefinitions = curveDefinitions;
+    this.curveMetadata = curveMetadata;
+    this.discountCurveNames = discountCurveNames;
+    this.forwardCurveNames = forwardCurveNames;
+    this.discountCurves = new HashMap<>(knownProvider.getDiscountCurves());
+    this.indexCurves = new HashMap<>(knownProvider.getIndexCurves());
+    this.curves = new Curve[curveDefinitions.size()];
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public ImmutableRatesProvider generate(DoubleArray parameters) {
+    if (lastProvider != null && parameters.equals(lastParameters)) {
+      return lastProvider;
+    }
+    int startIndex = 0;
+    for (int i = 0; i < curveDefinitions.size(); i++) {
+      CurveDefinition curveDefn = curveDefinitions.get(i);
+      int paramCount = curveDefn.getParameterCount();
+      if (curves[i] == null || !unchanged(parameters, startIndex, paramCount)) {
+        DoubleArray curveParams = parameters.subArray(startIndex, startIndex + paramCount);
+        Curve curve = rebind(i, curveParams);
+        curves[i] = curve;
+        CurveName name = curveDefn.getName();
+        for (Currency currency : discountCurveNames.get(name)) {
+          discountCurves.put(currency, curve);
+        }
+        for (Index index : forwardCurveNames.get(name)) {
+          indexCurves.put(index, curve);
+        }
+      }
+      startIndex += paramCount;
+    }
+    lastParameters = parameters;
+    lastProvider = knownProvider.toBuilder()
+        .discountCurves(discountCurves)
+        .indexCurves(indexCurves)
+        .build();
+    return lastProvider;
+  }
+
+  @Override
+  public ImmutableRatesProvider generate(
+      DoubleArray parameters,
+      Map<CurveName, JacobianCalibrationMatrix> jacobians,
+      Map<CurveName, DoubleArray> sensitivitiesMarketQuote) {
+
+    if (jacobians.isEmpty() && sensitivitiesMarketQuote.isEmpty()) {
+      return generate(parameters);
+    }
+    return underlying.generate(parameters, jacobians, sensitivitiesMarketQuote);
+  }
+
+  // checks if the parameters of one curve match those last generated
+  private boolean unchanged(DoubleArray parameters, int startIndex, int paramCount) {
+    if (lastParameters == null || lastParameters.size() != parameters.size()) {
+      return false;
+    }
+    for (int j = startIndex; j < startIndex + paramCount; j++) {
+      if (Double.doubleToLongBits(parameters.get(j)) != Double.doubleToLongBits(lastParameters.get(j))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // binds the curve to the new parameters, reusing node times and metadata where possible
+  private Curve rebind(int curveIndex, DoubleArray curveParams) {
+    CurveDefinition curveDefn = curveDefinitions.get(curveIndex);
+    Curve existing = curves[curveIndex];
+    if (curveDefn instanceof InterpolatedNodalCurveDefinition && existing instanceof InterpolatedNodalCurve) {
+      return ((InterpolatedNodalCurve) existing).withYValues(curveParams);
+    }
+    return curveDefn.curve(knownProvider.getValuationDate(), curveMetadata.get(curveIndex), curveParams);
+  }
+
+}
@@ -268,8 +268,9 @@ public final class CurveCalibrator {
           .build();
 
       // calibrate
-      RatesProviderGenerator providerGenerator = ImmutableRatesProviderGenerator.of(providerCombined, groupDefnBound, refData);
-      DoubleArray calibratedGroupParams = calibrateGroup(providerGenerator, trades, initialGuesses, orderGroup);
+      ImmutableRatesProviderGenerator providerGenerator =
+          ImmutableRatesProviderGenerator.of(providerCombined, groupDefnBound, refData);
+      DoubleArray calibratedGroupParams = calibrateGroup(providerGenerator.workspace(), trades, initialGuesses, orderGroup);
       ImmutableRatesProvider calibratedProvider = providerGenerator.generate(calibratedGroupParams);
 
       // use calibration to build Jacobian matrices
@@ -163,6 +163,20 @@ public final class ImmutableRatesProviderGenerator
         .build();
   }
 
+  /**
+   * Creates a workspace for use while the root finder iterates.
+   * <p>
+   * The workspace generates the same providers as this generator, but retains
+   * the curves and provider from the last generation to avoid rebuilding them.
+   * It is mutable and must only be used by a single root finding operation.
+   * 
+   * @return the workspace
+   */
+  RatesProviderGenerator workspace() {
+    return new CalibrationWorkspace(
+        this, knownProvider, curveDefinitions, curveMetadata, discountCurveNames, forwardCurveNames);
+  }
+
   // build the map of additional info
   private CurveMetadata childMetadata(
       CurveMetadata metadata,
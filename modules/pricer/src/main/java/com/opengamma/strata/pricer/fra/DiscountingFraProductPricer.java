@@ -12,6 +12,8 @@ import java.time.LocalDate;
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
 import com.opengamma.strata.market.amount.CashFlow;
 import com.opengamma.strata.market.amount.CashFlows;
 import com.opengamma.strata.market.explain.ExplainKey;
@@ -22,7 +24,9 @@ import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.DiscountFactors;
 import com.opengamma.strata.pricer.rate.RateComputationFn;
 import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.pricer.rate.RatesProviderScenarioArray;
 import com.opengamma.strata.product.fra.ResolvedFra;
+import com.opengamma.strata.product.rate.IborRateComputation;
 import com.opengamma.strata.product.rate.RateComputation;
 
 /**
@@ -72,6 +76,33 @@ public class DiscountingFraProductPricer {
     return CurrencyAmount.of(fra.getCurrency(), pv);
   }
 
+  /**
+   * Calculates the present value of the FRA product in each scenario.
+   * <p>
+   * The result is the same as calling {@link #presentValue(ResolvedFra, RatesProvider)} for each scenario.
+   * When the standard rate computation is in use and the floating rate is a single Ibor index,
+   * the FRA is valued for all scenarios together, sharing the date based work between scenarios.
+   * 
+   * @param fra  the product
+   * @param providers  the rates providers, one for each scenario
+   * @return the present value of the product in each scenario
+   */
+  public CurrencyScenarioArray presentValue(ResolvedFra fra, RatesProviderScenarioArray providers) {
+    int scenarioCount = providers.getScenarioCount();
+    if (fra.getPaymentDate().isBefore(providers.getValuationDate())) {
+      return CurrencyScenarioArray.of(fra.getCurrency(), DoubleArray.filled(scenarioCount));
+    }
+    if (rateComputationFn != RateComputationFn.standard() || !(fra.getFloatingRate() instanceof IborRateComputation)) {
+      return CurrencyScenarioArray.of(scenarioCount, i -> presentValue(fra, providers.get(i)));
+    }
+    IborRateComputation computation = (IborRateComputation) fra.getFloatingRate();
+    DoubleArray forwardRates = providers.iborIndexRates(computation.getIndex()).rate(computation.getObservation());
+    DoubleArray dfs = providers.discountFactor(fra.getCurrency(), fra.getPaymentDate());
+    DoubleArray pvs = forwardRates.mapWithIndex(
+        (i, forwardRate) -> fra.getNotional() * unitAmount(fra, forwardRate) * dfs.get(i));
+    return CurrencyScenarioArray.of(fra.getCurrency(), pvs);
+  }
+
   /**
    * Calculates the present value sensitivity of the FRA product.
    * <p>
@@ -254,38 +285,40 @@ public class DiscountingFraProductPricer {
 
   // unit amount in various discounting methods
   private double unitAmount(ResolvedFra fra, RatesProvider provider) {
+    return unitAmount(fra, forwardRate(fra, provider));
+  }
+
+  // unit amount in various discounting methods, from the forward rate
+  private static double unitAmount(ResolvedFra fra, double forwardRate) {
     switch (fra.getDiscounting()) {
       case NONE:
-        return unitAmountNone(fra, provider);
+        return unitAmountNone(fra, forwardRate);
       case ISDA:
-        return unitAmountIsda(fra, provider);
+        return unitAmountIsda(fra, forwardRate);
       case AFMA:
-        return unitAmountAfma(fra, provider);
+        return unitAmountAfma(fra, forwardRate);
       default:
         throw new IllegalArgumentException("Unknown FraDiscounting value: " + fra.getDiscounting());
     }
   }
 
   // NONE discounting method
-  private double unitAmountNone(ResolvedFra fra, RatesProvider provider) {
+  private static double unitAmountNone(ResolvedFra fra, double forwardRate) {
     double fixedRate = fra.getFixedRate();
-    double forwardRate = forwardRate(fra, provider);
     double yearFraction = fra.getYearFraction();
     return (forwardRate - fixedRate) * yearFraction;
   }
 
   // ISDA discounting method
-  private double unitAmountIsda(ResolvedFra fra, RatesProvider provider) {
+  private static double unitAmountIsda(ResolvedFra fra, double forwardRate) {
     double fixedRate = fra.getFixedRate();
-    double forwardRate = forwardRate(fra, provider);
     double yearFraction = fra.getYearFraction();
     return ((forwardRate - fixedRate) / (1.0 + forwardRate * yearFraction)) * yearFraction;
   }
 
   // AFMA discounting method
-  private double unitAmountAfma(ResolvedFra fra, RatesProvider provider) {
+  private static double unitAmountAfma(ResolvedFra fra, double forwardRate) {
     double fixedRate = fra.getFixedRate();
-    double forwardRate = forwardRate(fra, provider);
     double yearFraction = fra.getYearFraction();
     return (1.0 / (1.0 + fixedRate * yearFraction)) - (1.0 / (1.0 + forwardRate * yearFraction));
   }
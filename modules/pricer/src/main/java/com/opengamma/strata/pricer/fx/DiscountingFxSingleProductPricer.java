@@ -7,15 +7,19 @@ package com.opengamma.strata.pricer.fx;
 
 import java.time.LocalDate;
 
+import com.google.common.collect.ImmutableMap;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.basics.currency.FxRate;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
 import com.opengamma.strata.basics.currency.Payment;
 import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.DiscountingPaymentPricer;
 import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.pricer.rate.RatesProviderScenarioArray;
 import com.opengamma.strata.product.fx.ResolvedFxSingle;
 
 /**
@@ -63,6 +67,35 @@ public class DiscountingFxSingleProductPricer {
     return MultiCurrencyAmount.of(pv1, pv2);
   }
 
+  /**
+   * Calculates the present value of the FX product in each scenario.
+   * <p>
+   * The result is the same as calling {@link #presentValue(ResolvedFxSingle, RatesProvider)} for each scenario.
+   * When the default payment pricer is in use, each payment is discounted for all scenarios together.
+   * 
+   * @param fx  the product
+   * @param providers  the rates providers, one for each scenario
+   * @return the present value in the two natural currencies in each scenario
+   */
+  public MultiCurrencyScenarioArray presentValue(ResolvedFxSingle fx, RatesProviderScenarioArray providers) {
+    int scenarioCount = providers.getScenarioCount();
+    if (providers.getValuationDate().isAfter(fx.getPaymentDate())) {
+      return MultiCurrencyScenarioArray.of(scenarioCount, i -> MultiCurrencyAmount.empty());
+    }
+    if (paymentPricer != DiscountingPaymentPricer.DEFAULT) {
+      return MultiCurrencyScenarioArray.of(scenarioCount, i -> presentValue(fx, providers.get(i)));
+    }
+    return MultiCurrencyScenarioArray.of(ImmutableMap.of(
+        fx.getBaseCurrencyPayment().getCurrency(), presentValue(fx.getBaseCurrencyPayment(), providers),
+        fx.getCounterCurrencyPayment().getCurrency(), presentValue(fx.getCounterCurrencyPayment(), providers)));
+  }
+
+  // discounts the payment in each scenario
+  private static DoubleArray presentValue(Payment payment, RatesProviderScenarioArray providers) {
+    return providers.discountFactor(payment.getCurrency(), payment.getDate())
+        .map(df -> payment.getAmount() * df);
+  }
+
   /**
    * Calculates the present value curve sensitivity of the FX product.
    * <p>
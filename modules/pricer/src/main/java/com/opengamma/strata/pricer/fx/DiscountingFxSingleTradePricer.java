@@ -8,8 +8,10 @@ package com.opengamma.strata.pricer.fx;
 import com.opengamma.strata.basics.currency.FxRate;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
 import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.pricer.rate.RatesProviderScenarioArray;
 import com.opengamma.strata.product.fx.ResolvedFxSingle;
 import com.opengamma.strata.product.fx.ResolvedFxSingleTrade;
 
@@ -56,6 +58,19 @@ public class DiscountingFxSingleTradePricer {
     return productPricer.presentValue(trade.getProduct(), provider);
   }
 
+  /**
+   * Calculates the present value of the trade in each scenario.
+   * <p>
+   * The result is the same as calling {@link #presentValue(ResolvedFxSingleTrade, RatesProvider)} for each scenario.
+   * 
+   * @param trade  the trade
+   * @param providers  the rates providers, one for each scenario
+   * @return the present value of the trade in each scenario
+   */
+  public MultiCurrencyScenarioArray presentValue(ResolvedFxSingleTrade trade, RatesProviderScenarioArray providers) {
+    return productPricer.presentValue(trade.getProduct(), providers);
+  }
+
   /**
    * Calculates the present value curve sensitivity of the trade.
    * <p>
@@ -0,0 +1,163 @@
+/*
+ * Copyright (C) 2018 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.fxopt;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.opengamma.strata.basics.currency.CurrencyPair;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.product.fxopt.ResolvedFxVanillaOption;
+
+/**
+ * A thread-safe cache of implied trinomial trees calibrated to Black volatilities of FX options.
+ * <p>
+ * Calibrating the tree is the main cost of pricing an FX barrier option under the implied trinomial tree.
+ * The tree only depends on the currency pair, the rates provider, the volatilities, the time to expiry
+ * and the number of steps. Thus all the barrier options on one currency pair with the same expiry
+ * can be priced with one tree for each scenario.
+ * <p>
+ * The rates provider and the volatilities are compared by identity, as comparing the curves and surfaces
+ * by value would cost more than is saved. Thus each scenario, or each bumped rates provider,
+ * calibrates its own trees. The cache is bounded in size, evicting the trees that have not been used recently.
+ */
+public final class ImpliedTrinomialTreeFxOptionTreeCache {
+
+  /**
+   * The cached trees.
+   */
+  private final LoadingCache<TreeKey, RecombiningTrinomialTreeData> trees;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance retaining at most the specified number of trees.
+   *
+   * @param maxSize  the maximum number of trees to retain
+   * @return the cache
+   */
+  public static ImpliedTrinomialTreeFxOptionTreeCache of(int maxSize) {
+    ArgChecker.notNegativeOrZero(maxSize, "maxSize");
+    return new ImpliedTrinomialTreeFxOptionTreeCache(maxSize);
+  }
+
+  // restricted constructor
+  private ImpliedTrinomialTreeFxOptionTreeCache(int maxSize) {
+    this.trees = CacheBuilder.newBuilder()
+        .maximumSize(maxSize)
+        .build(CacheLoader.from(key -> key.calibrator.calibrateTrinomialTree(
+            key.timeToExpiry, key.currencyPair, key.ratesProvider, key.volatilities)));
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the trinomial tree calibrated to Black volatilities for the vanilla option, calibrating it if necessary.
+   * <p>
+   * The tree is the same as that of
+   * {@link ImpliedTrinomialTreeFxOptionCalibrator#calibrateTrinomialTree(ResolvedFxVanillaOption,
+   * RatesProvider, BlackFxOptionVolatilities)}.
+   *
+   * @param calibrator  the calibrator
+   * @param option  the vanilla option
+   * @param ratesProvider  the rates provider
+   * @param volatilities  the Black volatility provider
+   * @return the trinomial tree data
+   */
+  public RecombiningTrinomialTreeData calibrateTrinomialTree(
+      ImpliedTrinomialTreeFxOptionCalibrator calibrator,
+      ResolvedFxVanillaOption option,
+      RatesProvider ratesProvider,
+      BlackFxOptionVolatilities volatilities) {
+
+    double timeToExpiry = volatilities.relativeTime(option.getExpiry());
+    CurrencyPair currencyPair = option.getUnderlying().getCurrencyPair();
+    TreeKey key = new TreeKey(calibrator, currencyPair, ratesProvider, volatilities, timeToExpiry);
+    try {
+      return trees.getUnchecked(key);
+    } catch (UncheckedExecutionException ex) {
+      if (ex.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) ex.getCause();
+      }
+      throw ex;
+    }
+  }
+
+  /**
+   * Gets the number of trees retained.
+   *
+   * @return the number of trees
+   */
+  public long size() {
+    return trees.size();
+  }
+
+  /**
+   * Discards all the trees retained.
+   * <p>
+   * This is typically called once a set of scenarios has been priced,
+   * to release the rates providers and volatilities referenced by the cache.
+   */
+  public void clear() {
+    trees.invalidateAll();
+  }
+
+  //-------------------------------------------------------------------------
+  // the key of a tree, comparing the rates provider and the volatilities by identity
+  private static final class TreeKey {
+
+    private final ImpliedTrinomialTreeFxOptionCalibrator calibrator;
+    private final CurrencyPair currencyPair;
+    private final RatesProvider ratesProvider;
+    private final BlackFxOptionVolatilities volatilities;
+    private final LocalDate valuationDate;
+    private final int nSteps;
+    private final double timeToExpiry;
+
+    private TreeKey(
+        ImpliedTrinomialTreeFxOptionCalibrator calibrator,
+        CurrencyPair currencyPair,
+        RatesProvider ratesProvider,
+        BlackFxOptionVolatilities volatilities,
+        double timeToExpiry) {
+
+      this.calibrator = calibrator;
+      this.currencyPair = currencyPair;
+      this.ratesProvider = ratesProvider;
+      this.volatilities = volatilities;
+      this.valuationDate = ratesProvider.getValuationDate();
+      this.nSteps = calibrator.getNumberOfSteps();
+      this.timeToExpiry = timeToExpiry;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj == this) {
+        return true;
+      }
+      if (obj instanceof TreeKey) {
+        TreeKey other = (TreeKey) obj;
+        return ratesProvider == other.ratesProvider &&
+            volatilities == other.volatilities &&
+            nSteps == other.nSteps &&
+            Double.doubleToLongBits(timeToExpiry) == Double.doubleToLongBits(other.timeToExpiry) &&
+            currencyPair.equals(other.currencyPair) &&
+            valuationDate.equals(other.valuationDate);
+      }
+      return false;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(currencyPair, valuationDate, nSteps, timeToExpiry) * 31 +
+          System.identityHashCode(ratesProvider) * 17 + System.identityHashCode(volatilities);
+    }
+  }
+
+}
@@ -65,6 +65,10 @@ public class ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer {
    * Number of time steps.
    */
   private final ImpliedTrinomialTreeFxOptionCalibrator calibrator;
+  /**
+   * The cache of calibrated trees, null if the tree is calibrated for each pricing.
+   */
+  private final ImpliedTrinomialTreeFxOptionTreeCache treeCache;
 
   /**
    * Pricer with the default number of time steps.
@@ -80,6 +84,25 @@ public class ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer {
    */
   public ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer(int nSteps) {
     this.calibrator = new ImpliedTrinomialTreeFxOptionCalibrator(nSteps);
+    this.treeCache = null;
+  }
+
+  /**
+   * Pricer with the specified number of time steps, sharing the calibrated trees through a cache.
+   * <p>
+   * The methods which calibrate the trinomial tree obtain it from the cache,
+   * thus the options on one currency pair with the same expiry, priced with the same rates provider
+   * and volatilities, share one tree. The bumped trees of the rates sensitivity are not cached.
+   * 
+   * @param nSteps  number of time steps
+   * @param treeCache  the cache of calibrated trees
+   */
+  public ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer(
+      int nSteps,
+      ImpliedTrinomialTreeFxOptionTreeCache treeCache) {
+
+    this.calibrator = new ImpliedTrinomialTreeFxOptionCalibrator(nSteps);
+    this.treeCache = ArgChecker.notNull(treeCache, "treeCache");
   }
 
   //-------------------------------------------------------------------------
@@ -115,7 +138,7 @@ public class ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer {
       BlackFxOptionVolatilities volatilities) {
 
     RecombiningTrinomialTreeData treeData =
-        calibrator.calibrateTrinomialTree(option.getUnderlyingOption(), ratesProvider, volatilities);
+        calibrateTrinomialTree(option, ratesProvider, volatilities);
     return price(option, ratesProvider, volatilities, treeData);
   }
 
@@ -166,7 +189,7 @@ public class ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer {
       BlackFxOptionVolatilities volatilities) {
 
     RecombiningTrinomialTreeData treeData =
-        calibrator.calibrateTrinomialTree(option.getUnderlyingOption(), ratesProvider, volatilities);
+        calibrateTrinomialTree(option, ratesProvider, volatilities);
     return presentValue(option, ratesProvider, volatilities, treeData);
   }
 
@@ -265,7 +288,7 @@ public class ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer {
       BlackFxOptionVolatilities volatilities) {
 
     RecombiningTrinomialTreeData baseTreeData =
-        calibrator.calibrateTrinomialTree(option.getUnderlyingOption(), ratesProvider, volatilities);
+        calibrateTrinomialTree(option, ratesProvider, volatilities);
     return presentValueSensitivityRates(option, ratesProvider, volatilities, baseTreeData);
   }
 
@@ -309,7 +332,9 @@ public class ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer {
           Map<Currency, Curve> mapBumped = new HashMap<>(baseCurves);
           mapBumped.put(entry.getKey(), dscBumped);
           ImmutableRatesProvider providerDscBumped = immRatesProvider.toBuilder().discountCurves(mapBumped).build();
-          double pvBumped = presentValue(option, providerDscBumped, volatilities).getAmount();
+          RecombiningTrinomialTreeData treeBumped =
+              calibrator.calibrateTrinomialTree(option.getUnderlyingOption(), providerDscBumped, volatilities);
+          double pvBumped = presentValue(option, providerDscBumped, volatilities, treeBumped).getAmount();
           return (pvBumped - pvBase.getAmount()) / shift;
         });
         result = result.combinedWith(curve.createParameterSensitivity(pvBase.getCurrency(), sensitivity));
@@ -336,7 +361,7 @@ public class ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer {
       BlackFxOptionVolatilities volatilities) {
 
     RecombiningTrinomialTreeData treeData =
-        calibrator.calibrateTrinomialTree(option.getUnderlyingOption(), ratesProvider, volatilities);
+        calibrateTrinomialTree(option, ratesProvider, volatilities);
     return currencyExposure(option, ratesProvider, volatilities, treeData);
   }
 
@@ -371,6 +396,18 @@ public class ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer {
   }
 
   //-------------------------------------------------------------------------
+  // calibrates the tree, or obtains it from the cache
+  private RecombiningTrinomialTreeData calibrateTrinomialTree(
+      ResolvedFxSingleBarrierOption option,
+      RatesProvider ratesProvider,
+      BlackFxOptionVolatilities volatilities) {
+
+    if (treeCache != null) {
+      return treeCache.calibrateTrinomialTree(calibrator, option.getUnderlyingOption(), ratesProvider, volatilities);
+    }
+    return calibrator.calibrateTrinomialTree(option.getUnderlyingOption(), ratesProvider, volatilities);
+  }
+
   private ValueDerivatives priceDerivatives(
       ResolvedFxSingleBarrierOption option,
       RatesProvider ratesProvider,
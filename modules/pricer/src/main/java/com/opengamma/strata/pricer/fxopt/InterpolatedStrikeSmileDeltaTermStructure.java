@@ -29,6 +29,8 @@ import org.joda.beans.impl.direct.DirectMetaProperty;
 import org.joda.beans.impl.direct.DirectMetaPropertyMap;
 import org.joda.beans.impl.direct.DirectPrivateBeanBuilder;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.date.DayCount;
 import com.opengamma.strata.collect.ArgChecker;
@@ -55,11 +57,21 @@ import com.opengamma.strata.market.param.ParameterizedDataCombiner;
  * <p>
  * The default for the time direction is time squire interpolation with flat extrapolation.
  * The default for the strike direction is linear interpolation with flat extrapolation.
+ * <p>
+ * The smiles interpolated in time are cached by time to expiry, together with the strikes and the strike
+ * interpolator of the last forward requested at the time to expiry. As the options of a portfolio usually share
+ * a small number of expiries, most of the conversions from delta to strike are avoided.
+ * The cache is bounded in size, evicting the smiles that have not been used recently.
  */
 @BeanDefinition(builderScope = "private")
 public final class InterpolatedStrikeSmileDeltaTermStructure
     implements SmileDeltaTermStructure, ParameterizedData, ImmutableBean, Serializable {
 
+  /**
+   * The maximum number of smiles cached.
+   */
+  private static final int MAX_CACHED_SMILES = 256;
+
   /**
    * The smile description at the different time to expiry. All item should have the same deltas.
    */
@@ -111,6 +123,10 @@ public final class InterpolatedStrikeSmileDeltaTermStructure
    * The parameter combiner.
    */
   private final transient ParameterizedDataCombiner paramCombiner;  // not a property
+  /**
+   * The smiles interpolated in time, keyed by the time to expiry.
+   */
+  private final transient Cache<Double, ExpirySmile> smiles;  // not a property
 
   //-------------------------------------------------------------------------
   /**
@@ -541,6 +557,7 @@ public final class InterpolatedStrikeSmileDeltaTermStructure
     this.strikeExtrapolatorRight = strikeExtrapolatorRight;
     this.expiries = expiries;
     this.paramCombiner = ParameterizedDataCombiner.of(volatilityTerm);
+    this.smiles = CacheBuilder.newBuilder().maximumSize(MAX_CACHED_SMILES).build();
   }
 
   private Object readResolve() {
@@ -609,20 +626,13 @@ public final class InterpolatedStrikeSmileDeltaTermStructure
   @Override
   public double volatility(double time, double strike, double forward) {
     ArgChecker.isTrue(time >= 0, "Positive time");
-    SmileDeltaParameters smile = smileForExpiry(time);
-    DoubleArray strikes = smile.strike(forward);
-    BoundCurveInterpolator bound = strikeInterpolator.bind(
-        strikes, smile.getVolatility(), strikeExtrapolatorLeft, strikeExtrapolatorRight);
-    return bound.interpolate(strike);
+    return strikeSmile(time, forward).bound.interpolate(strike);
   }
 
   @Override
   public VolatilityAndBucketedSensitivities volatilityAndSensitivities(double time, double strike, double forward) {
     ArgChecker.isTrue(time >= 0, "Positive time");
-    SmileDeltaParameters smile = smileForExpiry(time);
-    DoubleArray strikes = smile.strike(forward);
-    BoundCurveInterpolator bound = strikeInterpolator.bind(
-        strikes, smile.getVolatility(), strikeExtrapolatorLeft, strikeExtrapolatorRight);
+    BoundCurveInterpolator bound = strikeSmile(time, forward).bound;
     double volatility = bound.interpolate(strike);
     DoubleArray smileVolatilityBar = bound.parameterSensitivity(strike);
     SmileAndBucketedSensitivities smileAndSensitivities = smileAndSensitivitiesForExpiry(time, smileVolatilityBar);
@@ -632,6 +642,41 @@ public final class InterpolatedStrikeSmileDeltaTermStructure
   //-------------------------------------------------------------------------
   @Override
   public SmileDeltaParameters smileForExpiry(double expiry) {
+    return expirySmile(expiry).smile;
+  }
+
+  @Override
+  public DoubleArray strikesForExpiry(double expiry, double forward) {
+    return strikeSmile(expiry, forward).strikes;
+  }
+
+  // the smile at the time to expiry, from the cache if available
+  private ExpirySmile expirySmile(double expiry) {
+    ExpirySmile expirySmile = smiles.getIfPresent(expiry);
+    if (expirySmile == null) {
+      expirySmile = new ExpirySmile(interpolateSmile(expiry));
+      smiles.put(expiry, expirySmile);
+    }
+    return expirySmile;
+  }
+
+  // the strikes and the strike interpolator of the smile at the time to expiry for the forward
+  private StrikeSmile strikeSmile(double expiry, double forward) {
+    ExpirySmile expirySmile = expirySmile(expiry);
+    StrikeSmile strikeSmile = expirySmile.strikeSmile;
+    if (strikeSmile == null || Double.doubleToLongBits(strikeSmile.forward) != Double.doubleToLongBits(forward)) {
+      SmileDeltaParameters smile = expirySmile.smile;
+      DoubleArray strikes = smile.strike(forward);
+      BoundCurveInterpolator bound = strikeInterpolator.bind(
+          strikes, smile.getVolatility(), strikeExtrapolatorLeft, strikeExtrapolatorRight);
+      strikeSmile = new StrikeSmile(forward, strikes, bound);
+      expirySmile.strikeSmile = strikeSmile;
+    }
+    return strikeSmile;
+  }
+
+  // interpolates the smile in the time dimension
+  private SmileDeltaParameters interpolateSmile(double expiry) {
     int nbVol = getStrikeCount();
     int nbTime = getSmileCount();
     ArgChecker.isTrue(nbTime > 1, "Need more than one time value to perform interpolation");
@@ -678,6 +723,32 @@ public final class InterpolatedStrikeSmileDeltaTermStructure
     return SmileAndBucketedSensitivities.of(smile, DoubleMatrix.ofUnsafe(volatilitySensitivity));
   }
 
+  //-------------------------------------------------------------------------
+  // the smile at a time to expiry, with the strikes for the last forward requested
+  private static final class ExpirySmile {
+
+    private final SmileDeltaParameters smile;
+    private volatile StrikeSmile strikeSmile;
+
+    private ExpirySmile(SmileDeltaParameters smile) {
+      this.smile = smile;
+    }
+  }
+
+  // the strikes of a smile for a forward, with the strike interpolator bound to the smile
+  private static final class StrikeSmile {
+
+    private final double forward;
+    private final DoubleArray strikes;
+    private final BoundCurveInterpolator bound;
+
+    private StrikeSmile(double forward, DoubleArray strikes, BoundCurveInterpolator bound) {
+      this.forward = forward;
+      this.strikes = strikes;
+      this.bound = bound;
+    }
+  }
+
   //------------------------- AUTOGENERATED START -------------------------
   /**
    * The meta-bean for {@code InterpolatedStrikeSmileDeltaTermStructure}.
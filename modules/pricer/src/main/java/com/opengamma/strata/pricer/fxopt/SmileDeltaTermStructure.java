@@ -121,6 +121,19 @@ public interface SmileDeltaTermStructure
    */
   public abstract SmileDeltaParameters smileForExpiry(double expiry);
 
+  /**
+   * Calculates the strikes of the smile at a given time.
+   * <p>
+   * The strikes are those of {@link SmileDeltaParameters#strike(double)} for the smile at the time.
+   * 
+   * @param expiry  the time to expiry
+   * @param forward  the forward
+   * @return the strikes in ascending order
+   */
+  public default DoubleArray strikesForExpiry(double expiry, double forward) {
+    return smileForExpiry(expiry).strike(forward);
+  }
+
   /**
    * Calculates the smile at a given time and the sensitivities with respect to the volatility data points.
    * 
@@ -80,9 +80,9 @@ public class VannaVolgaFxVanillaOptionProductPricer {
     double forwardRate = forward.fxRate(currencyPair);
     double strikeRate = option.getStrike();
     boolean isCall = option.getPutCall().isCall();
-    SmileDeltaParameters smileAtTime = volatilities.getSmile().smileForExpiry(timeToExpiry);
-    double[] strikes = smileAtTime.strike(forwardRate).toArray();
-    double[] vols = smileAtTime.getVolatility().toArray();
+    SmileDeltaTermStructure smile = volatilities.getSmile();
+    double[] strikes = smile.strikesForExpiry(timeToExpiry, forwardRate).toArray();
+    double[] vols = smile.smileForExpiry(timeToExpiry).getVolatility().toArray();
     double volAtm = vols[1];
     double[] x = vannaVolgaWeights(forwardRate, strikeRate, timeToExpiry, volAtm, strikes);
     double priceFwd = BlackFormulaRepository.price(forwardRate, strikeRate, timeToExpiry, volAtm, isCall);
@@ -146,9 +146,9 @@ public class VannaVolgaFxVanillaOptionProductPricer {
     double forwardRate = forward.fxRate(currencyPair);
     double strikeRate = option.getStrike();
     boolean isCall = option.getPutCall().isCall();
-    SmileDeltaParameters smileAtTime = volatilities.getSmile().smileForExpiry(timeToExpiry);
-    double[] strikes = smileAtTime.strike(forwardRate).toArray();
-    double[] vols = smileAtTime.getVolatility().toArray();
+    SmileDeltaTermStructure smile = volatilities.getSmile();
+    double[] strikes = smile.strikesForExpiry(timeToExpiry, forwardRate).toArray();
+    double[] vols = smile.smileForExpiry(timeToExpiry).getVolatility().toArray();
     double volAtm = vols[1];
     double[] x = vannaVolgaWeights(forwardRate, strikeRate, timeToExpiry, volAtm, strikes);
     double priceFwd = BlackFormulaRepository.price(forwardRate, strikeRate, timeToExpiry, volAtm, isCall);
@@ -197,9 +197,9 @@ public class VannaVolgaFxVanillaOptionProductPricer {
     CurrencyPair currencyPair = underlyingFx.getCurrencyPair();
     double forwardRate = forward.fxRate(currencyPair);
     double strikeRate = option.getStrike();
-    SmileDeltaParameters smileAtTime = volatilities.getSmile().smileForExpiry(timeToExpiry);
-    double[] strikes = smileAtTime.strike(forwardRate).toArray();
-    double[] vols = smileAtTime.getVolatility().toArray();
+    SmileDeltaTermStructure smile = volatilities.getSmile();
+    double[] strikes = smile.strikesForExpiry(timeToExpiry, forwardRate).toArray();
+    double[] vols = smile.smileForExpiry(timeToExpiry).getVolatility().toArray();
     double volAtm = vols[1];
     double[] x = vannaVolgaWeights(forwardRate, strikeRate, timeToExpiry, volAtm, strikes);
     double vegaAtm = BlackFormulaRepository.vega(forwardRate, strikeRate, timeToExpiry, volAtm);
@@ -259,9 +259,9 @@ public class VannaVolgaFxVanillaOptionProductPricer {
         option.getPutCall().isCall() ? underlyingFx : underlyingFx.inverse(), ratesProvider);
     double strikeRate = option.getStrike();
     boolean isCall = option.getPutCall().isCall();
-    SmileDeltaParameters smileAtTime = volatilities.getSmile().smileForExpiry(timeToExpiry);
-    double[] strikes = smileAtTime.strike(forwardRate).toArray();
-    double[] vols = smileAtTime.getVolatility().toArray();
+    SmileDeltaTermStructure smile = volatilities.getSmile();
+    double[] strikes = smile.strikesForExpiry(timeToExpiry, forwardRate).toArray();
+    double[] vols = smile.smileForExpiry(timeToExpiry).getVolatility().toArray();
     double volAtm = vols[1];
     double[] x = vannaVolgaWeights(forwardRate, strikeRate, timeToExpiry, volAtm, strikes);
     double priceFwd = BlackFormulaRepository.price(forwardRate, strikeRate, timeToExpiry, volAtm, isCall);
@@ -927,6 +927,91 @@ public final class BlackFormulaRepository {
     return nVal == 0d ? 0d : forward * rootT * nVal;
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the forward price, delta, vega and gamma of a set of options.
+   * <p>
+   * The values of the option at index {@code i} are the same as those of
+   * {@link #price(double, double, double, double, boolean)}, {@link #delta(double, double, double, double, boolean)},
+   * {@link #vega(double, double, double, double)} and {@link #gamma(double, double, double, double)}.
+   * The terms shared by the price and the greeks, such as d1 and the normal density, are computed once
+   * for each option, thus this is cheaper than calling the methods one option at a time.
+   * The normal distribution and density are computed on primitive values, without boxing.
+   * This is intended for pricing the caplets of a cap or the options of a scenario grid.
+   * <p>
+   * All the arrays must have the same length.
+   * 
+   * @param forwards  the forward values of the underlying
+   * @param strikes  the strikes
+   * @param timesToExpiry  the times to expiry
+   * @param lognormalVols  the log-normal volatilities
+   * @param isCall  true for call, false for put
+   * @param prices  the array used to return the forward prices
+   * @param deltas  the array used to return the forward driftless deltas
+   * @param vegas  the array used to return the forward vegas
+   * @param gammas  the array used to return the forward driftless gammas
+   */
+  public static void priceGreeks(
+      double[] forwards,
+      double[] strikes,
+      double[] timesToExpiry,
+      double[] lognormalVols,
+      boolean isCall,
+      double[] prices,
+      double[] deltas,
+      double[] vegas,
+      double[] gammas) {
+
+    int size = forwards.length;
+    ArgChecker.isTrue(strikes.length == size, "strikes must have the same length as forwards");
+    ArgChecker.isTrue(timesToExpiry.length == size, "timesToExpiry must have the same length as forwards");
+    ArgChecker.isTrue(lognormalVols.length == size, "lognormalVols must have the same length as forwards");
+    ArgChecker.isTrue(prices.length == size, "prices must have the same length as forwards");
+    ArgChecker.isTrue(deltas.length == size, "deltas must have the same length as forwards");
+    ArgChecker.isTrue(vegas.length == size, "vegas must have the same length as forwards");
+    ArgChecker.isTrue(gammas.length == size, "gammas must have the same length as forwards");
+    int sign = isCall ? 1 : -1;
+    for (int i = 0; i < size; i++) {
+      double forward = forwards[i];
+      double strike = strikes[i];
+      double timeToExpiry = timesToExpiry[i];
+      double lognormalVol = lognormalVols[i];
+      ArgChecker.isTrue(forward >= 0d, "negative/NaN forward; have {}", forward);
+      ArgChecker.isTrue(strike >= 0d, "negative/NaN strike; have {}", strike);
+      ArgChecker.isTrue(timeToExpiry >= 0d, "negative/NaN timeToExpiry; have {}", timeToExpiry);
+      ArgChecker.isTrue(lognormalVol >= 0d, "negative/NaN lognormalVol; have {}", lognormalVol);
+
+      double rootT = Math.sqrt(timeToExpiry);
+      double sigmaRootT = lognormalVol * rootT;
+      if (!(sigmaRootT >= SMALL && sigmaRootT <= LARGE) || (forward > LARGE && strike > LARGE)) {
+        // limiting and ambiguous cases are rare, and are handled by the single option methods
+        prices[i] = price(forward, strike, timeToExpiry, lognormalVol, isCall);
+        deltas[i] = delta(forward, strike, timeToExpiry, lognormalVol, isCall);
+        vegas[i] = vega(forward, strike, timeToExpiry, lognormalVol);
+        gammas[i] = gamma(forward, strike, timeToExpiry, lognormalVol);
+        continue;
+      }
+      double d1;
+      double d2;
+      if (Math.abs(forward - strike) < SMALL) {
+        d1 = 0.5 * sigmaRootT;
+        d2 = -0.5 * sigmaRootT;
+      } else {
+        d1 = Math.log(forward / strike) / sigmaRootT + 0.5 * sigmaRootT;
+        d2 = d1 - sigmaRootT;
+      }
+      double nF = NormalDistribution.getStandardCDF(sign * d1);
+      double nS = NormalDistribution.getStandardCDF(sign * d2);
+      double first = nF == 0d ? 0d : forward * nF;
+      double second = nS == 0d ? 0d : strike * nS;
+      prices[i] = Math.max(0d, sign * (first - second));
+      deltas[i] = sign * nF;
+      double nVal = NormalDistribution.getStandardPDF(d1);
+      vegas[i] = nVal == 0d ? 0d : forward * rootT * nVal;
+      gammas[i] = nVal == 0d ? 0d : nVal / forward / sigmaRootT;
+    }
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Computes the driftless vanna.
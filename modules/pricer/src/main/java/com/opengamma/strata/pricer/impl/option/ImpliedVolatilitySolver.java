@@ -0,0 +1,379 @@
+/*
+ * Copyright (C) 2018 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.option;
+
+import com.google.common.math.DoubleMath;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.math.impl.statistics.distribution.NormalDistribution;
+import com.opengamma.strata.product.common.PutCall;
+
+/**
+ * Solver for the Black and normal implied volatilities working on primitive values.
+ * <p>
+ * The implied volatility is found by a Newton-Raphson search, kept within the bracket of volatilities
+ * already found to be too low and too high, starting from a closed-form approximation.
+ * For the Black model the approximation is that of Corrado and Miller.
+ * For the normal model the approximation is the rational function of Choi, Kim and Kwak,
+ * which is accurate enough that one or two iterations are needed.
+ * Each implied volatility creates the price function and a one-element array for the vega.
+ * The normal distribution is computed on primitive values, thus the iterations of the search do not box
+ * the volatility or the price, unlike those of {@link GenericImpliedVolatiltySolver}.
+ * If the search does not converge, the implied volatility is found by
+ * {@link BlackFormulaRepository#impliedVolatility(double, double, double, double, double)} or
+ * {@link NormalFormulaRepository#impliedVolatility(double, double, double, double, double, double, PutCall)}.
+ * <p>
+ * References:
+ * Corrado, C. and Miller, T. (1996) A note on a simple, accurate formula to compute implied standard deviations.
+ * Journal of Banking and Finance, 20, 595-603.
+ * Choi, J., Kim, K. and Kwak, M. (2009) Numerical approximation of the implied volatility under arithmetic
+ * Brownian motion. Applied Mathematical Finance, 16(3), 261-268.
+ */
+public final class ImpliedVolatilitySolver {
+
+  /**
+   * The maximal number of iterations in the search.
+   */
+  private static final int MAX_ITERATIONS = 50;
+  /**
+   * The relative change of the volatility at which the search stops.
+   */
+  private static final double VOL_TOL = 1e-10;
+  /**
+   * The volatility used to start the Black search if the approximation fails.
+   */
+  private static final double BLACK_VOL_GUESS = 0.3;
+  /**
+   * The limit below which the ratio of the normal approximation is treated as zero.
+   */
+  private static final double SMALL_NU = 1e-8;
+  /**
+   * The coefficients of the numerator of the normal approximation.
+   */
+  private static final double[] NORMAL_A = {
+      3.994961687345134e-1, 2.100960795068497e+1, 4.980340217855084e+1, 5.988761102690991e+2,
+      1.848489695437094e+3, 6.106322407867059e+3, 2.493415285349361e+4, 1.266458051348246e+4};
+  /**
+   * The coefficients of the denominator of the normal approximation.
+   */
+  private static final double[] NORMAL_B = {
+      1.000000000000000e+0, 4.990534153589422e+1, 3.093573936743112e+1, 1.495105008310999e+3,
+      1.323614537899738e+3, 1.598919697679745e+4, 2.392008891720782e+4, 3.608817108375034e+3,
+      -2.067719486400926e+2, 1.174240599306013e+1};
+
+  // restricted constructor
+  private ImpliedVolatilitySolver() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the log-normal (Black) implied volatility.
+   * <p>
+   * The arguments are those of
+   * {@link BlackFormulaRepository#impliedVolatility(double, double, double, double, boolean)}.
+   *
+   * @param price  the forward price, which is the market price divided by the numeraire
+   * @param forward  the forward value of the underlying
+   * @param strike  the strike
+   * @param timeToExpiry  the time to expiry
+   * @param isCall  true for call, false for put
+   * @return the log-normal (Black) implied volatility
+   */
+  public static double blackImpliedVolatility(
+      double price,
+      double forward,
+      double strike,
+      double timeToExpiry,
+      boolean isCall) {
+
+    ArgChecker.isTrue(price >= 0d, "negative/NaN price; have {}", price);
+    ArgChecker.isTrue(forward > 0d, "negative/NaN forward; have {}", forward);
+    ArgChecker.isTrue(strike >= 0d, "negative/NaN strike; have {}", strike);
+    ArgChecker.isTrue(timeToExpiry >= 0d, "negative/NaN timeToExpiry; have {}", timeToExpiry);
+    ArgChecker.isFalse(Double.isInfinite(forward), "forward is Infinity");
+    ArgChecker.isFalse(Double.isInfinite(strike), "strike is Infinity");
+    ArgChecker.isFalse(Double.isInfinite(timeToExpiry), "timeToExpiry is Infinity");
+
+    // the out-the-money option is used, a call for strike >= forward and a put otherwise
+    double otmPrice = price - Math.max(0d, (isCall ? 1 : -1) * (forward - strike));
+    if (otmPrice == 0d || forward == strike || timeToExpiry == 0d) {
+      // closed-form, or no solution
+      return BlackFormulaRepository.impliedVolatility(otmPrice, forward, strike, timeToExpiry, BLACK_VOL_GUESS);
+    }
+    ArgChecker.isTrue(otmPrice > 0d, "otmPrice of {} is negative", otmPrice);
+    double maxPrice = Math.min(forward, strike);
+    ArgChecker.isTrue(otmPrice < maxPrice, "otmPrice exceeded upper bound of {}", maxPrice);
+    boolean otmCall = strike >= forward;
+    double guess = blackVolatilityGuess(otmPrice, forward, strike, timeToExpiry, otmCall);
+    double sigma = solve(
+        (vol, vega) -> blackPriceVega(forward, strike, timeToExpiry, vol, otmCall, vega), otmPrice, guess, true);
+    if (Double.isNaN(sigma)) {
+      return BlackFormulaRepository.impliedVolatility(otmPrice, forward, strike, timeToExpiry, guess);
+    }
+    return sigma;
+  }
+
+  /**
+   * Computes the log-normal (Black) implied volatilities of a set of options.
+   * <p>
+   * The volatility at index {@code i} is that of
+   * {@link #blackImpliedVolatility(double, double, double, double, boolean)} for the option at index {@code i}.
+   * If the price is NaN, indicating that it is not available, the volatility is NaN.
+   * All the arrays must have the same length.
+   *
+   * @param prices  the forward prices
+   * @param forwards  the forward values of the underlying
+   * @param strikes  the strikes
+   * @param timesToExpiry  the times to expiry
+   * @param isCall  true for call, false for put
+   * @param volatilities  the array used to return the implied volatilities
+   */
+  public static void blackImpliedVolatilities(
+      double[] prices,
+      double[] forwards,
+      double[] strikes,
+      double[] timesToExpiry,
+      boolean isCall,
+      double[] volatilities) {
+
+    checkLengths(prices, forwards, strikes, timesToExpiry, volatilities);
+    for (int i = 0; i < prices.length; i++) {
+      volatilities[i] = Double.isNaN(prices[i]) ?
+          Double.NaN :
+          blackImpliedVolatility(prices[i], forwards[i], strikes[i], timesToExpiry[i], isCall);
+    }
+  }
+
+  /**
+   * Computes the approximation of the log-normal (Black) implied volatility of an out-the-money option.
+   * <p>
+   * This is the approximation of Corrado and Miller, used to start the search.
+   * If the approximation is not defined, a default volatility is returned.
+   *
+   * @param otmPrice  the forward price of the out-the-money option
+   * @param forward  the forward value of the underlying
+   * @param strike  the strike
+   * @param timeToExpiry  the time to expiry
+   * @param isCall  true for call, false for put
+   * @return the approximate volatility
+   */
+  public static double blackVolatilityGuess(
+      double otmPrice,
+      double forward,
+      double strike,
+      double timeToExpiry,
+      boolean isCall) {
+
+    double callPrice = isCall ? otmPrice : otmPrice + forward - strike;
+    double halfIntrinsic = 0.5 * (forward - strike);
+    double term = callPrice - halfIntrinsic;
+    double root = Math.sqrt(Math.max(0d, term * term - 4d * halfIntrinsic * halfIntrinsic / Math.PI));
+    double sigma = Math.sqrt(2d * Math.PI) / (forward + strike) * (term + root) / Math.sqrt(timeToExpiry);
+    return sigma > 0d && sigma < Double.POSITIVE_INFINITY ? sigma : BLACK_VOL_GUESS;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the normal implied volatility.
+   * <p>
+   * The arguments are those of
+   * {@link NormalFormulaRepository#impliedVolatility(double, double, double, double, double, double, PutCall)},
+   * with a numeraire of one.
+   *
+   * @param price  the forward price, which is the market price divided by the numeraire
+   * @param forward  the forward value of the underlying
+   * @param strike  the strike
+   * @param timeToExpiry  the time to expiry
+   * @param putCall  whether it is put or call
+   * @return the normal implied volatility
+   */
+  public static double normalImpliedVolatility(
+      double price,
+      double forward,
+      double strike,
+      double timeToExpiry,
+      PutCall putCall) {
+
+    ArgChecker.isTrue(timeToExpiry > 0d, "timeToExpiry must be greater than zero; have {}", timeToExpiry);
+    double intrinsicPrice = Math.max(0d, (putCall.isCall() ? 1 : -1) * (forward - strike));
+    ArgChecker.isTrue(price > intrinsicPrice || DoubleMath.fuzzyEquals(price, intrinsicPrice, 1e-6),
+        "Option price less than intrinsic value of {}", intrinsicPrice);
+    if (price <= intrinsicPrice) {
+      return 0d;
+    }
+    double guess = normalVolatilityGuess(price, forward, strike, timeToExpiry, putCall);
+    double sigma = solve(
+        (vol, vega) -> normalPriceVega(forward, strike, timeToExpiry, vol, putCall, vega), price, guess, false);
+    if (Double.isNaN(sigma)) {
+      return NormalFormulaRepository.impliedVolatility(price, forward, strike, timeToExpiry, guess, 1d, putCall);
+    }
+    return sigma;
+  }
+
+  /**
+   * Computes the normal implied volatilities of a set of options.
+   * <p>
+   * The volatility at index {@code i} is that of
+   * {@link #normalImpliedVolatility(double, double, double, double, PutCall)} for the option at index {@code i}.
+   * If the price is NaN, indicating that it is not available, the volatility is NaN.
+   * All the arrays must have the same length.
+   *
+   * @param prices  the forward prices
+   * @param forwards  the forward values of the underlying
+   * @param strikes  the strikes
+   * @param timesToExpiry  the times to expiry
+   * @param putCall  whether it is put or call
+   * @param volatilities  the array used to return the implied volatilities
+   */
+  public static void normalImpliedVolatilities(
+      double[] prices,
+      double[] forwards,
+      double[] strikes,
+      double[] timesToExpiry,
+      PutCall putCall,
+      double[] volatilities) {
+
+    checkLengths(prices, forwards, strikes, timesToExpiry, volatilities);
+    for (int i = 0; i < prices.length; i++) {
+      volatilities[i] = Double.isNaN(prices[i]) ?
+          Double.NaN :
+          normalImpliedVolatility(prices[i], forwards[i], strikes[i], timesToExpiry[i], putCall);
+    }
+  }
+
+  /**
+   * Computes the approximation of the normal implied volatility.
+   * <p>
+   * This is the approximation of Choi, Kim and Kwak, used to start the search.
+   * The price must be greater than the intrinsic value.
+   *
+   * @param price  the forward price
+   * @param forward  the forward value of the underlying
+   * @param strike  the strike
+   * @param timeToExpiry  the time to expiry
+   * @param putCall  whether it is put or call
+   * @return the approximate volatility
+   */
+  public static double normalVolatilityGuess(
+      double price,
+      double forward,
+      double strike,
+      double timeToExpiry,
+      PutCall putCall) {
+
+    double straddlePrice = 2d * price - (putCall.isCall() ? 1 : -1) * (forward - strike);
+    double nu = Math.max(-1d + 1e-15, Math.min(1d - 1e-15, (forward - strike) / straddlePrice));
+    double eta = Math.abs(nu) < SMALL_NU ? 1d : nu / (0.5 * Math.log((1d + nu) / (1d - nu)));
+    double numerator = NORMAL_A[NORMAL_A.length - 1];
+    for (int i = NORMAL_A.length - 2; i >= 0; i--) {
+      numerator = numerator * eta + NORMAL_A[i];
+    }
+    double denominator = NORMAL_B[NORMAL_B.length - 1];
+    for (int i = NORMAL_B.length - 2; i >= 0; i--) {
+      denominator = denominator * eta + NORMAL_B[i];
+    }
+    return Math.sqrt(Math.PI / (2d * timeToExpiry)) * straddlePrice * Math.sqrt(eta) * numerator / denominator;
+  }
+
+  //-------------------------------------------------------------------------
+  // the Newton-Raphson search kept within the bracket, NaN if it does not converge
+  // the vega array is created once and reused by the iterations
+  // the search on the log of the price converges faster for out-the-money options far from the guess
+  private static double solve(PriceVegaFunction function, double targetPrice, double guess, boolean logPrice) {
+    double[] vega = new double[1];
+    double lower = 0d;
+    double upper = Double.POSITIVE_INFINITY;
+    double sigma = guess;
+    for (int i = 0; i < MAX_ITERATIONS; i++) {
+      double price = function.priceVega(sigma, vega);
+      double diff = price - targetPrice;
+      if (diff == 0d) {
+        return sigma;
+      }
+      if (diff > 0d) {
+        upper = sigma;
+      } else {
+        lower = sigma;
+      }
+      double next = logPrice ? sigma + Math.log(targetPrice / price) * price / vega[0] : sigma - diff / vega[0];
+      if (!(next > lower && next < upper)) {
+        // the step leaves the bracket, or the vega is zero
+        next = upper == Double.POSITIVE_INFINITY ? 2d * sigma : 0.5 * (lower + upper);
+      }
+      if (Math.abs(next - sigma) <= VOL_TOL * next) {
+        return next;
+      }
+      sigma = next;
+    }
+    return Double.NaN;
+  }
+
+  // the Black price and vega of an out-the-money option
+  private static double blackPriceVega(
+      double forward,
+      double strike,
+      double timeToExpiry,
+      double lognormalVol,
+      boolean isCall,
+      double[] vega) {
+
+    double rootT = Math.sqrt(timeToExpiry);
+    double sigmaRootT = lognormalVol * rootT;
+    if (sigmaRootT == 0d) {
+      vega[0] = 0d;
+      return 0d;
+    }
+    double d1 = Math.log(forward / strike) / sigmaRootT + 0.5 * sigmaRootT;
+    double d2 = d1 - sigmaRootT;
+    vega[0] = forward * rootT * NormalDistribution.getStandardPDF(d1);
+    return isCall ?
+        forward * NormalDistribution.getStandardCDF(d1) - strike * NormalDistribution.getStandardCDF(d2) :
+        strike * NormalDistribution.getStandardCDF(-d2) - forward * NormalDistribution.getStandardCDF(-d1);
+  }
+
+  // the normal price and vega
+  private static double normalPriceVega(
+      double forward,
+      double strike,
+      double timeToExpiry,
+      double normalVol,
+      PutCall putCall,
+      double[] vega) {
+
+    double rootT = Math.sqrt(timeToExpiry);
+    double sigmaRootT = normalVol * rootT;
+    int sign = putCall.isCall() ? 1 : -1;
+    if (sigmaRootT == 0d) {
+      vega[0] = 0d;
+      return Math.max(0d, sign * (forward - strike));
+    }
+    double arg = sign * (forward - strike) / sigmaRootT;
+    double pdf = NormalDistribution.getStandardPDF(arg);
+    vega[0] = pdf * rootT;
+    return sign * (forward - strike) * NormalDistribution.getStandardCDF(arg) + sigmaRootT * pdf;
+  }
+
+  // checks that the arrays have the same length
+  private static void checkLengths(
+      double[] prices,
+      double[] forwards,
+      double[] strikes,
+      double[] timesToExpiry,
+      double[] volatilities) {
+
+    int size = prices.length;
+    ArgChecker.isTrue(forwards.length == size, "forwards must have the same length as prices");
+    ArgChecker.isTrue(strikes.length == size, "strikes must have the same length as prices");
+    ArgChecker.isTrue(timesToExpiry.length == size, "timesToExpiry must have the same length as prices");
+    ArgChecker.isTrue(volatilities.length == size, "volatilities must have the same length as prices");
+  }
+
+  //-------------------------------------------------------------------------
+  // the price of an option as a function of the volatility, storing the vega in the array
+  private interface PriceVegaFunction {
+    double priceVega(double volatility, double[] vega);
+  }
+
+}
@@ -194,6 +194,38 @@ public final class SabrExtrapolationRightFunction {
     return price;
   }
 
+  /**
+   * Computes the option prices with numeraire=1 for a set of strikes.
+   * <p>
+   * The price of each strike is the same as that of {@link #price(double, PutCall)}.
+   * The SABR volatilities of the strikes below the cut-off strike are computed together,
+   * thus the terms which depend only on the SABR parameters are computed once.
+   *
+   * @param strikes  the strikes of the options
+   * @param putCall  whether the options are put or call
+   * @param prices  the array used to return the option prices, of the same length as the strikes
+   */
+  public void price(double[] strikes, PutCall putCall, double[] prices) {
+    ArgChecker.isTrue(strikes.length == prices.length, "prices must have the same length as strikes");
+    double[] sabrStrikes = sabrStrikes(strikes);
+    double[] volatilities = new double[sabrStrikes.length];
+    sabrFunction.volatility(forward, sabrStrikes, timeToExpiry, sabrData, volatilities);
+    int loopsabr = 0;
+    for (int i = 0; i < strikes.length; i++) {
+      double strike = strikes[i];
+      if (strike <= cutOffStrike) {
+        prices[i] = BlackFormulaRepository.price(
+            forward, strike, timeToExpiry, volatilities[loopsabr++], putCall.isCall());
+      } else {
+        double price = extrapolation(strike);
+        if (putCall.isPut()) { // Put by call/put parity
+          price -= (forward - strike);
+        }
+        prices[i] = price;
+      }
+    }
+  }
+
   /**
    * Computes the option price derivative with respect to the strike.
    * <p>
@@ -290,6 +322,78 @@ public final class SabrExtrapolationRightFunction {
     return ValueDerivatives.of(price, DoubleArray.ofUnsafe(priceDerivativeSabr));
   }
 
+  /**
+   * Computes the option price derivatives with respect to the forward for a set of strikes.
+   * <p>
+   * The derivative of each strike is the same as that of {@link #priceDerivativeForward(double, PutCall)}.
+   * The SABR volatilities of the strikes below the cut-off strike are computed together.
+   *
+   * @param strikes  the strikes of the options
+   * @param putCall  whether the options are put or call
+   * @param derivatives  the array used to return the option price derivatives, of the same length as the strikes
+   */
+  public void priceDerivativeForward(double[] strikes, PutCall putCall, double[] derivatives) {
+    ArgChecker.isTrue(strikes.length == derivatives.length, "derivatives must have the same length as strikes");
+    double[] sabrStrikes = sabrStrikes(strikes);
+    double[] volatilities = new double[sabrStrikes.length];
+    double[][] volatilityDerivatives = new double[sabrStrikes.length][];
+    sabrFunction.volatilityAdjoint(forward, sabrStrikes, timeToExpiry, sabrData, volatilities, volatilityDerivatives);
+    int loopsabr = 0;
+    for (int i = 0; i < strikes.length; i++) {
+      double strike = strikes[i];
+      if (strike <= cutOffStrike) {
+        ValueDerivatives pA = BlackFormulaRepository.priceAdjoint(
+            forward, strike, timeToExpiry, volatilities[loopsabr], putCall == PutCall.CALL);
+        derivatives[i] = pA.getDerivative(0) + pA.getDerivative(3) * volatilityDerivatives[loopsabr][0];
+        loopsabr++;
+      } else {
+        derivatives[i] = priceDerivativeForward(strike, putCall);
+      }
+    }
+  }
+
+  /**
+   * Computes the option prices and their derivatives with respect to the SABR parameters for a set of strikes.
+   * <p>
+   * The price and derivatives of each strike are the same as those of {@link #priceAdjointSabr(double, PutCall)}.
+   * The derivatives of the strike at index {@code i} are stored in {@code derivatives[i]}, which has length 4.
+   * A null element is created.
+   * The SABR volatilities of the strikes below the cut-off strike are computed together.
+   *
+   * @param strikes  the strikes of the options
+   * @param putCall  whether the options are put or call
+   * @param prices  the array used to return the option prices, of the same length as the strikes
+   * @param derivatives  the array used to return the option price derivatives, of the same length as the strikes
+   */
+  public void priceAdjointSabr(double[] strikes, PutCall putCall, double[] prices, double[][] derivatives) {
+    ArgChecker.isTrue(strikes.length == prices.length, "prices must have the same length as strikes");
+    ArgChecker.isTrue(strikes.length == derivatives.length, "derivatives must have the same length as strikes");
+    double[] sabrStrikes = sabrStrikes(strikes);
+    double[] volatilities = new double[sabrStrikes.length];
+    double[][] volatilityDerivatives = new double[sabrStrikes.length][];
+    sabrFunction.volatilityAdjoint(forward, sabrStrikes, timeToExpiry, sabrData, volatilities, volatilityDerivatives);
+    int loopsabr = 0;
+    for (int i = 0; i < strikes.length; i++) {
+      double strike = strikes[i];
+      if (derivatives[i] == null) {
+        derivatives[i] = new double[4];
+      }
+      if (strike <= cutOffStrike) {
+        ValueDerivatives pA = BlackFormulaRepository.priceAdjoint(
+            forward, strike, timeToExpiry, volatilities[loopsabr], putCall == PutCall.CALL);
+        prices[i] = pA.getValue();
+        for (int loopparam = 0; loopparam < 4; loopparam++) {
+          derivatives[i][loopparam] = pA.getDerivative(3) * volatilityDerivatives[loopsabr][loopparam + 2];
+        }
+        loopsabr++;
+      } else {
+        ValueDerivatives priceAdjoint = priceAdjointSabr(strike, putCall);
+        prices[i] = priceAdjoint.getValue();
+        priceAdjoint.getDerivatives().copyInto(derivatives[i], 0);
+      }
+    }
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Gets the underlying SABR data.
@@ -363,6 +467,24 @@ public final class SabrExtrapolationRightFunction {
   }
 
   //-------------------------------------------------------------------------
+  // the strikes which are priced by the SABR formula, in the order of the input
+  private double[] sabrStrikes(double[] strikes) {
+    int nbSabr = 0;
+    for (double strike : strikes) {
+      if (strike <= cutOffStrike) {
+        nbSabr++;
+      }
+    }
+    double[] sabrStrikes = new double[nbSabr];
+    int loopsabr = 0;
+    for (double strike : strikes) {
+      if (strike <= cutOffStrike) {
+        sabrStrikes[loopsabr++] = strike;
+      }
+    }
+    return sabrStrikes;
+  }
+
   private double[] computesFittingParameters() {
     double[] param = new double[3]; // Implementation note: called a,b,c in the note.
     // Computes derivatives at cut-off.
@@ -128,6 +128,17 @@ public class ForwardOvernightCompoundedRateComputationFn
       double compositionFactor = 1.0d;
       LocalDate currentFixing = firstFixing;
       LocalDate currentPublication = computation.calculatePublicationFromFixing(currentFixing);
+      if (currentFixing.isBefore(lastFixingNonCutoff) && rates.getValuationDate().isAfter(currentPublication)) {
+        // use the cumulative factors to skip the run of fixings, if they cover it
+        OvernightCompoundingFactors factors = OvernightCompoundingFactors.of(computation, indexFixingDateSeries);
+        int startIndex = factors.indexOf(currentFixing);
+        int endIndex = startIndex < 0 ? -1 : pastEndIndex(factors, startIndex);
+        if (endIndex >= 0) {
+          compositionFactor = factors.compositionFactor(startIndex, endIndex);
+          currentFixing = factors.fixingDate(endIndex);
+          currentPublication = computation.calculatePublicationFromFixing(currentFixing);
+        }
+      }
       while ((currentFixing.isBefore(lastFixingNonCutoff)) && // fixing in the non-cutoff period
           rates.getValuationDate().isAfter(currentPublication)) { // publication before valuation
         LocalDate effectiveDate = computation.calculateEffectiveFromFixing(currentFixing);
@@ -153,6 +164,31 @@ public class ForwardOvernightCompoundedRateComputationFn
       return compositionFactor;
     }
 
+    // the index of the first fixing after the start index that is not in the past non-cutoff period, -1 if not covered
+    private int pastEndIndex(OvernightCompoundingFactors factors, int startIndex) {
+      int last = factors.size() - 1;
+      if (!isPastEnd(factors.fixingDate(last))) {
+        return -1;
+      }
+      int low = startIndex;
+      int high = last;
+      while (low < high) {
+        int mid = (low + high) >>> 1;
+        if (isPastEnd(factors.fixingDate(mid))) {
+          high = mid;
+        } else {
+          low = mid + 1;
+        }
+      }
+      return low;
+    }
+
+    // whether the fixing ends the walk through the past non-cutoff fixings
+    private boolean isPastEnd(LocalDate fixing) {
+      return !fixing.isBefore(lastFixingNonCutoff) ||
+          !rates.getValuationDate().isAfter(computation.calculatePublicationFromFixing(fixing));
+    }
+
     // Composition - publication on valuation date: Check if a fixing is available on current date
     private double valuationCompositionFactor() {
       LocalDate currentFixing = nextFixing;
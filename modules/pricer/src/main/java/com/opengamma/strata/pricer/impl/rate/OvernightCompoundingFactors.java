@@ -0,0 +1,181 @@
+/*
+ * Copyright (C) 2018 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.rate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.google.common.collect.MapMaker;
+import com.opengamma.strata.basics.date.DayCount;
+import com.opengamma.strata.basics.date.HolidayCalendar;
+import com.opengamma.strata.basics.index.OvernightIndex;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.collect.tuple.Pair;
+import com.opengamma.strata.product.rate.OvernightCompoundedRateComputation;
+
+/**
+ * The cumulative compounding factors of the fixings of an overnight index.
+ * <p>
+ * The running product of {@code (1 + accrualFactor * fixing)} is held for consecutive fixing dates,
+ * thus the compounding factor of any run of fixings is the ratio of two entries.
+ * This avoids walking the time series and holiday calendar one fixing at a time for a seasoned period.
+ * <p>
+ * Only the latest run of fixings without a missing fixing is held.
+ * A fixing date that is not covered is handled by the caller walking the fixings in the usual way.
+ * <p>
+ * The instance for a time series, index and fixing calendar is created once and shared.
+ * The time series is referenced weakly, thus the factors are discarded with the time series.
+ */
+final class OvernightCompoundingFactors {
+
+  /**
+   * The empty instance, used when there are no fixings.
+   */
+  private static final OvernightCompoundingFactors EMPTY =
+      new OvernightCompoundingFactors(new LocalDate[0], new double[0]);
+  /**
+   * The shared instances, keyed by the identity of the time series, then by index and fixing calendar.
+   */
+  private static final ConcurrentMap<LocalDateDoubleTimeSeries, Map<Pair<OvernightIndex, HolidayCalendar>,
+      OvernightCompoundingFactors>> CACHE = new MapMaker().weakKeys().makeMap();
+
+  /**
+   * The consecutive fixing dates, followed by the fixing date after the last fixing.
+   */
+  private final LocalDate[] fixingDates;
+  /**
+   * The product of the compounding factors of the fixings before each fixing date.
+   */
+  private final double[] cumulativeFactors;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains the shared factors for the fixings of the computation.
+   * <p>
+   * The factors are created on first use.
+   *
+   * @param computation  the computation
+   * @param fixings  the fixings of the index
+   * @return the factors
+   */
+  static OvernightCompoundingFactors of(
+      OvernightCompoundedRateComputation computation,
+      LocalDateDoubleTimeSeries fixings) {
+
+    Map<Pair<OvernightIndex, HolidayCalendar>, OvernightCompoundingFactors> byIndex =
+        CACHE.computeIfAbsent(fixings, ts -> new ConcurrentHashMap<>());
+    Pair<OvernightIndex, HolidayCalendar> key = Pair.of(computation.getIndex(), computation.getFixingCalendar());
+    OvernightCompoundingFactors factors = byIndex.get(key);
+    if (factors == null) {
+      factors = byIndex.computeIfAbsent(key, k -> create(computation, fixings));
+    }
+    return factors;
+  }
+
+  // creates the factors by walking the fixings
+  static OvernightCompoundingFactors create(
+      OvernightCompoundedRateComputation computation,
+      LocalDateDoubleTimeSeries fixings) {
+
+    if (fixings.isEmpty()) {
+      return EMPTY;
+    }
+    HolidayCalendar calendar = computation.getFixingCalendar();
+    DayCount dayCount = computation.getIndex().getDayCount();
+    LocalDate latest = fixings.getLatestDate();
+    List<LocalDate> dates = new ArrayList<>();
+    double[] factors = new double[16];
+    double compositionFactor = 1d;
+    LocalDate currentFixing = calendar.nextOrSame(fixings.getEarliestDate());
+    while (!currentFixing.isAfter(latest)) {
+      OptionalDouble fixedRate = fixings.get(currentFixing);
+      LocalDate nextFixing = calendar.next(currentFixing);
+      if (fixedRate.isPresent()) {
+        if (dates.isEmpty()) {
+          dates.add(currentFixing);
+          factors[0] = compositionFactor;
+        }
+        LocalDate effectiveDate = computation.calculateEffectiveFromFixing(currentFixing);
+        LocalDate maturityDate = computation.calculateMaturityFromEffective(effectiveDate);
+        double accrualFactor = dayCount.yearFraction(effectiveDate, maturityDate);
+        compositionFactor *= 1.0d + accrualFactor * fixedRate.getAsDouble();
+        if (dates.size() == factors.length) {
+          factors = Arrays.copyOf(factors, factors.length * 2);
+        }
+        factors[dates.size()] = compositionFactor;
+        dates.add(nextFixing);
+      } else {
+        // missing fixing, only the run after it is held
+        dates.clear();
+        compositionFactor = 1d;
+      }
+      currentFixing = nextFixing;
+    }
+    return new OvernightCompoundingFactors(
+        dates.toArray(new LocalDate[dates.size()]),
+        Arrays.copyOf(factors, dates.size()));
+  }
+
+  // restricted constructor
+  private OvernightCompoundingFactors(LocalDate[] fixingDates, double[] cumulativeFactors) {
+    this.fixingDates = fixingDates;
+    this.cumulativeFactors = cumulativeFactors;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the index of the fixing date.
+   * <p>
+   * A negative value is returned if the date is not covered.
+   *
+   * @param fixingDate  the fixing date
+   * @return the index, negative if not covered
+   */
+  int indexOf(LocalDate fixingDate) {
+    int index = Arrays.binarySearch(fixingDates, fixingDate);
+    return index < 0 ? -1 : index;
+  }
+
+  /**
+   * Gets the number of fixing dates, including the fixing date after the last fixing.
+   *
+   * @return the number of fixing dates
+   */
+  int size() {
+    return fixingDates.length;
+  }
+
+  /**
+   * Gets the fixing date at the index.
+   *
+   * @param index  the index
+   * @return the fixing date
+   */
+  LocalDate fixingDate(int index) {
+    return fixingDates[index];
+  }
+
+  /**
+   * Gets the compounding factor of the fixings from the start index inclusive to the end index exclusive.
+   *
+   * @param startIndex  the start index
+   * @param endIndex  the end index
+   * @return the compounding factor
+   */
+  double compositionFactor(int startIndex, int endIndex) {
+    if (startIndex == endIndex) {
+      return 1d;
+    }
+    return cumulativeFactors[endIndex] / cumulativeFactors[startIndex];
+  }
+
+}
@@ -39,7 +39,10 @@ public interface OptionFunction {
    * @param downFactor  the down factor
    * @param middleFactor  the middle factor
    * @return the payoff at expiry
+   * @deprecated Not used by {@link TrinomialTree}, which computes the state values and calls
+   *   {@link #getPayoffAtExpiryTrinomial(double[], double[])}. Override that method instead.
    */
+  @Deprecated
   public default DoubleArray getPayoffAtExpiryTrinomial(
       double spot,
       double downFactor,
@@ -83,7 +86,11 @@ public interface OptionFunction {
    * @param middleFactor  the middle factor
    * @param i  the step number for which the next option values are computed
    * @return the option values in the i-th layer
+   * @deprecated Not used by {@link TrinomialTree}, which computes the transition probabilities and state values
+   *   and calls {@link #getNextOptionValues(double, double[][], double[], double[], double[], int)}.
+   *   Override that method instead.
    */
+  @Deprecated
   public default DoubleArray getNextOptionValues(
       double discountFactor,
       double upProbability,
@@ -131,4 +138,63 @@ public interface OptionFunction {
         transitionProbability.get(j, 1) * value.get(j + 1) + transitionProbability.get(j, 0) * value.get(j)));
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Computes payoff at expiry for trinomial tree, writing the result to the specified array.
+   * <p>
+   * This is equivalent to {@link #getPayoffAtExpiryTrinomial(DoubleArray)}, avoiding the allocation of arrays
+   * during the backward induction of {@link TrinomialTree}.
+   * The arrays may be longer than required, only the first {@code 2 * n + 1} elements are used,
+   * where {@code n} is the number of steps.
+   * <p>
+   * The default implementation delegates to {@link #getPayoffAtExpiryTrinomial(DoubleArray)},
+   * and should be overridden for efficiency.
+   * 
+   * @param stateValue  the state values
+   * @param payoff  the array to which the payoff at expiry is written
+   */
+  public default void getPayoffAtExpiryTrinomial(double[] stateValue, double[] payoff) {
+    int nNodes = 2 * getNumberOfSteps() + 1;
+    DoubleArray values = getPayoffAtExpiryTrinomial(DoubleArray.copyOf(stateValue, 0, nNodes));
+    values.copyInto(payoff, 0);
+  }
+
+  /**
+   * Computes the option values in the intermediate nodes, writing the result to the specified array.
+   * <p>
+   * This is equivalent to {@link #getNextOptionValues(double, DoubleMatrix, DoubleArray, DoubleArray, int)},
+   * avoiding the allocation of arrays during the backward induction of {@link TrinomialTree}.
+   * The arrays may be longer than required, only the first {@code 2 * i + 1} elements of the transition probability,
+   * the state value and the result, and the first {@code 2 * i + 3} elements of the option value, are used.
+   * The result must not be the same array as the option value.
+   * <p>
+   * The default implementation delegates to
+   * {@link #getNextOptionValues(double, DoubleMatrix, DoubleArray, DoubleArray, int)},
+   * and should be overridden for efficiency.
+   * 
+   * @param discountFactor  the discount factor between the two layers
+   * @param transitionProbability  the transition probability
+   * @param stateValue  the state value
+   * @param value  the option value in the (i+1)-th layer
+   * @param result  the array to which the option values in the i-th layer are written
+   * @param i  the step number for which the next option values are computed
+   */
+  public default void getNextOptionValues(
+      double discountFactor,
+      double[][] transitionProbability,
+      double[] stateValue,
+      double[] value,
+      double[] result,
+      int i) {
+
+    int nNodes = 2 * i + 1;
+    DoubleArray values = getNextOptionValues(
+        discountFactor,
+        DoubleMatrix.ofUnsafe(Arrays.copyOf(transitionProbability, nNodes)),
+        DoubleArray.copyOf(stateValue, 0, nNodes),
+        DoubleArray.copyOf(value, 0, nNodes + 2),
+        i);
+    values.copyInto(result, 0);
+  }
+
 }
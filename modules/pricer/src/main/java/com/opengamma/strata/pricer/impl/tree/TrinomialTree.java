@@ -5,6 +5,8 @@
  */
 package com.opengamma.strata.pricer.impl.tree;
 
+import java.util.Arrays;
+
 import com.opengamma.strata.basics.value.ValueDerivatives;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
@@ -17,9 +19,20 @@ import com.opengamma.strata.pricer.fxopt.RecombiningTrinomialTreeData;
  * and the option to price is specified by {@code OptionFunction}. 
  * <p>
  * Option pricing with non-uniform tree is realised by specifying {@code RecombiningTrinomialTreeData}.
+ * <p>
+ * The backward induction rolls between two buffers of option values, using the methods of {@code OptionFunction}
+ * which write to arrays. The buffers are held in a workspace which is reused by each thread,
+ * thus the backward induction allocates no array once the workspace is large enough for the tree.
+ * With a lattice specification, the state values and transition probabilities are computed here, thus the
+ * deprecated methods of {@code OptionFunction} taking the spot, down factor and middle factor are not called.
  */
 public class TrinomialTree {
 
+  /**
+   * The workspace of each thread.
+   */
+  private static final ThreadLocal<Workspace> WORKSPACE = ThreadLocal.withInitial(Workspace::new);
+
   /**
    * Price an option under the specified trinomial lattice.
    * <p>
@@ -57,12 +70,30 @@ public class TrinomialTree {
     ArgChecker.isTrue(midProbability > 0d, "midProbability should be greater than 0");
     ArgChecker.isTrue(midProbability < 1d, "midProbability should be smaller than 1");
     ArgChecker.isTrue(downProbability > 0d, "downProbability should be greater than 0");
-    DoubleArray values = function.getPayoffAtExpiryTrinomial(spot, downFactor, middleFactor);
-    for (int i = nSteps - 1; i > -1; --i) {
-      values = function.getNextOptionValues(discount, upProbability, midProbability, downProbability, values, spot,
-          downFactor, middleFactor, i);
+    Workspace workspace = Workspace.acquire(nSteps);
+    try {
+      double[] stateValue = workspace.stateValue;
+      double[] probabilityRow = workspace.probabilityRow;
+      probabilityRow[0] = downProbability;
+      probabilityRow[1] = midProbability;
+      probabilityRow[2] = upProbability;
+      double[][] probability = workspace.probability;
+      Arrays.fill(probability, 0, 2 * nSteps + 1, probabilityRow);
+      for (int k = 0; k < 2 * nSteps + 1; ++k) {
+        stateValue[k] = spot * Math.pow(downFactor, nSteps - k) * Math.pow(middleFactor, k);
+      }
+      function.getPayoffAtExpiryTrinomial(stateValue, workspace.values);
+      for (int i = nSteps - 1; i > -1; --i) {
+        for (int k = 0; k < 2 * i + 1; ++k) {
+          stateValue[k] = spot * Math.pow(downFactor, i - k) * Math.pow(middleFactor, k);
+        }
+        function.getNextOptionValues(discount, probability, stateValue, workspace.values, workspace.nextValues, i);
+        workspace.roll();
+      }
+      return workspace.values[0];
+    } finally {
+      workspace.release();
     }
-    return values.get(0);
   }
 
   /**
@@ -78,12 +109,19 @@ public class TrinomialTree {
 
     int nSteps = data.getNumberOfSteps();
     ArgChecker.isTrue(nSteps == function.getNumberOfSteps(), "mismatch in number of steps");
-    DoubleArray values = function.getPayoffAtExpiryTrinomial(data.getStateValueAtLayer(nSteps));
-    for (int i = nSteps - 1; i > -1; --i) {
-      values = function.getNextOptionValues(
-          data.getDiscountFactorAtLayer(i), data.getProbabilityAtLayer(i), data.getStateValueAtLayer(i), values, i);
+    double[][] stateValue = data.getStateValue().toArrayUnsafe();
+    Workspace workspace = Workspace.acquire(nSteps);
+    try {
+      function.getPayoffAtExpiryTrinomial(stateValue[nSteps], workspace.values);
+      for (int i = nSteps - 1; i > -1; --i) {
+        function.getNextOptionValues(data.getDiscountFactorAtLayer(i), data.getProbabilityAtLayer(i).toArrayUnsafe(),
+            stateValue[i], workspace.values, workspace.nextValues, i);
+        workspace.roll();
+      }
+      return workspace.values[0];
+    } finally {
+      workspace.release();
     }
-    return values.get(0);
   }
 
   /**
@@ -102,19 +140,78 @@ public class TrinomialTree {
 
     int nSteps = data.getNumberOfSteps();
     ArgChecker.isTrue(nSteps == function.getNumberOfSteps(), "mismatch in number of steps");
-    DoubleArray values = function.getPayoffAtExpiryTrinomial(data.getStateValueAtLayer(nSteps));
-    double delta = 0d;
-    for (int i = nSteps - 1; i > -1; --i) {
-      values = function.getNextOptionValues(
-          data.getDiscountFactorAtLayer(i), data.getProbabilityAtLayer(i), data.getStateValueAtLayer(i), values, i);
-      if (i == 1) {
-        DoubleArray stateValue = data.getStateValueAtLayer(1);
-        double d1 = (values.get(2) - values.get(1)) / (stateValue.get(2) - stateValue.get(1));
-        double d2 = (values.get(1) - values.get(0)) / (stateValue.get(1) - stateValue.get(0));
-        delta = 0.5 * (d1 + d2);
+    double[][] stateValue = data.getStateValue().toArrayUnsafe();
+    Workspace workspace = Workspace.acquire(nSteps);
+    try {
+      function.getPayoffAtExpiryTrinomial(stateValue[nSteps], workspace.values);
+      double delta = 0d;
+      for (int i = nSteps - 1; i > -1; --i) {
+        function.getNextOptionValues(data.getDiscountFactorAtLayer(i), data.getProbabilityAtLayer(i).toArrayUnsafe(),
+            stateValue[i], workspace.values, workspace.nextValues, i);
+        workspace.roll();
+        if (i == 1) {
+          double[] values = workspace.values;
+          double d1 = (values[2] - values[1]) / (stateValue[1][2] - stateValue[1][1]);
+          double d2 = (values[1] - values[0]) / (stateValue[1][1] - stateValue[1][0]);
+          delta = 0.5 * (d1 + d2);
+        }
+      }
+      return ValueDerivatives.of(workspace.values[0], DoubleArray.of(delta));
+    } finally {
+      workspace.release();
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * The buffers of the backward induction.
+   * <p>
+   * The workspace of a thread is used unless it is already in use, for example if an option function
+   * prices another option. The buffers only grow, thus they fit the largest tree priced by the thread.
+   */
+  private static final class Workspace {
+
+    // the option values in the current layer
+    private double[] values = new double[0];
+    // the option values in the next layer, towards the root
+    private double[] nextValues = new double[0];
+    // the state values of the lattice specification
+    private double[] stateValue = new double[0];
+    // the transition probabilities of the lattice specification, each node referring to the same row
+    private double[][] probability = new double[0][];
+    // the down, middle and up probabilities of the lattice specification
+    private final double[] probabilityRow = new double[3];
+    // whether the workspace is in use
+    private boolean inUse;
+
+    // obtains a workspace large enough for the number of steps
+    private static Workspace acquire(int nSteps) {
+      Workspace workspace = WORKSPACE.get();
+      if (workspace.inUse) {
+        workspace = new Workspace();
       }
+      workspace.inUse = true;
+      int nNodes = 2 * nSteps + 1;
+      if (workspace.values.length < nNodes) {
+        workspace.values = new double[nNodes];
+        workspace.nextValues = new double[nNodes];
+        workspace.stateValue = new double[nNodes];
+        workspace.probability = new double[nNodes][];
+      }
+      return workspace;
+    }
+
+    // the next values become the current values
+    private void roll() {
+      double[] temp = values;
+      values = nextValues;
+      nextValues = temp;
+    }
+
+    // releases the workspace for reuse by the thread
+    private void release() {
+      inUse = false;
     }
-    return ValueDerivatives.of(values.get(0), DoubleArray.of(delta));
   }
 
 }
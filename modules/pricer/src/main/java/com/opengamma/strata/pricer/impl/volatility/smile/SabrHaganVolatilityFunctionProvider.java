@@ -80,7 +80,47 @@ public final class SabrHaganVolatilityFunctionProvider
     ArgChecker.isTrue(forward > 0.0, "forward must be greater than zero");
     ArgChecker.isTrue(strike >= 0.0, "strike must be greater than zero");
     ArgChecker.isTrue(timeToExpiry >= 0.0, "timeToExpiry must be greater than zero");
+    return volatility(forward, strike, timeToExpiry, new HaganTerms(alpha, beta, rho, nu));
+  }
+
+  /**
+   * Computes the implied volatility in the SABR model for a set of strikes.
+   * <p>
+   * The volatility of each strike is the same as that of
+   * {@link #volatility(double, double, double, SabrFormulaData)}.
+   * The terms that do not depend on the strike are computed once.
+   * 
+   * @param forward  the forward value of the underlying
+   * @param strikes  the strike values of the options
+   * @param timeToExpiry  the time to expiry of the options
+   * @param data  the SABR data
+   * @param volatilities  the array used to return the volatilities, of the same length as the strikes
+   */
+  @Override
+  public void volatility(
+      double forward,
+      double[] strikes,
+      double timeToExpiry,
+      SabrFormulaData data,
+      double[] volatilities) {
+
+    ArgChecker.notNull(data, "data");
+    ArgChecker.isTrue(strikes.length == volatilities.length, "volatilities must have the same length as strikes");
+    ArgChecker.isTrue(forward > 0.0, "forward must be greater than zero");
+    ArgChecker.isTrue(timeToExpiry >= 0.0, "timeToExpiry must be greater than zero");
+    HaganTerms terms = new HaganTerms(data.getAlpha(), data.getBeta(), data.getRho(), data.getNu());
+    for (int i = 0; i < strikes.length; i++) {
+      ArgChecker.isTrue(strikes[i] >= 0.0, "strike must be greater than zero");
+      volatilities[i] = volatility(forward, strikes[i], timeToExpiry, terms);
+    }
+  }
 
+  // the volatility, the inputs having been checked
+  private double volatility(double forward, double strike, double timeToExpiry, HaganTerms terms) {
+    double alpha = terms.alpha;
+    double beta = terms.beta;
+    double rho = terms.rho;
+    double nu = terms.nu;
     if (alpha == 0.0) {
       return 0.0;
     }
@@ -94,13 +134,12 @@ public final class SabrHaganVolatilityFunctionProvider
       k = strike;
     }
     double vol, z, zOverChi;
-    double beta1 = 1 - beta;
+    double beta1 = terms.betaStar;
     if (DoubleMath.fuzzyEquals(forward, k, ATM_EPS)) {
       double f1 = Math.pow(forward, beta1);
       vol = alpha *
           (1 + timeToExpiry *
-              (beta1 * beta1 * alpha * alpha / 24 / f1 / f1 + rho * alpha * beta * nu / 4 / f1 + nu * nu *
-                  (2 - 3 * rho * rho) / 24)) /
+              (beta1 * beta1 * alpha * alpha / 24 / f1 / f1 + rho * alpha * beta * nu / 4 / f1 + terms.nuRhoTerm)) /
           f1;
     } else {
       if (DoubleMath.fuzzyEquals(beta, 0, BETA_EPS)) {
@@ -113,7 +152,7 @@ public final class SabrHaganVolatilityFunctionProvider
         double ln = Math.log(forward / k);
         z = nu * ln / alpha;
         zOverChi = getZOverChi(rho, z);
-        vol = alpha * zOverChi * (1 + timeToExpiry * (rho * alpha * nu / 4 + nu * nu * (2 - 3 * rho * rho) / 24));
+        vol = alpha * zOverChi * (1 + timeToExpiry * (rho * alpha * nu / 4 + terms.nuRhoTerm));
       } else {
         double ln = Math.log(forward / k);
         double f1 = Math.pow(forward * k, beta1);
@@ -123,8 +162,8 @@ public final class SabrHaganVolatilityFunctionProvider
         zOverChi = getZOverChi(rho, z);
         double first = alpha / (f1Sqrt * (1 + lnBetaSq / 24 + lnBetaSq * lnBetaSq / 1920));
         double second = zOverChi;
-        double third = 1 + timeToExpiry * (beta1 * beta1 * alpha * alpha / 24 / f1 +
-            rho * nu * beta * alpha / 4 / f1Sqrt + nu * nu * (2 - 3 * rho * rho) / 24);
+        double third = 1 + timeToExpiry * (terms.betaAlphaTerm / f1 +
+            terms.rhoNuBetaAlphaTerm / f1Sqrt + terms.nuRhoTerm);
         vol = first * second * third;
       }
     }
@@ -196,6 +235,73 @@ public final class SabrHaganVolatilityFunctionProvider
     ArgChecker.isTrue(forward > 0.0, "forward must be greater than zero");
     ArgChecker.isTrue(strike >= 0.0, "strike must be greater than zero");
     ArgChecker.isTrue(timeToExpiry >= 0.0, "timeToExpiry must be greater than zero");
+    double[] derivatives = new double[6];
+    double volatility =
+        volatilityAdjoint(forward, strike, timeToExpiry, new HaganTerms(alpha, beta, rho, nu), derivatives);
+    return ValueDerivatives.of(volatility, DoubleArray.ofUnsafe(derivatives));
+  }
+
+  /**
+   * Computes the implied volatility in the SABR model and its derivatives for a set of strikes.
+   * <p>
+   * The volatility and derivatives of each strike are the same as those of
+   * {@link #volatilityAdjoint(double, double, double, SabrFormulaData)}.
+   * The terms that do not depend on the strike are computed once, and no object is created for each strike.
+   * <p>
+   * The derivatives of the strike at index {@code i} are stored in {@code derivatives[i]}, with:
+   * <ul>
+   * <li>[0] derivative with respect to the forward
+   * <li>[1] derivative with respect to the strike
+   * <li>[2] derivative with respect to the alpha
+   * <li>[3] derivative with respect to the beta
+   * <li>[4] derivative with respect to the rho
+   * <li>[5] derivative with respect to the nu
+   * </ul>
+   * 
+   * @param forward  the forward value of the underlying
+   * @param strikes  the strike values of the options
+   * @param timeToExpiry  the time to expiry of the options
+   * @param data  the SABR data
+   * @param volatilities  the array used to return the volatilities, of the same length as the strikes
+   * @param derivatives  the array used to return the derivatives, of the same length as the strikes,
+   *   each element of length 6, a null element being created
+   */
+  @Override
+  public void volatilityAdjoint(
+      double forward,
+      double[] strikes,
+      double timeToExpiry,
+      SabrFormulaData data,
+      double[] volatilities,
+      double[][] derivatives) {
+
+    ArgChecker.notNull(data, "data");
+    ArgChecker.isTrue(strikes.length == volatilities.length, "volatilities must have the same length as strikes");
+    ArgChecker.isTrue(strikes.length == derivatives.length, "derivatives must have the same length as strikes");
+    ArgChecker.isTrue(forward > 0.0, "forward must be greater than zero");
+    ArgChecker.isTrue(timeToExpiry >= 0.0, "timeToExpiry must be greater than zero");
+    HaganTerms terms = new HaganTerms(data.getAlpha(), data.getBeta(), data.getRho(), data.getNu());
+    for (int i = 0; i < strikes.length; i++) {
+      ArgChecker.isTrue(strikes[i] >= 0.0, "strike must be greater than zero");
+      if (derivatives[i] == null) {
+        derivatives[i] = new double[6];
+      }
+      volatilities[i] = volatilityAdjoint(forward, strikes[i], timeToExpiry, terms, derivatives[i]);
+    }
+  }
+
+  // the volatility and its derivatives, the inputs having been checked
+  private double volatilityAdjoint(
+      double forward,
+      double strike,
+      double timeToExpiry,
+      HaganTerms terms,
+      double[] derivatives) {
+
+    double alpha = terms.alpha;
+    double beta = terms.beta;
+    double rho = terms.rho;
+    double nu = terms.nu;
     double cutoff = forward * CUTOFF_MONEYNESS;
     double k = strike;
     if (k < cutoff) {
@@ -204,8 +310,8 @@ public final class SabrHaganVolatilityFunctionProvider
           new Object[] {k, cutoff, cutoff});
       k = cutoff;
     }
-    double betaStar = 1 - beta;
-    double rhoStar = 1.0 - rho;
+    double betaStar = terms.betaStar;
+    double rhoStar = terms.rhoStar;
 
     if (alpha == 0.0) {
       double alphaBar;
@@ -216,7 +322,13 @@ public final class SabrHaganVolatilityFunctionProvider
         // so we return an arbitrary large number
         alphaBar = 1e7;
       }
-      return ValueDerivatives.of(0d, DoubleArray.of(0, 0, alphaBar, 0, 0, 0));
+      derivatives[0] = 0d;
+      derivatives[1] = 0d;
+      derivatives[2] = alphaBar;
+      derivatives[3] = 0d;
+      derivatives[4] = 0d;
+      derivatives[5] = 0d;
+      return 0d;
     }
 
     // Implementation note: Forward sweep.
@@ -252,9 +364,9 @@ public final class SabrHaganVolatilityFunctionProvider
         }
       }
     }
-    double sf1 = sfK * (1 + betaStar * betaStar / 24 * (lnrfK * lnrfK) + Math.pow(betaStar, 4) / 1920 * Math.pow(lnrfK, 4));
-    double sf2 = (1 + (Math.pow(betaStar * alpha / sfK, 2) / 24 + (rho * beta * nu * alpha) /
-        (4 * sfK) + (2 - 3 * rho * rho) * nu * nu / 24) * timeToExpiry);
+    double sf1 = sfK * (1 + terms.betaStarSq24 * (lnrfK * lnrfK) + terms.betaStar4Pow1920 * Math.pow(lnrfK, 4));
+    double sf2 = (1 + (Math.pow(betaStar * alpha / sfK, 2) / 24 + terms.rhoBetaNuAlpha /
+        (4 * sfK) + terms.nuRhoTermAdjoint) * timeToExpiry);
     double volatility = Math.max(MIN_VOL, alpha / sf1 * rzxz * sf2);
 
     // Implementation note: Backward sweep.
@@ -287,10 +399,10 @@ public final class SabrHaganVolatilityFunctionProvider
       }
     }
 
-    double lnrfKBar = sfK * (betaStar * betaStar / 12 * lnrfK + Math.pow(betaStar, 4) / 1920 * 4 * Math.pow(lnrfK, 3)) * sf1Bar +
+    double lnrfKBar = sfK * (terms.betaStarSq12 * lnrfK + terms.betaStar4Pow1920 * 4 * Math.pow(lnrfK, 3)) * sf1Bar +
         nu / alpha * sfK * zBar;
     double sfKBar = nu / alpha * lnrfK * zBar + sf1 / sfK * sf1Bar -
-        (Math.pow(betaStar * alpha, 2) / Math.pow(sfK, 3) / 12 + (rho * beta * nu * alpha) / 4 / (sfK * sfK)) * timeToExpiry *
+        (terms.betaStarAlphaSq / Math.pow(sfK, 3) / 12 + terms.rhoBetaNuAlpha / 4 / (sfK * sfK)) * timeToExpiry *
             sf2Bar;
     double strikeBar = -1 / k * lnrfKBar + betaStar * sfK / (2 * k) * sfKBar;
     double forwardBar = 1 / forward * lnrfKBar + betaStar * sfK / (2 * forward) * sfKBar;
@@ -323,10 +435,16 @@ public final class SabrHaganVolatilityFunctionProvider
         ((betaStar * alpha / sfK) * (betaStar / sfK) / 12 + (rho * beta * nu) / (4 * sfK)) * timeToExpiry * sf2Bar +
         1 / sf1 * rzxz * sf2 * vBar;
     double betaBar = -0.5 * Math.log(forward * k) * sfK * sfKBar - sfK *
-        (betaStar / 12 * (lnrfK * lnrfK) + Math.pow(betaStar, 3) / 480 * Math.pow(lnrfK, 4)) * sf1Bar +
+        (betaStar / 12 * (lnrfK * lnrfK) + terms.betaStar3Pow480 * Math.pow(lnrfK, 4)) * sf1Bar +
         (-betaStar * alpha * alpha / sfK / sfK / 12 + rho * nu * alpha / 4 / sfK) * timeToExpiry * sf2Bar;
 
-    return ValueDerivatives.of(volatility, DoubleArray.of(forwardBar, strikeBar, alphaBar, betaBar, rhoBar, nuBar));
+    derivatives[0] = forwardBar;
+    derivatives[1] = strikeBar;
+    derivatives[2] = alphaBar;
+    derivatives[3] = betaBar;
+    derivatives[4] = rhoBar;
+    derivatives[5] = nuBar;
+    return volatility;
   }
 
   /**
@@ -579,6 +697,47 @@ public final class SabrHaganVolatilityFunctionProvider
     return z / chi;
   }
 
+  //-------------------------------------------------------------------------
+  // the terms of the Hagan formula that do not depend on the forward and strike
+  private static final class HaganTerms {
+    private final double alpha;
+    private final double beta;
+    private final double rho;
+    private final double nu;
+    private final double betaStar;
+    private final double rhoStar;
+    private final double nuRhoTerm;
+    private final double nuRhoTermAdjoint;
+    private final double betaAlphaTerm;
+    private final double rhoNuBetaAlphaTerm;
+    private final double rhoBetaNuAlpha;
+    private final double betaStarSq24;
+    private final double betaStarSq12;
+    private final double betaStar4Pow1920;
+    private final double betaStar3Pow480;
+    private final double betaStarAlphaSq;
+
+    private HaganTerms(double alpha, double beta, double rho, double nu) {
+      this.alpha = alpha;
+      this.beta = beta;
+      this.rho = rho;
+      this.nu = nu;
+      this.betaStar = 1 - beta;
+      this.rhoStar = 1.0 - rho;
+      // the expressions are those of the formulas, to obtain the same results
+      this.nuRhoTerm = nu * nu * (2 - 3 * rho * rho) / 24;
+      this.nuRhoTermAdjoint = (2 - 3 * rho * rho) * nu * nu / 24;
+      this.betaAlphaTerm = betaStar * betaStar * alpha * alpha / 24;
+      this.rhoNuBetaAlphaTerm = rho * nu * beta * alpha / 4;
+      this.rhoBetaNuAlpha = rho * beta * nu * alpha;
+      this.betaStarSq24 = betaStar * betaStar / 24;
+      this.betaStarSq12 = betaStar * betaStar / 12;
+      this.betaStar4Pow1920 = Math.pow(betaStar, 4) / 1920;
+      this.betaStar3Pow480 = Math.pow(betaStar, 3) / 480;
+      this.betaStarAlphaSq = Math.pow(betaStar * alpha, 2);
+    }
+  }
+
   @Override
   public int hashCode() {
     return toString().hashCode();
@@ -28,13 +28,16 @@ public final class SabrModelFitter extends SmileModelFitter<SabrFormulaData> {
 
   private static final double RHO_LIMIT = 0.999;
   // Allowing for rho to be equal to 1 or -1 does not make sense from a financial point of view and creates numerical instability
+  // The lower and upper limits of alpha, beta, rho and nu
+  private static final double[] LOWER_LIMITS = {0d, 0d, -RHO_LIMIT, 0.01d};
+  private static final double[] UPPER_LIMITS = {Double.POSITIVE_INFINITY, 1d, RHO_LIMIT, 2.50d};
   private static final ParameterLimitsTransform[] DEFAULT_TRANSFORMS;
   static {
     DEFAULT_TRANSFORMS = new ParameterLimitsTransform[4];
-    DEFAULT_TRANSFORMS[0] = new SingleRangeLimitTransform(0, LimitType.GREATER_THAN); // alpha > 0
-    DEFAULT_TRANSFORMS[1] = new DoubleRangeLimitTransform(0, 1.0); // 0 <= beta <= 1
-    DEFAULT_TRANSFORMS[2] = new DoubleRangeLimitTransform(-RHO_LIMIT, RHO_LIMIT); // -RHO_LIMIT <= rho <= RHO_LIMIT
-    DEFAULT_TRANSFORMS[3] = new DoubleRangeLimitTransform(0.01d, 2.50d);
+    DEFAULT_TRANSFORMS[0] = new SingleRangeLimitTransform(LOWER_LIMITS[0], LimitType.GREATER_THAN); // alpha > 0
+    DEFAULT_TRANSFORMS[1] = new DoubleRangeLimitTransform(LOWER_LIMITS[1], UPPER_LIMITS[1]); // 0 <= beta <= 1
+    DEFAULT_TRANSFORMS[2] = new DoubleRangeLimitTransform(LOWER_LIMITS[2], UPPER_LIMITS[2]); // |rho| <= RHO_LIMIT
+    DEFAULT_TRANSFORMS[3] = new DoubleRangeLimitTransform(LOWER_LIMITS[3], UPPER_LIMITS[3]);
     // nu > 0  and limit on Nu to avoid numerical instability in formula for large nu.
   }
 
@@ -92,6 +95,28 @@ public final class SabrModelFitter extends SmileModelFitter<SabrFormulaData> {
     super(forward, strikes, timeToExpiry, impliedVols, error, model);
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Checks if a starting point of the fit is strictly within the limits of the parameters.
+   * <p>
+   * The parameters which are not fixed are transformed to unbounded parameters during the fit,
+   * thus their starting values must be strictly within the limits of the fitter.
+   * The limits are alpha greater than 0, beta between 0 and 1, rho between -0.999 and 0.999
+   * and nu between 0.01 and 2.50. The fixed parameters are not checked.
+   * 
+   * @param start  the starting values of alpha, beta, rho and nu
+   * @param fixed  the fixed parameters, by index
+   * @return true if the non-fixed parameters are strictly within the limits
+   */
+  public static boolean isWithinLimits(DoubleArray start, BitSet fixed) {
+    for (int i = 0; i < LOWER_LIMITS.length; i++) {
+      if (!fixed.get(i) && !(start.get(i) > LOWER_LIMITS[i] && start.get(i) < UPPER_LIMITS[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   //-------------------------------------------------------------------------
   @Override
   public SabrFormulaData toSmileModelData(DoubleArray modelParameters) {
@@ -5,6 +5,7 @@
  */
 package com.opengamma.strata.pricer.impl.volatility.smile;
 
+import java.util.Arrays;
 import java.util.BitSet;
 import java.util.function.Function;
 
@@ -76,27 +77,28 @@ public abstract class SmileModelFitter<T extends SmileModelData> {
     this.marketValues = impliedVols;
     this.errors = error;
     this.model = model;
+    double[] strikesArray = strikes.toArrayUnsafe();
     this.volFunc = new Function<DoubleArray, DoubleArray>() {
       @Override
       public DoubleArray apply(DoubleArray x) {
         final T data = toSmileModelData(x);
         double[] res = new double[n];
-        for (int i = 0; i < n; ++i) {
-          res[i] = model.volatility(forward, strikes.get(i), timeToExpiry, data);
-        }
-        return DoubleArray.copyOf(res);
+        model.volatility(forward, strikesArray, timeToExpiry, data, res);
+        return DoubleArray.ofUnsafe(res);
       }
     };
     this.volAdjointFunc = new Function<DoubleArray, DoubleMatrix>() {
       @Override
       public DoubleMatrix apply(DoubleArray x) {
         final T data = toSmileModelData(x);
+        double[] vols = new double[n];
+        double[][] derivs = new double[n][];
+        model.volatilityAdjoint(forward, strikesArray, timeToExpiry, data, vols, derivs);
         double[][] resAdj = new double[n][];
         for (int i = 0; i < n; ++i) {
-          DoubleArray deriv = model.volatilityAdjoint(forward, strikes.get(i), timeToExpiry, data).getDerivatives();
-          resAdj[i] = deriv.subArray(2).toArrayUnsafe();
+          resAdj[i] = Arrays.copyOfRange(derivs[i], 2, derivs[i].length);
         }
-        return DoubleMatrix.copyOf(resAdj);
+        return DoubleMatrix.ofUnsafe(resAdj);
       }
     };
   }
@@ -56,6 +56,68 @@ public abstract class VolatilityFunctionProvider<T extends SmileModelData> {
     return ValueDerivatives.of(volatility, DoubleArray.ofUnsafe(res));
   }
 
+  /**
+   * Calculates the volatility for a set of strikes.
+   * <p>
+   * The volatility of each strike is the same as that of {@link #volatility(double, double, double, SmileModelData)}.
+   * By default the strikes are computed one at a time.
+   * Subclasses may override this to compute the terms that do not depend on the strike once.
+   * 
+   * @param forward  the forward value of the underlying
+   * @param strikes  the strike values of the options
+   * @param timeToExpiry  the time to expiry of the options
+   * @param data  the model data
+   * @param volatilities  the array used to return the volatilities, of the same length as the strikes
+   */
+  public void volatility(double forward, double[] strikes, double timeToExpiry, T data, double[] volatilities) {
+    ArgChecker.isTrue(strikes.length == volatilities.length, "volatilities must have the same length as strikes");
+    for (int i = 0; i < strikes.length; i++) {
+      volatilities[i] = volatility(forward, strikes[i], timeToExpiry, data);
+    }
+  }
+
+  /**
+   * Calculates the volatility and the adjoint for a set of strikes.
+   * <p>
+   * The volatility and derivatives of each strike are the same as those of
+   * {@link #volatilityAdjoint(double, double, double, SmileModelData)}.
+   * The derivatives of the strike at index {@code i} are stored in {@code derivatives[i]}, which contains
+   * [0] the derivative with respect to the forward, [1] the derivative with respect to the strike,
+   * then followed by the model parameters.
+   * Each element of the array should have the length of the derivatives of
+   * {@link #volatilityAdjoint(double, double, double, SmileModelData)}. A null element is created.
+   * <p>
+   * By default the strikes are computed one at a time.
+   * Subclasses may override this to compute the terms that do not depend on the strike once.
+   * 
+   * @param forward  the forward value of the underlying
+   * @param strikes  the strike values of the options
+   * @param timeToExpiry  the time to expiry of the options
+   * @param data  the model data
+   * @param volatilities  the array used to return the volatilities, of the same length as the strikes
+   * @param derivatives  the array used to return the derivatives, of the same length as the strikes
+   */
+  public void volatilityAdjoint(
+      double forward,
+      double[] strikes,
+      double timeToExpiry,
+      T data,
+      double[] volatilities,
+      double[][] derivatives) {
+
+    ArgChecker.isTrue(strikes.length == volatilities.length, "volatilities must have the same length as strikes");
+    ArgChecker.isTrue(strikes.length == derivatives.length, "derivatives must have the same length as strikes");
+    for (int i = 0; i < strikes.length; i++) {
+      ValueDerivatives volatilityAdjoint = volatilityAdjoint(forward, strikes[i], timeToExpiry, data);
+      volatilities[i] = volatilityAdjoint.getValue();
+      if (derivatives[i] == null) {
+        derivatives[i] = volatilityAdjoint.getDerivatives().toArray();
+      } else {
+        volatilityAdjoint.getDerivatives().copyInto(derivatives[i], 0);
+      }
+    }
+  }
+
   /**
    * Computes the first and second order derivatives of the volatility.
    * <p>
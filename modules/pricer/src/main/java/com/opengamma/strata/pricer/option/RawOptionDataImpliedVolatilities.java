@@ -0,0 +1,272 @@
+/*
+ * Copyright (C) 2018 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.option;
+
+import static com.opengamma.strata.collect.Guavate.join;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import com.opengamma.strata.basics.date.Tenor;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.market.ValueType;
+import com.opengamma.strata.pricer.impl.option.ImpliedVolatilitySolver;
+import com.opengamma.strata.product.common.PutCall;
+
+/**
+ * Conversion of raw option prices to implied volatilities.
+ * <p>
+ * Raw option data of type {@link ValueType#PRICE} holds a grid of forward option prices, by expiry and strike.
+ * This converts the grid to the equivalent grid of Black or normal implied volatilities,
+ * using {@link ImpliedVolatilitySolver}. The expiries, strikes and strike type are unchanged.
+ * The strike-like values are converted to strikes using the forward, as for the calibration of SABR.
+ * A price of NaN, indicating that the data is not available, results in a volatility of NaN.
+ * The error of the prices, if any, is not converted.
+ * <p>
+ * Each expiry of each tenor is solved as a separate task using the specified executor.
+ * Each implied volatility is independent of the others, thus the result does not depend on the executor.
+ */
+public final class RawOptionDataImpliedVolatilities {
+
+  // restricted constructor
+  private RawOptionDataImpliedVolatilities() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Converts the option prices to shifted Black (log-normal) implied volatilities.
+   * <p>
+   * The times to expiry and forwards must have the same size as the expiries of the data.
+   *
+   * @param prices  the forward option prices
+   * @param timesToExpiry  the time to expiry of each expiry of the data
+   * @param forwards  the forward of each expiry of the data
+   * @param shift  the shift of the implied volatilities
+   * @param putCall  whether the prices are of puts or calls
+   * @param executor  the executor used to solve the implied volatilities
+   * @return the shifted Black implied volatilities
+   */
+  public static RawOptionData blackVolatilities(
+      RawOptionData prices,
+      DoubleArray timesToExpiry,
+      DoubleArray forwards,
+      double shift,
+      PutCall putCall,
+      Executor executor) {
+
+    ArgChecker.notNull(executor, "executor");
+    List<CompletableFuture<double[]>> rows = blackRows(prices, timesToExpiry, forwards, shift, putCall, executor);
+    return RawOptionData.ofBlackVolatility(
+        prices.getExpiries(), prices.getStrikes(), prices.getStrikeType(), toMatrix(rows), shift);
+  }
+
+  /**
+   * Converts the option prices of each tenor to shifted Black (log-normal) implied volatilities.
+   * <p>
+   * The maps of times to expiry and forwards must contain each tenor of the data,
+   * with the same size as the expiries of the tenor.
+   *
+   * @param prices  the forward option prices
+   * @param timesToExpiry  the time to expiry of each expiry of the data, keyed by tenor
+   * @param forwards  the forward of each expiry of the data, keyed by tenor
+   * @param shift  the shift of the implied volatilities
+   * @param putCall  whether the prices are of puts or calls
+   * @param executor  the executor used to solve the implied volatilities
+   * @return the shifted Black implied volatilities
+   */
+  public static TenorRawOptionData blackVolatilities(
+      TenorRawOptionData prices,
+      Map<Tenor, DoubleArray> timesToExpiry,
+      Map<Tenor, DoubleArray> forwards,
+      double shift,
+      PutCall putCall,
+      Executor executor) {
+
+    ArgChecker.notNull(executor, "executor");
+    // all the tasks are submitted before any is joined
+    Map<Tenor, List<CompletableFuture<double[]>>> tenorRows = new LinkedHashMap<>();
+    for (Tenor tenor : prices.getTenors()) {
+      tenorRows.put(tenor, blackRows(
+          prices.getData(tenor), value(timesToExpiry, tenor), value(forwards, tenor), shift, putCall, executor));
+    }
+    Map<Tenor, RawOptionData> result = new LinkedHashMap<>();
+    tenorRows.forEach((tenor, rows) -> {
+      RawOptionData data = prices.getData(tenor);
+      result.put(tenor, RawOptionData.ofBlackVolatility(
+          data.getExpiries(), data.getStrikes(), data.getStrikeType(), toMatrix(rows), shift));
+    });
+    return TenorRawOptionData.of(result);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Converts the option prices to normal implied volatilities.
+   * <p>
+   * The times to expiry and forwards must have the same size as the expiries of the data.
+   *
+   * @param prices  the forward option prices
+   * @param timesToExpiry  the time to expiry of each expiry of the data
+   * @param forwards  the forward of each expiry of the data
+   * @param putCall  whether the prices are of puts or calls
+   * @param executor  the executor used to solve the implied volatilities
+   * @return the normal implied volatilities
+   */
+  public static RawOptionData normalVolatilities(
+      RawOptionData prices,
+      DoubleArray timesToExpiry,
+      DoubleArray forwards,
+      PutCall putCall,
+      Executor executor) {
+
+    ArgChecker.notNull(executor, "executor");
+    List<CompletableFuture<double[]>> rows = normalRows(prices, timesToExpiry, forwards, putCall, executor);
+    return RawOptionData.of(
+        prices.getExpiries(), prices.getStrikes(), prices.getStrikeType(), toMatrix(rows), ValueType.NORMAL_VOLATILITY);
+  }
+
+  /**
+   * Converts the option prices of each tenor to normal implied volatilities.
+   * <p>
+   * The maps of times to expiry and forwards must contain each tenor of the data,
+   * with the same size as the expiries of the tenor.
+   *
+   * @param prices  the forward option prices
+   * @param timesToExpiry  the time to expiry of each expiry of the data, keyed by tenor
+   * @param forwards  the forward of each expiry of the data, keyed by tenor
+   * @param putCall  whether the prices are of puts or calls
+   * @param executor  the executor used to solve the implied volatilities
+   * @return the normal implied volatilities
+   */
+  public static TenorRawOptionData normalVolatilities(
+      TenorRawOptionData prices,
+      Map<Tenor, DoubleArray> timesToExpiry,
+      Map<Tenor, DoubleArray> forwards,
+      PutCall putCall,
+      Executor executor) {
+
+    ArgChecker.notNull(executor, "executor");
+    // all the tasks are submitted before any is joined
+    Map<Tenor, List<CompletableFuture<double[]>>> tenorRows = new LinkedHashMap<>();
+    for (Tenor tenor : prices.getTenors()) {
+      tenorRows.put(tenor, normalRows(
+          prices.getData(tenor), value(timesToExpiry, tenor), value(forwards, tenor), putCall, executor));
+    }
+    Map<Tenor, RawOptionData> result = new LinkedHashMap<>();
+    tenorRows.forEach((tenor, rows) -> {
+      RawOptionData data = prices.getData(tenor);
+      result.put(tenor, RawOptionData.of(
+          data.getExpiries(), data.getStrikes(), data.getStrikeType(), toMatrix(rows), ValueType.NORMAL_VOLATILITY));
+    });
+    return TenorRawOptionData.of(result);
+  }
+
+  //-------------------------------------------------------------------------
+  // submits the Black implied volatilities of each expiry
+  private static List<CompletableFuture<double[]>> blackRows(
+      RawOptionData prices,
+      DoubleArray timesToExpiry,
+      DoubleArray forwards,
+      double shift,
+      PutCall putCall,
+      Executor executor) {
+
+    checkPrices(prices, timesToExpiry, forwards);
+    List<CompletableFuture<double[]>> rows = new ArrayList<>();
+    for (int i = 0; i < timesToExpiry.size(); i++) {
+      double[] rowPrices = prices.getData().row(i).toArray();
+      double forward = forwards.get(i);
+      double[] strikes = strikes(prices, forward);
+      double[] times = DoubleArray.filled(strikes.length, timesToExpiry.get(i)).toArrayUnsafe();
+      rows.add(CompletableFuture.supplyAsync(() -> {
+        double[] shiftedForwards = DoubleArray.filled(strikes.length, forward + shift).toArrayUnsafe();
+        double[] shiftedStrikes = new double[strikes.length];
+        for (int j = 0; j < strikes.length; j++) {
+          shiftedStrikes[j] = strikes[j] + shift;
+        }
+        double[] volatilities = new double[strikes.length];
+        ImpliedVolatilitySolver.blackImpliedVolatilities(
+            rowPrices, shiftedForwards, shiftedStrikes, times, putCall.isCall(), volatilities);
+        return volatilities;
+      }, executor));
+    }
+    return rows;
+  }
+
+  // submits the normal implied volatilities of each expiry
+  private static List<CompletableFuture<double[]>> normalRows(
+      RawOptionData prices,
+      DoubleArray timesToExpiry,
+      DoubleArray forwards,
+      PutCall putCall,
+      Executor executor) {
+
+    checkPrices(prices, timesToExpiry, forwards);
+    List<CompletableFuture<double[]>> rows = new ArrayList<>();
+    for (int i = 0; i < timesToExpiry.size(); i++) {
+      double[] rowPrices = prices.getData().row(i).toArray();
+      double forward = forwards.get(i);
+      double[] strikes = strikes(prices, forward);
+      double[] times = DoubleArray.filled(strikes.length, timesToExpiry.get(i)).toArrayUnsafe();
+      rows.add(CompletableFuture.supplyAsync(() -> {
+        double[] rowForwards = DoubleArray.filled(strikes.length, forward).toArrayUnsafe();
+        double[] volatilities = new double[strikes.length];
+        ImpliedVolatilitySolver.normalImpliedVolatilities(
+            rowPrices, rowForwards, strikes, times, putCall, volatilities);
+        return volatilities;
+      }, executor));
+    }
+    return rows;
+  }
+
+  // the strikes from the strike-like values
+  private static double[] strikes(RawOptionData prices, double forward) {
+    DoubleArray strikesLike = prices.getStrikes();
+    ValueType strikeType = prices.getStrikeType();
+    if (strikeType.equals(ValueType.STRIKE)) {
+      return strikesLike.toArray();
+    }
+    if (strikeType.equals(ValueType.SIMPLE_MONEYNESS)) {
+      return strikesLike.map(moneyness -> forward + moneyness).toArrayUnsafe();
+    }
+    if (strikeType.equals(ValueType.LOG_MONEYNESS)) {
+      return strikesLike.map(moneyness -> forward * Math.exp(moneyness)).toArrayUnsafe();
+    }
+    throw new IllegalArgumentException("Strike type not supported: " + strikeType);
+  }
+
+  // checks the data is prices, with a time and a forward for each expiry
+  private static void checkPrices(RawOptionData prices, DoubleArray timesToExpiry, DoubleArray forwards) {
+    ArgChecker.isTrue(prices.getDataType().equals(ValueType.PRICE), "data type must be price");
+    int nbExpiries = prices.getExpiries().size();
+    ArgChecker.isTrue(timesToExpiry.size() == nbExpiries, "timesToExpiry must have the same size as expiries");
+    ArgChecker.isTrue(forwards.size() == nbExpiries, "forwards must have the same size as expiries");
+  }
+
+  // the value for the tenor
+  private static DoubleArray value(Map<Tenor, DoubleArray> map, Tenor tenor) {
+    DoubleArray value = map.get(tenor);
+    if (value == null) {
+      throw new IllegalArgumentException("No data found for tenor " + tenor);
+    }
+    return value;
+  }
+
+  // the matrix from the rows, in order
+  private static DoubleMatrix toMatrix(List<CompletableFuture<double[]>> rows) {
+    double[][] matrix = new double[rows.size()][];
+    for (int i = 0; i < rows.size(); i++) {
+      matrix[i] = join(rows.get(i));
+    }
+    return DoubleMatrix.ofUnsafe(matrix);
+  }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2018 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.rate;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import com.opengamma.strata.market.sensitivity.PointSensitivity;
+import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
+
+/**
+ * A thread-safe memo of the results of a function, bounded in size.
+ * <p>
+ * Once the maximum size is reached, further results are calculated but not retained.
+ * Nothing is evicted, thus the results retained are those requested first.
+ *
+ * @param <K>  the type of the key
+ * @param <V>  the type of the result
+ */
+final class BoundedMemo<K, V> {
+
+  /**
+   * The results, keyed by the function input.
+   */
+  private final ConcurrentHashMap<K, V> results = new ConcurrentHashMap<>();
+  /**
+   * The maximum number of results to retain.
+   */
+  private final int maxSize;
+
+  /**
+   * Creates an instance.
+   *
+   * @param maxSize  the maximum number of results to retain
+   */
+  BoundedMemo(int maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the result for the key, calculating it if necessary.
+   *
+   * @param key  the key
+   * @param function  the function used to calculate the result
+   * @return the result
+   */
+  V get(K key, Function<? super K, ? extends V> function) {
+    V result = results.get(key);
+    if (result == null) {
+      result = function.apply(key);
+      if (results.size() < maxSize) {
+        results.putIfAbsent(key, result);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Gets the point sensitivity for the key, calculating it if necessary.
+   * <p>
+   * Only immutable sensitivities are retained, as the caller may otherwise mutate the result.
+   *
+   * @param key  the key
+   * @param function  the function used to calculate the sensitivity
+   * @return the sensitivity
+   */
+  static <K> PointSensitivityBuilder getSensitivity(
+      BoundedMemo<K, PointSensitivityBuilder> memo,
+      K key,
+      Function<? super K, ? extends PointSensitivityBuilder> function) {
+
+    PointSensitivityBuilder result = memo.results.get(key);
+    if (result == null) {
+      result = function.apply(key);
+      if (memo.results.size() < memo.maxSize &&
+          (result instanceof PointSensitivity || result == PointSensitivityBuilder.none())) {
+        memo.results.putIfAbsent(key, result);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Gets the number of results retained.
+   *
+   * @return the number of results
+   */
+  int size() {
+    return results.size();
+  }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2018 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.rate;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.index.IborIndex;
+import com.opengamma.strata.basics.index.IborIndexObservation;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.data.scenario.ScenarioArray;
+import com.opengamma.strata.pricer.DiscountFactorsScenarioArray;
+
+/**
+ * Ibor index rates for a single index across a number of scenarios.
+ * <p>
+ * This provides forward rates for all scenarios in a single call, returning a {@link DoubleArray}.
+ * Where every scenario is based on discount factors, the forward rate is derived from
+ * {@link DiscountFactorsScenarioArray}, sharing the date based work between scenarios.
+ */
+public final class IborIndexRatesScenarioArray
+    implements ScenarioArray<IborIndexRates> {
+
+  /**
+   * The rates, one for each scenario.
+   */
+  private final ImmutableList<IborIndexRates> rates;
+  /**
+   * The index.
+   */
+  private final IborIndex index;
+  /**
+   * The valuation date.
+   */
+  private final LocalDate valuationDate;
+  /**
+   * The discount factors underlying the rates, null if not all scenarios use discount factors.
+   */
+  private final DiscountFactorsScenarioArray discountFactors;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance from a list of rates, one for each scenario.
+   * <p>
+   * The rates must have the same index and valuation date.
+   *
+   * @param rates  the rates, one for each scenario
+   * @return the scenario rates
+   */
+  public static IborIndexRatesScenarioArray of(List<? extends IborIndexRates> rates) {
+    return new IborIndexRatesScenarioArray(rates);
+  }
+
+  // creates an instance
+  private IborIndexRatesScenarioArray(List<? extends IborIndexRates> rates) {
+    ArgChecker.notEmpty(rates, "rates");
+    this.rates = ImmutableList.copyOf(rates);
+    IborIndexRates first = rates.get(0);
+    this.index = first.getIndex();
+    this.valuationDate = first.getValuationDate();
+    boolean allDiscount = true;
+    for (IborIndexRates scenario : rates) {
+      ArgChecker.isTrue(scenario.getIndex().equals(index), "Rates must have the same index");
+      ArgChecker.isTrue(scenario.getValuationDate().equals(valuationDate), "Rates must have the same valuation date");
+      allDiscount &= scenario instanceof DiscountIborIndexRates;
+    }
+    this.discountFactors = allDiscount ?
+        DiscountFactorsScenarioArray.of(this.rates.stream()
+            .map(scenario -> ((DiscountIborIndexRates) scenario).getDiscountFactors())
+            .collect(toImmutableList())) :
+        null;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the Ibor index.
+   *
+   * @return the Ibor index
+   */
+  public IborIndex getIndex() {
+    return index;
+  }
+
+  /**
+   * Gets the valuation date.
+   *
+   * @return the valuation date
+   */
+  public LocalDate getValuationDate() {
+    return valuationDate;
+  }
+
+  @Override
+  public int getScenarioCount() {
+    return rates.size();
+  }
+
+  @Override
+  public IborIndexRates get(int scenarioIndex) {
+    return rates.get(scenarioIndex);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the historic or forward rate at the specified observation in each scenario.
+   * <p>
+   * The result matches calling {@link IborIndexRates#rate(IborIndexObservation)} for each scenario.
+   *
+   * @param observation  the rate observation, including the fixing date
+   * @return the rates, one for each scenario
+   */
+  public DoubleArray rate(IborIndexObservation observation) {
+    if (discountFactors == null || !observation.getFixingDate().isAfter(valuationDate)) {
+      return DoubleArray.of(rates.size(), i -> rates.get(i).rate(observation));
+    }
+    // simply compounded forward rate from discount factors, as per DiscountIborIndexRates
+    double accrualFactor = observation.getYearFraction();
+    DoubleArray dfStart = discountFactors.discountFactor(observation.getEffectiveDate());
+    DoubleArray dfEnd = discountFactors.discountFactor(observation.getMaturityDate());
+    return dfStart.mapWithIndex((i, start) -> (start / dfEnd.get(i) - 1) / accrualFactor);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "IborIndexRatesScenarioArray[" + index + ", " + rates.size() + " scenarios]";
+  }
+
+}
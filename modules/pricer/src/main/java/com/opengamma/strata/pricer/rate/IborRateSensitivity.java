@@ -30,6 +30,7 @@ import com.opengamma.strata.basics.index.IborIndex;
 import com.opengamma.strata.basics.index.IborIndexObservation;
 import com.opengamma.strata.market.sensitivity.MutablePointSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivity;
+import com.opengamma.strata.market.sensitivity.PointSensitivityAccumulator;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 
 /**
@@ -153,6 +154,11 @@ public final class IborRateSensitivity
     return combination.add(this);
   }
 
+  @Override
+  public PointSensitivityAccumulator buildInto(PointSensitivityAccumulator accumulator) {
+    return accumulator.add(this);
+  }
+
   @Override
   public IborRateSensitivity cloned() {
     return this;
@@ -14,6 +14,8 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import org.joda.beans.Bean;
@@ -100,6 +102,12 @@ public final class ImmutableRatesProvider
    */
   @PropertyDefinition(validate = "notNull")
   private final ImmutableMap<Index, LocalDateDoubleTimeSeries> timeSeries;
+  /**
+   * The cache of views onto the curves, keyed by currency or index.
+   * Pricers query the same discount factors and index rates once per payment period,
+   * so each view is created once and shared.
+   */
+  private final transient ConcurrentHashMap<Object, Object> views = new ConcurrentHashMap<>();  // not a property
 
   //-------------------------------------------------------------------------
   @ImmutableDefaults
@@ -107,6 +115,11 @@ public final class ImmutableRatesProvider
     builder.fxRateProvider = FxMatrix.empty();
   }
 
+  // ensure the view cache is created
+  private Object readResolve() {
+    return new ImmutableRatesProvider(valuationDate, fxRateProvider, discountCurves, indexCurves, timeSeries);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Combines a number of rates providers.
@@ -220,6 +233,16 @@ public final class ImmutableRatesProvider
     return curve;
   }
 
+  // obtains a view from the cache, creating it if necessary
+  // a plain get is used first to avoid locking once the view exists
+  private <K, V> V view(K key, Class<V> type, Function<K, V> factory) {
+    Object view = views.get(key);
+    if (view == null) {
+      view = views.computeIfAbsent(key, k -> factory.apply(key));
+    }
+    return type.cast(view);
+  }
+
   //-------------------------------------------------------------------------
   @Override
   public double fxRate(Currency baseCurrency, Currency counterCurrency) {
@@ -229,6 +252,11 @@ public final class ImmutableRatesProvider
   //-------------------------------------------------------------------------
   @Override
   public DiscountFactors discountFactors(Currency currency) {
+    return view(currency, DiscountFactors.class, this::createDiscountFactors);
+  }
+
+  // creates the discount factors
+  private DiscountFactors createDiscountFactors(Currency currency) {
     Curve curve = discountCurves.get(currency);
     if (curve == null) {
       throw new IllegalArgumentException("Unable to find discount curve: " + currency);
@@ -255,6 +283,11 @@ public final class ImmutableRatesProvider
   //-------------------------------------------------------------------------
   @Override
   public IborIndexRates iborIndexRates(IborIndex index) {
+    return view(index, IborIndexRates.class, this::createIborIndexRates);
+  }
+
+  // creates the Ibor index rates
+  private IborIndexRates createIborIndexRates(IborIndex index) {
     LocalDateDoubleTimeSeries fixings = timeSeries(index);
     Curve curve = indexCurve(index);
     return IborIndexRates.of(index, valuationDate, curve, fixings);
@@ -262,6 +295,11 @@ public final class ImmutableRatesProvider
 
   @Override
   public OvernightIndexRates overnightIndexRates(OvernightIndex index) {
+    return view(index, OvernightIndexRates.class, this::createOvernightIndexRates);
+  }
+
+  // creates the Overnight index rates
+  private OvernightIndexRates createOvernightIndexRates(OvernightIndex index) {
     LocalDateDoubleTimeSeries fixings = timeSeries(index);
     Curve curve = indexCurve(index);
     return OvernightIndexRates.of(index, valuationDate, curve, fixings);
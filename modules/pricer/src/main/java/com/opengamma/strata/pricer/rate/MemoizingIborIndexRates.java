@@ -0,0 +1,202 @@
+/*
+ * Copyright (C) 2018 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.rate;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.index.IborIndex;
+import com.opengamma.strata.basics.index.IborIndexObservation;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.data.MarketDataName;
+import com.opengamma.strata.market.explain.ExplainMapBuilder;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.ParameterMetadata;
+import com.opengamma.strata.market.param.ParameterPerturbation;
+import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
+
+/**
+ * Ibor index rates that retain the rates and point sensitivities already calculated.
+ * <p>
+ * Many trades on the same index observe the rate on the same dates, such as IMM and roll dates.
+ * This wraps the underlying rates, retaining the rate and point sensitivity of each observation,
+ * thus each is calculated once for all trades valued against the same rates.
+ * <p>
+ * The number of results retained is bounded. Once the bound is reached, further results are
+ * calculated by the underlying rates but not retained.
+ * Only immutable point sensitivities are retained.
+ * <p>
+ * The result of {@link #withParameter(int, double)} and {@link #withPerturbation(ParameterPerturbation)}
+ * is that of the underlying rates, without the memo.
+ * <p>
+ * This class is thread-safe.
+ */
+public final class MemoizingIborIndexRates
+    implements IborIndexRates {
+
+  /**
+   * The underlying rates.
+   */
+  private final IborIndexRates underlying;
+  /**
+   * The rates.
+   */
+  private final BoundedMemo<IborIndexObservation, Double> rates;
+  /**
+   * The rates ignoring fixings.
+   */
+  private final BoundedMemo<IborIndexObservation, Double> ratesIgnoringFixings;
+  /**
+   * The point sensitivities of the rates.
+   */
+  private final BoundedMemo<IborIndexObservation, PointSensitivityBuilder> sensitivities;
+  /**
+   * The point sensitivities of the rates ignoring fixings.
+   */
+  private final BoundedMemo<IborIndexObservation, PointSensitivityBuilder> sensitivitiesIgnoringFixings;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance wrapping the underlying rates.
+   * <p>
+   * If the underlying rates are already memoizing, they are returned.
+   *
+   * @param underlying  the underlying rates
+   * @param maxSize  the maximum number of results of each kind to retain
+   * @return the memoizing rates
+   */
+  public static MemoizingIborIndexRates of(IborIndexRates underlying, int maxSize) {
+    ArgChecker.notNull(underlying, "underlying");
+    ArgChecker.notNegative(maxSize, "maxSize");
+    if (underlying instanceof MemoizingIborIndexRates) {
+      return (MemoizingIborIndexRates) underlying;
+    }
+    return new MemoizingIborIndexRates(underlying, maxSize);
+  }
+
+  // restricted constructor
+  private MemoizingIborIndexRates(IborIndexRates underlying, int maxSize) {
+    this.underlying = underlying;
+    this.rates = new BoundedMemo<>(maxSize);
+    this.ratesIgnoringFixings = new BoundedMemo<>(maxSize);
+    this.sensitivities = new BoundedMemo<>(maxSize);
+    this.sensitivitiesIgnoringFixings = new BoundedMemo<>(maxSize);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the underlying rates.
+   *
+   * @return the underlying rates
+   */
+  public IborIndexRates getUnderlying() {
+    return underlying;
+  }
+
+  @Override
+  public IborIndex getIndex() {
+    return underlying.getIndex();
+  }
+
+  @Override
+  public LocalDate getValuationDate() {
+    return underlying.getValuationDate();
+  }
+
+  @Override
+  public LocalDateDoubleTimeSeries getFixings() {
+    return underlying.getFixings();
+  }
+
+  @Override
+  public <T> Optional<T> findData(MarketDataName<T> name) {
+    return underlying.findData(name);
+  }
+
+  @Override
+  public int getParameterCount() {
+    return underlying.getParameterCount();
+  }
+
+  @Override
+  public double getParameter(int parameterIndex) {
+    return underlying.getParameter(parameterIndex);
+  }
+
+  @Override
+  public ParameterMetadata getParameterMetadata(int parameterIndex) {
+    return underlying.getParameterMetadata(parameterIndex);
+  }
+
+  @Override
+  public IborIndexRates withParameter(int parameterIndex, double newValue) {
+    return underlying.withParameter(parameterIndex, newValue);
+  }
+
+  @Override
+  public IborIndexRates withPerturbation(ParameterPerturbation perturbation) {
+    return underlying.withPerturbation(perturbation);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public double rate(IborIndexObservation observation) {
+    return rates.get(observation, underlying::rate);
+  }
+
+  @Override
+  public double rateIgnoringFixings(IborIndexObservation observation) {
+    return ratesIgnoringFixings.get(observation, underlying::rateIgnoringFixings);
+  }
+
+  @Override
+  public PointSensitivityBuilder ratePointSensitivity(IborIndexObservation observation) {
+    return BoundedMemo.getSensitivity(sensitivities, observation, underlying::ratePointSensitivity);
+  }
+
+  @Override
+  public PointSensitivityBuilder rateIgnoringFixingsPointSensitivity(IborIndexObservation observation) {
+    return BoundedMemo.getSensitivity(
+        sensitivitiesIgnoringFixings, observation, underlying::rateIgnoringFixingsPointSensitivity);
+  }
+
+  @Override
+  public double explainRate(
+      IborIndexObservation observation,
+      ExplainMapBuilder builder,
+      Consumer<ExplainMapBuilder> consumer) {
+
+    return underlying.explainRate(observation, builder, consumer);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public CurrencyParameterSensitivities parameterSensitivity(IborRateSensitivity pointSensitivity) {
+    return underlying.parameterSensitivity(pointSensitivity);
+  }
+
+  @Override
+  public CurrencyParameterSensitivities createParameterSensitivity(Currency currency, DoubleArray sensitivities) {
+    return underlying.createParameterSensitivity(currency, sensitivities);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return new StringBuilder(64)
+        .append("MemoizingIborIndexRates{underlying=")
+        .append(underlying)
+        .append(", retained=")
+        .append(rates.size())
+        .append('}')
+        .toString();
+  }
+
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (C) 2018 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.rate;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.index.OvernightIndex;
+import com.opengamma.strata.basics.index.OvernightIndexObservation;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.collect.tuple.Pair;
+import com.opengamma.strata.data.MarketDataName;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.ParameterMetadata;
+import com.opengamma.strata.market.param.ParameterPerturbation;
+import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
+
+/**
+ * Overnight index rates that retain the rates and point sensitivities already calculated.
+ * <p>
+ * This wraps the underlying rates, retaining the rate and point sensitivity of each observation
+ * and of each period, thus each is calculated once for all trades valued against the same rates.
+ * <p>
+ * The number of results retained is bounded. Once the bound is reached, further results are
+ * calculated by the underlying rates but not retained.
+ * Only immutable point sensitivities are retained.
+ * <p>
+ * The result of {@link #withParameter(int, double)} and {@link #withPerturbation(ParameterPerturbation)}
+ * is that of the underlying rates, without the memo.
+ * <p>
+ * This class is thread-safe.
+ */
+public final class MemoizingOvernightIndexRates
+    implements OvernightIndexRates {
+
+  /**
+   * The underlying rates.
+   */
+  private final OvernightIndexRates underlying;
+  /**
+   * The rates.
+   */
+  private final BoundedMemo<OvernightIndexObservation, Double> rates;
+  /**
+   * The rates ignoring fixings.
+   */
+  private final BoundedMemo<OvernightIndexObservation, Double> ratesIgnoringFixings;
+  /**
+   * The point sensitivities of the rates.
+   */
+  private final BoundedMemo<OvernightIndexObservation, PointSensitivityBuilder> sensitivities;
+  /**
+   * The point sensitivities of the rates ignoring fixings.
+   */
+  private final BoundedMemo<OvernightIndexObservation, PointSensitivityBuilder> sensitivitiesIgnoringFixings;
+  /**
+   * The period rates, keyed by start observation and end date.
+   */
+  private final BoundedMemo<Pair<OvernightIndexObservation, LocalDate>, Double> periodRates;
+  /**
+   * The point sensitivities of the period rates, keyed by start observation and end date.
+   */
+  private final BoundedMemo<Pair<OvernightIndexObservation, LocalDate>, PointSensitivityBuilder> periodSensitivities;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance wrapping the underlying rates.
+   * <p>
+   * If the underlying rates are already memoizing, they are returned.
+   *
+   * @param underlying  the underlying rates
+   * @param maxSize  the maximum number of results of each kind to retain
+   * @return the memoizing rates
+   */
+  public static MemoizingOvernightIndexRates of(OvernightIndexRates underlying, int maxSize) {
+    ArgChecker.notNull(underlying, "underlying");
+    ArgChecker.notNegative(maxSize, "maxSize");
+    if (underlying instanceof MemoizingOvernightIndexRates) {
+      return (MemoizingOvernightIndexRates) underlying;
+    }
+    return new MemoizingOvernightIndexRates(underlying, maxSize);
+  }
+
+  // restricted constructor
+  private MemoizingOvernightIndexRates(OvernightIndexRates underlying, int maxSize) {
+    this.underlying = underlying;
+    this.rates = new BoundedMemo<>(maxSize);
+    this.ratesIgnoringFixings = new BoundedMemo<>(maxSize);
+    this.sensitivities = new BoundedMemo<>(maxSize);
+    this.sensitivitiesIgnoringFixings = new BoundedMemo<>(maxSize);
+    this.periodRates = new BoundedMemo<>(maxSize);
+    this.periodSensitivities = new BoundedMemo<>(maxSize);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the underlying rates.
+   *
+   * @return the underlying rates
+   */
+  public OvernightIndexRates getUnderlying() {
+    return underlying;
+  }
+
+  @Override
+  public OvernightIndex getIndex() {
+    return underlying.getIndex();
+  }
+
+  @Override
+  public LocalDate getValuationDate() {
+    return underlying.getValuationDate();
+  }
+
+  @Override
+  public LocalDateDoubleTimeSeries getFixings() {
+    return underlying.getFixings();
+  }
+
+  @Override
+  public <T> Optional<T> findData(MarketDataName<T> name) {
+    return underlying.findData(name);
+  }
+
+  @Override
+  public int getParameterCount() {
+    return underlying.getParameterCount();
+  }
+
+  @Override
+  public double getParameter(int parameterIndex) {
+    return underlying.getParameter(parameterIndex);
+  }
+
+  @Override
+  public ParameterMetadata getParameterMetadata(int parameterIndex) {
+    return underlying.getParameterMetadata(parameterIndex);
+  }
+
+  @Override
+  public OvernightIndexRates withParameter(int parameterIndex, double newValue) {
+    return underlying.withParameter(parameterIndex, newValue);
+  }
+
+  @Override
+  public OvernightIndexRates withPerturbation(ParameterPerturbation perturbation) {
+    return underlying.withPerturbation(perturbation);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public double rate(OvernightIndexObservation observation) {
+    return rates.get(observation, underlying::rate);
+  }
+
+  @Override
+  public double rateIgnoringFixings(OvernightIndexObservation observation) {
+    return ratesIgnoringFixings.get(observation, underlying::rateIgnoringFixings);
+  }
+
+  @Override
+  public PointSensitivityBuilder ratePointSensitivity(OvernightIndexObservation observation) {
+    return BoundedMemo.getSensitivity(sensitivities, observation, underlying::ratePointSensitivity);
+  }
+
+  @Override
+  public PointSensitivityBuilder rateIgnoringFixingsPointSensitivity(OvernightIndexObservation observation) {
+    return BoundedMemo.getSensitivity(
+        sensitivitiesIgnoringFixings, observation, underlying::rateIgnoringFixingsPointSensitivity);
+  }
+
+  @Override
+  public double periodRate(OvernightIndexObservation startDateObservation, LocalDate endDate) {
+    return periodRates.get(
+        Pair.of(startDateObservation, endDate),
+        key -> underlying.periodRate(key.getFirst(), key.getSecond()));
+  }
+
+  @Override
+  public PointSensitivityBuilder periodRatePointSensitivity(
+      OvernightIndexObservation startDateObservation,
+      LocalDate endDate) {
+
+    return BoundedMemo.getSensitivity(
+        periodSensitivities,
+        Pair.of(startDateObservation, endDate),
+        key -> underlying.periodRatePointSensitivity(key.getFirst(), key.getSecond()));
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public CurrencyParameterSensitivities parameterSensitivity(OvernightRateSensitivity pointSensitivity) {
+    return underlying.parameterSensitivity(pointSensitivity);
+  }
+
+  @Override
+  public CurrencyParameterSensitivities createParameterSensitivity(Currency currency, DoubleArray sensitivities) {
+    return underlying.createParameterSensitivity(currency, sensitivities);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return new StringBuilder(64)
+        .append("MemoizingOvernightIndexRates{underlying=")
+        .append(underlying)
+        .append(", retained=")
+        .append(rates.size() + periodRates.size())
+        .append('}')
+        .toString();
+  }
+
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright (C) 2018 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.rate;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.currency.CurrencyPair;
+import com.opengamma.strata.basics.index.FxIndex;
+import com.opengamma.strata.basics.index.IborIndex;
+import com.opengamma.strata.basics.index.Index;
+import com.opengamma.strata.basics.index.OvernightIndex;
+import com.opengamma.strata.basics.index.PriceIndex;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.data.MarketDataId;
+import com.opengamma.strata.data.MarketDataName;
+import com.opengamma.strata.pricer.DiscountFactors;
+import com.opengamma.strata.pricer.GridDiscountFactors;
+import com.opengamma.strata.pricer.fx.FxForwardRates;
+import com.opengamma.strata.pricer.fx.FxIndexRates;
+
+/**
+ * A rates provider that retains the forward rates already calculated.
+ * <p>
+ * This wraps an underlying provider, returning {@link MemoizingIborIndexRates} and
+ * {@link MemoizingOvernightIndexRates} for each index. When many trades on the same index
+ * are valued against the same provider, the forward rate and point sensitivity of each
+ * observation is calculated once.
+ * <p>
+ * The discount factors may also be precomputed for a grid of dates, such as the payment dates
+ * of the portfolio, see {@link #withDiscountFactorGrid(Map)}.
+ * <p>
+ * The memo is scoped to this instance. A provider should be wrapped once, at the start
+ * of the valuation of a portfolio, and discarded at the end.
+ * All other methods are delegated to the underlying provider.
+ */
+public final class MemoizingRatesProvider
+    implements RatesProvider {
+
+  /**
+   * The default maximum number of results of each kind retained for each index.
+   */
+  public static final int DEFAULT_MAX_SIZE = 100_000;
+
+  /**
+   * The underlying provider.
+   */
+  private final RatesProvider underlying;
+  /**
+   * The maximum number of results of each kind retained for each index.
+   */
+  private final int maxSize;
+  /**
+   * The discount factors precomputed on a grid of dates, keyed by currency.
+   */
+  private final ImmutableMap<Currency, GridDiscountFactors> discountFactors;
+  /**
+   * The memoizing Ibor index rates.
+   */
+  private final ConcurrentHashMap<IborIndex, MemoizingIborIndexRates> iborIndexRates = new ConcurrentHashMap<>();
+  /**
+   * The memoizing Overnight index rates.
+   */
+  private final ConcurrentHashMap<OvernightIndex, MemoizingOvernightIndexRates> overnightIndexRates =
+      new ConcurrentHashMap<>();
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance wrapping the underlying provider, using the default maximum size.
+   *
+   * @param underlying  the underlying provider
+   * @return the memoizing provider
+   */
+  public static MemoizingRatesProvider of(RatesProvider underlying) {
+    return of(underlying, DEFAULT_MAX_SIZE);
+  }
+
+  /**
+   * Obtains an instance wrapping the underlying provider.
+   *
+   * @param underlying  the underlying provider
+   * @param maxSize  the maximum number of results of each kind retained for each index
+   * @return the memoizing provider
+   */
+  public static MemoizingRatesProvider of(RatesProvider underlying, int maxSize) {
+    ArgChecker.notNull(underlying, "underlying");
+    ArgChecker.notNegative(maxSize, "maxSize");
+    return new MemoizingRatesProvider(underlying, maxSize, ImmutableMap.of());
+  }
+
+  // restricted constructor
+  private MemoizingRatesProvider(
+      RatesProvider underlying,
+      int maxSize,
+      ImmutableMap<Currency, GridDiscountFactors> discountFactors) {
+
+    this.underlying = underlying;
+    this.maxSize = maxSize;
+    this.discountFactors = discountFactors;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Returns a provider with the discount factors precomputed for the specified dates.
+   * <p>
+   * For each currency in the map that has discount factors in the underlying provider, the
+   * discount factor for each date is computed once, see {@link GridDiscountFactors}.
+   * Any grid in this provider for a currency not in the map is retained.
+   * The returned provider has a new, empty, memo of forward rates.
+   *
+   * @param dates  the dates, keyed by currency
+   * @return the provider with precomputed discount factors
+   */
+  public MemoizingRatesProvider withDiscountFactorGrid(Map<Currency, ? extends Collection<LocalDate>> dates) {
+    ArgChecker.notNull(dates, "dates");
+    Map<Currency, GridDiscountFactors> grids = new HashMap<>(discountFactors);
+    Set<Currency> currencies = underlying.getDiscountCurrencies();
+    dates.forEach((currency, currencyDates) -> {
+      if (currencies.contains(currency)) {
+        grids.put(currency, GridDiscountFactors.of(underlying.discountFactors(currency), currencyDates));
+      }
+    });
+    return new MemoizingRatesProvider(underlying, maxSize, ImmutableMap.copyOf(grids));
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the underlying provider.
+   *
+   * @return the underlying provider
+   */
+  public RatesProvider getUnderlying() {
+    return underlying;
+  }
+
+  @Override
+  public LocalDate getValuationDate() {
+    return underlying.getValuationDate();
+  }
+
+  @Override
+  public Set<Currency> getDiscountCurrencies() {
+    return underlying.getDiscountCurrencies();
+  }
+
+  @Override
+  public Set<IborIndex> getIborIndices() {
+    return underlying.getIborIndices();
+  }
+
+  @Override
+  public Set<OvernightIndex> getOvernightIndices() {
+    return underlying.getOvernightIndices();
+  }
+
+  @Override
+  public Set<PriceIndex> getPriceIndices() {
+    return underlying.getPriceIndices();
+  }
+
+  @Override
+  public Set<Index> getTimeSeriesIndices() {
+    return underlying.getTimeSeriesIndices();
+  }
+
+  @Override
+  public <T> T data(MarketDataId<T> id) {
+    return underlying.data(id);
+  }
+
+  @Override
+  public <T> Optional<T> findData(MarketDataName<T> name) {
+    return underlying.findData(name);
+  }
+
+  @Override
+  public LocalDateDoubleTimeSeries timeSeries(Index index) {
+    return underlying.timeSeries(index);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public double fxRate(Currency baseCurrency, Currency counterCurrency) {
+    return underlying.fxRate(baseCurrency, counterCurrency);
+  }
+
+  @Override
+  public DiscountFactors discountFactors(Currency currency) {
+    GridDiscountFactors grid = discountFactors.get(currency);
+    return grid != null ? grid : underlying.discountFactors(currency);
+  }
+
+  @Override
+  public FxIndexRates fxIndexRates(FxIndex index) {
+    return underlying.fxIndexRates(index);
+  }
+
+  @Override
+  public FxForwardRates fxForwardRates(CurrencyPair currencyPair) {
+    return underlying.fxForwardRates(currencyPair);
+  }
+
+  @Override
+  public IborIndexRates iborIndexRates(IborIndex index) {
+    MemoizingIborIndexRates rates = iborIndexRates.get(index);
+    if (rates == null) {
+      rates = iborIndexRates.computeIfAbsent(
+          index, idx -> MemoizingIborIndexRates.of(underlying.iborIndexRates(idx), maxSize));
+    }
+    return rates;
+  }
+
+  @Override
+  public OvernightIndexRates overnightIndexRates(OvernightIndex index) {
+    MemoizingOvernightIndexRates rates = overnightIndexRates.get(index);
+    if (rates == null) {
+      rates = overnightIndexRates.computeIfAbsent(
+          index, idx -> MemoizingOvernightIndexRates.of(underlying.overnightIndexRates(idx), maxSize));
+    }
+    return rates;
+  }
+
+  @Override
+  public PriceIndexValues priceIndexValues(PriceIndex index) {
+    return underlying.priceIndexValues(index);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public ImmutableRatesProvider toImmutableRatesProvider() {
+    return underlying.toImmutableRatesProvider();
+  }
+
+  @Override
+  public String toString() {
+    return new StringBuilder(64)
+        .append("MemoizingRatesProvider{underlying=")
+        .append(underlying)
+        .append('}')
+        .toString();
+  }
+
+}
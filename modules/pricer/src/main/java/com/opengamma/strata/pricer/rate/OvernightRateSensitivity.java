@@ -33,6 +33,7 @@ import com.opengamma.strata.basics.index.OvernightIndexObservation;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.market.sensitivity.MutablePointSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivity;
+import com.opengamma.strata.market.sensitivity.PointSensitivityAccumulator;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 
 /**
@@ -215,6 +216,11 @@ public final class OvernightRateSensitivity
     return combination.add(this);
   }
 
+  @Override
+  public PointSensitivityAccumulator buildInto(PointSensitivityAccumulator accumulator) {
+    return accumulator.add(this);
+  }
+
   @Override
   public OvernightRateSensitivity cloned() {
     return this;
@@ -0,0 +1,175 @@
+/*
+ * Copyright (C) 2018 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.rate;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.index.IborIndex;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.data.scenario.ScenarioArray;
+import com.opengamma.strata.pricer.DiscountFactorsScenarioArray;
+
+/**
+ * A rates provider for each of a number of scenarios.
+ * <p>
+ * This is used by scenario-vectorised pricing, where the trade is set up once
+ * and then valued against all scenarios together.
+ * The scenario views, such as {@link DiscountFactorsScenarioArray}, return a {@link DoubleArray}
+ * with one element for each scenario.
+ * <p>
+ * All the providers must have the same valuation date.
+ * The views are created on first use and cached.
+ */
+public final class RatesProviderScenarioArray
+    implements ScenarioArray<RatesProvider> {
+
+  /**
+   * The providers, one for each scenario.
+   */
+  private final ImmutableList<RatesProvider> providers;
+  /**
+   * The valuation date.
+   */
+  private final LocalDate valuationDate;
+  /**
+   * The cached discount factors.
+   */
+  private final ConcurrentHashMap<Currency, DiscountFactorsScenarioArray> discountFactors = new ConcurrentHashMap<>();
+  /**
+   * The cached Ibor index rates.
+   */
+  private final ConcurrentHashMap<IborIndex, IborIndexRatesScenarioArray> iborIndexRates = new ConcurrentHashMap<>();
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance from a list of providers, one for each scenario.
+   *
+   * @param providers  the providers, one for each scenario
+   * @return the scenario providers
+   */
+  public static RatesProviderScenarioArray of(List<? extends RatesProvider> providers) {
+    return new RatesProviderScenarioArray(providers);
+  }
+
+  /**
+   * Obtains an instance using a function to create the providers.
+   *
+   * @param scenarioCount  the number of scenarios
+   * @param providerFunction  the function used to obtain the provider for each scenario index
+   * @return the scenario providers
+   */
+  public static RatesProviderScenarioArray of(int scenarioCount, IntFunction<? extends RatesProvider> providerFunction) {
+    return new RatesProviderScenarioArray(
+        IntStream.range(0, scenarioCount).mapToObj(providerFunction).collect(toImmutableList()));
+  }
+
+  // creates an instance
+  private RatesProviderScenarioArray(List<? extends RatesProvider> providers) {
+    ArgChecker.notEmpty(providers, "providers");
+    this.providers = ImmutableList.copyOf(providers);
+    this.valuationDate = providers.get(0).getValuationDate();
+    for (RatesProvider provider : providers) {
+      ArgChecker.isTrue(
+          provider.getValuationDate().equals(valuationDate), "Providers must have the same valuation date");
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the valuation date shared by all scenarios.
+   *
+   * @return the valuation date
+   */
+  public LocalDate getValuationDate() {
+    return valuationDate;
+  }
+
+  @Override
+  public int getScenarioCount() {
+    return providers.size();
+  }
+
+  @Override
+  public RatesProvider get(int scenarioIndex) {
+    return providers.get(scenarioIndex);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the discount factors for a currency in each scenario.
+   *
+   * @param currency  the currency to get the discount factors for
+   * @return the discount factors for the specified currency
+   * @throws IllegalArgumentException if the discount factors are not available
+   */
+  public DiscountFactorsScenarioArray discountFactors(Currency currency) {
+    DiscountFactorsScenarioArray cached = discountFactors.get(currency);
+    if (cached == null) {
+      cached = discountFactors.computeIfAbsent(currency, ccy -> DiscountFactorsScenarioArray.of(
+          providers.stream().map(provider -> provider.discountFactors(ccy)).collect(toImmutableList())));
+    }
+    return cached;
+  }
+
+  /**
+   * Gets the discount factor for a currency and date in each scenario.
+   *
+   * @param currency  the currency to get the discount factors for
+   * @param date  the date to discount to
+   * @return the discount factors, one for each scenario
+   * @throws IllegalArgumentException if the discount factors are not available
+   */
+  public DoubleArray discountFactor(Currency currency, LocalDate date) {
+    return discountFactors(currency).discountFactor(date);
+  }
+
+  /**
+   * Gets the rates for an Ibor index in each scenario.
+   *
+   * @param index  the index to find rates for
+   * @return the rates for the specified index
+   * @throws IllegalArgumentException if the rates are not available
+   */
+  public IborIndexRatesScenarioArray iborIndexRates(IborIndex index) {
+    IborIndexRatesScenarioArray cached = iborIndexRates.get(index);
+    if (cached == null) {
+      cached = iborIndexRates.computeIfAbsent(index, idx -> IborIndexRatesScenarioArray.of(
+          providers.stream().map(provider -> provider.iborIndexRates(idx)).collect(toImmutableList())));
+    }
+    return cached;
+  }
+
+  /**
+   * Gets the FX rate for a currency pair in each scenario.
+   *
+   * @param baseCurrency  the base currency, to convert from
+   * @param counterCurrency  the counter currency, to convert to
+   * @return the FX rates, one for each scenario
+   * @throws IllegalArgumentException if the rate is not available
+   */
+  public DoubleArray fxRate(Currency baseCurrency, Currency counterCurrency) {
+    if (baseCurrency.equals(counterCurrency)) {
+      return DoubleArray.filled(providers.size(), 1d);
+    }
+    return DoubleArray.of(providers.size(), i -> providers.get(i).fxRate(baseCurrency, counterCurrency));
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "RatesProviderScenarioArray[" + valuationDate + ", " + providers.size() + " scenarios]";
+  }
+
+}
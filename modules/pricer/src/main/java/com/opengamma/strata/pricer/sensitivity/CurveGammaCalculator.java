@@ -10,9 +10,14 @@ import static com.opengamma.strata.collect.Guavate.toImmutableList;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.stream.IntStream;
 
@@ -22,6 +27,8 @@ import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.index.Index;
 import com.opengamma.strata.basics.index.PriceIndex;
 import com.opengamma.strata.basics.index.RateIndex;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Guavate;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.array.DoubleMatrix;
 import com.opengamma.strata.collect.tuple.Pair;
@@ -66,6 +73,14 @@ public final class CurveGammaCalculator {
    * The first order finite difference calculator.
    */
   private final VectorFieldFirstOrderDifferentiator fd;
+  /**
+   * The finite difference type.
+   */
+  private final FiniteDifferenceType fdType;
+  /**
+   * The shift to be applied to the curves.
+   */
+  private final double shift;
 
   //-------------------------------------------------------------------------
   /**
@@ -107,6 +122,8 @@ public final class CurveGammaCalculator {
    */
   private CurveGammaCalculator(FiniteDifferenceType fdType, double shift) {
     this.fd = new VectorFieldFirstOrderDifferentiator(fdType, shift);
+    this.fdType = fdType;
+    this.shift = shift;
   }
 
   //-------------------------------------------------------------------------
@@ -130,58 +147,10 @@ public final class CurveGammaCalculator {
     ImmutableRatesProvider immProv = ratesProvider.toImmutableRatesProvider();
     CurrencyParameterSensitivities baseDelta = sensitivitiesFn.apply(immProv); // used to check target sensitivity exits
     CrossGammaParameterSensitivities result = CrossGammaParameterSensitivities.empty();
-    // discount curve
-    for (Entry<Currency, Curve> entry : immProv.getDiscountCurves().entrySet()) {
-      Currency currency = entry.getKey();
-      Curve curve = entry.getValue();
-      if (baseDelta.findSensitivity(curve.getName(), currency).isPresent()) {
-        CrossGammaParameterSensitivity gammaSingle = computeGammaForCurve(
-            curve, currency, c -> immProv.toBuilder().discountCurve(currency, c).build(), sensitivitiesFn);
-        result = result.combinedWith(gammaSingle);
-      } else if (curve.split().size() > 1) {
-        ImmutableList<Curve> curves = curve.split();
-        int nCurves = curves.size();
-        for (int i = 0; i < nCurves; ++i) {
-          int currentIndex = i;
-          Curve underlyingCurve = curves.get(currentIndex);
-          if (baseDelta.findSensitivity(underlyingCurve.getName(), currency).isPresent()) {
-            CrossGammaParameterSensitivity gammaSingle = computeGammaForCurve(
-                underlyingCurve,
-                currency,
-                c -> immProv.toBuilder().discountCurve(currency, curve.withUnderlyingCurve(currentIndex, c)).build(),
-                sensitivitiesFn);
-            result = result.combinedWith(gammaSingle);
-          }
-        }
-      }
-    }
-    // forward curve
-    for (Entry<Index, Curve> entry : immProv.getIndexCurves().entrySet()) {
-      Index index = entry.getKey();
-      if (index instanceof RateIndex || index instanceof PriceIndex) {
-        Currency currency = getCurrency(index);
-        Curve curve = entry.getValue();
-        if (baseDelta.findSensitivity(curve.getName(), currency).isPresent()) {
-          CrossGammaParameterSensitivity gammaSingle = computeGammaForCurve(
-              curve, currency, c -> immProv.toBuilder().indexCurve(index, c).build(), sensitivitiesFn);
-          result = result.combinedWith(gammaSingle);
-        } else if (curve.split().size() > 1) {
-          ImmutableList<Curve> curves = curve.split();
-          int nCurves = curves.size();
-          for (int i = 0; i < nCurves; ++i) {
-            int currentIndex = i;
-            Curve underlyingCurve = curves.get(currentIndex);
-            if (baseDelta.findSensitivity(underlyingCurve.getName(), currency).isPresent()) {
-              CrossGammaParameterSensitivity gammaSingle = computeGammaForCurve(
-                  underlyingCurve,
-                  currency,
-                  c -> immProv.toBuilder().indexCurve(index, curve.withUnderlyingCurve(currentIndex, c)).build(),
-                  sensitivitiesFn);
-              result = result.combinedWith(gammaSingle);
-            }
-          }
-        }
-      }
+    for (GammaTarget target : gammaTargets(immProv, baseDelta)) {
+      CrossGammaParameterSensitivity gammaSingle = computeGammaForCurve(
+          target.curve, target.currency, target.providerFn, sensitivitiesFn);
+      result = result.combinedWith(gammaSingle);
     }
     return result;
   }
@@ -302,65 +271,359 @@ public final class CurveGammaCalculator {
 
     ImmutableRatesProvider immProv = ratesProvider.toImmutableRatesProvider();
     CurrencyParameterSensitivities baseDelta = sensitivitiesFn.apply(immProv); // used to check target sensitivity exits.
+    List<GammaTarget> targets = gammaTargets(immProv, baseDelta);
     CrossGammaParameterSensitivities result = CrossGammaParameterSensitivities.empty();
     for (CurrencyParameterSensitivity baseDeltaSingle : baseDelta.getSensitivities()) {
       CrossGammaParameterSensitivities resultInner = CrossGammaParameterSensitivities.empty();
-      // discount curve
-      for (Entry<Currency, Curve> entry : immProv.getDiscountCurves().entrySet()) {
-        Currency currency = entry.getKey();
+      for (GammaTarget target : targets) {
+        CrossGammaParameterSensitivity gammaSingle = computeGammaForCurve(
+            baseDeltaSingle, target.curve, target.providerFn, sensitivitiesFn);
+        resultInner = resultInner.combinedWith(gammaSingle);
+      }
+      result = result.combinedWith(combineSensitivities(baseDeltaSingle, resultInner));
+    }
+    return result;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Computes intra-curve cross gamma by applying finite difference method to curve delta,
+   * spreading the bumps across an executor.
+   * <p>
+   * This produces the same result as {@link #calculateCrossGammaIntraCurve(RatesProvider, Function)}.
+   * The base delta is computed once and reused as the unbumped point of the finite difference.
+   * Each bumped provider is created and its delta computed in a separate task run by the executor.
+   * The function must be safe to call from multiple threads.
+   * 
+   * @param ratesProvider  the rates provider
+   * @param sensitivitiesFn  the sensitivity function
+   * @param executor  the executor used to run the bumped sensitivity calculations
+   * @return the cross gamma
+   */
+  public CrossGammaParameterSensitivities calculateCrossGammaIntraCurve(
+      RatesProvider ratesProvider,
+      Function<ImmutableRatesProvider, CurrencyParameterSensitivities> sensitivitiesFn,
+      Executor executor) {
+
+    ArgChecker.notNull(sensitivitiesFn, "sensitivitiesFn");
+    return calculateCrossGamma(ratesProvider, ImmutableList.of(sensitivitiesFn), Function::apply, executor, false)
+        .get(0);
+  }
+
+  /**
+   * Computes intra-curve cross gamma for a batch of trades by applying finite difference method to curve delta,
+   * spreading the bumps across an executor.
+   * <p>
+   * For each trade, this produces the same result as {@link #calculateCrossGammaIntraCurve(RatesProvider, Function)}.
+   * Each bumped provider is created once, in a separate task run by the executor,
+   * and is then used to compute the delta of all the trades in the batch.
+   * A curve, or an underlying curve of a combined curve, is bumped once if the calculation of any of the trades
+   * alone would bump it.
+   * The function must be safe to call from multiple threads.
+   * 
+   * @param <T>  the type of the trade
+   * @param ratesProvider  the rates provider
+   * @param trades  the trades
+   * @param sensitivitiesFn  the sensitivity function of a trade
+   * @param executor  the executor used to run the bumped sensitivity calculations
+   * @return the cross gamma of each trade, in the same order as the trades
+   */
+  public <T> List<CrossGammaParameterSensitivities> calculateCrossGammaIntraCurve(
+      RatesProvider ratesProvider,
+      List<T> trades,
+      BiFunction<? super T, ImmutableRatesProvider, CurrencyParameterSensitivities> sensitivitiesFn,
+      Executor executor) {
+
+    return calculateCrossGamma(ratesProvider, trades, sensitivitiesFn, executor, false);
+  }
+
+  /**
+   * Computes cross-curve gamma by applying finite difference method to curve delta,
+   * spreading the bumps across an executor.
+   * <p>
+   * This produces the same result as {@link #calculateCrossGammaCrossCurve(RatesProvider, Function)}.
+   * The base delta is computed once and reused as the unbumped point of the finite difference.
+   * Each bumped provider is created and its delta computed once, in a separate task run by the executor,
+   * and the full bumped delta is then reused for every curve of the base delta.
+   * The function must be safe to call from multiple threads.
+   * 
+   * @param ratesProvider  the rates provider
+   * @param sensitivitiesFn  the sensitivity function
+   * @param executor  the executor used to run the bumped sensitivity calculations
+   * @return the cross gamma
+   */
+  public CrossGammaParameterSensitivities calculateCrossGammaCrossCurve(
+      RatesProvider ratesProvider,
+      Function<ImmutableRatesProvider, CurrencyParameterSensitivities> sensitivitiesFn,
+      Executor executor) {
+
+    ArgChecker.notNull(sensitivitiesFn, "sensitivitiesFn");
+    return calculateCrossGamma(ratesProvider, ImmutableList.of(sensitivitiesFn), Function::apply, executor, true)
+        .get(0);
+  }
+
+  /**
+   * Computes cross-curve gamma for a batch of trades by applying finite difference method to curve delta,
+   * spreading the bumps across an executor.
+   * <p>
+   * For each trade, this produces the same result as {@link #calculateCrossGammaCrossCurve(RatesProvider, Function)}.
+   * Each bumped provider is created once, in a separate task run by the executor,
+   * and is then used to compute the delta of all the trades in the batch.
+   * A curve, or an underlying curve of a combined curve, is bumped once if the calculation of any of the trades
+   * alone would bump it.
+   * The function must be safe to call from multiple threads.
+   * 
+   * @param <T>  the type of the trade
+   * @param ratesProvider  the rates provider
+   * @param trades  the trades
+   * @param sensitivitiesFn  the sensitivity function of a trade
+   * @param executor  the executor used to run the bumped sensitivity calculations
+   * @return the cross gamma of each trade, in the same order as the trades
+   */
+  public <T> List<CrossGammaParameterSensitivities> calculateCrossGammaCrossCurve(
+      RatesProvider ratesProvider,
+      List<T> trades,
+      BiFunction<? super T, ImmutableRatesProvider, CurrencyParameterSensitivities> sensitivitiesFn,
+      Executor executor) {
+
+    return calculateCrossGamma(ratesProvider, trades, sensitivitiesFn, executor, true);
+  }
+
+  // computes the intra-curve or cross-curve gamma of the trades, sharing the bumped providers
+  private <T> List<CrossGammaParameterSensitivities> calculateCrossGamma(
+      RatesProvider ratesProvider,
+      List<T> trades,
+      BiFunction<? super T, ImmutableRatesProvider, CurrencyParameterSensitivities> sensitivitiesFn,
+      Executor executor,
+      boolean crossCurve) {
+
+    ArgChecker.notNull(ratesProvider, "ratesProvider");
+    ArgChecker.notNull(trades, "trades");
+    ArgChecker.notNull(sensitivitiesFn, "sensitivitiesFn");
+    ArgChecker.notNull(executor, "executor");
+    ImmutableRatesProvider immProv = ratesProvider.toImmutableRatesProvider();
+
+    // base delta of each trade, used to select the curves and as the unbumped point
+    List<CompletableFuture<CurrencyParameterSensitivities>> baseFutures = trades.stream()
+        .map(trade -> CompletableFuture.supplyAsync(() -> sensitivitiesFn.apply(trade, immProv), executor))
+        .collect(toImmutableList());
+    List<CurrencyParameterSensitivities> baseDeltas = baseFutures.stream()
+        .map(Guavate::join)
+        .collect(toImmutableList());
+    List<List<GammaTarget>> tradeTargets = baseDeltas.stream()
+        .map(baseDelta -> gammaTargets(immProv, baseDelta))
+        .collect(toImmutableList());
+    // the curves bumped for any of the trades, each bumped once
+    Map<Pair<Object, Integer>, GammaTarget> targetsByKey = new LinkedHashMap<>();
+    for (List<GammaTarget> targetsOfTrade : tradeTargets) {
+      for (GammaTarget target : targetsOfTrade) {
+        targetsByKey.putIfAbsent(target.key, target);
+      }
+    }
+    List<GammaTarget> targets = ImmutableList.copyOf(targetsByKey.values());
+
+    // delta of each trade for each bumped provider, one task for each bump
+    double[] shifts = bumpShifts();
+    List<List<List<CompletableFuture<List<CurrencyParameterSensitivities>>>>> bumpedFutures = new ArrayList<>();
+    for (GammaTarget target : targets) {
+      DoubleArray parameters = DoubleArray.of(target.curve.getParameterCount(), n -> target.curve.getParameter(n));
+      List<List<CompletableFuture<List<CurrencyParameterSensitivities>>>> targetFutures = new ArrayList<>();
+      for (int j = 0; j < parameters.size(); j++) {
+        List<CompletableFuture<List<CurrencyParameterSensitivities>>> parameterFutures = new ArrayList<>();
+        for (double shift : shifts) {
+          DoubleArray bumpedParameters = parameters.with(j, parameters.get(j) + shift);
+          parameterFutures.add(CompletableFuture.supplyAsync(() -> {
+            ImmutableRatesProvider bumped = target.providerFn.apply(replaceParameters(target.curve, bumpedParameters));
+            return trades.stream().map(trade -> sensitivitiesFn.apply(trade, bumped)).collect(toImmutableList());
+          }, executor));
+        }
+        targetFutures.add(parameterFutures);
+      }
+      bumpedFutures.add(targetFutures);
+    }
+    Map<Pair<Object, Integer>, List<CurrencyParameterSensitivities[][]>> bumpedDeltas = new HashMap<>();
+    for (int k = 0; k < targets.size(); k++) {
+      List<List<CompletableFuture<List<CurrencyParameterSensitivities>>>> targetFutures = bumpedFutures.get(k);
+      List<CurrencyParameterSensitivities[][]> tradeDeltas = new ArrayList<>();
+      for (int t = 0; t < trades.size(); t++) {
+        tradeDeltas.add(new CurrencyParameterSensitivities[targetFutures.size()][shifts.length]);
+      }
+      for (int j = 0; j < targetFutures.size(); j++) {
+        for (int s = 0; s < shifts.length; s++) {
+          List<CurrencyParameterSensitivities> deltas = Guavate.join(targetFutures.get(j).get(s));
+          for (int t = 0; t < trades.size(); t++) {
+            tradeDeltas.get(t)[j][s] = deltas.get(t);
+          }
+        }
+      }
+      bumpedDeltas.put(targets.get(k).key, tradeDeltas);
+    }
+
+    // build the gamma of each trade in the same way as the sequential calculation
+    ImmutableList.Builder<CrossGammaParameterSensitivities> results = ImmutableList.builder();
+    for (int t = 0; t < trades.size(); t++) {
+      CurrencyParameterSensitivities baseDelta = baseDeltas.get(t);
+      CrossGammaParameterSensitivities result = CrossGammaParameterSensitivities.empty();
+      if (crossCurve) {
+        for (CurrencyParameterSensitivity baseDeltaSingle : baseDelta.getSensitivities()) {
+          CrossGammaParameterSensitivities resultInner = CrossGammaParameterSensitivities.empty();
+          for (GammaTarget target : tradeTargets.get(t)) {
+            DoubleMatrix sensi = differentiate(
+                baseDeltaSingle.getMarketDataName(),
+                baseDeltaSingle.getCurrency(),
+                baseDelta,
+                bumpedDeltas.get(target.key).get(t));
+            resultInner = resultInner.combinedWith(CrossGammaParameterSensitivity.of(
+                baseDeltaSingle.getMarketDataName(),
+                baseDeltaSingle.getParameterMetadata(),
+                target.curve.getName(),
+                parameterMetadata(target.curve),
+                baseDeltaSingle.getCurrency(),
+                sensi));
+          }
+          result = result.combinedWith(combineSensitivities(baseDeltaSingle, resultInner));
+        }
+      } else {
+        for (GammaTarget target : tradeTargets.get(t)) {
+          DoubleMatrix sensi = differentiate(
+              target.curve.getName(), target.currency, baseDelta, bumpedDeltas.get(target.key).get(t));
+          result = result.combinedWith(CrossGammaParameterSensitivity.of(
+              target.curve.getName(), parameterMetadata(target.curve), target.currency, sensi));
+        }
+      }
+      results.add(result);
+    }
+    return results.build();
+  }
+
+  // the shifts applied to each parameter, matching the finite difference type
+  private double[] bumpShifts() {
+    switch (fdType) {
+      case FORWARD:
+        return new double[] {shift};
+      case CENTRAL:
+        return new double[] {shift, -shift};
+      case BACKWARD:
+        return new double[] {-shift};
+      default:
+        throw new IllegalArgumentException("Can only handle forward, backward and central differencing");
+    }
+  }
+
+  // computes the finite difference of the delta to a single curve, in the same way as the differentiator
+  private DoubleMatrix differentiate(
+      MarketDataName<?> name,
+      Currency currency,
+      CurrencyParameterSensitivities baseDelta,
+      CurrencyParameterSensitivities[][] bumpedDeltas) {
+
+    DoubleArray y = baseDelta.getSensitivity(name, currency).getSensitivity();
+    int n = bumpedDeltas.length;
+    int m = y.size();
+    double[][] res = new double[m][n];
+    for (int j = 0; j < n; j++) {
+      DoubleArray bumped = bumpedDeltas[j][0].getSensitivity(name, currency).getSensitivity();
+      switch (fdType) {
+        case FORWARD:
+          for (int i = 0; i < m; i++) {
+            res[i][j] = (bumped.get(i) - y.get(i)) / shift;
+          }
+          break;
+        case CENTRAL:
+          DoubleArray down = bumpedDeltas[j][1].getSensitivity(name, currency).getSensitivity();
+          for (int i = 0; i < m; i++) {
+            res[i][j] = (bumped.get(i) - down.get(i)) / (2 * shift);
+          }
+          break;
+        default:
+          for (int i = 0; i < m; i++) {
+            res[i][j] = (y.get(i) - bumped.get(i)) / shift;
+          }
+          break;
+      }
+    }
+    return DoubleMatrix.copyOf(res);
+  }
+
+  //-------------------------------------------------------------------------
+  // the discount and forward curves to which the base delta is sensitive, in the order of the calculation
+  private List<GammaTarget> gammaTargets(ImmutableRatesProvider immProv, CurrencyParameterSensitivities baseDelta) {
+    BiPredicate<CurveName, Currency> sensitive =
+        (name, currency) -> baseDelta.findSensitivity(name, currency).isPresent();
+    List<GammaTarget> targets = new ArrayList<>();
+    // discount curve
+    for (Entry<Currency, Curve> entry : immProv.getDiscountCurves().entrySet()) {
+      Currency currency = entry.getKey();
+      Curve curve = entry.getValue();
+      if (sensitive.test(curve.getName(), currency)) {
+        targets.add(new GammaTarget(
+            Pair.of(currency, -1), curve, currency, c -> immProv.toBuilder().discountCurve(currency, c).build()));
+      } else if (curve.split().size() > 1) {
+        ImmutableList<Curve> curves = curve.split();
+        int nCurves = curves.size();
+        for (int i = 0; i < nCurves; ++i) {
+          int currentIndex = i;
+          Curve underlyingCurve = curves.get(currentIndex);
+          if (sensitive.test(underlyingCurve.getName(), currency)) {
+            targets.add(new GammaTarget(
+                Pair.of(currency, currentIndex),
+                underlyingCurve,
+                currency,
+                c -> immProv.toBuilder().discountCurve(currency, curve.withUnderlyingCurve(currentIndex, c)).build()));
+          }
+        }
+      }
+    }
+    // forward curve
+    for (Entry<Index, Curve> entry : immProv.getIndexCurves().entrySet()) {
+      Index index = entry.getKey();
+      if (index instanceof RateIndex || index instanceof PriceIndex) {
+        Currency currency = getCurrency(index);
         Curve curve = entry.getValue();
-        if (baseDelta.findSensitivity(curve.getName(), currency).isPresent()) {
-          CrossGammaParameterSensitivity gammaSingle = computeGammaForCurve(
-              baseDeltaSingle, curve, c -> immProv.toBuilder().discountCurve(currency, c).build(), sensitivitiesFn);
-          resultInner = resultInner.combinedWith(gammaSingle);
+        if (sensitive.test(curve.getName(), currency)) {
+          targets.add(new GammaTarget(
+              Pair.of(index, -1), curve, currency, c -> immProv.toBuilder().indexCurve(index, c).build()));
         } else if (curve.split().size() > 1) {
           ImmutableList<Curve> curves = curve.split();
           int nCurves = curves.size();
           for (int i = 0; i < nCurves; ++i) {
             int currentIndex = i;
             Curve underlyingCurve = curves.get(currentIndex);
-            if (baseDelta.findSensitivity(underlyingCurve.getName(), currency).isPresent()) {
-              CrossGammaParameterSensitivity gammaSingle = computeGammaForCurve(
-                  baseDeltaSingle,
+            if (sensitive.test(underlyingCurve.getName(), currency)) {
+              targets.add(new GammaTarget(
+                  Pair.of(index, currentIndex),
                   underlyingCurve,
-                  c -> immProv.toBuilder().discountCurve(currency, curve.withUnderlyingCurve(currentIndex, c)).build(),
-                  sensitivitiesFn);
-              resultInner = resultInner.combinedWith(gammaSingle);
-            }
-          }
-        }
-      }
-      // forward curve
-      for (Entry<Index, Curve> entry : immProv.getIndexCurves().entrySet()) {
-        Index index = entry.getKey();
-        if (index instanceof RateIndex || index instanceof PriceIndex) {
-          Currency currency = getCurrency(index);
-          Curve curve = entry.getValue();
-          if (baseDelta.findSensitivity(curve.getName(), currency).isPresent()) {
-            CrossGammaParameterSensitivity gammaSingle = computeGammaForCurve(
-                baseDeltaSingle, curve, c -> immProv.toBuilder().indexCurve(index, c).build(), sensitivitiesFn);
-            resultInner = resultInner.combinedWith(gammaSingle);
-          } else if (curve.split().size() > 1) {
-            ImmutableList<Curve> curves = curve.split();
-            int nCurves = curves.size();
-            for (int i = 0; i < nCurves; ++i) {
-              int currentIndex = i;
-              Curve underlyingCurve = curves.get(currentIndex);
-              if (baseDelta.findSensitivity(underlyingCurve.getName(), currency).isPresent()) {
-                CrossGammaParameterSensitivity gammaSingle = computeGammaForCurve(
-                    baseDeltaSingle,
-                    underlyingCurve,
-                    c -> immProv.toBuilder().indexCurve(index, curve.withUnderlyingCurve(currentIndex, c)).build(),
-                    sensitivitiesFn);
-                resultInner = resultInner.combinedWith(gammaSingle);
-              }
+                  currency,
+                  c -> immProv.toBuilder().indexCurve(index, curve.withUnderlyingCurve(currentIndex, c)).build()));
             }
           }
         }
       }
-      result = result.combinedWith(combineSensitivities(baseDeltaSingle, resultInner));
     }
-    return result;
+    return targets;
+  }
+
+  /**
+   * A curve to be bumped, with the function to create the bumped provider.
+   */
+  private static final class GammaTarget {
+    // the identifier of the curve, the discount currency or index, and the index of the underlying curve or -1
+    private final Pair<Object, Integer> key;
+    private final Curve curve;
+    private final Currency currency;
+    private final Function<Curve, ImmutableRatesProvider> providerFn;
+
+    private GammaTarget(
+        Pair<Object, Integer> key,
+        Curve curve,
+        Currency currency,
+        Function<Curve, ImmutableRatesProvider> providerFn) {
+
+      this.key = key;
+      this.curve = curve;
+      this.currency = currency;
+      this.providerFn = providerFn;
+    }
   }
 
   //-------------------------------------------------------------------------
@@ -427,6 +690,13 @@ public final class CurveGammaCalculator {
         sensi);
   }
 
+  // the parameter metadata of the curve
+  private static List<ParameterMetadata> parameterMetadata(Curve curve) {
+    return IntStream.range(0, curve.getParameterCount())
+        .mapToObj(i -> curve.getParameterMetadata(i))
+        .collect(toImmutableList());
+  }
+
   private CrossGammaParameterSensitivity combineSensitivities(
       CurrencyParameterSensitivity baseDeltaSingle,
       CrossGammaParameterSensitivities blockCrossGamma) {
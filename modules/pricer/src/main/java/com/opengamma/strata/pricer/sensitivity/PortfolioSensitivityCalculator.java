@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2018 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.sensitivity;
+
+import java.util.List;
+import java.util.function.Function;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.sensitivity.PointSensitivities;
+import com.opengamma.strata.market.sensitivity.PointSensitivityAccumulator;
+import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
+import com.opengamma.strata.pricer.rate.RatesProvider;
+
+/**
+ * Calculator to obtain the parameter sensitivities of a portfolio of trades.
+ * <p>
+ * The standard approach is to project the point sensitivities of each trade onto the curve parameters
+ * using {@link RatesProvider#parameterSensitivity(PointSensitivities)} and then sum the results.
+ * This calculator instead accumulates the point sensitivities of all the trades first,
+ * normalizes them once, and then projects the combined point sensitivities onto the parameters once.
+ * The projection work thus depends on the number of distinct points rather than on the number of trades.
+ * <p>
+ * As the projection is linear, the result is the same as the sum of the trade parameter sensitivities,
+ * subject to the order of floating point addition.
+ */
+public class PortfolioSensitivityCalculator {
+
+  /**
+   * The default instance.
+   */
+  public static final PortfolioSensitivityCalculator DEFAULT = new PortfolioSensitivityCalculator();
+
+  //-------------------------------------------------------------------------
+  /**
+   * Aggregates the point sensitivities of a number of trades.
+   * <p>
+   * The result is normalized, with one entry for each distinct point.
+   *
+   * @param sensitivities  the point sensitivities, typically one for each trade
+   * @return the aggregated point sensitivities
+   */
+  public PointSensitivities aggregate(List<PointSensitivities> sensitivities) {
+    ArgChecker.notNull(sensitivities, "sensitivities");
+    PointSensitivityAccumulator accumulator = new PointSensitivityAccumulator(
+        sensitivities.stream().mapToInt(PointSensitivities::size).sum());
+    for (PointSensitivities sensitivity : sensitivities) {
+      accumulator.addAll(sensitivity.getSensitivities());
+    }
+    return accumulator.normalize().build();
+  }
+
+  /**
+   * Aggregates the point sensitivities of a number of trades.
+   * <p>
+   * The function is invoked for each trade, and the resulting builder is built directly
+   * into the accumulator without creating an intermediate {@link PointSensitivities} for each trade.
+   * The result is normalized, with one entry for each distinct point.
+   *
+   * @param <T>  the type of the trade
+   * @param trades  the trades
+   * @param sensitivityFn  the function to obtain the point sensitivity builder for a trade
+   * @return the aggregated point sensitivities
+   */
+  public <T> PointSensitivities aggregate(
+      List<T> trades,
+      Function<? super T, ? extends PointSensitivityBuilder> sensitivityFn) {
+
+    ArgChecker.notNull(trades, "trades");
+    ArgChecker.notNull(sensitivityFn, "sensitivityFn");
+    PointSensitivityAccumulator accumulator = new PointSensitivityAccumulator();
+    for (T trade : trades) {
+      sensitivityFn.apply(trade).buildInto(accumulator);
+    }
+    return accumulator.normalize().build();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the parameter sensitivity of a number of trades.
+   * <p>
+   * The point sensitivities are aggregated and normalized before being projected onto the parameters.
+   *
+   * @param sensitivities  the point sensitivities, typically one for each trade
+   * @param ratesProvider  the rates provider
+   * @return the parameter sensitivities of the portfolio
+   */
+  public CurrencyParameterSensitivities parameterSensitivity(
+      List<PointSensitivities> sensitivities,
+      RatesProvider ratesProvider) {
+
+    ArgChecker.notNull(ratesProvider, "ratesProvider");
+    return ratesProvider.parameterSensitivity(aggregate(sensitivities));
+  }
+
+  /**
+   * Calculates the parameter sensitivity of a number of trades.
+   * <p>
+   * The function is invoked for each trade to obtain the point sensitivities, which are
+   * aggregated and normalized before being projected onto the parameters.
+   *
+   * @param <T>  the type of the trade
+   * @param trades  the trades
+   * @param sensitivityFn  the function to obtain the point sensitivity builder for a trade
+   * @param ratesProvider  the rates provider
+   * @return the parameter sensitivities of the portfolio
+   */
+  public <T> CurrencyParameterSensitivities parameterSensitivity(
+      List<T> trades,
+      Function<? super T, ? extends PointSensitivityBuilder> sensitivityFn,
+      RatesProvider ratesProvider) {
+
+    ArgChecker.notNull(ratesProvider, "ratesProvider");
+    return ratesProvider.parameterSensitivity(aggregate(trades, sensitivityFn));
+  }
+
+}
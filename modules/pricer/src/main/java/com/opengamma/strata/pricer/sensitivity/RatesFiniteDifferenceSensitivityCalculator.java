@@ -5,17 +5,27 @@
  */
 package com.opengamma.strata.pricer.sensitivity;
 
+import static com.opengamma.strata.collect.Guavate.join;
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.joda.beans.MetaProperty;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.tuple.Pair;
 import com.opengamma.strata.market.curve.Curve;
@@ -117,6 +127,145 @@ public class RatesFiniteDifferenceSensitivityCalculator {
     return result;
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the first order sensitivities of a function of a RatesProvider to a double by finite difference,
+   * spreading the bumps across an executor.
+   * <p>
+   * This produces the same result as {@link #sensitivity(RatesProvider, Function)}.
+   * Each bumped provider is created and valued in a separate task run by the executor.
+   * The function must be safe to call from multiple threads.
+   * 
+   * @param provider  the rates provider
+   * @param valueFn  the function from a rate provider to a currency amount for which the sensitivity should be computed
+   * @param executor  the executor used to run the bumped valuations
+   * @return the curve sensitivity
+   */
+  public CurrencyParameterSensitivities sensitivity(
+      RatesProvider provider,
+      Function<ImmutableRatesProvider, CurrencyAmount> valueFn,
+      Executor executor) {
+
+    ArgChecker.notNull(valueFn, "valueFn");
+    return sensitivity(provider, ImmutableList.of(valueFn), Function::apply, executor).get(0);
+  }
+
+  /**
+   * Computes the first order sensitivities of a batch of trades by finite difference,
+   * spreading the bumps across an executor.
+   * <p>
+   * For each trade, this produces the same result as {@link #sensitivity(RatesProvider, Function)}.
+   * Each bumped provider is created once, in a separate task run by the executor,
+   * and is then used to value all the trades in the batch.
+   * The cost of creating the bumped providers is thus shared by the trades.
+   * The function must be safe to call from multiple threads.
+   * 
+   * @param <T>  the type of the trade
+   * @param provider  the rates provider
+   * @param trades  the trades
+   * @param valueFn  the function from a trade and rate provider to a currency amount for which the
+   *   sensitivity should be computed
+   * @param executor  the executor used to run the bumped valuations
+   * @return the curve sensitivity of each trade, in the same order as the trades
+   */
+  public <T> List<CurrencyParameterSensitivities> sensitivity(
+      RatesProvider provider,
+      List<T> trades,
+      BiFunction<? super T, ImmutableRatesProvider, CurrencyAmount> valueFn,
+      Executor executor) {
+
+    ArgChecker.notNull(provider, "provider");
+    ArgChecker.notNull(trades, "trades");
+    ArgChecker.notNull(valueFn, "valueFn");
+    ArgChecker.notNull(executor, "executor");
+    ImmutableRatesProvider immProv = provider.toImmutableRatesProvider();
+    List<Curve> discountCurves = new ArrayList<>();
+    List<Curve> forwardCurves = new ArrayList<>();
+    List<Supplier<ImmutableRatesProvider>> bumpedProviders = new ArrayList<>();
+    addBumps(
+        immProv,
+        immProv.getDiscountCurves(),
+        (base, bumped) -> base.toBuilder().discountCurves(bumped).build(),
+        discountCurves,
+        bumpedProviders);
+    addBumps(
+        immProv,
+        immProv.getIndexCurves(),
+        (base, bumped) -> base.toBuilder().indexCurves(bumped).build(),
+        forwardCurves,
+        bumpedProviders);
+
+    // value the trades with the base provider and each bumped provider
+    CompletableFuture<List<CurrencyAmount>> baseFuture = CompletableFuture.supplyAsync(
+        () -> trades.stream().map(trade -> valueFn.apply(trade, immProv)).collect(toImmutableList()), executor);
+    List<CompletableFuture<double[]>> bumpedFutures = bumpedProviders.stream()
+        .map(bumpedProvider -> CompletableFuture.supplyAsync(() -> {
+          ImmutableRatesProvider bumped = bumpedProvider.get();
+          return trades.stream().mapToDouble(trade -> valueFn.apply(trade, bumped).getAmount()).toArray();
+        }, executor))
+        .collect(toImmutableList());
+    List<CurrencyAmount> valuesInit = join(baseFuture);
+    double[][] bumpedValues = new double[bumpedFutures.size()][];
+    for (int i = 0; i < bumpedValues.length; i++) {
+      bumpedValues[i] = join(bumpedFutures.get(i));
+    }
+
+    // build the sensitivities in the same way as the sequential calculation
+    int forwardOffset = discountCurves.stream().mapToInt(Curve::getParameterCount).sum();
+    ImmutableList.Builder<CurrencyParameterSensitivities> results = ImmutableList.builder();
+    for (int t = 0; t < trades.size(); t++) {
+      CurrencyAmount valueInit = valuesInit.get(t);
+      CurrencyParameterSensitivities discounting = sensitivity(discountCurves, 0, bumpedValues, t, valueInit);
+      CurrencyParameterSensitivities forward = sensitivity(forwardCurves, forwardOffset, bumpedValues, t, valueInit);
+      results.add(discounting.combinedWith(forward));
+    }
+    return results.build();
+  }
+
+  // adds the curves and a supplier of the bumped provider for each curve parameter
+  private <T> void addBumps(
+      ImmutableRatesProvider provider,
+      Map<T, Curve> baseCurves,
+      BiFunction<ImmutableRatesProvider, Map<T, Curve>, ImmutableRatesProvider> storeBumpedFn,
+      List<Curve> curves,
+      List<Supplier<ImmutableRatesProvider>> bumpedProviders) {
+
+    for (Entry<T, Curve> entry : baseCurves.entrySet()) {
+      Curve curve = entry.getValue();
+      curves.add(curve);
+      for (int i = 0; i < curve.getParameterCount(); i++) {
+        int index = i;
+        bumpedProviders.add(() -> {
+          Curve dscBumped = curve.withParameter(index, curve.getParameter(index) + shift);
+          Map<T, Curve> mapBumped = new HashMap<>(baseCurves);
+          mapBumped.put(entry.getKey(), dscBumped);
+          return storeBumpedFn.apply(provider, mapBumped);
+        });
+      }
+    }
+  }
+
+  // computes the sensitivity with respect to the curves from the bumped values
+  private CurrencyParameterSensitivities sensitivity(
+      List<Curve> curves,
+      int offset,
+      double[][] bumpedValues,
+      int tradeIndex,
+      CurrencyAmount valueInit) {
+
+    CurrencyParameterSensitivities result = CurrencyParameterSensitivities.empty();
+    int start = offset;
+    for (Curve curve : curves) {
+      int curveStart = start;
+      DoubleArray sensitivity = DoubleArray.of(
+          curve.getParameterCount(),
+          i -> (bumpedValues[curveStart + i][tradeIndex] - valueInit.getAmount()) / shift);
+      result = result.combinedWith(curve.createParameterSensitivity(valueInit.getCurrency(), sensitivity));
+      start += curve.getParameterCount();
+    }
+    return result;
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Computes the first order sensitivities of a function of a LegalEntityDiscountingProvider to a double by finite difference.
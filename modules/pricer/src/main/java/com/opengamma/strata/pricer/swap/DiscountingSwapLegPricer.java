@@ -13,9 +13,11 @@ import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
+import com.opengamma.strata.basics.currency.Payment;
 import com.opengamma.strata.basics.value.ValueDerivatives;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
 import com.opengamma.strata.market.amount.CashFlow;
 import com.opengamma.strata.market.amount.CashFlows;
 import com.opengamma.strata.market.explain.ExplainKey;
@@ -23,7 +25,13 @@ import com.opengamma.strata.market.explain.ExplainMap;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.pricer.rate.RatesProviderScenarioArray;
+import com.opengamma.strata.product.rate.FixedRateComputation;
+import com.opengamma.strata.product.rate.IborRateComputation;
+import com.opengamma.strata.product.rate.RateComputation;
 import com.opengamma.strata.product.swap.KnownAmountSwapPaymentPeriod;
+import com.opengamma.strata.product.swap.NotionalExchange;
+import com.opengamma.strata.product.swap.RateAccrualPeriod;
 import com.opengamma.strata.product.swap.RatePaymentPeriod;
 import com.opengamma.strata.product.swap.ResolvedSwapLeg;
 import com.opengamma.strata.product.swap.SwapPaymentEvent;
@@ -126,6 +134,99 @@ public class DiscountingSwapLegPricer {
     return presentValuePeriodsInternal(leg, provider) + presentValueEventsInternal(leg, provider);
   }
 
+  /**
+   * Calculates the present value of the swap leg in each scenario.
+   * <p>
+   * The result is the same as calling {@link #presentValue(ResolvedSwapLeg, RatesProvider)} for each scenario.
+   * When the standard pricers are in use, periods paying a fixed or Ibor rate over a single accrual period
+   * without FX reset, and notional exchanges, are valued for all scenarios together.
+   * This shares the schedule and date based work between scenarios.
+   * Other periods and events are valued one scenario at a time.
+   *
+   * @param leg  the leg
+   * @param providers  the rates providers, one for each scenario
+   * @return the present value of the swap leg in each scenario
+   */
+  public CurrencyScenarioArray presentValue(ResolvedSwapLeg leg, RatesProviderScenarioArray providers) {
+    return CurrencyScenarioArray.of(leg.getCurrency(), presentValueInternal(leg, providers));
+  }
+
+  // calculates the present value in the currency of the swap leg for each scenario
+  DoubleArray presentValueInternal(ResolvedSwapLeg leg, RatesProviderScenarioArray providers) {
+    double[] periods = presentValuePeriodsInternal(leg, providers);
+    double[] events = presentValueEventsInternal(leg, providers);
+    return DoubleArray.of(periods.length, i -> periods[i] + events[i]);
+  }
+
+  // calculates the present value of the periods in each scenario
+  private double[] presentValuePeriodsInternal(ResolvedSwapLeg leg, RatesProviderScenarioArray providers) {
+    double[] total = new double[providers.getScenarioCount()];
+    boolean standard = paymentPeriodPricer == SwapPaymentPeriodPricer.standard();
+    for (SwapPaymentPeriod period : leg.getPaymentPeriods()) {
+      if (!period.getPaymentDate().isBefore(providers.getValuationDate())) {
+        DoubleArray rawRates = standard ? rawRates(period, providers) : null;
+        if (rawRates != null) {
+          RatePaymentPeriod ratePeriod = (RatePaymentPeriod) period;
+          RateAccrualPeriod accrualPeriod = ratePeriod.getAccrualPeriods().get(0);
+          DoubleArray dfs = providers.discountFactor(ratePeriod.getCurrency(), ratePeriod.getPaymentDate());
+          for (int i = 0; i < total.length; i++) {
+            double treatedRate = rawRates.get(i) * accrualPeriod.getGearing() + accrualPeriod.getSpread();
+            double unitAccrual =
+                accrualPeriod.getNegativeRateMethod().adjust(treatedRate * accrualPeriod.getYearFraction());
+            total[i] += unitAccrual * ratePeriod.getNotional() * dfs.get(i);
+          }
+        } else {
+          for (int i = 0; i < total.length; i++) {
+            total[i] += paymentPeriodPricer.presentValue(period, providers.get(i));
+          }
+        }
+      }
+    }
+    return total;
+  }
+
+  // finds the raw rate in each scenario for a period that can be valued for all scenarios together, null if not
+  private static DoubleArray rawRates(SwapPaymentPeriod period, RatesProviderScenarioArray providers) {
+    if (!(period instanceof RatePaymentPeriod)) {
+      return null;
+    }
+    RatePaymentPeriod ratePeriod = (RatePaymentPeriod) period;
+    if (ratePeriod.getFxReset().isPresent() || ratePeriod.getAccrualPeriods().size() != 1) {
+      return null;
+    }
+    RateComputation computation = ratePeriod.getAccrualPeriods().get(0).getRateComputation();
+    if (computation instanceof FixedRateComputation) {
+      return DoubleArray.filled(providers.getScenarioCount(), ((FixedRateComputation) computation).getRate());
+    }
+    if (computation instanceof IborRateComputation) {
+      IborRateComputation ibor = (IborRateComputation) computation;
+      return providers.iborIndexRates(ibor.getIndex()).rate(ibor.getObservation());
+    }
+    return null;
+  }
+
+  // calculates the present value of the events in each scenario
+  private double[] presentValueEventsInternal(ResolvedSwapLeg leg, RatesProviderScenarioArray providers) {
+    double[] total = new double[providers.getScenarioCount()];
+    boolean standard = paymentEventPricer == SwapPaymentEventPricer.standard();
+    for (SwapPaymentEvent event : leg.getPaymentEvents()) {
+      if (!event.getPaymentDate().isBefore(providers.getValuationDate())) {
+        if (standard && event instanceof NotionalExchange) {
+          Payment payment = ((NotionalExchange) event).getPayment();
+          DoubleArray dfs = providers.discountFactor(payment.getCurrency(), payment.getDate());
+          for (int i = 0; i < total.length; i++) {
+            total[i] += payment.getAmount() * dfs.get(i);
+          }
+        } else {
+          for (int i = 0; i < total.length; i++) {
+            total[i] += paymentEventPricer.presentValue(event, providers.get(i));
+          }
+        }
+      }
+    }
+    return total;
+  }
+
   /**
    * Calculates the forecast value of the swap leg.
    * <p>
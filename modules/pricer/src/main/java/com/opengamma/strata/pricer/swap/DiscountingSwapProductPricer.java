@@ -6,6 +6,7 @@
 package com.opengamma.strata.pricer.swap;
 
 import static com.opengamma.strata.basics.currency.MultiCurrencyAmount.toMultiCurrencyAmount;
+import static com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray.toMultiCurrencyScenarioArray;
 
 import java.util.List;
 import java.util.function.BiFunction;
@@ -17,12 +18,14 @@ import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.tuple.Triple;
+import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
 import com.opengamma.strata.market.amount.CashFlows;
 import com.opengamma.strata.market.explain.ExplainKey;
 import com.opengamma.strata.market.explain.ExplainMap;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.pricer.rate.RatesProviderScenarioArray;
 import com.opengamma.strata.product.rate.FixedRateComputation;
 import com.opengamma.strata.product.swap.CompoundingMethod;
 import com.opengamma.strata.product.swap.RateAccrualPeriod;
@@ -108,6 +111,23 @@ public class DiscountingSwapProductPricer {
     return swapValue(provider, swap, legPricer::presentValueInternal);
   }
 
+  /**
+   * Calculates the present value of the swap product in each scenario.
+   * <p>
+   * The result is the same as calling {@link #presentValue(ResolvedSwap, RatesProvider)} for each scenario.
+   * See {@link DiscountingSwapLegPricer#presentValue(ResolvedSwapLeg, RatesProviderScenarioArray)}
+   * for the periods and events that are valued for all scenarios together.
+   * 
+   * @param swap  the product
+   * @param providers  the rates providers, one for each scenario
+   * @return the present value of the swap product in each scenario
+   */
+  public MultiCurrencyScenarioArray presentValue(ResolvedSwap swap, RatesProviderScenarioArray providers) {
+    return swap.getLegs().stream()
+        .map(leg -> legPricer.presentValue(leg, providers))
+        .collect(toMultiCurrencyScenarioArray());
+  }
+
   /**
    * Calculates the forecast value of the swap product.
    * <p>
@@ -9,10 +9,12 @@ import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
 import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
 import com.opengamma.strata.market.amount.CashFlows;
 import com.opengamma.strata.market.explain.ExplainMap;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.pricer.rate.RatesProviderScenarioArray;
 import com.opengamma.strata.product.swap.ResolvedSwap;
 import com.opengamma.strata.product.swap.ResolvedSwapTrade;
 
@@ -86,6 +88,20 @@ public class DiscountingSwapTradePricer {
     return productPricer.presentValue(trade.getProduct(), provider);
   }
 
+  /**
+   * Calculates the present value of the swap trade in each scenario.
+   * <p>
+   * The result is the same as calling {@link #presentValue(ResolvedSwapTrade, RatesProvider)} for each scenario.
+   * The trade is set up once and valued against all scenarios together where possible.
+   * 
+   * @param trade  the trade
+   * @param providers  the rates providers, one for each scenario
+   * @return the present value of the swap trade in each scenario
+   */
+  public MultiCurrencyScenarioArray presentValue(ResolvedSwapTrade trade, RatesProviderScenarioArray providers) {
+    return productPricer.presentValue(trade.getProduct(), providers);
+  }
+
   /**
    * Explains the present value of the swap trade.
    * <p>
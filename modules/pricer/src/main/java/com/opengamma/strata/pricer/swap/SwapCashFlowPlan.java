@@ -0,0 +1,342 @@
+/*
+ * Copyright (C) 2018 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.swap;
+
+import static com.opengamma.strata.basics.currency.MultiCurrencyAmount.toMultiCurrencyAmount;
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
+import com.opengamma.strata.basics.currency.Payment;
+import com.opengamma.strata.basics.index.IborIndex;
+import com.opengamma.strata.basics.index.IborIndexObservation;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.pricer.DiscountFactors;
+import com.opengamma.strata.pricer.rate.IborIndexRates;
+import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.product.rate.FixedRateComputation;
+import com.opengamma.strata.product.rate.IborRateComputation;
+import com.opengamma.strata.product.rate.RateComputation;
+import com.opengamma.strata.product.swap.NegativeRateMethod;
+import com.opengamma.strata.product.swap.NotionalExchange;
+import com.opengamma.strata.product.swap.RateAccrualPeriod;
+import com.opengamma.strata.product.swap.RatePaymentPeriod;
+import com.opengamma.strata.product.swap.ResolvedSwap;
+import com.opengamma.strata.product.swap.ResolvedSwapLeg;
+import com.opengamma.strata.product.swap.SwapPaymentEvent;
+import com.opengamma.strata.product.swap.SwapPaymentPeriod;
+
+/**
+ * A swap compiled into flat arrays for repeated valuation.
+ * <p>
+ * The standard pricers walk the object graph of the swap, dispatching on the type of each period,
+ * accrual period and rate computation, for every valuation. When the same swap is valued against
+ * many rates providers, such as one for each scenario, this work is repeated each time.
+ * This class performs the walk once, extracting the details of each period into primitive arrays.
+ * <p>
+ * Payment periods paying a fixed or Ibor rate over a single accrual period without FX reset
+ * are compiled, as are notional exchanges. Other periods and events are retained and valued
+ * using the standard pricers. The dates are retained rather than converted to year fractions,
+ * as the year fraction depends on the day count of the curves in the rates provider.
+ * <p>
+ * The present value and PVBP are the same as those of {@link DiscountingSwapProductPricer#DEFAULT}
+ * and {@link DiscountingSwapLegPricer#DEFAULT}, including the order of the floating point operations.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class SwapCashFlowPlan {
+
+  /**
+   * Whether the swap is cross-currency.
+   */
+  private final boolean crossCurrency;
+  /**
+   * The plans of the legs, in the same order as the legs of the swap.
+   */
+  private final ImmutableList<LegPlan> legs;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Compiles the plan of a swap.
+   *
+   * @param swap  the swap
+   * @return the plan
+   */
+  public static SwapCashFlowPlan of(ResolvedSwap swap) {
+    ArgChecker.notNull(swap, "swap");
+    return new SwapCashFlowPlan(
+        swap.isCrossCurrency(),
+        swap.getLegs().stream().map(LegPlan::new).collect(toImmutableList()));
+  }
+
+  // creates an instance
+  private SwapCashFlowPlan(boolean crossCurrency, ImmutableList<LegPlan> legs) {
+    this.crossCurrency = crossCurrency;
+    this.legs = legs;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the number of legs.
+   *
+   * @return the number of legs
+   */
+  public int getLegCount() {
+    return legs.size();
+  }
+
+  /**
+   * Gets the number of payment periods and events of all the legs that have been compiled.
+   * <p>
+   * Any other periods and events are valued using the standard pricers.
+   *
+   * @return the number of compiled periods and events
+   */
+  public int getCompiledCount() {
+    return legs.stream().mapToInt(LegPlan::compiledCount).sum();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the present value of the swap.
+   * <p>
+   * The result is the same as {@link DiscountingSwapProductPricer#presentValue(ResolvedSwap, RatesProvider)}.
+   *
+   * @param provider  the rates provider
+   * @return the present value of the swap
+   */
+  public MultiCurrencyAmount presentValue(RatesProvider provider) {
+    ArgChecker.notNull(provider, "provider");
+    if (crossCurrency) {
+      return legs.stream()
+          .map(leg -> CurrencyAmount.of(leg.currency, leg.presentValue(provider)))
+          .collect(toMultiCurrencyAmount());
+    }
+    double total = 0d;
+    for (LegPlan leg : legs) {
+      total += leg.presentValue(provider);
+    }
+    return MultiCurrencyAmount.of(legs.get(0).currency, total);
+  }
+
+  /**
+   * Calculates the present value of a leg of the swap.
+   * <p>
+   * The result is the same as {@link DiscountingSwapLegPricer#presentValue(ResolvedSwapLeg, RatesProvider)}.
+   *
+   * @param legIndex  the index of the leg in the swap
+   * @param provider  the rates provider
+   * @return the present value of the leg
+   */
+  public CurrencyAmount legPresentValue(int legIndex, RatesProvider provider) {
+    ArgChecker.inRange(legIndex, 0, legs.size(), "legIndex");
+    ArgChecker.notNull(provider, "provider");
+    LegPlan leg = legs.get(legIndex);
+    return CurrencyAmount.of(leg.currency, leg.presentValue(provider));
+  }
+
+  /**
+   * Calculates the present value of a basis point of a leg of the swap.
+   * <p>
+   * The result is the same as {@link DiscountingSwapLegPricer#pvbp(ResolvedSwapLeg, RatesProvider)}.
+   *
+   * @param legIndex  the index of the leg in the swap
+   * @param provider  the rates provider
+   * @return the present value of a basis point of the leg
+   */
+  public double pvbp(int legIndex, RatesProvider provider) {
+    ArgChecker.inRange(legIndex, 0, legs.size(), "legIndex");
+    ArgChecker.notNull(provider, "provider");
+    return legs.get(legIndex).pvbp(provider);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return new StringBuilder(64)
+        .append("SwapCashFlowPlan{legs=")
+        .append(legs.size())
+        .append(", compiled=")
+        .append(getCompiledCount())
+        .append('}')
+        .toString();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * The plan of a single leg.
+   * <p>
+   * There is one entry in the period arrays for each payment period, in the order of the leg.
+   * If the period was compiled, the other period is null, otherwise the arrays are not used.
+   * The observation is null for a fixed rate period.
+   * The event arrays are handled in the same way.
+   */
+  private static final class LegPlan {
+    private final Currency currency;
+    // the payment periods
+    private final LocalDate[] paymentDates;
+    private final double[] notionals;
+    private final double[] yearFractions;
+    private final double[] fixedRates;
+    private final IborIndexObservation[] observations;
+    private final double[] gearings;
+    private final double[] spreads;
+    private final NegativeRateMethod[] negativeRateMethods;
+    private final SwapPaymentPeriod[] otherPeriods;
+    // the payment events
+    private final LocalDate[] eventDates;
+    private final double[] eventAmounts;
+    private final SwapPaymentEvent[] otherEvents;
+
+    private LegPlan(ResolvedSwapLeg leg) {
+      this.currency = leg.getCurrency();
+      List<SwapPaymentPeriod> periods = leg.getPaymentPeriods();
+      int periodCount = periods.size();
+      this.paymentDates = new LocalDate[periodCount];
+      this.notionals = new double[periodCount];
+      this.yearFractions = new double[periodCount];
+      this.fixedRates = new double[periodCount];
+      this.observations = new IborIndexObservation[periodCount];
+      this.gearings = new double[periodCount];
+      this.spreads = new double[periodCount];
+      this.negativeRateMethods = new NegativeRateMethod[periodCount];
+      this.otherPeriods = new SwapPaymentPeriod[periodCount];
+      for (int i = 0; i < periodCount; i++) {
+        SwapPaymentPeriod period = periods.get(i);
+        paymentDates[i] = period.getPaymentDate();
+        if (!compile(i, period)) {
+          otherPeriods[i] = period;
+        }
+      }
+      List<SwapPaymentEvent> events = leg.getPaymentEvents();
+      int eventCount = events.size();
+      this.eventDates = new LocalDate[eventCount];
+      this.eventAmounts = new double[eventCount];
+      this.otherEvents = new SwapPaymentEvent[eventCount];
+      for (int i = 0; i < eventCount; i++) {
+        SwapPaymentEvent event = events.get(i);
+        eventDates[i] = event.getPaymentDate();
+        Payment payment = event instanceof NotionalExchange ? ((NotionalExchange) event).getPayment() : null;
+        if (payment != null && payment.getCurrency().equals(currency)) {
+          eventAmounts[i] = payment.getAmount();
+        } else {
+          otherEvents[i] = event;
+        }
+      }
+    }
+
+    // compiles the period, returning false if not supported
+    private boolean compile(int index, SwapPaymentPeriod period) {
+      if (!(period instanceof RatePaymentPeriod)) {
+        return false;
+      }
+      RatePaymentPeriod ratePeriod = (RatePaymentPeriod) period;
+      if (ratePeriod.getFxReset().isPresent() ||
+          ratePeriod.getAccrualPeriods().size() != 1 ||
+          !ratePeriod.getCurrency().equals(currency)) {
+        return false;
+      }
+      RateAccrualPeriod accrualPeriod = ratePeriod.getAccrualPeriods().get(0);
+      RateComputation computation = accrualPeriod.getRateComputation();
+      if (computation instanceof FixedRateComputation) {
+        fixedRates[index] = ((FixedRateComputation) computation).getRate();
+      } else if (computation instanceof IborRateComputation) {
+        observations[index] = ((IborRateComputation) computation).getObservation();
+      } else {
+        return false;
+      }
+      notionals[index] = ratePeriod.getNotional();
+      yearFractions[index] = accrualPeriod.getYearFraction();
+      gearings[index] = accrualPeriod.getGearing();
+      spreads[index] = accrualPeriod.getSpread();
+      negativeRateMethods[index] = accrualPeriod.getNegativeRateMethod();
+      return true;
+    }
+
+    // the number of compiled periods and events
+    private int compiledCount() {
+      int count = 0;
+      for (SwapPaymentPeriod period : otherPeriods) {
+        count += period == null ? 1 : 0;
+      }
+      for (SwapPaymentEvent event : otherEvents) {
+        count += event == null ? 1 : 0;
+      }
+      return count;
+    }
+
+    // the present value of the leg, summed in the same order as the leg pricer
+    private double presentValue(RatesProvider provider) {
+      LocalDate valuationDate = provider.getValuationDate();
+      DiscountFactors discountFactors = null;
+      IborIndex iborIndex = null;
+      IborIndexRates iborRates = null;
+      double periodTotal = 0d;
+      for (int i = 0; i < paymentDates.length; i++) {
+        if (!paymentDates[i].isBefore(valuationDate)) {
+          if (otherPeriods[i] != null) {
+            periodTotal += SwapPaymentPeriodPricer.standard().presentValue(otherPeriods[i], provider);
+          } else {
+            double rawRate;
+            IborIndexObservation observation = observations[i];
+            if (observation == null) {
+              rawRate = fixedRates[i];
+            } else {
+              if (!observation.getIndex().equals(iborIndex)) {
+                iborIndex = observation.getIndex();
+                iborRates = provider.iborIndexRates(iborIndex);
+              }
+              rawRate = iborRates.rate(observation);
+            }
+            double treatedRate = rawRate * gearings[i] + spreads[i];
+            double unitAccrual = negativeRateMethods[i].adjust(treatedRate * yearFractions[i]);
+            if (discountFactors == null) {
+              discountFactors = provider.discountFactors(currency);
+            }
+            periodTotal += unitAccrual * notionals[i] * discountFactors.discountFactor(paymentDates[i]);
+          }
+        }
+      }
+      double eventTotal = 0d;
+      for (int i = 0; i < eventDates.length; i++) {
+        if (!eventDates[i].isBefore(valuationDate)) {
+          if (otherEvents[i] != null) {
+            eventTotal += SwapPaymentEventPricer.standard().presentValue(otherEvents[i], provider);
+          } else {
+            if (discountFactors == null) {
+              discountFactors = provider.discountFactors(currency);
+            }
+            eventTotal += eventAmounts[i] * discountFactors.discountFactor(eventDates[i]);
+          }
+        }
+      }
+      return periodTotal + eventTotal;
+    }
+
+    // the present value of a basis point of the leg, summed in the same order as the leg pricer
+    private double pvbp(RatesProvider provider) {
+      DiscountFactors discountFactors = null;
+      double total = 0d;
+      for (int i = 0; i < paymentDates.length; i++) {
+        if (otherPeriods[i] != null) {
+          total += SwapPaymentPeriodPricer.standard().pvbp(otherPeriods[i], provider);
+        } else {
+          if (discountFactors == null) {
+            discountFactors = provider.discountFactors(currency);
+          }
+          total += discountFactors.discountFactor(paymentDates[i]) * yearFractions[i] * notionals[i];
+        }
+      }
+      return total;
+    }
+  }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2018 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.swap;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSortedSet;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.pricer.GridDiscountFactors;
+import com.opengamma.strata.pricer.rate.MemoizingRatesProvider;
+import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.product.swap.ResolvedSwap;
+import com.opengamma.strata.product.swap.ResolvedSwapLeg;
+import com.opengamma.strata.product.swap.SwapPaymentEvent;
+import com.opengamma.strata.product.swap.SwapPaymentPeriod;
+
+/**
+ * The distinct payment dates of a portfolio of swaps, by currency.
+ * <p>
+ * Most swaps in a portfolio pay on a small set of dates.
+ * This is a pre-pass over the swaps, collecting the payment date of each payment period and
+ * payment event, so that the discount factor for each date can be computed once before pricing.
+ * See {@link #discountFactorGrid(RatesProvider)} and {@link GridDiscountFactors}.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class SwapPaymentDates {
+
+  /**
+   * The payment dates, keyed by currency.
+   */
+  private final ImmutableMap<Currency, ImmutableSortedSet<LocalDate>> dates;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Collects the payment dates of the swaps.
+   *
+   * @param swaps  the swaps
+   * @return the payment dates
+   */
+  public static SwapPaymentDates of(Iterable<? extends ResolvedSwap> swaps) {
+    ArgChecker.notNull(swaps, "swaps");
+    Map<Currency, Set<LocalDate>> collected = new HashMap<>();
+    for (ResolvedSwap swap : swaps) {
+      for (ResolvedSwapLeg leg : swap.getLegs()) {
+        for (SwapPaymentPeriod period : leg.getPaymentPeriods()) {
+          collected.computeIfAbsent(period.getCurrency(), ccy -> new HashSet<>()).add(period.getPaymentDate());
+        }
+        for (SwapPaymentEvent event : leg.getPaymentEvents()) {
+          collected.computeIfAbsent(event.getCurrency(), ccy -> new HashSet<>()).add(event.getPaymentDate());
+        }
+      }
+    }
+    ImmutableMap.Builder<Currency, ImmutableSortedSet<LocalDate>> builder = ImmutableMap.builder();
+    collected.forEach((ccy, set) -> builder.put(ccy, ImmutableSortedSet.copyOf(set)));
+    return new SwapPaymentDates(builder.build());
+  }
+
+  // restricted constructor
+  private SwapPaymentDates(ImmutableMap<Currency, ImmutableSortedSet<LocalDate>> dates) {
+    this.dates = dates;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the payment dates, keyed by currency.
+   *
+   * @return the payment dates
+   */
+  public ImmutableMap<Currency, ImmutableSortedSet<LocalDate>> getDates() {
+    return dates;
+  }
+
+  /**
+   * Gets the payment dates in the specified currency.
+   *
+   * @param currency  the currency
+   * @return the payment dates, empty if none
+   */
+  public ImmutableSortedSet<LocalDate> getDates(Currency currency) {
+    return dates.getOrDefault(currency, ImmutableSortedSet.of());
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Returns a rates provider with the discount factors precomputed for the payment dates.
+   * <p>
+   * The discount factors of each currency available in the provider are replaced by
+   * {@link GridDiscountFactors} holding the discount factor for each payment date.
+   * The provider should be created once for each valuation of the portfolio.
+   *
+   * @param provider  the rates provider
+   * @return the rates provider with precomputed discount factors
+   */
+  public MemoizingRatesProvider discountFactorGrid(RatesProvider provider) {
+    return MemoizingRatesProvider.of(provider).withDiscountFactorGrid(dates);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return new StringBuilder(64)
+        .append("SwapPaymentDates{")
+        .append(dates)
+        .append('}')
+        .toString();
+  }
+
+}
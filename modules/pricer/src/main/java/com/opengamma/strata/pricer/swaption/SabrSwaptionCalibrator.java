@@ -5,15 +5,23 @@
  */
 package com.opengamma.strata.pricer.swaption;
 
+import static com.opengamma.strata.collect.Guavate.join;
+
 import java.time.LocalDate;
 import java.time.Period;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.BitSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
+import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.date.BusinessDayAdjustment;
 import com.opengamma.strata.basics.date.DayCount;
@@ -178,7 +186,6 @@ public final class SabrSwaptionCalibrator {
    *   expiries/tenors which throw MathException
    * @return the SABR volatility object
    */
-  @SuppressWarnings("null")
   public SabrParametersSwaptionVolatilities calibrateWithFixedBetaAndShift(
       SabrSwaptionDefinition definition,
       ZonedDateTime calibrationDateTime,
@@ -188,6 +195,137 @@ public final class SabrSwaptionCalibrator {
       Surface shiftSurface,
       boolean stopOnMathException) {
 
+    return calibrate(definition, calibrationDateTime, data, ratesProvider, betaSurface, shiftSurface,
+        stopOnMathException, null, null);
+  }
+
+  /**
+   * Calibrate SABR parameters to a set of raw swaption data, spreading the calibrations across an executor.
+   * <p>
+   * This produces the same result as
+   * {@link #calibrateWithFixedBetaAndShift(SabrSwaptionDefinition, ZonedDateTime, TenorRawOptionData,
+   * RatesProvider, Surface, Surface, boolean)}.
+   * The forward rates are computed first. The least-squares fit of each expiry/tenor, from each starting point,
+   * is then a separate task run by the executor. The best fit of each smile is selected and the surfaces
+   * are assembled in the same order as the sequential calibration, thus the result does not depend
+   * on the order in which the tasks complete.
+   * 
+   * @param definition  the definition of the calibration to be performed
+   * @param calibrationDateTime  the data and time of the calibration
+   * @param data  the map of raw option data, keyed by tenor
+   * @param ratesProvider  the rate provider used to compute the swap forward rates
+   * @param betaSurface  the beta surface
+   * @param shiftSurface  the shift surface
+   * @param stopOnMathException  flag indicating if the calibration should stop on math exceptions or skip the 
+   *   expiries/tenors which throw MathException
+   * @param executor  the executor used to run the calibrations
+   * @return the SABR volatility object
+   */
+  public SabrParametersSwaptionVolatilities calibrateWithFixedBetaAndShift(
+      SabrSwaptionDefinition definition,
+      ZonedDateTime calibrationDateTime,
+      TenorRawOptionData data,
+      RatesProvider ratesProvider,
+      Surface betaSurface,
+      Surface shiftSurface,
+      boolean stopOnMathException,
+      Executor executor) {
+
+    ArgChecker.notNull(executor, "executor");
+    return calibrate(definition, calibrationDateTime, data, ratesProvider, betaSurface, shiftSurface,
+        stopOnMathException, executor, null);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calibrate SABR parameters to a set of raw swaption data, starting each calibration from the
+   * parameters of the neighbouring smile.
+   * <p>
+   * The SABR parameters are calibrated with fixed beta and fixed shift surfaces, as in
+   * {@link #calibrateWithFixedBetaAndShift(SabrSwaptionDefinition, ZonedDateTime, TenorRawOptionData,
+   * RatesProvider, Surface, Surface, boolean)}.
+   * Adjacent expiries and tenors usually have similar parameters. The smiles are calibrated in the order
+   * of the data. Each smile is first calibrated from a single starting point: the parameters calibrated
+   * for the previous expiry of the same tenor or, for the first expiry, the parameters calibrated for the
+   * same expiry of a previous tenor. If the fit is good, with a root mean square error not larger than
+   * the one basis point volatility error used in the calibration, it is used and the four starting points
+   * of the standard calibration are not tried. Otherwise, the best of the five calibrations is used.
+   * 
+   * @param definition  the definition of the calibration to be performed
+   * @param calibrationDateTime  the data and time of the calibration
+   * @param data  the map of raw option data, keyed by tenor
+   * @param ratesProvider  the rate provider used to compute the swap forward rates
+   * @param betaSurface  the beta surface
+   * @param shiftSurface  the shift surface
+   * @param stopOnMathException  flag indicating if the calibration should stop on math exceptions or skip the 
+   *   expiries/tenors which throw MathException
+   * @return the SABR volatility object
+   */
+  public SabrParametersSwaptionVolatilities calibrateWithFixedBetaAndShiftFromNeighbours(
+      SabrSwaptionDefinition definition,
+      ZonedDateTime calibrationDateTime,
+      TenorRawOptionData data,
+      RatesProvider ratesProvider,
+      Surface betaSurface,
+      Surface shiftSurface,
+      boolean stopOnMathException) {
+
+    return calibrate(definition, calibrationDateTime, data, ratesProvider, betaSurface, shiftSurface,
+        stopOnMathException, null, new Seeds(null));
+  }
+
+  /**
+   * Calibrate SABR parameters to a set of raw swaption data, starting each calibration from the
+   * parameters of a prior calibration.
+   * <p>
+   * The SABR parameters are calibrated with fixed beta and fixed shift surfaces, as in
+   * {@link #calibrateWithFixedBetaAndShift(SabrSwaptionDefinition, ZonedDateTime, TenorRawOptionData,
+   * RatesProvider, Surface, Surface, boolean)}.
+   * The prior calibration is typically that of the previous day. Each smile is first calibrated from
+   * a single starting point: the alpha, rho and nu of the prior parameters at the expiry and tenor of the smile,
+   * with the beta of the beta surface. If the fit is good, with a root mean square error not larger than
+   * the one basis point volatility error used in the calibration, it is used and the four starting points
+   * of the standard calibration are not tried. Otherwise, the best of the five calibrations is used.
+   * 
+   * @param definition  the definition of the calibration to be performed
+   * @param calibrationDateTime  the data and time of the calibration
+   * @param data  the map of raw option data, keyed by tenor
+   * @param ratesProvider  the rate provider used to compute the swap forward rates
+   * @param betaSurface  the beta surface
+   * @param shiftSurface  the shift surface
+   * @param stopOnMathException  flag indicating if the calibration should stop on math exceptions or skip the 
+   *   expiries/tenors which throw MathException
+   * @param prior  the prior calibration, used for the starting points
+   * @return the SABR volatility object
+   */
+  public SabrParametersSwaptionVolatilities calibrateWithFixedBetaAndShiftFromPrior(
+      SabrSwaptionDefinition definition,
+      ZonedDateTime calibrationDateTime,
+      TenorRawOptionData data,
+      RatesProvider ratesProvider,
+      Surface betaSurface,
+      Surface shiftSurface,
+      boolean stopOnMathException,
+      SabrParametersSwaptionVolatilities prior) {
+
+    ArgChecker.notNull(prior, "prior");
+    return calibrate(definition, calibrationDateTime, data, ratesProvider, betaSurface, shiftSurface,
+        stopOnMathException, null, new Seeds(prior.getParameters()));
+  }
+
+  // calibrates the smiles, sequentially if the executor is null, from the seeds if not null
+  @SuppressWarnings("null")
+  private SabrParametersSwaptionVolatilities calibrate(
+      SabrSwaptionDefinition definition,
+      ZonedDateTime calibrationDateTime,
+      TenorRawOptionData data,
+      RatesProvider ratesProvider,
+      Surface betaSurface,
+      Surface shiftSurface,
+      boolean stopOnMathException,
+      Executor executor,
+      Seeds seeds) {
+
     SwaptionVolatilitiesName name = definition.getName();
     FixedIborSwapConvention convention = definition.getConvention();
     DayCount dayCount = definition.getDayCount();
@@ -203,62 +341,61 @@ public final class SabrSwaptionCalibrator {
     TreeMap<Double, TreeMap<Double, DoubleArray>> dataSensitivityRhoTmp = new TreeMap<>();
     TreeMap<Double, TreeMap<Double, DoubleArray>> dataSensitivityNuTmp = new TreeMap<>();
     TreeMap<Double, TreeMap<Double, SabrFormulaData>> sabrPointTmp = new TreeMap<>();
-    for (Tenor tenor : data.getTenors()) {
-      RawOptionData tenorData = data.getData(tenor);
-      double timeTenor = tenor.getPeriod().getYears() + tenor.getPeriod().getMonths() / 12;
-      List<Period> expiries = tenorData.getExpiries();
-      int nbExpiries = expiries.size();
-      for (int loopexpiry = 0; loopexpiry < nbExpiries; loopexpiry++) {
-        Pair<DoubleArray, DoubleArray> availableSmile = tenorData.availableSmileAtExpiry(expiries.get(loopexpiry));
-        if (availableSmile.getFirst().size() == 0) { // If not data is available, no calibration possible
-          continue;
+    List<SmilePoint> points = smilePoints(convention, dayCount, bda, calibrationDate, data, ratesProvider,
+        betaSurface, shiftSurface);
+    List<Supplier<Pair<SabrFormulaData, DoubleMatrix>>> calibrations = new ArrayList<>(points.size());
+    for (SmilePoint point : points) {
+      if (executor != null) {
+        calibrations.add(calibrationAsync(point, fixed, bda, calibrationDateTime, dayCount, executor));
+      } else if (seeds != null) {
+        // the seed is obtained when the calibration is run, after the calibration of the previous smiles
+        calibrations.add(() -> seededCalibration(
+            point, seeds.seed(point, fixed), fixed, bda, calibrationDateTime, dayCount));
+      } else {
+        calibrations.add(() -> calibration(point, fixed, bda, calibrationDateTime, dayCount));
+      }
+    }
+    for (int loopPoint = 0; loopPoint < points.size(); loopPoint++) {
+      SmilePoint point = points.get(loopPoint);
+      double timeToExpiry = point.timeToExpiry;
+      double timeTenor = point.timeTenor;
+      SabrFormulaData sabrPoint = null;
+      DoubleMatrix inverseJacobian = null;
+      boolean error = false;
+      try {
+        Pair<SabrFormulaData, DoubleMatrix> calibrationResult = calibrations.get(loopPoint).get();
+        sabrPoint = calibrationResult.getFirst();
+        inverseJacobian = calibrationResult.getSecond();
+      } catch (MathException e) {
+        error = true;
+        if (stopOnMathException) {
+          String message = Messages.format("{} at expiry {} and tenor {}", e.getMessage(), point.expiry, point.tenor);
+          throw new MathException(message, e);
         }
-        LocalDate exerciseDate = expirationDate(bda, calibrationDate, expiries.get(loopexpiry));
-        LocalDate effectiveDate = convention.calculateSpotDateFromTradeDate(exerciseDate, refData);
-        double timeToExpiry = dayCount.relativeYearFraction(calibrationDate, exerciseDate);
-        double beta = betaSurface.zValue(timeToExpiry, timeTenor);
-        double shift = shiftSurface.zValue(timeToExpiry, timeTenor);
-        LocalDate endDate = effectiveDate.plus(tenor);
-        SwapTrade swap0 = convention.toTrade(calibrationDate, effectiveDate, endDate, BuySell.BUY, 1.0, 0.0);
-        double forward = swapPricer.parRate(swap0.getProduct().resolve(refData), ratesProvider);
-        SabrFormulaData sabrPoint = null;
-        DoubleMatrix inverseJacobian = null;
-        boolean error = false;
-        try {
-          Pair<SabrFormulaData, DoubleMatrix> calibrationResult =
-              calibration(forward, shift, beta, fixed, bda, calibrationDateTime, dayCount,
-                  availableSmile.getFirst(), availableSmile.getSecond(), expiries.get(loopexpiry), tenorData);
-          sabrPoint = calibrationResult.getFirst();
-          inverseJacobian = calibrationResult.getSecond();
-        } catch (MathException e) {
-          error = true;
-          if (stopOnMathException) {
-            String message = Messages.format("{} at expiry {} and tenor {}", e.getMessage(),
-                expiries.get(loopexpiry), tenor);
-            throw new MathException(message, e);
-          }
+      }
+      if (!error) {
+        if (!parameterMetadataTmp.containsKey(timeToExpiry)) {
+          parameterMetadataTmp.put(timeToExpiry, new TreeMap<>());
+          dataSensitivityAlphaTmp.put(timeToExpiry, new TreeMap<>());
+          dataSensitivityRhoTmp.put(timeToExpiry, new TreeMap<>());
+          dataSensitivityNuTmp.put(timeToExpiry, new TreeMap<>());
+          sabrPointTmp.put(timeToExpiry, new TreeMap<>());
         }
-        if (!error) {
-          if (!parameterMetadataTmp.containsKey(timeToExpiry)) {
-            parameterMetadataTmp.put(timeToExpiry, new TreeMap<>());
-            dataSensitivityAlphaTmp.put(timeToExpiry, new TreeMap<>());
-            dataSensitivityRhoTmp.put(timeToExpiry, new TreeMap<>());
-            dataSensitivityNuTmp.put(timeToExpiry, new TreeMap<>());
-            sabrPointTmp.put(timeToExpiry, new TreeMap<>());
-          }
-          TreeMap<Double, ParameterMetadata> parameterMetadataExpiryMap = parameterMetadataTmp.get(timeToExpiry);
-          TreeMap<Double, DoubleArray> dataSensitivityAlphaExpiryMap = dataSensitivityAlphaTmp.get(timeToExpiry);
-          TreeMap<Double, DoubleArray> dataSensitivityRhoExpiryMap = dataSensitivityRhoTmp.get(timeToExpiry);
-          TreeMap<Double, DoubleArray> dataSensitivityNuExpiryMap = dataSensitivityNuTmp.get(timeToExpiry);
-          TreeMap<Double, SabrFormulaData> sabrPointExpiryMap = sabrPointTmp.get(timeToExpiry);
-          parameterMetadataExpiryMap.put(timeTenor, SwaptionSurfaceExpiryTenorParameterMetadata.of(
-              timeToExpiry,
-              timeTenor,
-              expiries.get(loopexpiry).toString() + "x" + tenor.toString()));
-          dataSensitivityAlphaExpiryMap.put(timeTenor, inverseJacobian.row(0));
-          dataSensitivityRhoExpiryMap.put(timeTenor, inverseJacobian.row(2));
-          dataSensitivityNuExpiryMap.put(timeTenor, inverseJacobian.row(3));
-          sabrPointExpiryMap.put(timeTenor, sabrPoint);
+        TreeMap<Double, ParameterMetadata> parameterMetadataExpiryMap = parameterMetadataTmp.get(timeToExpiry);
+        TreeMap<Double, DoubleArray> dataSensitivityAlphaExpiryMap = dataSensitivityAlphaTmp.get(timeToExpiry);
+        TreeMap<Double, DoubleArray> dataSensitivityRhoExpiryMap = dataSensitivityRhoTmp.get(timeToExpiry);
+        TreeMap<Double, DoubleArray> dataSensitivityNuExpiryMap = dataSensitivityNuTmp.get(timeToExpiry);
+        TreeMap<Double, SabrFormulaData> sabrPointExpiryMap = sabrPointTmp.get(timeToExpiry);
+        parameterMetadataExpiryMap.put(timeTenor, SwaptionSurfaceExpiryTenorParameterMetadata.of(
+            timeToExpiry,
+            timeTenor,
+            point.expiry.toString() + "x" + point.tenor.toString()));
+        dataSensitivityAlphaExpiryMap.put(timeTenor, inverseJacobian.row(0));
+        dataSensitivityRhoExpiryMap.put(timeTenor, inverseJacobian.row(2));
+        dataSensitivityNuExpiryMap.put(timeTenor, inverseJacobian.row(3));
+        sabrPointExpiryMap.put(timeTenor, sabrPoint);
+        if (seeds != null) {
+          seeds.calibrated(point, sabrPoint);
         }
       }
     }
@@ -317,25 +454,122 @@ public final class SabrSwaptionCalibrator {
         .dataSensitivityNu(dataSensitivityNu).build();
   }
 
+  // The smiles to calibrate, one for each expiry and tenor with available data, in the order of the data
+  private List<SmilePoint> smilePoints(
+      FixedIborSwapConvention convention,
+      DayCount dayCount,
+      BusinessDayAdjustment bda,
+      LocalDate calibrationDate,
+      TenorRawOptionData data,
+      RatesProvider ratesProvider,
+      Surface betaSurface,
+      Surface shiftSurface) {
+
+    List<SmilePoint> points = new ArrayList<>();
+    for (Tenor tenor : data.getTenors()) {
+      RawOptionData tenorData = data.getData(tenor);
+      double timeTenor = tenor.getPeriod().getYears() + tenor.getPeriod().getMonths() / 12;
+      List<Period> expiries = tenorData.getExpiries();
+      int nbExpiries = expiries.size();
+      for (int loopexpiry = 0; loopexpiry < nbExpiries; loopexpiry++) {
+        Pair<DoubleArray, DoubleArray> availableSmile = tenorData.availableSmileAtExpiry(expiries.get(loopexpiry));
+        if (availableSmile.getFirst().size() == 0) { // If not data is available, no calibration possible
+          continue;
+        }
+        LocalDate exerciseDate = expirationDate(bda, calibrationDate, expiries.get(loopexpiry));
+        LocalDate effectiveDate = convention.calculateSpotDateFromTradeDate(exerciseDate, refData);
+        double timeToExpiry = dayCount.relativeYearFraction(calibrationDate, exerciseDate);
+        double beta = betaSurface.zValue(timeToExpiry, timeTenor);
+        double shift = shiftSurface.zValue(timeToExpiry, timeTenor);
+        LocalDate endDate = effectiveDate.plus(tenor);
+        SwapTrade swap0 = convention.toTrade(calibrationDate, effectiveDate, endDate, BuySell.BUY, 1.0, 0.0);
+        double forward = swapPricer.parRate(swap0.getProduct().resolve(refData), ratesProvider);
+        points.add(new SmilePoint(
+            tenor, expiries.get(loopexpiry), timeTenor, timeToExpiry, forward, shift, beta, availableSmile, tenorData));
+      }
+    }
+    return points;
+  }
+
   // The main part of the calibration. The calibration is done 4 times with different starting points: low and high
   // volatilities and high and low vol of vol. The best result (in term of chi^2) is returned.
   private Pair<SabrFormulaData, DoubleMatrix> calibration(
-      double forward,
-      double shift,
-      double beta,
+      SmilePoint point,
+      BitSet fixed,
+      BusinessDayAdjustment bda,
+      ZonedDateTime calibrationDateTime,
+      DayCount dayCount) {
+
+    List<Pair<LeastSquareResultsWithTransform, DoubleArray>> results = new ArrayList<>(4);
+    for (DoubleArray startParameters : startParameters(point)) { // Try different starting points and take the best
+      results.add(calibration(point, startParameters, fixed, bda, calibrationDateTime, dayCount));
+    }
+    return bestCalibration(results);
+  }
+
+  // The calibration from the seed, if any. If the fit is not good, the standard starting points are also tried.
+  private Pair<SabrFormulaData, DoubleMatrix> seededCalibration(
+      SmilePoint point,
+      DoubleArray seed,
+      BitSet fixed,
+      BusinessDayAdjustment bda,
+      ZonedDateTime calibrationDateTime,
+      DayCount dayCount) {
+
+    if (seed == null) {
+      return calibration(point, fixed, bda, calibrationDateTime, dayCount);
+    }
+    Pair<LeastSquareResultsWithTransform, DoubleArray> seeded = null;
+    try {
+      seeded = calibration(point, seed, fixed, bda, calibrationDateTime, dayCount);
+    } catch (MathException e) {
+      // the standard starting points are used
+    }
+    // the errors are 1bp, thus the root mean square error is at most 1bp
+    if (seeded != null && seeded.getFirst().getChiSq() <= point.strikes.size()) {
+      return bestCalibration(ImmutableList.of(seeded));
+    }
+    List<Pair<LeastSquareResultsWithTransform, DoubleArray>> results = new ArrayList<>(5);
+    for (DoubleArray startParameters : startParameters(point)) {
+      results.add(calibration(point, startParameters, fixed, bda, calibrationDateTime, dayCount));
+    }
+    if (seeded != null) {
+      results.add(seeded);
+    }
+    return bestCalibration(results);
+  }
+
+  // The calibration from each starting point is run by the executor.
+  // The tasks are submitted before any result is awaited, thus this never waits on a task of the same executor.
+  private Supplier<Pair<SabrFormulaData, DoubleMatrix>> calibrationAsync(
+      SmilePoint point,
       BitSet fixed,
       BusinessDayAdjustment bda,
       ZonedDateTime calibrationDateTime,
       DayCount dayCount,
-      DoubleArray strike,
-      DoubleArray data,
-      Period expiry,
-      RawOptionData rawData) {
+      Executor executor) {
+
+    List<CompletableFuture<Pair<LeastSquareResultsWithTransform, DoubleArray>>> futures = new ArrayList<>(4);
+    for (DoubleArray startParameters : startParameters(point)) {
+      futures.add(CompletableFuture.supplyAsync(
+          () -> calibration(point, startParameters, fixed, bda, calibrationDateTime, dayCount), executor));
+    }
+    return () -> {
+      List<Pair<LeastSquareResultsWithTransform, DoubleArray>> results = new ArrayList<>(4);
+      for (CompletableFuture<Pair<LeastSquareResultsWithTransform, DoubleArray>> future : futures) {
+        results.add(join(future));
+      }
+      return bestCalibration(results);
+    };
+  }
 
+  // The starting points: low and high volatilities and high and low vol of vol
+  private static List<DoubleArray> startParameters(SmilePoint point) {
+    double beta = point.beta;
     double rhoStart = -0.50 * beta + 0.50 * (1 - beta);
     // Correlation is usually positive for normal and negative for log-normal;.
     double[] alphaStart = new double[4];
-    alphaStart[0] = 0.0025 / Math.pow(forward + shift, beta); // Low vol
+    alphaStart[0] = 0.0025 / Math.pow(point.forward + point.shift, beta); // Low vol
     alphaStart[1] = alphaStart[0];
     alphaStart[2] = 4 * alphaStart[0]; // High vol
     alphaStart[3] = alphaStart[2];
@@ -344,30 +578,56 @@ public final class SabrSwaptionCalibrator {
     nuStart[1] = 0.50; // High vol of vol
     nuStart[2] = 0.10;
     nuStart[3] = 0.50;
-    double chi2 = 1.0E+12; // Large number 
-    Pair<LeastSquareResultsWithTransform, DoubleArray> sabrCalibrationResult = null;
-    for (int i = 0; i < 4; i++) { // Try different starting points and take the best
-      DoubleArray startParameters = DoubleArray.of(alphaStart[i], beta, rhoStart, nuStart[i]);
-      Pair<LeastSquareResultsWithTransform, DoubleArray> r = null;
-      if (rawData.getDataType().equals(ValueType.NORMAL_VOLATILITY)) {
-        r = calibrateLsShiftedFromNormalVolatilities(bda, calibrationDateTime, dayCount,
+    List<DoubleArray> startParameters = new ArrayList<>(4);
+    for (int i = 0; i < 4; i++) {
+      startParameters.add(DoubleArray.of(alphaStart[i], beta, rhoStart, nuStart[i]));
+    }
+    return startParameters;
+  }
+
+  // The calibration from one starting point
+  private Pair<LeastSquareResultsWithTransform, DoubleArray> calibration(
+      SmilePoint point,
+      DoubleArray startParameters,
+      BitSet fixed,
+      BusinessDayAdjustment bda,
+      ZonedDateTime calibrationDateTime,
+      DayCount dayCount) {
+
+    RawOptionData rawData = point.rawData;
+    Period expiry = point.expiry;
+    double forward = point.forward;
+    double shift = point.shift;
+    DoubleArray strike = point.strikes;
+    DoubleArray data = point.data;
+    if (rawData.getDataType().equals(ValueType.NORMAL_VOLATILITY)) {
+      return calibrateLsShiftedFromNormalVolatilities(bda, calibrationDateTime, dayCount,
+          expiry, forward, strike, rawData.getStrikeType(),
+          data, startParameters, fixed, shift);
+    } else {
+      if (rawData.getDataType().equals(ValueType.PRICE)) {
+        return calibrateLsShiftedFromPrices(bda, calibrationDateTime, dayCount,
             expiry, forward, strike, rawData.getStrikeType(),
             data, startParameters, fixed, shift);
       } else {
-        if (rawData.getDataType().equals(ValueType.PRICE)) {
-          r = calibrateLsShiftedFromPrices(bda, calibrationDateTime, dayCount,
+        if (rawData.getDataType().equals(ValueType.BLACK_VOLATILITY)) {
+          return calibrateLsShiftedFromBlackVolatilities(bda, calibrationDateTime, dayCount,
               expiry, forward, strike, rawData.getStrikeType(),
-              data, startParameters, fixed, shift);
+              data, rawData.getShift().orElse(0d), startParameters, fixed, shift);
         } else {
-          if (rawData.getDataType().equals(ValueType.BLACK_VOLATILITY)) {
-            r = calibrateLsShiftedFromBlackVolatilities(bda, calibrationDateTime, dayCount,
-                expiry, forward, strike, rawData.getStrikeType(),
-                data, rawData.getShift().orElse(0d), startParameters, fixed, shift);
-          } else {
-            throw new IllegalArgumentException("Data type not supported");
-          }
+          throw new IllegalArgumentException("Data type not supported");
         }
       }
+    }
+  }
+
+  // The best result (in term of chi^2), the first in case of equality
+  private static Pair<SabrFormulaData, DoubleMatrix> bestCalibration(
+      List<Pair<LeastSquareResultsWithTransform, DoubleArray>> results) {
+
+    double chi2 = 1.0E+12; // Large number 
+    Pair<LeastSquareResultsWithTransform, DoubleArray> sabrCalibrationResult = null;
+    for (Pair<LeastSquareResultsWithTransform, DoubleArray> r : results) {
       if (r.getFirst().getChiSq() < chi2) { // Keep best calibration
         sabrCalibrationResult = r;
         chi2 = r.getFirst().getChiSq();
@@ -899,4 +1159,92 @@ public final class SabrSwaptionCalibrator {
     return bda.adjust(calibrationDate.plus(expiry), refData);
   }
 
+  //-------------------------------------------------------------------------
+  // the starting points of the seeded calibration, from prior parameters or from the neighbouring smiles
+  private static final class Seeds {
+    // the prior parameters, null to use the neighbouring smiles
+    private final SabrInterestRateParameters prior;
+    // the latest parameters calibrated at each expiry
+    private final Map<Period, SabrFormulaData> calibratedByExpiry = new HashMap<>();
+    // the tenor of the smile being calibrated
+    private Tenor tenor;
+    // the parameters calibrated for the previous expiry of the tenor, null if none
+    private SabrFormulaData previous;
+
+    private Seeds(SabrInterestRateParameters prior) {
+      this.prior = prior;
+    }
+
+    // the seed of the smile, null if none
+    private DoubleArray seed(SmilePoint point, BitSet fixed) {
+      double alpha;
+      double rho;
+      double nu;
+      if (prior != null) {
+        alpha = prior.alpha(point.timeToExpiry, point.timeTenor);
+        rho = prior.rho(point.timeToExpiry, point.timeTenor);
+        nu = prior.nu(point.timeToExpiry, point.timeTenor);
+      } else {
+        if (!point.tenor.equals(tenor)) {
+          tenor = point.tenor;
+          previous = null;
+        }
+        SabrFormulaData neighbour = previous != null ? previous : calibratedByExpiry.get(point.expiry);
+        if (neighbour == null) {
+          return null;
+        }
+        alpha = neighbour.getAlpha();
+        rho = neighbour.getRho();
+        nu = neighbour.getNu();
+      }
+      // the seed must be strictly within the limits of the SABR fitter
+      DoubleArray seed = DoubleArray.of(alpha, point.beta, rho, nu);
+      return SabrModelFitter.isWithinLimits(seed, fixed) ? seed : null;
+    }
+
+    // records the parameters calibrated for the smile
+    private void calibrated(SmilePoint point, SabrFormulaData parameters) {
+      previous = parameters;
+      calibratedByExpiry.put(point.expiry, parameters);
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  // the market data of a smile to calibrate
+  private static final class SmilePoint {
+    private final Tenor tenor;
+    private final Period expiry;
+    private final double timeTenor;
+    private final double timeToExpiry;
+    private final double forward;
+    private final double shift;
+    private final double beta;
+    private final DoubleArray strikes;
+    private final DoubleArray data;
+    private final RawOptionData rawData;
+
+    private SmilePoint(
+        Tenor tenor,
+        Period expiry,
+        double timeTenor,
+        double timeToExpiry,
+        double forward,
+        double shift,
+        double beta,
+        Pair<DoubleArray, DoubleArray> smile,
+        RawOptionData rawData) {
+
+      this.tenor = tenor;
+      this.expiry = expiry;
+      this.timeTenor = timeTenor;
+      this.timeToExpiry = timeToExpiry;
+      this.forward = forward;
+      this.shift = shift;
+      this.beta = beta;
+      this.strikes = smile.getFirst();
+      this.data = smile.getSecond();
+      this.rawData = rawData;
+    }
+  }
+
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2018 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer;
+
+import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.basics.date.DayCounts.ACT_360;
+import static com.opengamma.strata.basics.date.DayCounts.ACT_365F;
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.testng.Assert.assertEquals;
+
+import java.time.LocalDate;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.market.curve.CurveMetadata;
+import com.opengamma.strata.market.curve.CurveName;
+import com.opengamma.strata.market.curve.Curves;
+import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
+import com.opengamma.strata.market.curve.InterpolatedNodalCurveScenarioArray;
+import com.opengamma.strata.market.curve.interpolator.CurveExtrapolators;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolator;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
+
+/**
+ * Test {@link DiscountFactorsScenarioArray}.
+ */
+@Test
+public class DiscountFactorsScenarioArrayTest {
+
+  private static final LocalDate DATE_VAL = date(2015, 6, 4);
+  private static final LocalDate DATE_AFTER = date(2015, 7, 30);
+  private static final LocalDate DATE_LONG = date(2024, 1, 15);
+
+  private static final CurveInterpolator INTERPOLATOR = CurveInterpolators.LINEAR;
+  private static final CurveName NAME = CurveName.of("TestCurve");
+  private static final CurveMetadata METADATA = Curves.zeroRates(NAME, ACT_365F);
+  private static final DoubleArray XVALUES = DoubleArray.of(0, 10);
+  private static final DoubleMatrix YVALUES = DoubleMatrix.of(3, 2,
+      0.01, 0.02,
+      0.02, 0.03,
+      0.015, 0.01);
+  private static final InterpolatedNodalCurveScenarioArray CURVES = InterpolatedNodalCurveScenarioArray.of(
+      METADATA, XVALUES, YVALUES, INTERPOLATOR, CurveExtrapolators.FLAT, CurveExtrapolators.FLAT);
+
+  //-------------------------------------------------------------------------
+  public void test_of_curves() {
+    DiscountFactorsScenarioArray test = DiscountFactorsScenarioArray.of(GBP, DATE_VAL, CURVES);
+    assertEquals(test.getCurrency(), GBP);
+    assertEquals(test.getValuationDate(), DATE_VAL);
+    assertEquals(test.getScenarioCount(), 3);
+    for (int i = 0; i < 3; i++) {
+      assertEquals(test.get(i), ZeroRateDiscountFactors.of(GBP, DATE_VAL, CURVES.get(i)));
+    }
+  }
+
+  public void test_of_mismatch() {
+    DiscountFactors gbp = DiscountFactors.of(GBP, DATE_VAL, CURVES.get(0));
+    DiscountFactors usd = DiscountFactors.of(USD, DATE_VAL, CURVES.get(1));
+    DiscountFactors otherDate = DiscountFactors.of(GBP, DATE_AFTER, CURVES.get(1));
+    assertThrowsIllegalArg(() -> DiscountFactorsScenarioArray.of(ImmutableList.of(gbp, usd)));
+    assertThrowsIllegalArg(() -> DiscountFactorsScenarioArray.of(ImmutableList.of(gbp, otherDate)));
+    assertThrowsIllegalArg(() -> DiscountFactorsScenarioArray.of(ImmutableList.of()));
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_discountFactor() {
+    DiscountFactorsScenarioArray test = DiscountFactorsScenarioArray.of(GBP, DATE_VAL, CURVES);
+    for (LocalDate date : ImmutableList.of(DATE_VAL, DATE_AFTER, DATE_LONG)) {
+      DoubleArray dfs = test.discountFactor(date);
+      assertEquals(dfs.size(), 3);
+      for (int i = 0; i < 3; i++) {
+        assertEquals(dfs.get(i), test.get(i).discountFactor(date));
+      }
+    }
+  }
+
+  public void test_discountFactor_mixed() {
+    // different day counts and curve types, so the year fraction is not shared
+    InterpolatedNodalCurve act360 = InterpolatedNodalCurve.of(
+        Curves.zeroRates(NAME, ACT_360), XVALUES, YVALUES.row(1), INTERPOLATOR);
+    InterpolatedNodalCurve simple = InterpolatedNodalCurve.of(
+        Curves.discountFactors(NAME, ACT_365F), XVALUES, DoubleArray.of(1d, 0.8d), INTERPOLATOR);
+    DiscountFactorsScenarioArray test = DiscountFactorsScenarioArray.of(ImmutableList.of(
+        DiscountFactors.of(GBP, DATE_VAL, CURVES.get(0)),
+        DiscountFactors.of(GBP, DATE_VAL, act360),
+        DiscountFactors.of(GBP, DATE_VAL, simple)));
+    DoubleArray dfs = test.discountFactor(DATE_LONG);
+    for (int i = 0; i < 3; i++) {
+      assertEquals(dfs.get(i), test.get(i).discountFactor(DATE_LONG));
+    }
+  }
+
+}
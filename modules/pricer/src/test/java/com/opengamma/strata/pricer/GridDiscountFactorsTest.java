@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2018 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer;
+
+import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.basics.date.DayCounts.ACT_365F;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static com.opengamma.strata.pricer.CompoundedRateType.CONTINUOUS;
+import static com.opengamma.strata.pricer.CompoundedRateType.PERIODIC;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+import java.time.LocalDate;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.market.curve.Curves;
+import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
+
+/**
+ * Test {@link GridDiscountFactors}.
+ */
+@Test
+public class GridDiscountFactorsTest {
+
+  private static final LocalDate DATE_VAL = date(2015, 6, 4);
+  private static final LocalDate DATE_AFTER = date(2015, 7, 30);
+  private static final LocalDate DATE_LATER = date(2020, 7, 30);
+  private static final LocalDate DATE_OTHER = date(2017, 3, 2);
+  private static final InterpolatedNodalCurve CURVE = InterpolatedNodalCurve.of(
+      Curves.zeroRates("TestCurve", ACT_365F),
+      DoubleArray.of(0, 2, 10),
+      DoubleArray.of(0.01, 0.015, 0.02),
+      CurveInterpolators.NATURAL_SPLINE);
+  private static final ZeroRateDiscountFactors BASE = ZeroRateDiscountFactors.of(GBP, DATE_VAL, CURVE);
+  private static final ImmutableList<LocalDate> DATES = ImmutableList.of(DATE_LATER, DATE_AFTER, DATE_LATER);
+
+  //-------------------------------------------------------------------------
+  public void test_of() {
+    GridDiscountFactors test = GridDiscountFactors.of(BASE, DATES);
+    assertSame(test.getUnderlying(), BASE);
+    assertEquals(test.getGridSize(), 2);
+    assertEquals(test.getCurrency(), GBP);
+    assertEquals(test.getValuationDate(), DATE_VAL);
+    assertEquals(test.findData(CURVE.getName()), BASE.findData(CURVE.getName()));
+    assertEquals(test.getParameterCount(), BASE.getParameterCount());
+    assertEquals(test.getParameter(0), BASE.getParameter(0));
+    assertEquals(test.getParameterMetadata(0), BASE.getParameterMetadata(0));
+    assertEquals(test.withParameter(0, 1d), BASE.withParameter(0, 1d));
+    assertEquals(test.withPerturbation((i, v, m) -> v + 1d), BASE.withPerturbation((i, v, m) -> v + 1d));
+    assertEquals(test.toString().contains("gridSize=2"), true);
+    GridDiscountFactors regrid = GridDiscountFactors.of(test, ImmutableList.of(DATE_OTHER));
+    assertSame(regrid.getUnderlying(), BASE);
+    assertEquals(regrid.getGridSize(), 1);
+  }
+
+  public void test_discountFactor() {
+    GridDiscountFactors test = GridDiscountFactors.of(BASE, DATES);
+    for (LocalDate date : new LocalDate[] {DATE_VAL.minusDays(1), DATE_VAL, DATE_AFTER, DATE_OTHER, DATE_LATER}) {
+      assertEquals(test.discountFactor(date), BASE.discountFactor(date));
+      assertEquals(test.relativeYearFraction(date), BASE.relativeYearFraction(date));
+      assertEquals(test.zeroRate(date), BASE.zeroRate(date));
+      assertEquals(test.zeroRatePointSensitivity(date), BASE.zeroRatePointSensitivity(date));
+      assertEquals(test.zeroRatePointSensitivity(date, USD), BASE.zeroRatePointSensitivity(date, USD));
+      assertEquals(
+          test.discountFactorWithSpread(date, 0.01, PERIODIC, 2),
+          BASE.discountFactorWithSpread(date, 0.01, PERIODIC, 2));
+      assertEquals(
+          test.zeroRatePointSensitivityWithSpread(date, USD, 0.01, CONTINUOUS, 0),
+          BASE.zeroRatePointSensitivityWithSpread(date, USD, 0.01, CONTINUOUS, 0));
+      double yearFraction = BASE.relativeYearFraction(date);
+      assertEquals(test.discountFactor(yearFraction), BASE.discountFactor(yearFraction));
+      assertEquals(test.discountFactorTimeDerivative(yearFraction), BASE.discountFactorTimeDerivative(yearFraction));
+    }
+    ZeroRateSensitivity point = BASE.zeroRatePointSensitivity(DATE_LATER);
+    assertEquals(test.parameterSensitivity(point), BASE.parameterSensitivity(point));
+    DoubleArray sensitivities = DoubleArray.of(1d, 2d, 3d);
+    assertEquals(
+        test.createParameterSensitivity(USD, sensitivities), BASE.createParameterSensitivity(USD, sensitivities));
+  }
+
+}
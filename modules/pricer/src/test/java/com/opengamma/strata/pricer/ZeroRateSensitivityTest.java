@@ -24,6 +24,7 @@ import com.opengamma.strata.basics.currency.FxMatrix;
 import com.opengamma.strata.basics.index.IborIndexObservation;
 import com.opengamma.strata.market.sensitivity.MutablePointSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
+import com.opengamma.strata.market.sensitivity.PointSensitivityAccumulator;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.rate.IborRateSensitivity;
 
@@ -139,6 +140,14 @@ public class ZeroRateSensitivityTest {
     assertEquals(test.getSensitivities(), ImmutableList.of(base));
   }
 
+  public void test_buildInto_accumulator() {
+    ZeroRateSensitivity base = ZeroRateSensitivity.of(GBP, YEARFRAC, 32d);
+    PointSensitivityAccumulator combo = new PointSensitivityAccumulator();
+    PointSensitivityAccumulator test = base.buildInto(combo);
+    assertSame(test, combo);
+    assertEquals(test.build().getSensitivities(), ImmutableList.of(base));
+  }
+
   //-------------------------------------------------------------------------
   public void test_build() {
     ZeroRateSensitivity base = ZeroRateSensitivity.of(GBP, YEARFRAC, 32d);
@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2018 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.capfloor;
+
+import static com.opengamma.strata.basics.date.DayCounts.ACT_ACT_ISDA;
+import static com.opengamma.strata.basics.index.IborIndices.USD_LIBOR_3M;
+import static com.opengamma.strata.market.curve.interpolator.CurveInterpolators.LINEAR;
+
+import java.time.Period;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.market.ValueType;
+import com.opengamma.strata.market.curve.interpolator.CurveExtrapolators;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
+import com.opengamma.strata.pricer.impl.volatility.smile.SabrHaganVolatilityFunctionProvider;
+import com.opengamma.strata.pricer.option.RawOptionData;
+
+/**
+ * Vague performance test of the caplet volatility bootstrappers.
+ * <p>
+ * The surface and SABR bootstrappers are run sequentially and with an executor.
+ * The time per expiry is the time of the calibration to the first expiries less the time of the calibration
+ * to one expiry fewer, as the expiries are bootstrapped in turn. The first time is that of the first two expiries.
+ */
+public class CapletStrippingPerformance extends CapletStrippingSetup {
+
+  private static final int COUNT = 5;
+  private static final SurfaceIborCapletFloorletVolatilityBootstrapDefinition SURFACE_DEFINITION =
+      SurfaceIborCapletFloorletVolatilityBootstrapDefinition.of(
+          IborCapletFloorletVolatilitiesName.of("test"), USD_LIBOR_3M, ACT_ACT_ISDA, LINEAR, LINEAR);
+  private static final SabrIborCapletFloorletVolatilityBootstrapDefinition SABR_DEFINITION =
+      SabrIborCapletFloorletVolatilityBootstrapDefinition.ofFixedBeta(
+          IborCapletFloorletVolatilitiesName.of("test"),
+          USD_LIBOR_3M,
+          ACT_ACT_ISDA,
+          0.85,
+          CurveInterpolators.STEP_UPPER,
+          CurveExtrapolators.FLAT,
+          CurveExtrapolators.FLAT,
+          SabrHaganVolatilityFunctionProvider.DEFAULT);
+  private static final RawOptionData DATA = RawOptionData.of(
+      createBlackMaturities(), createBlackStrikes(), ValueType.STRIKE, createFullBlackDataMatrix(),
+      ValueType.BLACK_VOLATILITY);
+
+  public static void main(String[] args) throws Exception {
+    System.out.println("Go");
+    ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    try {
+      for (int i = 0; i < 5; i++) {
+        double total = 0d;
+        total += run("surface sequential", DATA, null);
+        total += run("surface executor  ", DATA, executor);
+        System.out.println("Avoiding hotspot: " + total);
+      }
+      runPerExpiry("surface sequential", null);
+      runPerExpiry("surface executor  ", executor);
+      for (int i = 0; i < 2; i++) {
+        double total = 0d;
+        total += runSabr("sabr sequential   ", DATA, null);
+        total += runSabr("sabr executor     ", DATA, executor);
+        System.out.println("Avoiding hotspot: " + total);
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  // the time of each expiry, from the calibration to the data up to the expiry
+  private static void runPerExpiry(String description, Executor executor) {
+    List<Period> expiries = DATA.getExpiries();
+    double total = 0d;
+    long previous = 0;
+    for (int i = 2; i <= expiries.size(); i++) {  // the interpolation requires two expiries
+      DoubleMatrix vols = DoubleMatrix.of(
+          i, DATA.getStrikes().size(), (row, column) -> DATA.getData().get(row, column));
+      RawOptionData data = RawOptionData.of(
+          expiries.subList(0, i), DATA.getStrikes(), ValueType.STRIKE, vols, ValueType.BLACK_VOLATILITY);
+      long start = System.nanoTime();
+      for (int j = 0; j < COUNT; j++) {
+        total += calibrate(data, executor);
+      }
+      long elapsed = (System.nanoTime() - start) / COUNT;
+      System.out.println(String.format(
+          Locale.ENGLISH, "%s: expiry %s: %.3f ms", description, expiries.get(i - 1), (elapsed - previous) / 1e6));
+      previous = elapsed;
+    }
+    System.out.println("Avoiding hotspot: " + total);
+  }
+
+  private static double run(String description, RawOptionData data, Executor executor) {
+    long start = System.nanoTime();
+    double total = 0d;
+    for (int i = 0; i < COUNT; i++) {
+      total += calibrate(data, executor);
+    }
+    long end = System.nanoTime();
+    System.out.println(description + ": " + (end - start) / 1e6 / COUNT + " ms per calibration");
+    return total;
+  }
+
+  private static double runSabr(String description, RawOptionData data, Executor executor) {
+    long start = System.nanoTime();
+    SabrIborCapletFloorletVolatilityBootstrapper calibrator = SabrIborCapletFloorletVolatilityBootstrapper.DEFAULT;
+    IborCapletFloorletVolatilityCalibrationResult result = executor == null ?
+        calibrator.calibrate(SABR_DEFINITION, CALIBRATION_TIME, data, RATES_PROVIDER) :
+        calibrator.calibrate(SABR_DEFINITION, CALIBRATION_TIME, data, RATES_PROVIDER, executor);
+    long end = System.nanoTime();
+    System.out.println(description + ": " + (end - start) / 1e6 + " ms per calibration");
+    return result.getChiSquare();
+  }
+
+  private static double calibrate(RawOptionData data, Executor executor) {
+    SurfaceIborCapletFloorletVolatilityBootstrapper calibrator =
+        SurfaceIborCapletFloorletVolatilityBootstrapper.DEFAULT;
+    IborCapletFloorletVolatilityCalibrationResult result = executor == null ?
+        calibrator.calibrate(SURFACE_DEFINITION, CALIBRATION_TIME, data, RATES_PROVIDER) :
+        calibrator.calibrate(SURFACE_DEFINITION, CALIBRATION_TIME, data, RATES_PROVIDER, executor);
+    return result.getVolatilities().getParameter(0);
+  }
+
+}
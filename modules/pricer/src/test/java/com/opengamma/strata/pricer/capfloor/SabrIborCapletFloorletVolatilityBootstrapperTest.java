@@ -12,6 +12,8 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertTrue;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.testng.annotations.Test;
 
@@ -79,6 +81,34 @@ public class SabrIborCapletFloorletVolatilityBootstrapperTest extends CapletStri
     assertEquals(resVols.getParameters().getBetaCurve(), definition.getBetaCurve().get());
   }
 
+  public void test_recovery_black_executor() {
+    SabrIborCapletFloorletVolatilityBootstrapDefinition definition =
+        SabrIborCapletFloorletVolatilityBootstrapDefinition.ofFixedBeta(
+            IborCapletFloorletVolatilitiesName.of("test"),
+            USD_LIBOR_3M,
+            ACT_ACT_ISDA,
+            0.85,
+            CurveInterpolators.STEP_UPPER,
+            CurveExtrapolators.FLAT,
+            CurveExtrapolators.FLAT,
+            SabrHaganVolatilityFunctionProvider.DEFAULT);
+    DoubleMatrix volData = createFullBlackDataMatrix();
+    DoubleMatrix error = DoubleMatrix.filled(volData.rowCount(), volData.columnCount(), 1.0e-3);
+    RawOptionData data = RawOptionData.of(
+        createBlackMaturities(), createBlackStrikes(), ValueType.STRIKE, volData, error, ValueType.BLACK_VOLATILITY);
+    IborCapletFloorletVolatilityCalibrationResult expected =
+        CALIBRATOR.calibrate(definition, CALIBRATION_TIME, data, RATES_PROVIDER);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      IborCapletFloorletVolatilityCalibrationResult computed =
+          CALIBRATOR.calibrate(definition, CALIBRATION_TIME, data, RATES_PROVIDER, executor);
+      assertEquals(computed, expected);
+    } finally {
+      executor.shutdown();
+    }
+    assertThrowsIllegalArg(() -> CALIBRATOR.calibrate(definition, CALIBRATION_TIME, data, RATES_PROVIDER, null));
+  }
+
   public void test_recovery_black_fixedRho() {
     SabrIborCapletFloorletVolatilityBootstrapDefinition definition =
         SabrIborCapletFloorletVolatilityBootstrapDefinition.ofFixedRho(
@@ -10,11 +10,14 @@ import static com.opengamma.strata.basics.index.IborIndices.USD_LIBOR_3M;
 import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
 import static com.opengamma.strata.market.curve.interpolator.CurveInterpolators.DOUBLE_QUADRATIC;
 import static com.opengamma.strata.market.curve.interpolator.CurveInterpolators.LINEAR;
+import static com.opengamma.strata.market.curve.interpolator.CurveInterpolators.NATURAL_SPLINE;
 import static org.testng.Assert.assertEquals;
 
 import java.time.Period;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.testng.annotations.Test;
 
@@ -23,6 +26,8 @@ import com.opengamma.strata.collect.array.DoubleMatrix;
 import com.opengamma.strata.collect.tuple.Pair;
 import com.opengamma.strata.market.ValueType;
 import com.opengamma.strata.market.curve.ConstantCurve;
+import com.opengamma.strata.market.curve.Curves;
+import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
 import com.opengamma.strata.market.surface.ConstantSurface;
 import com.opengamma.strata.market.surface.InterpolatedNodalSurface;
 import com.opengamma.strata.market.surface.Surfaces;
@@ -76,6 +81,49 @@ public class SurfaceIborCapletFloorletVolatilityBootstrapperTest extends CapletS
     }
   }
 
+  public void recovery_test_executor() {
+    SurfaceIborCapletFloorletVolatilityBootstrapDefinition blackDefinition =
+        SurfaceIborCapletFloorletVolatilityBootstrapDefinition.of(
+            IborCapletFloorletVolatilitiesName.of("test"), USD_LIBOR_3M, ACT_ACT_ISDA, LINEAR, LINEAR);
+    RawOptionData blackData = RawOptionData.of(createBlackMaturities(), createBlackStrikes(), ValueType.STRIKE,
+        createFullBlackDataMatrix(), ValueType.BLACK_VOLATILITY);
+    SurfaceIborCapletFloorletVolatilityBootstrapDefinition normalDefinition =
+        SurfaceIborCapletFloorletVolatilityBootstrapDefinition.of(
+            IborCapletFloorletVolatilitiesName.of("test"), USD_LIBOR_3M, ACT_ACT_ISDA, LINEAR, DOUBLE_QUADRATIC,
+            ConstantCurve.of("Black shift", 0.02));
+    RawOptionData normalData = RawOptionData.of(createNormalEquivMaturities(), createNormalEquivStrikes(),
+        ValueType.STRIKE, createFullNormalEquivDataMatrix(), ValueType.NORMAL_VOLATILITY);
+    // the natural spline is not local, but is exact at the nodes
+    SurfaceIborCapletFloorletVolatilityBootstrapDefinition splineDefinition =
+        SurfaceIborCapletFloorletVolatilityBootstrapDefinition.of(
+            IborCapletFloorletVolatilitiesName.of("test"), USD_LIBOR_3M, ACT_ACT_ISDA, LINEAR, NATURAL_SPLINE);
+    // the shifted strikes of the caplets are not those of the nodes, the strikes are solved sequentially
+    SurfaceIborCapletFloorletVolatilityBootstrapDefinition shiftCurveDefinition =
+        SurfaceIborCapletFloorletVolatilityBootstrapDefinition.of(
+            IborCapletFloorletVolatilitiesName.of("test"), USD_LIBOR_3M, ACT_ACT_ISDA, LINEAR, LINEAR,
+            InterpolatedNodalCurve.of(
+                Curves.prices("Black shift"), DoubleArray.of(0d, 10d), DoubleArray.of(0.01, 0.03), LINEAR));
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      assertSameSurface(
+          CALIBRATOR.calibrate(blackDefinition, CALIBRATION_TIME, blackData, RATES_PROVIDER, executor),
+          CALIBRATOR.calibrate(blackDefinition, CALIBRATION_TIME, blackData, RATES_PROVIDER));
+      assertSameSurface(
+          CALIBRATOR.calibrate(normalDefinition, CALIBRATION_TIME, normalData, RATES_PROVIDER, executor),
+          CALIBRATOR.calibrate(normalDefinition, CALIBRATION_TIME, normalData, RATES_PROVIDER));
+      assertSameSurface(
+          CALIBRATOR.calibrate(splineDefinition, CALIBRATION_TIME, blackData, RATES_PROVIDER, executor),
+          CALIBRATOR.calibrate(splineDefinition, CALIBRATION_TIME, blackData, RATES_PROVIDER));
+      assertSameSurface(
+          CALIBRATOR.calibrate(shiftCurveDefinition, CALIBRATION_TIME, normalData, RATES_PROVIDER, executor),
+          CALIBRATOR.calibrate(shiftCurveDefinition, CALIBRATION_TIME, normalData, RATES_PROVIDER));
+    } finally {
+      executor.shutdown();
+    }
+    assertThrowsIllegalArg(
+        () -> CALIBRATOR.calibrate(blackDefinition, CALIBRATION_TIME, blackData, RATES_PROVIDER, null));
+  }
+
   public void test_invalid_data() {
     SurfaceIborCapletFloorletVolatilityBootstrapDefinition definition = SurfaceIborCapletFloorletVolatilityBootstrapDefinition.of(
         IborCapletFloorletVolatilitiesName.of("test"), USD_LIBOR_3M, ACT_ACT_ISDA, LINEAR, LINEAR);
@@ -272,6 +320,20 @@ public class SurfaceIborCapletFloorletVolatilityBootstrapperTest extends CapletS
   }
 
   //-------------------------------------------------------------------------
+  // the strikes are solved independently, thus the volatilities may differ in the last digits
+  private void assertSameSurface(
+      IborCapletFloorletVolatilityCalibrationResult computed,
+      IborCapletFloorletVolatilityCalibrationResult expected) {
+
+    assertEquals(computed.getChiSquare(), expected.getChiSquare());
+    IborCapletFloorletVolatilities computedVols = computed.getVolatilities();
+    IborCapletFloorletVolatilities expectedVols = expected.getVolatilities();
+    assertEquals(computedVols.getParameterCount(), expectedVols.getParameterCount());
+    for (int i = 0; i < expectedVols.getParameterCount(); ++i) {
+      assertEquals(computedVols.getParameter(i), expectedVols.getParameter(i), TOL);
+    }
+  }
+
   // remove null for one-dimensional bootstrapping
   private Pair<List<Period>, DoubleMatrix> trimData(List<Period> expiries, DoubleMatrix vols) {
     List<Period> resExpiries = new ArrayList<>();
@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) 2018 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.cms;
+
+import static com.opengamma.strata.basics.date.HolidayCalendarIds.EUTA;
+import static com.opengamma.strata.product.common.PayReceive.RECEIVE;
+
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.date.BusinessDayAdjustment;
+import com.opengamma.strata.basics.date.BusinessDayConventions;
+import com.opengamma.strata.basics.schedule.Frequency;
+import com.opengamma.strata.basics.schedule.PeriodicSchedule;
+import com.opengamma.strata.basics.schedule.RollConventions;
+import com.opengamma.strata.basics.schedule.StubConvention;
+import com.opengamma.strata.basics.value.ValueSchedule;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+import com.opengamma.strata.pricer.swap.DiscountingSwapProductPricer;
+import com.opengamma.strata.pricer.swaption.SabrParametersSwaptionVolatilities;
+import com.opengamma.strata.pricer.swaption.SwaptionSabrRateVolatilityDataSet;
+import com.opengamma.strata.product.cms.CmsLeg;
+import com.opengamma.strata.product.cms.CmsPeriod;
+import com.opengamma.strata.product.cms.ResolvedCmsLeg;
+import com.opengamma.strata.product.swap.SwapIndices;
+
+/**
+ * Vague performance test of the replication of CMS periods by {@link SabrExtrapolationReplicationCmsPeriodPricer}.
+ * <p>
+ * The accuracy of the Gauss-Legendre quadrature is first reported against the Runge-Kutta integration,
+ * as the largest difference of present value of the periods relative to the notional.
+ * The time to price a leg of 20 periods is then reported for the Runge-Kutta integration,
+ * for the Gauss-Legendre quadrature and for the Gauss-Legendre quadrature with the periods priced by an executor.
+ */
+public class CmsReplicationPerformance {
+
+  private static final int COUNT = 50;
+  private static final double NOTIONAL = 1.0e6;
+  private static final double CUT_OFF_STRIKE = 0.10;
+  private static final double MU = 2.50;
+  private static final int[] NB_POINTS = {8, 12, 16, 24};
+  private static final LocalDate VALUATION = LocalDate.of(2015, 8, 18);
+  private static final ImmutableRatesProvider RATES_PROVIDER =
+      SwaptionSabrRateVolatilityDataSet.getRatesProviderEur(VALUATION);
+  private static final SabrParametersSwaptionVolatilities VOLATILITIES =
+      SwaptionSabrRateVolatilityDataSet.getVolatilitiesEur(VALUATION, true);
+  private static final ImmutableMap<String, ResolvedCmsLeg> LEGS = ImmutableMap.of(
+      "coupon", leg(CmsLeg.builder()),
+      "cap   ", leg(CmsLeg.builder().capSchedule(ValueSchedule.of(0.0125))),
+      "floor ", leg(CmsLeg.builder().floorSchedule(ValueSchedule.of(0.0125))));
+  private static final SabrExtrapolationReplicationCmsLegPricer PRICER_RUNGE_KUTTA =
+      new SabrExtrapolationReplicationCmsLegPricer(SabrExtrapolationReplicationCmsPeriodPricer.of(CUT_OFF_STRIKE, MU));
+  private static final SabrExtrapolationReplicationCmsLegPricer PRICER_GAUSS_LEGENDRE =
+      new SabrExtrapolationReplicationCmsLegPricer(SabrExtrapolationReplicationCmsPeriodPricer.ofGaussLegendre(
+          DiscountingSwapProductPricer.DEFAULT, CUT_OFF_STRIKE, MU, 16));
+
+  public static void main(String[] args) throws Exception {
+    System.out.println("Go");
+    accuracy();
+    int nbThreads = Runtime.getRuntime().availableProcessors();
+    ExecutorService executor = Executors.newFixedThreadPool(nbThreads);
+    try {
+      for (int i = 0; i < 10; i++) {
+        double total = 0d;
+        for (String name : LEGS.keySet()) {
+          ResolvedCmsLeg leg = LEGS.get(name);
+          total += run(name + " Runge-Kutta              ",
+              () -> PRICER_RUNGE_KUTTA.presentValue(leg, RATES_PROVIDER, VOLATILITIES).getAmount());
+          total += run(name + " Gauss-Legendre           ",
+              () -> PRICER_GAUSS_LEGENDRE.presentValue(leg, RATES_PROVIDER, VOLATILITIES).getAmount());
+          total += run(name + " Gauss-Legendre, " + nbThreads + " threads",
+              () -> PRICER_GAUSS_LEGENDRE.presentValue(leg, RATES_PROVIDER, VOLATILITIES, executor).getAmount());
+        }
+        System.out.println("Avoiding hotspot: " + total);
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  // the largest difference between the quadrature and the integration, relative to the notional
+  private static void accuracy() {
+    SabrExtrapolationReplicationCmsPeriodPricer rungeKutta =
+        SabrExtrapolationReplicationCmsPeriodPricer.of(CUT_OFF_STRIKE, MU);
+    for (int nbPoints : NB_POINTS) {
+      SabrExtrapolationReplicationCmsPeriodPricer gaussLegendre = SabrExtrapolationReplicationCmsPeriodPricer
+          .ofGaussLegendre(DiscountingSwapProductPricer.DEFAULT, CUT_OFF_STRIKE, MU, nbPoints);
+      for (String name : LEGS.keySet()) {
+        double maxDifference = 0d;
+        for (CmsPeriod period : LEGS.get(name).getCmsPeriods()) {
+          double expected = rungeKutta.presentValue(period, RATES_PROVIDER, VOLATILITIES).getAmount();
+          double computed = gaussLegendre.presentValue(period, RATES_PROVIDER, VOLATILITIES).getAmount();
+          maxDifference = Math.max(maxDifference, Math.abs(computed - expected) / NOTIONAL);
+        }
+        System.out.println(String.format(Locale.ENGLISH, "%s %2d points: %.2E", name, nbPoints, maxDifference));
+      }
+    }
+  }
+
+  private static double run(String description, Task task) {
+    long start = System.nanoTime();
+    double total = 0d;
+    for (int i = 0; i < COUNT; i++) {
+      total += task.run();
+    }
+    long end = System.nanoTime();
+    System.out.println(description + ": " + (end - start) / 1000 / COUNT + " us per leg");
+    return total;
+  }
+
+  // a leg of 20 semi-annual periods
+  private static ResolvedCmsLeg leg(CmsLeg.Builder builder) {
+    PeriodicSchedule schedule = PeriodicSchedule.of(
+        LocalDate.of(2015, 10, 21),
+        LocalDate.of(2025, 10, 21),
+        Frequency.P6M,
+        BusinessDayAdjustment.of(BusinessDayConventions.FOLLOWING, EUTA),
+        StubConvention.NONE,
+        RollConventions.NONE);
+    return builder
+        .index(SwapIndices.EUR_EURIBOR_1100_5Y)
+        .notional(ValueSchedule.of(NOTIONAL))
+        .payReceive(RECEIVE)
+        .paymentSchedule(schedule)
+        .build()
+        .resolve(ReferenceData.standard());
+  }
+
+  // a single run of the test
+  private interface Task {
+    double run();
+  }
+
+}
@@ -7,6 +7,7 @@ package com.opengamma.strata.pricer.cms;
 
 import static com.opengamma.strata.basics.currency.Currency.EUR;
 import static com.opengamma.strata.basics.date.HolidayCalendarIds.EUTA;
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
 import static com.opengamma.strata.product.common.PayReceive.PAY;
 import static com.opengamma.strata.product.common.PayReceive.RECEIVE;
 import static org.testng.Assert.assertEquals;
@@ -15,9 +16,12 @@ import static org.testng.Assert.assertTrue;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.testng.annotations.Test;
 
+import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.basics.date.BusinessDayAdjustment;
@@ -317,4 +321,28 @@ public class SabrExtrapolationReplicationCmsLegPricerTest {
     assertEquals(cmsPeriod0.get(ExplainKey.PRESENT_VALUE).get(), pv);
   }
 
+  //-------------------------------------------------------------------------
+  public void test_executor() {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      for (ResolvedCmsLeg leg : ImmutableList.of(CAP_LEG, FLOOR_LEG, COUPON_LEG)) {
+        assertEquals(
+            LEG_PRICER.presentValue(leg, RATES_PROVIDER, VOLATILITIES, executor),
+            LEG_PRICER.presentValue(leg, RATES_PROVIDER, VOLATILITIES));
+        assertEquals(
+            LEG_PRICER.presentValueSensitivityRates(leg, RATES_PROVIDER, VOLATILITIES, executor).build(),
+            LEG_PRICER.presentValueSensitivityRates(leg, RATES_PROVIDER, VOLATILITIES).build());
+        assertEquals(
+            LEG_PRICER.presentValueSensitivityModelParamsSabr(leg, RATES_PROVIDER, VOLATILITIES, executor).build(),
+            LEG_PRICER.presentValueSensitivityModelParamsSabr(leg, RATES_PROVIDER, VOLATILITIES).build());
+      }
+      assertEquals(
+          LEG_PRICER.presentValue(FLOOR_LEG, RATES_PROVIDER_AFTER_PERIOD, VOLATILITIES_AFTER_PERIOD, executor),
+          LEG_PRICER.presentValue(FLOOR_LEG, RATES_PROVIDER_AFTER_PERIOD, VOLATILITIES_AFTER_PERIOD));
+    } finally {
+      executor.shutdown();
+    }
+    assertThrowsIllegalArg(() -> LEG_PRICER.presentValue(CAP_LEG, RATES_PROVIDER, VOLATILITIES, null));
+  }
+
 }
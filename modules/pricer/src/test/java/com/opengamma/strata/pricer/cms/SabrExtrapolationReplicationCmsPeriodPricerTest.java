@@ -13,10 +13,12 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertTrue;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.function.Function;
 
 import org.testng.annotations.Test;
 
+import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.collect.array.DoubleArray;
@@ -43,6 +45,7 @@ import com.opengamma.strata.pricer.swaption.SabrParametersSwaptionVolatilities;
 import com.opengamma.strata.pricer.swaption.SwaptionSabrRateVolatilityDataSet;
 import com.opengamma.strata.pricer.swaption.SwaptionVolatilitiesName;
 import com.opengamma.strata.product.cms.CmsPeriod;
+import com.opengamma.strata.product.cms.CmsPeriodType;
 import com.opengamma.strata.product.common.BuySell;
 import com.opengamma.strata.product.common.PutCall;
 import com.opengamma.strata.product.swap.ResolvedSwap;
@@ -129,8 +132,12 @@ public class SabrExtrapolationReplicationCmsPeriodPricerTest {
   private static final double MU = 2.50;
   private static final double EPS = 1.0e-5;
   private static final double TOL = 1.0e-12;
+  private static final double TOL_GAUSS_LEGENDRE = 1.0e-8;
   private static final SabrExtrapolationReplicationCmsPeriodPricer PRICER =
       SabrExtrapolationReplicationCmsPeriodPricer.of(CUT_OFF_STRIKE, MU);
+  private static final SabrExtrapolationReplicationCmsPeriodPricer PRICER_GAUSS_LEGENDRE =
+      SabrExtrapolationReplicationCmsPeriodPricer.ofGaussLegendre(
+          DiscountingSwapProductPricer.DEFAULT, CUT_OFF_STRIKE, MU, 16);
   private static final RatesFiniteDifferenceSensitivityCalculator FD_CAL =
       new RatesFiniteDifferenceSensitivityCalculator(EPS);  
   private static final DiscountingSwapProductPricer PRICER_SWAP =
@@ -444,6 +451,48 @@ public class SabrExtrapolationReplicationCmsPeriodPricerTest {
     assertThrowsIllegalArg(() -> PRICER.adjustmentToForwardRate(COUPON, RATES_PROVIDER_AFTER_FIX, VOLATILITIES_AFTER_FIX));
   }
 
+  //-------------------------------------------------------------------------
+  public void test_gaussLegendre() {
+    ImmutableList<CmsPeriod> periods = ImmutableList.of(COUPON, CAPLET, FLOORLET);
+    testGaussLegendre(periods, RATES_PROVIDER, VOLATILITIES);
+    testGaussLegendre(periods, RATES_PROVIDER, VOLATILITIES_SHIFT);
+    testGaussLegendre(ImmutableList.of(CAPLET_NEGATIVE, FLOORLET_NEGATIVE), RATES_PROVIDER, VOLATILITIES_SHIFT);
+    testGaussLegendre(periods, RATES_PROVIDER_ON_FIX, VOLATILITIES_ON_FIX);
+    assertThrowsIllegalArg(() -> SabrExtrapolationReplicationCmsPeriodPricer.ofGaussLegendre(
+        PRICER_SWAP, CUT_OFF_STRIKE, MU, 0));
+  }
+
+  // the Gauss-Legendre quadrature is compared to the Runge-Kutta integration
+  private void testGaussLegendre(
+      List<CmsPeriod> periods,
+      RatesProvider ratesProvider,
+      SabrParametersSwaptionVolatilities volatilities) {
+
+    for (CmsPeriod period : periods) {
+      assertEquals(
+          PRICER_GAUSS_LEGENDRE.presentValue(period, ratesProvider, volatilities).getAmount(),
+          PRICER.presentValue(period, ratesProvider, volatilities).getAmount(),
+          NOTIONAL * TOL_GAUSS_LEGENDRE);
+      CurrencyParameterSensitivities computedRates = ratesProvider.parameterSensitivity(
+          PRICER_GAUSS_LEGENDRE.presentValueSensitivityRates(period, ratesProvider, volatilities).build());
+      CurrencyParameterSensitivities expectedRates = ratesProvider.parameterSensitivity(
+          PRICER.presentValueSensitivityRates(period, ratesProvider, volatilities).build());
+      assertTrue(computedRates.equalWithTolerance(expectedRates, NOTIONAL * TOL_GAUSS_LEGENDRE * 10d));
+      // the Runge-Kutta integration of the SABR sensitivity has a relative tolerance of 1.0E-3
+      CurrencyParameterSensitivities computedSabr = volatilities.parameterSensitivity(
+          PRICER_GAUSS_LEGENDRE.presentValueSensitivityModelParamsSabr(period, ratesProvider, volatilities).build());
+      CurrencyParameterSensitivities expectedSabr = volatilities.parameterSensitivity(
+          PRICER.presentValueSensitivityModelParamsSabr(period, ratesProvider, volatilities).build());
+      assertTrue(computedSabr.equalWithTolerance(expectedSabr, NOTIONAL * 1.0e-4));
+      if (!period.getCmsPeriodType().equals(CmsPeriodType.COUPON)) {
+        assertEquals(
+            PRICER_GAUSS_LEGENDRE.presentValueSensitivityStrike(period, ratesProvider, volatilities),
+            PRICER.presentValueSensitivityStrike(period, ratesProvider, volatilities),
+            NOTIONAL * TOL_GAUSS_LEGENDRE);
+      }
+    }
+  }
+
   //-------------------------------------------------------------------------
   private static final CmsPeriod CAPLET_UP = createCmsCaplet(true, STRIKE + EPS);
   private static final CmsPeriod CAPLET_DW = createCmsCaplet(true, STRIKE - EPS);
@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2018 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.curve;
+
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.basics.date.DayCounts.ACT_365F;
+import static com.opengamma.strata.basics.index.IborIndices.USD_LIBOR_3M;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+import java.time.LocalDate;
+import java.time.Period;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.StandardId;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.market.ValueType;
+import com.opengamma.strata.market.curve.CurveGroupDefinition;
+import com.opengamma.strata.market.curve.CurveGroupName;
+import com.opengamma.strata.market.curve.CurveName;
+import com.opengamma.strata.market.curve.InterpolatedNodalCurveDefinition;
+import com.opengamma.strata.market.curve.interpolator.CurveExtrapolators;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
+import com.opengamma.strata.market.curve.node.FraCurveNode;
+import com.opengamma.strata.market.observable.QuoteId;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+import com.opengamma.strata.product.fra.type.FraTemplate;
+
+/**
+ * Test {@link CalibrationWorkspace}.
+ */
+@Test
+public class CalibrationWorkspaceTest {
+
+  private static final LocalDate VAL_DATE = LocalDate.of(2015, 7, 21);
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final CurveName CURVE_NAME = CurveName.of("USD-FRA");
+  private static final InterpolatedNodalCurveDefinition CURVE_DEFN = InterpolatedNodalCurveDefinition.builder()
+      .name(CURVE_NAME)
+      .xValueType(ValueType.YEAR_FRACTION)
+      .yValueType(ValueType.ZERO_RATE)
+      .dayCount(ACT_365F)
+      .interpolator(CurveInterpolators.NATURAL_SPLINE)
+      .extrapolatorLeft(CurveExtrapolators.FLAT)
+      .extrapolatorRight(CurveExtrapolators.FLAT)
+      .nodes(
+          FraCurveNode.of(FraTemplate.of(Period.ofMonths(3), USD_LIBOR_3M), QuoteId.of(StandardId.of("OG", "1"))),
+          FraCurveNode.of(FraTemplate.of(Period.ofMonths(6), USD_LIBOR_3M), QuoteId.of(StandardId.of("OG", "2"))),
+          FraCurveNode.of(FraTemplate.of(Period.ofMonths(9), USD_LIBOR_3M), QuoteId.of(StandardId.of("OG", "3"))))
+      .build();
+  private static final CurveGroupDefinition GROUP_DEFN = CurveGroupDefinition.builder()
+      .name(CurveGroupName.of("USD"))
+      .addCurve(CURVE_DEFN, USD, USD_LIBOR_3M)
+      .build();
+  private static final ImmutableRatesProviderGenerator GENERATOR =
+      ImmutableRatesProviderGenerator.of(ImmutableRatesProvider.builder(VAL_DATE).build(), GROUP_DEFN, REF_DATA);
+  private static final DoubleArray PARAMS_1 = DoubleArray.of(0.01, 0.012, 0.015);
+  private static final DoubleArray PARAMS_2 = DoubleArray.of(0.011, 0.012, 0.016);
+
+  //-------------------------------------------------------------------------
+  public void test_generate_matchesGenerator() {
+    RatesProviderGenerator workspace = GENERATOR.workspace();
+    assertMatches(workspace.generate(PARAMS_1), GENERATOR.generate(PARAMS_1));
+    assertMatches(workspace.generate(PARAMS_2), GENERATOR.generate(PARAMS_2));
+    assertMatches(workspace.generate(PARAMS_1), GENERATOR.generate(PARAMS_1));
+  }
+
+  public void test_generate_sameParameters() {
+    RatesProviderGenerator workspace = GENERATOR.workspace();
+    ImmutableRatesProvider first = workspace.generate(PARAMS_1);
+    assertThat(workspace.generate(DoubleArray.copyOf(PARAMS_1.toArray()))).isSameAs(first);
+    assertThat(workspace.generate(PARAMS_2)).isNotSameAs(first);
+  }
+
+  public void test_generate_withJacobian() {
+    RatesProviderGenerator workspace = GENERATOR.workspace();
+    ImmutableMap<CurveName, DoubleArray> sensitivities = ImmutableMap.of(CURVE_NAME, DoubleArray.of(1d, 2d, 3d));
+    ImmutableRatesProvider test = workspace.generate(PARAMS_1, ImmutableMap.of(), sensitivities);
+    assertThat(test).isEqualTo(GENERATOR.generate(PARAMS_1, ImmutableMap.of(), sensitivities));
+  }
+
+  private void assertMatches(ImmutableRatesProvider test, ImmutableRatesProvider expected) {
+    assertThat(test.getDiscountCurves()).isEqualTo(expected.getDiscountCurves());
+    assertThat(test.getIndexCurves()).isEqualTo(expected.getIndexCurves());
+    for (int i = 1; i < 12; i++) {
+      LocalDate date = VAL_DATE.plusMonths(i);
+      assertThat(test.discountFactor(USD, date)).isCloseTo(expected.discountFactor(USD, date), offset(1e-15));
+    }
+  }
+
+}
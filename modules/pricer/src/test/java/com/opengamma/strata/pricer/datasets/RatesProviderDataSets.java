@@ -27,6 +27,7 @@ import com.google.common.collect.ImmutableMap;
 import com.opengamma.strata.basics.StandardId;
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.FxMatrix;
+import com.opengamma.strata.collect.MapStream;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
 import com.opengamma.strata.collect.tuple.Pair;
@@ -409,4 +410,27 @@ public class RatesProviderDataSets {
         .build();
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Returns a copy of the provider with every discount and index curve shifted in parallel.
+   * <p>
+   * This is used to create different scenarios from a single provider.
+   * 
+   * @param provider  the provider
+   * @param shift  the amount to add to each curve parameter
+   * @return the shifted provider
+   */
+  public static ImmutableRatesProvider shifted(ImmutableRatesProvider provider, double shift) {
+    return ImmutableRatesProvider.builder(provider.getValuationDate())
+        .fxRateProvider(provider.getFxRateProvider())
+        .discountCurves(MapStream.of(provider.getDiscountCurves())
+            .mapValues(curve -> curve.withPerturbation((i, value, meta) -> value + shift))
+            .toMap())
+        .indexCurves(MapStream.of(provider.getIndexCurves())
+            .mapValues(curve -> curve.withPerturbation((i, value, meta) -> value + shift))
+            .toMap())
+        .timeSeries(provider.getTimeSeries())
+        .build();
+  }
+
 }
@@ -30,6 +30,7 @@ import com.opengamma.strata.basics.date.DayCounts;
 import com.opengamma.strata.basics.index.IborIndexObservation;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
 import com.opengamma.strata.market.amount.CashFlows;
 import com.opengamma.strata.market.curve.ConstantCurve;
 import com.opengamma.strata.market.curve.Curves;
@@ -51,6 +52,7 @@ import com.opengamma.strata.pricer.rate.IborRateSensitivity;
 import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
 import com.opengamma.strata.pricer.rate.RateComputationFn;
 import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.pricer.rate.RatesProviderScenarioArray;
 import com.opengamma.strata.pricer.rate.SimpleIborIndexRates;
 import com.opengamma.strata.pricer.rate.SimpleRatesProvider;
 import com.opengamma.strata.pricer.sensitivity.RatesFiniteDifferenceSensitivityCalculator;
@@ -194,6 +196,38 @@ public class DiscountingFraProductPricerTest {
     assertEquals(computed.getAmount(), 0d, TOLERANCE);
   }
 
+  /**
+   * Test present value across scenarios matches the present value of each scenario.
+   */
+  public void test_presentValue_scenarios() {
+    DiscountingFraProductPricer test = DiscountingFraProductPricer.DEFAULT;
+    RatesProviderScenarioArray providers = RatesProviderScenarioArray.of(ImmutableList.of(
+        RatesProviderDataSets.MULTI_GBP_USD,
+        RatesProviderDataSets.shifted(RatesProviderDataSets.MULTI_GBP_USD, 0.002),
+        RatesProviderDataSets.MULTI_GBP_USD_SIMPLE));
+    ResolvedFra inPast = RFRA.toBuilder().paymentDate(VAL_DATE.minusDays(1)).build();
+    for (ResolvedFra fra : ImmutableList.of(RFRA, RFRA_NONE, RFRA_AFMA, inPast)) {
+      CurrencyScenarioArray computed = test.presentValue(fra, providers);
+      assertEquals(computed.getScenarioCount(), 3);
+      for (int i = 0; i < 3; i++) {
+        assertEquals(computed.get(i), test.presentValue(fra, providers.get(i)));
+      }
+    }
+    // test via FraTrade
+    DiscountingFraTradePricer testTrade = DiscountingFraTradePricer.DEFAULT;
+    assertEquals(testTrade.presentValue(RFRA_TRADE, providers), test.presentValue(RFRA, providers));
+  }
+
+  /**
+   * Test present value across scenarios with rates that are not based on discount factors.
+   */
+  public void test_presentValue_scenarios_simple() {
+    DiscountingFraProductPricer test = DiscountingFraProductPricer.DEFAULT;
+    SimpleRatesProvider prov = createProvider(RFRA);
+    CurrencyScenarioArray computed = test.presentValue(RFRA, RatesProviderScenarioArray.of(ImmutableList.of(prov)));
+    assertEquals(computed.get(0), test.presentValue(RFRA, prov));
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Test forecast value sensitivity for ISDA FRA discounting method.
@@ -12,17 +12,24 @@ import java.time.LocalDate;
 
 import org.testng.annotations.Test;
 
+import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.basics.currency.CurrencyPair;
 import com.opengamma.strata.basics.currency.FxRate;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
+import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
+import com.opengamma.strata.pricer.datasets.RatesProviderDataSets;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
 import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.pricer.rate.RatesProviderScenarioArray;
 import com.opengamma.strata.pricer.sensitivity.RatesFiniteDifferenceSensitivityCalculator;
+import com.opengamma.strata.product.TradeInfo;
 import com.opengamma.strata.product.fx.ResolvedFxSingle;
+import com.opengamma.strata.product.fx.ResolvedFxSingleTrade;
 
 /**
  * Test {@link DiscountingFxSingleProductPricer}.
@@ -60,6 +67,24 @@ public class DiscountingFxSingleProductPricerTest {
     assertEquals(computed, MultiCurrencyAmount.empty());
   }
 
+  public void test_presentValue_scenarios() {
+    RatesProviderScenarioArray providers = RatesProviderScenarioArray.of(ImmutableList.of(
+        PROVIDER, RatesProviderDataSets.shifted((ImmutableRatesProvider) PROVIDER, 0.001)));
+    MultiCurrencyScenarioArray computed = PRICER.presentValue(FWD, providers);
+    assertEquals(computed.getScenarioCount(), 2);
+    for (int i = 0; i < 2; i++) {
+      assertEquals(computed.get(i), PRICER.presentValue(FWD, providers.get(i)));
+    }
+    ResolvedFxSingle fwdPast =
+        ResolvedFxSingle.of(CurrencyAmount.of(USD, NOMINAL_USD), FxRate.of(USD, KRW, FX_RATE), PAYMENT_DATE_PAST);
+    assertEquals(
+        PRICER.presentValue(fwdPast, providers),
+        MultiCurrencyScenarioArray.of(MultiCurrencyAmount.empty(), MultiCurrencyAmount.empty()));
+    // test via trade
+    ResolvedFxSingleTrade trade = ResolvedFxSingleTrade.of(TradeInfo.empty(), FWD);
+    assertEquals(DiscountingFxSingleTradePricer.DEFAULT.presentValue(trade, providers), computed);
+  }
+
   public void test_parSpread() {
     double spread = PRICER.parSpread(FWD, PROVIDER);
     ResolvedFxSingle fwdSp =
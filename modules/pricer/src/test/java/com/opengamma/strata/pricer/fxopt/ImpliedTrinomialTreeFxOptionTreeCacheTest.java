@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2018 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.fxopt;
+
+import static com.opengamma.strata.basics.currency.Currency.EUR;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import org.testng.annotations.Test;
+
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.pricer.fx.RatesProviderFxDataSets;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+import com.opengamma.strata.product.common.LongShort;
+import com.opengamma.strata.product.fx.ResolvedFxSingle;
+import com.opengamma.strata.product.fxopt.ResolvedFxVanillaOption;
+
+/**
+ * Test {@link ImpliedTrinomialTreeFxOptionTreeCache}.
+ */
+@Test
+public class ImpliedTrinomialTreeFxOptionTreeCacheTest {
+
+  private static final ZoneId ZONE = ZoneId.of("Z");
+  private static final LocalDate VAL_DATE = LocalDate.of(2011, 6, 13);
+  private static final ZonedDateTime VAL_DATETIME = VAL_DATE.atStartOfDay(ZONE);
+  private static final LocalDate EXPIRY_DATE = LocalDate.of(2014, 9, 15);
+  private static final ImmutableRatesProvider RATE_PROVIDER = RatesProviderFxDataSets.createProviderEURUSD(VAL_DATE);
+  private static final BlackFxOptionSmileVolatilities VOLS =
+      FxVolatilitySmileDataSet.createVolatilitySmileProvider5(VAL_DATETIME);
+  private static final ImpliedTrinomialTreeFxOptionCalibrator CALIBRATOR =
+      new ImpliedTrinomialTreeFxOptionCalibrator(11);
+
+  private static final ResolvedFxVanillaOption CALL_1 = option(EXPIRY_DATE, 1.35);
+  private static final ResolvedFxVanillaOption CALL_2 = option(EXPIRY_DATE, 1.45);
+  private static final ResolvedFxVanillaOption CALL_SHORT = option(EXPIRY_DATE.minusYears(1), 1.35);
+
+  //-------------------------------------------------------------------------
+  public void test_calibrateTrinomialTree() {
+    ImpliedTrinomialTreeFxOptionTreeCache test = ImpliedTrinomialTreeFxOptionTreeCache.of(10);
+    RecombiningTrinomialTreeData tree = test.calibrateTrinomialTree(CALIBRATOR, CALL_1, RATE_PROVIDER, VOLS);
+    assertEquals(tree, CALIBRATOR.calibrateTrinomialTree(CALL_1, RATE_PROVIDER, VOLS));
+    // same pair and expiry
+    assertSame(test.calibrateTrinomialTree(CALIBRATOR, CALL_2, RATE_PROVIDER, VOLS), tree);
+    assertSame(test.calibrateTrinomialTree(new ImpliedTrinomialTreeFxOptionCalibrator(11), CALL_2, RATE_PROVIDER, VOLS),
+        tree);
+    assertEquals(test.size(), 1L);
+    // different expiry, steps, rates provider or volatilities
+    assertEquals(test.calibrateTrinomialTree(CALIBRATOR, CALL_SHORT, RATE_PROVIDER, VOLS),
+        CALIBRATOR.calibrateTrinomialTree(CALL_SHORT, RATE_PROVIDER, VOLS));
+    ImpliedTrinomialTreeFxOptionCalibrator calibrator5 = new ImpliedTrinomialTreeFxOptionCalibrator(5);
+    assertEquals(test.calibrateTrinomialTree(calibrator5, CALL_1, RATE_PROVIDER, VOLS),
+        calibrator5.calibrateTrinomialTree(CALL_1, RATE_PROVIDER, VOLS));
+    ImmutableRatesProvider provider = RATE_PROVIDER.toBuilder().build();
+    assertNotSame(test.calibrateTrinomialTree(CALIBRATOR, CALL_1, provider, VOLS), tree);
+    BlackFxOptionSmileVolatilities vols = FxVolatilitySmileDataSet.createVolatilitySmileProvider5(VAL_DATETIME);
+    assertNotSame(test.calibrateTrinomialTree(CALIBRATOR, CALL_1, RATE_PROVIDER, vols), tree);
+    assertEquals(test.size(), 5L);
+    test.clear();
+    assertEquals(test.size(), 0L);
+  }
+
+  public void test_maxSize() {
+    ImpliedTrinomialTreeFxOptionTreeCache test = ImpliedTrinomialTreeFxOptionTreeCache.of(1);
+    test.calibrateTrinomialTree(CALIBRATOR, CALL_1, RATE_PROVIDER, VOLS);
+    test.calibrateTrinomialTree(CALIBRATOR, CALL_SHORT, RATE_PROVIDER, VOLS);
+    assertEquals(test.size(), 1L);
+    assertThrowsIllegalArg(() -> ImpliedTrinomialTreeFxOptionTreeCache.of(0));
+  }
+
+  public void test_expired() {
+    ImpliedTrinomialTreeFxOptionTreeCache test = ImpliedTrinomialTreeFxOptionTreeCache.of(10);
+    ImpliedTrinomialTreeFxOptionCalibrator calibrator = new ImpliedTrinomialTreeFxOptionCalibrator(11);
+    ResolvedFxVanillaOption expired = option(VAL_DATE.minusDays(1), 1.35);
+    assertThrowsIllegalArg(() -> test.calibrateTrinomialTree(calibrator, expired, RATE_PROVIDER, VOLS));
+    assertEquals(test.size(), 0L);
+  }
+
+  //-------------------------------------------------------------------------
+  private static ResolvedFxVanillaOption option(LocalDate expiryDate, double strike) {
+    ResolvedFxSingle fx = ResolvedFxSingle.of(
+        CurrencyAmount.of(EUR, 1_000_000d), CurrencyAmount.of(USD, -1_000_000d * strike), expiryDate);
+    return ResolvedFxVanillaOption.builder()
+        .longShort(LongShort.LONG)
+        .expiry(expiryDate.atStartOfDay(ZONE))
+        .underlying(fx)
+        .build();
+  }
+
+}
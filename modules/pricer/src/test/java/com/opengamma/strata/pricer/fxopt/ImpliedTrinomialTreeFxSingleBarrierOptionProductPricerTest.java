@@ -331,6 +331,31 @@ public class ImpliedTrinomialTreeFxSingleBarrierOptionProductPricerTest {
     assertEquals(ce, ceWithData);
   }
 
+  public void test_treeCache() {
+    ImpliedTrinomialTreeFxOptionTreeCache cache = ImpliedTrinomialTreeFxOptionTreeCache.of(10);
+    ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer pricer =
+        new ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer(21, cache);
+    ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer expected =
+        new ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer(21);
+    assertEquals(pricer.price(CALL_UKI_C, RATE_PROVIDER, VOLS), expected.price(CALL_UKI_C, RATE_PROVIDER, VOLS));
+    assertEquals(cache.size(), 1L);
+    assertEquals(
+        pricer.presentValue(CALL_DKO, RATE_PROVIDER, VOLS),
+        expected.presentValue(CALL_DKO, RATE_PROVIDER, VOLS));
+    assertEquals(
+        pricer.currencyExposure(CALL_UKI_C, RATE_PROVIDER, VOLS),
+        expected.currencyExposure(CALL_UKI_C, RATE_PROVIDER, VOLS));
+    assertEquals(
+        pricer.presentValueSensitivityRates(CALL_UKI_C, RATE_PROVIDER, VOLS),
+        expected.presentValueSensitivityRates(CALL_UKI_C, RATE_PROVIDER, VOLS));
+    assertEquals(cache.size(), 1L);  // the options share one tree, the bumped trees are not cached
+    assertEquals(
+        pricer.price(CALL_DKO, RATE_PROVIDER_FLAT, VOLS_FLAT),
+        expected.price(CALL_DKO, RATE_PROVIDER_FLAT, VOLS_FLAT));
+    assertEquals(cache.size(), 2L);
+    assertThrowsIllegalArg(() -> pricer.price(CALL_DKO, RATE_PROVIDER_AFTER, VOLS_AFTER));
+  }
+
   public void test_expired_calibration() {
     assertThrowsIllegalArg(() -> PRICER_39.getCalibrator().calibrateTrinomialTree(CALL_DKO.getUnderlyingOption(),
         RATE_PROVIDER_AFTER, VOLS_AFTER));
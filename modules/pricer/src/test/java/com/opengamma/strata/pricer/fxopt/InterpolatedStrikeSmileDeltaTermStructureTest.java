@@ -11,6 +11,8 @@ import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
 import static com.opengamma.strata.collect.TestHelper.coverBeanEquals;
 import static com.opengamma.strata.collect.TestHelper.coverImmutableBean;
 import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertSame;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -268,6 +270,31 @@ public class InterpolatedStrikeSmileDeltaTermStructureTest {
     }
   }
 
+  /**
+   * Tests the smiles and strikes cached by time to expiry.
+   */
+  public void cachedSmile() {
+    double timeToExpiry = 0.75;
+    double strike = 1.50;
+    InterpolatedStrikeSmileDeltaTermStructure smileTerm =
+        InterpolatedStrikeSmileDeltaTermStructure.of(VOLATILITY_TERM, ACT_360);
+    SmileDeltaParameters smile = smileTerm.smileForExpiry(timeToExpiry);
+    assertSame(smileTerm.smileForExpiry(timeToExpiry), smile);
+    assertEquals(SMILE_TERM.smileAndSensitivitiesForExpiry(timeToExpiry, DoubleArray.filled(5)).getSmile(), smile);
+    for (double forward : new double[] {1.40, 1.45, 1.40}) {
+      DoubleArray strikes = smile.strike(forward);
+      assertEquals(smileTerm.strikesForExpiry(timeToExpiry, forward), strikes);
+      double volExpected = INTERPOLATOR_STRIKE.bind(strikes, smile.getVolatility(), FLAT, FLAT).interpolate(strike);
+      assertEquals(smileTerm.volatility(timeToExpiry, strike, forward), volExpected, 0d);
+      assertEquals(
+          smileTerm.volatilityAndSensitivities(timeToExpiry, strike, forward).getVolatility(), volExpected, 0d);
+    }
+    // the bumped term structure does not share the cache
+    InterpolatedStrikeSmileDeltaTermStructure bumped = smileTerm.withParameter(12, smileTerm.getParameter(12) + 0.01);
+    assertFalse(bumped.smileForExpiry(timeToExpiry).equals(smile));
+    assertEquals(bumped.strikesForExpiry(timeToExpiry, 1.40), bumped.smileForExpiry(timeToExpiry).strike(1.40));
+  }
+
   //-------------------------------------------------------------------------
   public void coverage() {
     coverImmutableBean(SMILE_TERM);
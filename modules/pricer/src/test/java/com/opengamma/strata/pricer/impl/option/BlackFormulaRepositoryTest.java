@@ -5,6 +5,7 @@
  */
 package com.opengamma.strata.pricer.impl.option;
 
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
 import static com.opengamma.strata.product.common.PutCall.CALL;
 import static com.opengamma.strata.product.common.PutCall.PUT;
 import static org.testng.Assert.assertEquals;
@@ -8845,4 +8846,39 @@ public class BlackFormulaRepositoryTest {
     assertEquals(bsD2[1][2], bsD2[2][1], TOLERANCE_1, "AD Second order: 2nd - str-vol");
   }
 
+  //-------------------------------------------------------------------------
+  public void priceGreeksTest() {
+    double[] forwards = {FORWARD, FORWARD, FORWARD, FORWARD, FORWARD, 0d, 1e14, FORWARD, 1e14};
+    double[] strikes = {STRIKES_INPUT[0], STRIKES_INPUT[5], FORWARD, FORWARD, 120d, 100d, 1e14, 0d, 100d};
+    double[] times = {TIME_TO_EXPIRY, TIME_TO_EXPIRY, TIME_TO_EXPIRY, 0d, 1e-5, TIME_TO_EXPIRY, TIME_TO_EXPIRY,
+        TIME_TO_EXPIRY, 0.5};
+    double[] vols = {VOLS[0], VOLS[3], 0.25, 0.3, 0.4, 0.2, 0.2, 0.2, Double.POSITIVE_INFINITY};
+    int n = forwards.length;
+    for (boolean isCall : new boolean[] {true, false}) {
+      double[] prices = new double[n];
+      double[] deltas = new double[n];
+      double[] vegas = new double[n];
+      double[] gammas = new double[n];
+      BlackFormulaRepository.priceGreeks(forwards, strikes, times, vols, isCall, prices, deltas, vegas, gammas);
+      for (int i = 0; i < n; i++) {
+        assertEquals(prices[i], BlackFormulaRepository.price(forwards[i], strikes[i], times[i], vols[i], isCall), 0d);
+        assertEquals(deltas[i], BlackFormulaRepository.delta(forwards[i], strikes[i], times[i], vols[i], isCall), 0d);
+        assertEquals(vegas[i], BlackFormulaRepository.vega(forwards[i], strikes[i], times[i], vols[i]), 0d);
+        assertEquals(gammas[i], BlackFormulaRepository.gamma(forwards[i], strikes[i], times[i], vols[i]), 0d);
+      }
+    }
+  }
+
+  public void priceGreeksErrorTest() {
+    double[] values = {FORWARD, FORWARD};
+    double[] negative = {0.2, -0.2};
+    double[] output = new double[2];
+    assertThrowsIllegalArg(() -> BlackFormulaRepository.priceGreeks(
+        values, values, values, new double[1], true, output, output, output, output));
+    assertThrowsIllegalArg(() -> BlackFormulaRepository.priceGreeks(
+        values, values, values, values, true, output, output, output, new double[3]));
+    assertThrowsIllegalArg(() -> BlackFormulaRepository.priceGreeks(
+        values, values, values, negative, true, output, output, output, output));
+  }
+
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2018 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.option;
+
+import com.opengamma.strata.product.common.PutCall;
+
+/**
+ * Vague performance test of the batch price and greeks of the Black and normal formulas.
+ * <p>
+ * This prices the caplets of a 40 year quarterly cap many times, reporting the time per option.
+ * The batch methods are compared to the price, delta, vega and gamma methods called one option at a time.
+ */
+public class FormulaRepositoryBatchPerformance {
+
+  private static final int SIZE = 160;
+  private static final int COUNT = 20_000;
+  private static final double[] FORWARDS = new double[SIZE];
+  private static final double[] STRIKES = new double[SIZE];
+  private static final double[] TIMES = new double[SIZE];
+  private static final double[] BLACK_VOLS = new double[SIZE];
+  private static final double[] NORMAL_VOLS = new double[SIZE];
+  static {
+    for (int i = 0; i < SIZE; i++) {
+      FORWARDS[i] = 0.015 + 0.0001 * i;
+      STRIKES[i] = 0.025;
+      TIMES[i] = 0.25 * (i + 1);
+      BLACK_VOLS[i] = 0.45 - 0.001 * i;
+      NORMAL_VOLS[i] = 0.008 + 0.00001 * i;
+    }
+  }
+
+  public static void main(String[] args) throws Exception {
+    System.out.println("Go");
+    for (int i = 0; i < 10; i++) {
+      double total = 0d;
+      total += run("black scalar ", () -> blackScalar());
+      total += run("black batch  ", () -> blackBatch());
+      total += run("normal scalar", () -> normalScalar());
+      total += run("normal batch ", () -> normalBatch());
+      System.out.println("Avoiding hotspot: " + total);
+    }
+  }
+
+  private static double run(String description, Task task) {
+    long start = System.nanoTime();
+    double total = 0d;
+    for (int i = 0; i < COUNT; i++) {
+      total += task.run();
+    }
+    long end = System.nanoTime();
+    System.out.println(description + ": " + (end - start) / (double) COUNT / SIZE + " ns per option");
+    return total;
+  }
+
+  private static double blackScalar() {
+    double total = 0d;
+    for (int i = 0; i < SIZE; i++) {
+      total += BlackFormulaRepository.price(FORWARDS[i], STRIKES[i], TIMES[i], BLACK_VOLS[i], true);
+      total += BlackFormulaRepository.delta(FORWARDS[i], STRIKES[i], TIMES[i], BLACK_VOLS[i], true);
+      total += BlackFormulaRepository.vega(FORWARDS[i], STRIKES[i], TIMES[i], BLACK_VOLS[i]);
+      total += BlackFormulaRepository.gamma(FORWARDS[i], STRIKES[i], TIMES[i], BLACK_VOLS[i]);
+    }
+    return total;
+  }
+
+  private static double blackBatch() {
+    double[] prices = new double[SIZE];
+    double[] deltas = new double[SIZE];
+    double[] vegas = new double[SIZE];
+    double[] gammas = new double[SIZE];
+    BlackFormulaRepository.priceGreeks(FORWARDS, STRIKES, TIMES, BLACK_VOLS, true, prices, deltas, vegas, gammas);
+    return sum(prices, deltas, vegas, gammas);
+  }
+
+  private static double normalScalar() {
+    double total = 0d;
+    for (int i = 0; i < SIZE; i++) {
+      total += NormalFormulaRepository.price(FORWARDS[i], STRIKES[i], TIMES[i], NORMAL_VOLS[i], PutCall.CALL);
+      total += NormalFormulaRepository.delta(FORWARDS[i], STRIKES[i], TIMES[i], NORMAL_VOLS[i], PutCall.CALL);
+      total += NormalFormulaRepository.vega(FORWARDS[i], STRIKES[i], TIMES[i], NORMAL_VOLS[i], PutCall.CALL);
+      total += NormalFormulaRepository.gamma(FORWARDS[i], STRIKES[i], TIMES[i], NORMAL_VOLS[i], PutCall.CALL);
+    }
+    return total;
+  }
+
+  private static double normalBatch() {
+    double[] prices = new double[SIZE];
+    double[] deltas = new double[SIZE];
+    double[] vegas = new double[SIZE];
+    double[] gammas = new double[SIZE];
+    NormalFormulaRepository.priceGreeks(
+        FORWARDS, STRIKES, TIMES, NORMAL_VOLS, PutCall.CALL, prices, deltas, vegas, gammas);
+    return sum(prices, deltas, vegas, gammas);
+  }
+
+  private static double sum(double[]... arrays) {
+    double total = 0d;
+    for (double[] array : arrays) {
+      for (double value : array) {
+        total += value;
+      }
+    }
+    return total;
+  }
+
+  // a single run of the test
+  private interface Task {
+    double run();
+  }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2018 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.option;
+
+import com.opengamma.strata.product.common.PutCall;
+
+/**
+ * Vague performance test of the implied volatility solvers.
+ * <p>
+ * This solves the implied volatilities of a grid of option prices many times, reporting the time per option.
+ * {@link ImpliedVolatilitySolver} is compared to the implied volatility of the formula repositories.
+ */
+public class ImpliedVolatilitySolverPerformance {
+
+  private static final int SIZE = 200;
+  private static final int COUNT = 500;
+  private static final double[] FORWARDS = new double[SIZE];
+  private static final double[] STRIKES = new double[SIZE];
+  private static final double[] TIMES = new double[SIZE];
+  private static final double[] BLACK_PRICES = new double[SIZE];
+  private static final double[] NORMAL_PRICES = new double[SIZE];
+  static {
+    for (int i = 0; i < SIZE; i++) {
+      FORWARDS[i] = 0.02;
+      STRIKES[i] = 0.01 + 0.0001 * i;
+      TIMES[i] = 0.5 + 0.1 * (i % 20);
+      BLACK_PRICES[i] = BlackFormulaRepository.price(FORWARDS[i], STRIKES[i], TIMES[i], 0.15 + 0.002 * i, true);
+      NORMAL_PRICES[i] = NormalFormulaRepository.price(
+          FORWARDS[i], STRIKES[i], TIMES[i], 0.004 + 0.00002 * i, PutCall.CALL);
+    }
+  }
+
+  public static void main(String[] args) throws Exception {
+    System.out.println("Go");
+    for (int i = 0; i < 10; i++) {
+      double total = 0d;
+      total += run("black repository ", () -> blackRepository());
+      total += run("black solver     ", () -> blackSolver());
+      total += run("normal repository", () -> normalRepository());
+      total += run("normal solver    ", () -> normalSolver());
+      System.out.println("Avoiding hotspot: " + total);
+    }
+  }
+
+  private static double run(String description, Task task) {
+    long start = System.nanoTime();
+    double total = 0d;
+    for (int i = 0; i < COUNT; i++) {
+      total += task.run();
+    }
+    long end = System.nanoTime();
+    System.out.println(description + ": " + (end - start) / (double) COUNT / SIZE + " ns per option");
+    return total;
+  }
+
+  private static double blackRepository() {
+    double total = 0d;
+    for (int i = 0; i < SIZE; i++) {
+      total += BlackFormulaRepository.impliedVolatility(BLACK_PRICES[i], FORWARDS[i], STRIKES[i], TIMES[i], true);
+    }
+    return total;
+  }
+
+  private static double blackSolver() {
+    double[] volatilities = new double[SIZE];
+    ImpliedVolatilitySolver.blackImpliedVolatilities(BLACK_PRICES, FORWARDS, STRIKES, TIMES, true, volatilities);
+    return sum(volatilities);
+  }
+
+  private static double normalRepository() {
+    double total = 0d;
+    for (int i = 0; i < SIZE; i++) {
+      total += NormalFormulaRepository.impliedVolatility(
+          NORMAL_PRICES[i], FORWARDS[i], STRIKES[i], TIMES[i], 0d, 1d, PutCall.CALL);
+    }
+    return total;
+  }
+
+  private static double normalSolver() {
+    double[] volatilities = new double[SIZE];
+    ImpliedVolatilitySolver.normalImpliedVolatilities(
+        NORMAL_PRICES, FORWARDS, STRIKES, TIMES, PutCall.CALL, volatilities);
+    return sum(volatilities);
+  }
+
+  private static double sum(double[] array) {
+    double total = 0d;
+    for (double value : array) {
+      total += value;
+    }
+    return total;
+  }
+
+  // a single run of the test
+  private interface Task {
+    double run();
+  }
+
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2018 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.option;
+
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import org.testng.annotations.Test;
+
+import com.opengamma.strata.product.common.PutCall;
+
+/**
+ * Test {@link ImpliedVolatilitySolver}.
+ */
+@Test
+public class ImpliedVolatilitySolverTest {
+
+  private static final double[] FORWARDS = {0.02, 0.035, 104d};
+  private static final double[] MONEYNESS = {0.5, 0.8, 0.95, 1d, 1.05, 1.25, 2d};
+  private static final double[] TIMES = {0.1, 1d, 5d, 20d};
+  private static final double[] BLACK_VOLS = {0.05, 0.2, 0.6, 1.2};
+  private static final double MIN_PRICE = 1e-10;
+  private static final double TOLERANCE_VOL = 1e-8;
+
+  //-------------------------------------------------------------------------
+  public void black() {
+    for (double forward : FORWARDS) {
+      for (double moneyness : MONEYNESS) {
+        double strike = forward * moneyness;
+        for (double time : TIMES) {
+          for (double vol : BLACK_VOLS) {
+            boolean isCall = strike >= forward;
+            double price = BlackFormulaRepository.price(forward, strike, time, vol, isCall);
+            if (price < MIN_PRICE * forward) {
+              continue;  // the volatility is not defined by the price
+            }
+            double computed = ImpliedVolatilitySolver.blackImpliedVolatility(price, forward, strike, time, isCall);
+            assertEquals(computed, vol, TOLERANCE_VOL * vol);
+            double expected = BlackFormulaRepository.impliedVolatility(price, forward, strike, time, isCall);
+            assertEquals(computed, expected, TOLERANCE_VOL * vol);
+          }
+        }
+      }
+    }
+  }
+
+  public void black_inTheMoney() {
+    double forward = 0.03;
+    double strike = 0.025;
+    double vol = 0.3;
+    double callPrice = BlackFormulaRepository.price(forward, strike, 2d, vol, true);
+    double putPrice = BlackFormulaRepository.price(forward, strike, 2d, vol, false);
+    assertEquals(ImpliedVolatilitySolver.blackImpliedVolatility(callPrice, forward, strike, 2d, true), vol, 1e-10);
+    assertEquals(ImpliedVolatilitySolver.blackImpliedVolatility(putPrice, forward, strike, 2d, false), vol, 1e-10);
+  }
+
+  public void black_limits() {
+    assertEquals(ImpliedVolatilitySolver.blackImpliedVolatility(0d, 0.03, 0.04, 2d, true), 0d);
+    double atmPrice = BlackFormulaRepository.price(0.03, 0.03, 2d, 0.3, true);
+    assertEquals(ImpliedVolatilitySolver.blackImpliedVolatility(atmPrice, 0.03, 0.03, 2d, true), 0.3, 1e-10);
+    assertThrowsIllegalArg(() -> ImpliedVolatilitySolver.blackImpliedVolatility(-0.01, 0.03, 0.04, 2d, true));
+    assertThrowsIllegalArg(() -> ImpliedVolatilitySolver.blackImpliedVolatility(0.05, 0.03, 0.04, 2d, true));
+  }
+
+  public void black_guess() {
+    double forward = 0.03;
+    double strike = 0.032;
+    double price = BlackFormulaRepository.price(forward, strike, 2d, 0.25, true);
+    double guess = ImpliedVolatilitySolver.blackVolatilityGuess(price, forward, strike, 2d, true);
+    assertEquals(guess, 0.25, 1e-2);
+  }
+
+  public void black_batch() {
+    double[] prices = {BlackFormulaRepository.price(0.03, 0.035, 2d, 0.3, true), Double.NaN,
+        BlackFormulaRepository.price(0.03, 0.02, 5d, 0.4, true)};
+    double[] forwards = {0.03, 0.03, 0.03};
+    double[] strikes = {0.035, 0.03, 0.02};
+    double[] times = {2d, 2d, 5d};
+    double[] vols = new double[3];
+    ImpliedVolatilitySolver.blackImpliedVolatilities(prices, forwards, strikes, times, true, vols);
+    assertEquals(vols[0], ImpliedVolatilitySolver.blackImpliedVolatility(prices[0], 0.03, 0.035, 2d, true));
+    assertTrue(Double.isNaN(vols[1]));
+    assertEquals(vols[2], ImpliedVolatilitySolver.blackImpliedVolatility(prices[2], 0.03, 0.02, 5d, true));
+    assertThrowsIllegalArg(
+        () -> ImpliedVolatilitySolver.blackImpliedVolatilities(prices, forwards, strikes, times, true, new double[2]));
+  }
+
+  //-------------------------------------------------------------------------
+  public void normal() {
+    for (double forward : FORWARDS) {
+      for (double moneyness : MONEYNESS) {
+        double strike = forward * moneyness;
+        for (double time : TIMES) {
+          for (double blackVol : BLACK_VOLS) {
+            double vol = blackVol * forward;
+            PutCall putCall = strike >= forward ? PutCall.CALL : PutCall.PUT;
+            double price = NormalFormulaRepository.price(forward, strike, time, vol, putCall);
+            if (price < MIN_PRICE * forward) {
+              continue;  // the volatility is not defined by the price
+            }
+            double guess = ImpliedVolatilitySolver.normalVolatilityGuess(price, forward, strike, time, putCall);
+            assertEquals(guess, vol, 1e-6 * vol);
+            double computed = ImpliedVolatilitySolver.normalImpliedVolatility(price, forward, strike, time, putCall);
+            assertEquals(computed, vol, TOLERANCE_VOL * vol);
+          }
+        }
+      }
+    }
+  }
+
+  public void normal_negativeRates() {
+    double forward = -0.002;
+    double strike = 0.001;
+    double vol = 0.006;
+    for (PutCall putCall : PutCall.values()) {
+      double price = NormalFormulaRepository.price(forward, strike, 3d, vol, putCall);
+      assertEquals(ImpliedVolatilitySolver.normalImpliedVolatility(price, forward, strike, 3d, putCall), vol, 1e-14);
+    }
+  }
+
+  public void normal_limits() {
+    assertEquals(ImpliedVolatilitySolver.normalImpliedVolatility(1d, 3d, 2d, 2d, PutCall.CALL), 0d);
+    assertThrowsIllegalArg(() -> ImpliedVolatilitySolver.normalImpliedVolatility(0.5, 3d, 2d, 2d, PutCall.CALL));
+    assertThrowsIllegalArg(() -> ImpliedVolatilitySolver.normalImpliedVolatility(0.005, 0.03, 0.02, 0d, PutCall.CALL));
+  }
+
+  public void normal_batch() {
+    double[] prices = {NormalFormulaRepository.price(0.03, 0.035, 2d, 0.006, PutCall.PUT), Double.NaN};
+    double[] forwards = {0.03, 0.03};
+    double[] strikes = {0.035, 0.03};
+    double[] times = {2d, 2d};
+    double[] vols = new double[2];
+    ImpliedVolatilitySolver.normalImpliedVolatilities(prices, forwards, strikes, times, PutCall.PUT, vols);
+    assertEquals(vols[0], ImpliedVolatilitySolver.normalImpliedVolatility(prices[0], 0.03, 0.035, 2d, PutCall.PUT));
+    assertTrue(Double.isNaN(vols[1]));
+  }
+
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2018 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.option;
+
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static org.testng.Assert.assertEquals;
+
+import org.testng.annotations.Test;
+
+import com.opengamma.strata.product.common.PutCall;
+
+/**
+ * Test {@link NormalFormulaRepository}.
+ */
+@Test
+public class NormalFormulaRepositoryTest {
+
+  private static final double[] FORWARDS = {0.02, 0.02, 0.02, 0.02, -0.005, 0.01, 0.01, 0.03};
+  private static final double[] STRIKES = {0.01, 0.02, 0.035, 0.02, 0.0, 0.015, 0.01, 0.01};
+  private static final double[] TIMES = {2.5, 1.0, 10.0, 0d, 0.5, 3.0, 1.0, 2.0};
+  private static final double[] VOLS = {0.01, 0.0075, 0.005, 0.01, 0.004, 0d, 0d, 1e-20};
+
+  //-------------------------------------------------------------------------
+  public void priceGreeks() {
+    int n = FORWARDS.length;
+    for (PutCall putCall : PutCall.values()) {
+      double[] prices = new double[n];
+      double[] deltas = new double[n];
+      double[] vegas = new double[n];
+      double[] gammas = new double[n];
+      NormalFormulaRepository.priceGreeks(FORWARDS, STRIKES, TIMES, VOLS, putCall, prices, deltas, vegas, gammas);
+      for (int i = 0; i < n; i++) {
+        assertEquals(prices[i], NormalFormulaRepository.price(FORWARDS[i], STRIKES[i], TIMES[i], VOLS[i], putCall), 0d);
+        assertEquals(deltas[i], NormalFormulaRepository.delta(FORWARDS[i], STRIKES[i], TIMES[i], VOLS[i], putCall), 0d);
+        assertEquals(vegas[i], NormalFormulaRepository.vega(FORWARDS[i], STRIKES[i], TIMES[i], VOLS[i], putCall), 0d);
+        assertEquals(gammas[i], NormalFormulaRepository.gamma(FORWARDS[i], STRIKES[i], TIMES[i], VOLS[i], putCall), 0d);
+      }
+    }
+  }
+
+  public void priceGreeks_wrongLength() {
+    double[] output = new double[FORWARDS.length];
+    assertThrowsIllegalArg(() -> NormalFormulaRepository.priceGreeks(
+        FORWARDS, STRIKES, TIMES, new double[1], PutCall.CALL, output, output, output, output));
+    assertThrowsIllegalArg(() -> NormalFormulaRepository.priceGreeks(
+        FORWARDS, STRIKES, TIMES, VOLS, PutCall.CALL, output, output, new double[1], output));
+  }
+
+}
@@ -5,6 +5,7 @@
  */
 package com.opengamma.strata.pricer.impl.option;
 
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertTrue;
 
@@ -68,6 +69,46 @@ public class SabrExtrapolationRightFunctionTest {
     assertEquals(priceExpectedOut, priceOut, TOLERANCE_PRICE);
   }
 
+  /**
+   * Tests the prices of a set of strikes.
+   */
+  public void priceStrikes() {
+    double[] strikes = {0.12, 0.01, 0.08, CUT_OFF_STRIKE, 0.5, 0.05};
+    for (PutCall putCall : PutCall.values()) {
+      double[] prices = new double[strikes.length];
+      SABR_EXTRAPOLATION.price(strikes, putCall, prices);
+      for (int i = 0; i < strikes.length; i++) {
+        assertEquals(prices[i], SABR_EXTRAPOLATION.price(strikes[i], putCall));
+      }
+    }
+    assertThrowsIllegalArg(() -> SABR_EXTRAPOLATION.price(strikes, PutCall.CALL, new double[2]));
+  }
+
+  /**
+   * Tests the price derivatives of a set of strikes.
+   */
+  public void priceDerivativesStrikes() {
+    double[] strikes = {0.12, 0.01, 0.08, CUT_OFF_STRIKE, 0.5, 0.05};
+    for (PutCall putCall : PutCall.values()) {
+      double[] derivativesForward = new double[strikes.length];
+      SABR_EXTRAPOLATION.priceDerivativeForward(strikes, putCall, derivativesForward);
+      double[] prices = new double[strikes.length];
+      double[][] derivativesSabr = new double[strikes.length][];
+      SABR_EXTRAPOLATION.priceAdjointSabr(strikes, putCall, prices, derivativesSabr);
+      for (int i = 0; i < strikes.length; i++) {
+        assertEquals(derivativesForward[i], SABR_EXTRAPOLATION.priceDerivativeForward(strikes[i], putCall), 1.0E-12);
+        ValueDerivatives expected = SABR_EXTRAPOLATION.priceAdjointSabr(strikes[i], putCall);
+        assertEquals(prices[i], expected.getValue(), TOLERANCE_PRICE);
+        for (int j = 0; j < 4; j++) {
+          assertEquals(derivativesSabr[i][j], expected.getDerivative(j), 1.0E-12);
+        }
+      }
+    }
+    assertThrowsIllegalArg(() -> SABR_EXTRAPOLATION.priceDerivativeForward(strikes, PutCall.CALL, new double[2]));
+    assertThrowsIllegalArg(
+        () -> SABR_EXTRAPOLATION.priceAdjointSabr(strikes, PutCall.CALL, new double[2], new double[2][]));
+  }
+
   /**
    * Tests the price for options in SABR model with extrapolation.
    */
@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2018 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.rate;
+
+import static com.opengamma.strata.basics.index.OvernightIndices.GBP_SONIA;
+import static com.opengamma.strata.basics.index.OvernightIndices.USD_FED_FUND;
+import static com.opengamma.strata.collect.TestHelper.assertThrows;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+import java.time.LocalDate;
+
+import org.testng.annotations.Test;
+
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.date.HolidayCalendar;
+import com.opengamma.strata.basics.index.OvernightIndexObservation;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeriesBuilder;
+import com.opengamma.strata.pricer.PricingException;
+import com.opengamma.strata.pricer.rate.OvernightIndexRates;
+import com.opengamma.strata.pricer.rate.SimpleRatesProvider;
+import com.opengamma.strata.product.rate.OvernightCompoundedRateComputation;
+
+/**
+ * Test {@link OvernightCompoundingFactors}.
+ */
+@Test
+public class OvernightCompoundingFactorsTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final LocalDate VAL_DATE = date(2017, 6, 15);
+  private static final LocalDate GAP_DATE = date(2014, 3, 12);
+  private static final OvernightCompoundedRateComputation COMPUTATION =
+      OvernightCompoundedRateComputation.of(GBP_SONIA, date(2016, 12, 15), date(2017, 12, 15), 0, REF_DATA);
+  private static final LocalDateDoubleTimeSeries FIXINGS = fixings(date(2012, 1, 3), VAL_DATE, GAP_DATE);
+  private static final double FORWARD_RATE = 0.0125;
+  private static final double TOLERANCE = 1e-14;
+  private static final double TOLERANCE_RATE = 1e-12;
+
+  //-------------------------------------------------------------------------
+  public void test_create() {
+    OvernightCompoundingFactors test = OvernightCompoundingFactors.create(COMPUTATION, FIXINGS);
+    HolidayCalendar calendar = COMPUTATION.getFixingCalendar();
+    assertEquals(test.fixingDate(0), calendar.next(GAP_DATE));
+    assertEquals(test.fixingDate(test.size() - 1), calendar.next(FIXINGS.getLatestDate()));
+    assertEquals(test.indexOf(GAP_DATE), -1);
+    assertEquals(test.indexOf(calendar.previous(GAP_DATE)), -1);
+    assertEquals(test.indexOf(date(2017, 6, 17)), -1);  // Saturday
+    int startIndex = test.indexOf(date(2015, 2, 2));
+    int endIndex = test.indexOf(date(2016, 8, 1));
+    assertEquals(test.fixingDate(startIndex), date(2015, 2, 2));
+    assertEquals(test.compositionFactor(startIndex, startIndex), 1d);
+    double expected = 1d;
+    for (int i = startIndex; i < endIndex; i++) {
+      expected *= 1d + accrualFactor(test.fixingDate(i)) * FIXINGS.get(test.fixingDate(i)).getAsDouble();
+    }
+    assertEquals(test.compositionFactor(startIndex, endIndex), expected, TOLERANCE);
+  }
+
+  public void test_create_empty() {
+    OvernightCompoundingFactors test =
+        OvernightCompoundingFactors.create(COMPUTATION, LocalDateDoubleTimeSeries.empty());
+    assertEquals(test.size(), 0);
+    assertEquals(test.indexOf(VAL_DATE), -1);
+  }
+
+  public void test_of_shared() {
+    OvernightCompoundingFactors test = OvernightCompoundingFactors.of(COMPUTATION, FIXINGS);
+    assertSame(OvernightCompoundingFactors.of(COMPUTATION, FIXINGS), test);
+    OvernightCompoundedRateComputation other =
+        OvernightCompoundedRateComputation.of(USD_FED_FUND, date(2016, 12, 15), date(2017, 12, 15), 0, REF_DATA);
+    assertEquals(OvernightCompoundingFactors.of(other, FIXINGS) == test, false);
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_rate_seasoned() {
+    for (LocalDate valDate : new LocalDate[] {COMPUTATION.getStartDate(), VAL_DATE, date(2017, 12, 20)}) {
+      LocalDateDoubleTimeSeries fixings = fixings(date(2012, 1, 3), valDate, GAP_DATE);
+      SimpleRatesProvider provider = new SimpleRatesProvider(mockRates(valDate, fixings));
+      double computed = ForwardOvernightCompoundedRateComputationFn.DEFAULT.rate(COMPUTATION, null, null, provider);
+      assertEquals(computed, expectedRate(valDate, fixings), TOLERANCE_RATE);
+    }
+  }
+
+  public void test_rate_missingFixing() {
+    LocalDateDoubleTimeSeries fixings = fixings(date(2012, 1, 3), VAL_DATE, date(2017, 2, 1));
+    SimpleRatesProvider provider = new SimpleRatesProvider(mockRates(VAL_DATE, fixings));
+    assertThrows(
+        () -> ForwardOvernightCompoundedRateComputationFn.DEFAULT.rate(COMPUTATION, null, null, provider),
+        PricingException.class);
+  }
+
+  //-------------------------------------------------------------------------
+  // daily fixings to the day before the valuation date, except the gap date
+  private static LocalDateDoubleTimeSeries fixings(LocalDate start, LocalDate valDate, LocalDate gapDate) {
+    HolidayCalendar calendar = COMPUTATION.getFixingCalendar();
+    LocalDateDoubleTimeSeriesBuilder builder = LocalDateDoubleTimeSeries.builder();
+    int i = 0;
+    for (LocalDate date = start; date.isBefore(valDate); date = calendar.next(date)) {
+      if (!date.equals(gapDate)) {
+        builder.put(date, 0.005 + 0.001 * (i++ % 17));
+      }
+    }
+    return builder.build();
+  }
+
+  private static OvernightIndexRates mockRates(LocalDate valDate, LocalDateDoubleTimeSeries fixings) {
+    OvernightIndexRates mockRates = mock(OvernightIndexRates.class);
+    when(mockRates.getIndex()).thenReturn(GBP_SONIA);
+    when(mockRates.getValuationDate()).thenReturn(valDate);
+    when(mockRates.getFixings()).thenReturn(fixings);
+    OvernightIndexObservation obs = COMPUTATION.observeOn(COMPUTATION.getFixingCalendar().nextOrSame(valDate));
+    when(mockRates.periodRate(obs, COMPUTATION.getEndDate())).thenReturn(FORWARD_RATE);
+    return mockRates;
+  }
+
+  // the expected rate, walking the fixings one at a time
+  private static double expectedRate(LocalDate valDate, LocalDateDoubleTimeSeries fixings) {
+    double factor = 1d;
+    LocalDate fixing = COMPUTATION.getStartDate();
+    while (fixing.isBefore(COMPUTATION.getEndDate()) && fixing.isBefore(valDate)) {
+      factor *= 1d + accrualFactor(fixing) * fixings.get(fixing).getAsDouble();
+      fixing = COMPUTATION.getFixingCalendar().next(fixing);
+    }
+    if (fixing.isBefore(COMPUTATION.getEndDate())) {
+      factor *= 1d + GBP_SONIA.getDayCount().yearFraction(fixing, COMPUTATION.getEndDate()) * FORWARD_RATE;
+    }
+    double accrualTotal = GBP_SONIA.getDayCount().yearFraction(COMPUTATION.getStartDate(), COMPUTATION.getEndDate());
+    return (factor - 1d) / accrualTotal;
+  }
+
+  private static double accrualFactor(LocalDate fixing) {
+    LocalDate effectiveDate = COMPUTATION.calculateEffectiveFromFixing(fixing);
+    LocalDate maturityDate = COMPUTATION.calculateMaturityFromEffective(effectiveDate);
+    return GBP_SONIA.getDayCount().yearFraction(effectiveDate, maturityDate);
+  }
+
+}
@@ -89,6 +89,7 @@ public class ConstantContinuousSingleBarrierKnockoutFunctionTest {
     assertTrue(DoubleArrayMath.fuzzyEquals(computedNextValues.toArray(), expectedNextValues.toArray(), tol));
   }
 
+  @SuppressWarnings("deprecation")
   public void test_optionPrice_down() {
     double tol = 1.0e-12;
     double barrier = 97d;
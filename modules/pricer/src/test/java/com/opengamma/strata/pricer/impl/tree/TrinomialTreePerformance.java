@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2018 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.tree;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.pricer.fxopt.RecombiningTrinomialTreeData;
+import com.opengamma.strata.product.common.PutCall;
+import com.opengamma.strata.product.option.BarrierType;
+
+/**
+ * Vague performance test of the backward induction of {@link TrinomialTree}.
+ * <p>
+ * A barrier option is priced on a tree of 150 steps, reporting the time per option and the garbage collections.
+ * The induction in buffers of the tree is compared to the induction by the option function methods
+ * returning arrays, which allocate the values of each layer.
+ * The bytes allocated are not measured, as the thread allocation counter is not part of the standard API.
+ */
+public class TrinomialTreePerformance {
+
+  private static final int STEPS = 150;
+  private static final int COUNT = 2000;
+  private static final double SPOT = 1.4;
+  private static final double TIME = 2d;
+  private static final TrinomialTree TREE = new TrinomialTree();
+  private static final OptionFunction FUNCTION = ConstantContinuousSingleBarrierKnockoutFunction.of(
+      1.45, TIME, PutCall.CALL, STEPS, BarrierType.DOWN, 1.2, DoubleArray.filled(STEPS + 1));
+  private static final RecombiningTrinomialTreeData DATA = data();
+
+  public static void main(String[] args) throws Exception {
+    System.out.println("Go");
+    for (int i = 0; i < 10; i++) {
+      double total = 0d;
+      total += run("arrays ", () -> arrays());
+      total += run("buffers", () -> TREE.optionPrice(FUNCTION, DATA));
+      System.out.println("Avoiding hotspot: " + total);
+    }
+  }
+
+  private static double run(String description, Task task) {
+    long startCollections = collections();
+    long start = System.nanoTime();
+    double total = 0d;
+    for (int i = 0; i < COUNT; i++) {
+      total += task.run();
+    }
+    long end = System.nanoTime();
+    long endCollections = collections();
+    System.out.println(description + ": " + (end - start) / 1000 / COUNT + " us per option, " +
+        (endCollections - startCollections) + " garbage collections");
+    return total;
+  }
+
+  // the induction used before the buffers
+  private static double arrays() {
+    DoubleArray values = FUNCTION.getPayoffAtExpiryTrinomial(DATA.getStateValueAtLayer(STEPS));
+    for (int i = STEPS - 1; i > -1; --i) {
+      values = FUNCTION.getNextOptionValues(
+          DATA.getDiscountFactorAtLayer(i), DATA.getProbabilityAtLayer(i), DATA.getStateValueAtLayer(i), values, i);
+    }
+    return values.get(0);
+  }
+
+  // a tree of constant volatility
+  private static RecombiningTrinomialTreeData data() {
+    double dt = TIME / STEPS;
+    double[] params = new CoxRossRubinsteinLatticeSpecification().getParametersTrinomial(0.15, 0.01, dt).toArray();
+    double[][] stateValue = new double[STEPS + 1][];
+    stateValue[0] = new double[] {SPOT};
+    List<DoubleMatrix> probabilities = new ArrayList<>();
+    double[] probability = new double[] {params[5], params[4], params[3]};
+    for (int i = 0; i < STEPS; ++i) {
+      int index = i;
+      stateValue[i + 1] = DoubleArray.of(2 * i + 3, j -> SPOT * Math.pow(params[2], index + 1 - j)).toArray();
+      double[][] probabilityMatrix = new double[2 * i + 1][];
+      Arrays.fill(probabilityMatrix, probability);
+      probabilities.add(DoubleMatrix.ofUnsafe(probabilityMatrix));
+    }
+    return RecombiningTrinomialTreeData.of(
+        DoubleMatrix.ofUnsafe(stateValue),
+        probabilities,
+        DoubleArray.filled(STEPS, Math.exp(-0.02 * dt)),
+        DoubleArray.of(STEPS + 1, i -> dt * i));
+  }
+
+  // the total number of garbage collections so far
+  private static long collections() {
+    long total = 0;
+    for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+      total += Math.max(bean.getCollectionCount(), 0);
+    }
+    return total;
+  }
+
+  // a single run of the test
+  private interface Task {
+    double run();
+  }
+
+}
@@ -18,6 +18,7 @@ import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.array.DoubleMatrix;
 import com.opengamma.strata.pricer.fxopt.RecombiningTrinomialTreeData;
 import com.opengamma.strata.product.common.PutCall;
+import com.opengamma.strata.product.option.BarrierType;
 
 /**
  * Test {@link TrinomialTree}.
@@ -82,4 +83,51 @@ public class TrinomialTreeTest {
     }
   }
 
+  /**
+   * Test the backward induction in buffers against the prices of the induction allocating an array for each layer.
+   */
+  public void test_buffers() {
+    int nSteps = 41;
+    LatticeSpecification lattice = new TrigeorgisLatticeSpecification();
+    OptionFunction vanilla = EuropeanVanillaOptionFunction.of(105d, TIME, PutCall.CALL, nSteps);
+    OptionFunction barrier = ConstantContinuousSingleBarrierKnockoutFunction.of(
+        105d, TIME, PutCall.CALL, nSteps, BarrierType.DOWN, 90d, DoubleArray.filled(nSteps + 1, 1d));
+    // only the methods returning arrays are implemented
+    OptionFunction arrays = new OptionFunction() {
+      @Override
+      public double getTimeToExpiry() {
+        return barrier.getTimeToExpiry();
+      }
+
+      @Override
+      public int getNumberOfSteps() {
+        return barrier.getNumberOfSteps();
+      }
+
+      @Override
+      public DoubleArray getPayoffAtExpiryTrinomial(DoubleArray stateValue) {
+        return barrier.getPayoffAtExpiryTrinomial(stateValue);
+      }
+
+      @Override
+      public DoubleArray getNextOptionValues(
+          double discountFactor,
+          DoubleMatrix transitionProbability,
+          DoubleArray stateValue,
+          DoubleArray value,
+          int i) {
+        return barrier.getNextOptionValues(discountFactor, transitionProbability, stateValue, value, i);
+      }
+    };
+    // the prices computed by the trees allocating an array for each layer
+    double expectedVanilla = 9.654656507954861;
+    double expectedBarrier = 9.089723686404197;
+    // twice, reusing the workspace
+    for (int j = 0; j < 2; ++j) {
+      assertEquals(TRINOMIAL_TREE.optionPrice(vanilla, lattice, SPOT, 0.2, 0.03, 0.02), expectedVanilla, 1e-12);
+      assertEquals(TRINOMIAL_TREE.optionPrice(barrier, lattice, SPOT, 0.2, 0.03, 0.02), expectedBarrier, 1e-12);
+      assertEquals(TRINOMIAL_TREE.optionPrice(arrays, lattice, SPOT, 0.2, 0.03, 0.02), expectedBarrier, 1e-12);
+    }
+  }
+
 }
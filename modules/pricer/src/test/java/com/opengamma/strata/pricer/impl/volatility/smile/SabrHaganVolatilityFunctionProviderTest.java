@@ -348,6 +348,34 @@ public class SabrHaganVolatilityFunctionProviderTest extends SabrVolatilityFunct
     assertThrowsIllegalArg(() -> FUNCTION.volatilityAdjoint(10 * F, STRIKE_ITM, T, dataIn));
   }
 
+  public void test_volatility_strikes() {
+    double[] strikes = {0d, 1.0E-14, 0.01, STRIKE_ITM, F, F + 1.0E-8, STRIKE_OTM, 0.10, 0.50};
+    double[] betas = {0d, 0.25, BETA, 1d};
+    for (double beta : betas) {
+      for (double alpha : new double[] {0d, ALPHA}) {
+        SabrFormulaData data = SabrFormulaData.of(alpha, beta, RHO, NU);
+        double[] volatilities = new double[strikes.length];
+        FUNCTION.volatility(F, strikes, T, data, volatilities);
+        double[] volatilitiesAd = new double[strikes.length];
+        double[][] derivatives = new double[strikes.length][6];
+        derivatives[0] = null;
+        FUNCTION.volatilityAdjoint(F, strikes, T, data, volatilitiesAd, derivatives);
+        for (int i = 0; i < strikes.length; i++) {
+          assertEquals(volatilities[i], FUNCTION.volatility(F, strikes[i], T, data));
+          ValueDerivatives expected = FUNCTION.volatilityAdjoint(F, strikes[i], T, data);
+          assertEquals(volatilitiesAd[i], expected.getValue());
+          assertEquals(derivatives[i], expected.getDerivatives().toArray());
+        }
+      }
+    }
+  }
+
+  public void test_volatility_strikes_wrongLength() {
+    assertThrowsIllegalArg(() -> FUNCTION.volatility(F, new double[2], T, DATA, new double[1]));
+    assertThrowsIllegalArg(
+        () -> FUNCTION.volatilityAdjoint(F, new double[2], T, DATA, new double[2], new double[1][6]));
+  }
+
   public void coverage() {
     coverImmutableBean(FUNCTION);
   }
@@ -6,6 +6,7 @@
 package com.opengamma.strata.pricer.impl.volatility.smile;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
 import java.util.BitSet;
@@ -178,4 +179,21 @@ public class SabrModelFitterTest extends SmileModelFitterTest<SabrFormulaData> {
     }
   }
 
+  public void testIsWithinLimits() {
+    BitSet fixedBeta = new BitSet();
+    fixedBeta.set(1);
+    assertTrue(SabrModelFitter.isWithinLimits(DoubleArray.of(ALPHA, BETA, RHO, NU), new BitSet()));
+    assertTrue(SabrModelFitter.isWithinLimits(DoubleArray.of(ALPHA, 1d, RHO, NU), fixedBeta));
+    assertFalse(SabrModelFitter.isWithinLimits(DoubleArray.of(ALPHA, 1d, RHO, NU), new BitSet()));
+    assertFalse(SabrModelFitter.isWithinLimits(DoubleArray.of(0d, BETA, RHO, NU), fixedBeta));
+    assertFalse(SabrModelFitter.isWithinLimits(DoubleArray.of(ALPHA, BETA, 0.999, NU), fixedBeta));
+    assertFalse(SabrModelFitter.isWithinLimits(DoubleArray.of(ALPHA, BETA, -0.999, NU), fixedBeta));
+    assertFalse(SabrModelFitter.isWithinLimits(DoubleArray.of(ALPHA, BETA, RHO, 0.01), fixedBeta));
+    assertFalse(SabrModelFitter.isWithinLimits(DoubleArray.of(ALPHA, BETA, RHO, 2.50), fixedBeta));
+    // the limits are those of the fit
+    DoubleArray start = DoubleArray.of(ALPHA, BETA, 0.998, NU);
+    assertTrue(SabrModelFitter.isWithinLimits(start, fixedBeta));
+    _nosiyFitter.solve(start, fixedBeta);
+  }
+
 }
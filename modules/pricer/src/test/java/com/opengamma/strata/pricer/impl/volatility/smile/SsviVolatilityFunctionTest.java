@@ -78,6 +78,21 @@ public class SsviVolatilityFunctionTest {
     }   
   }
 
+  @Test
+  public void volatility_strikes() {
+    double[] volatilities = new double[N];
+    SSVI_FUNCTION.volatility(FORWARD, STRIKES, TIME_EXP, DATA, volatilities);
+    double[] volatilitiesAd = new double[N];
+    double[][] derivatives = new double[N][];
+    SSVI_FUNCTION.volatilityAdjoint(FORWARD, STRIKES, TIME_EXP, DATA, volatilitiesAd, derivatives);
+    for (int i = 0; i < N; i++) {
+      assertEquals(volatilities[i], SSVI_FUNCTION.volatility(FORWARD, STRIKES[i], TIME_EXP, DATA));
+      ValueDerivatives expected = SSVI_FUNCTION.volatilityAdjoint(FORWARD, STRIKES[i], TIME_EXP, DATA);
+      assertEquals(volatilitiesAd[i], expected.getValue());
+      assertEquals(derivatives[i], expected.getDerivatives().toArray());
+    }
+  }
+
   @Test
   public void test_small_time() {
     assertThrowsIllegalArg(() -> SSVI_FUNCTION.volatility(FORWARD, STRIKES[0], 0.0, DATA));
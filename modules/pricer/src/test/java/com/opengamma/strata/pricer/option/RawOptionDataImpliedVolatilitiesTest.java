@@ -0,0 +1,153 @@
+/*
+ * Copyright (C) 2018 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.option;
+
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.time.Period;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.basics.date.Tenor;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.market.ValueType;
+import com.opengamma.strata.pricer.impl.option.BlackFormulaRepository;
+import com.opengamma.strata.pricer.impl.option.NormalFormulaRepository;
+import com.opengamma.strata.product.common.PutCall;
+
+/**
+ * Tests {@link RawOptionDataImpliedVolatilities}.
+ */
+@Test
+public class RawOptionDataImpliedVolatilitiesTest {
+
+  private static final List<Period> EXPIRIES =
+      ImmutableList.of(Period.ofMonths(6), Period.ofYears(1), Period.ofYears(5));
+  private static final DoubleArray TIMES = DoubleArray.of(0.5, 1d, 5d);
+  private static final DoubleArray FORWARDS = DoubleArray.of(0.005, 0.01, 0.02);
+  private static final DoubleArray MONEYNESS = DoubleArray.of(-0.004, 0d, 0.005, 0.01);
+  private static final double SHIFT = 0.01;
+  private static final double[][] BLACK_VOLS = {
+      {0.40, 0.35, 0.32, Double.NaN},
+      {0.38, 0.33, 0.30, 0.29},
+      {0.30, 0.28, 0.26, 0.25}};
+  private static final double[][] NORMAL_VOLS = {
+      {0.0040, 0.0042, 0.0045, Double.NaN},
+      {0.0050, 0.0052, 0.0055, 0.0060},
+      {0.0060, 0.0062, 0.0065, 0.0070}};
+  private static final double TOLERANCE_VOL = 1e-10;
+
+  //-------------------------------------------------------------------------
+  public void blackVolatilities() {
+    RawOptionData prices = prices(true, FORWARDS);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      RawOptionData test = RawOptionDataImpliedVolatilities.blackVolatilities(
+          prices, TIMES, FORWARDS, SHIFT, PutCall.CALL, executor);
+      assertEquals(test.getDataType(), ValueType.BLACK_VOLATILITY);
+      assertEquals(test.getShift().getAsDouble(), SHIFT);
+      assertEquals(test.getExpiries(), EXPIRIES);
+      assertEquals(test.getStrikes(), MONEYNESS);
+      assertEquals(test.getStrikeType(), ValueType.SIMPLE_MONEYNESS);
+      assertVolatilities(test.getData(), BLACK_VOLS);
+      RawOptionData serial = RawOptionDataImpliedVolatilities.blackVolatilities(
+          prices, TIMES, FORWARDS, SHIFT, PutCall.CALL, Runnable::run);
+      assertEquals(serial, test);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  public void normalVolatilities() {
+    RawOptionData prices = prices(false, FORWARDS);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      RawOptionData test = RawOptionDataImpliedVolatilities.normalVolatilities(
+          prices, TIMES, FORWARDS, PutCall.CALL, executor);
+      assertEquals(test.getDataType(), ValueType.NORMAL_VOLATILITY);
+      assertEquals(test.getStrikes(), MONEYNESS);
+      assertVolatilities(test.getData(), NORMAL_VOLS);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  public void tenorVolatilities() {
+    DoubleArray forwards2 = FORWARDS.plus(0.005);
+    TenorRawOptionData prices = TenorRawOptionData.of(ImmutableMap.of(
+        Tenor.TENOR_2Y, prices(false, FORWARDS),
+        Tenor.TENOR_10Y, prices(false, forwards2)));
+    Map<Tenor, DoubleArray> times = ImmutableMap.of(Tenor.TENOR_2Y, TIMES, Tenor.TENOR_10Y, TIMES);
+    Map<Tenor, DoubleArray> forwards = ImmutableMap.of(Tenor.TENOR_2Y, FORWARDS, Tenor.TENOR_10Y, forwards2);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      TenorRawOptionData test = RawOptionDataImpliedVolatilities.normalVolatilities(
+          prices, times, forwards, PutCall.CALL, executor);
+      assertEquals(test.getTenors(), prices.getTenors());
+      assertVolatilities(test.getData(Tenor.TENOR_2Y).getData(), NORMAL_VOLS);
+      assertVolatilities(test.getData(Tenor.TENOR_10Y).getData(), NORMAL_VOLS);
+      assertEquals(test.getData(Tenor.TENOR_10Y), RawOptionDataImpliedVolatilities.normalVolatilities(
+          prices.getData(Tenor.TENOR_10Y), TIMES, forwards2, PutCall.CALL, executor));
+      TenorRawOptionData black = RawOptionDataImpliedVolatilities.blackVolatilities(
+          prices, times, forwards, SHIFT, PutCall.CALL, executor);
+      assertEquals(black.getData(Tenor.TENOR_2Y), RawOptionDataImpliedVolatilities.blackVolatilities(
+          prices.getData(Tenor.TENOR_2Y), TIMES, FORWARDS, SHIFT, PutCall.CALL, executor));
+      assertThrowsIllegalArg(() -> RawOptionDataImpliedVolatilities.normalVolatilities(
+          prices, ImmutableMap.of(Tenor.TENOR_2Y, TIMES), forwards, PutCall.CALL, executor));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  public void wrongData() {
+    RawOptionData vols = RawOptionData.of(EXPIRIES, MONEYNESS, ValueType.SIMPLE_MONEYNESS,
+        DoubleMatrix.ofUnsafe(NORMAL_VOLS), ValueType.NORMAL_VOLATILITY);
+    assertThrowsIllegalArg(() -> RawOptionDataImpliedVolatilities.normalVolatilities(
+        vols, TIMES, FORWARDS, PutCall.CALL, Runnable::run));
+    assertThrowsIllegalArg(() -> RawOptionDataImpliedVolatilities.normalVolatilities(
+        prices(false, FORWARDS), DoubleArray.of(1d), FORWARDS, PutCall.CALL, Runnable::run));
+  }
+
+  //-------------------------------------------------------------------------
+  // the call prices from the volatilities
+  private static RawOptionData prices(boolean black, DoubleArray forwards) {
+    double[][] prices = new double[EXPIRIES.size()][MONEYNESS.size()];
+    for (int i = 0; i < EXPIRIES.size(); i++) {
+      double forward = forwards.get(i);
+      for (int j = 0; j < MONEYNESS.size(); j++) {
+        double strike = forward + MONEYNESS.get(j);
+        double vol = black ? BLACK_VOLS[i][j] : NORMAL_VOLS[i][j];
+        prices[i][j] = Double.isNaN(vol) ? Double.NaN : black ?
+            BlackFormulaRepository.price(forward + SHIFT, strike + SHIFT, TIMES.get(i), vol, true) :
+            NormalFormulaRepository.price(forward, strike, TIMES.get(i), vol, PutCall.CALL);
+      }
+    }
+    return RawOptionData.of(
+        EXPIRIES, MONEYNESS, ValueType.SIMPLE_MONEYNESS, DoubleMatrix.ofUnsafe(prices), ValueType.PRICE);
+  }
+
+  private static void assertVolatilities(DoubleMatrix computed, double[][] expected) {
+    for (int i = 0; i < expected.length; i++) {
+      for (int j = 0; j < expected[i].length; j++) {
+        if (Double.isNaN(expected[i][j])) {
+          assertTrue(Double.isNaN(computed.get(i, j)));
+        } else {
+          assertEquals(computed.get(i, j), expected[i][j], TOLERANCE_VOL);
+        }
+      }
+    }
+  }
+
+}
@@ -27,6 +27,7 @@ import com.opengamma.strata.basics.currency.FxMatrix;
 import com.opengamma.strata.basics.index.IborIndexObservation;
 import com.opengamma.strata.market.sensitivity.MutablePointSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
+import com.opengamma.strata.market.sensitivity.PointSensitivityAccumulator;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.ZeroRateSensitivity;
 
@@ -160,6 +161,14 @@ public class IborRateSensitivityTest {
     assertEquals(test.getSensitivities(), ImmutableList.of(base));
   }
 
+  public void test_buildInto_accumulator() {
+    IborRateSensitivity base = IborRateSensitivity.of(GBP_LIBOR_3M_OBSERVATION, 32d);
+    PointSensitivityAccumulator combo = new PointSensitivityAccumulator();
+    PointSensitivityAccumulator test = base.buildInto(combo);
+    assertSame(test, combo);
+    assertEquals(test.build().getSensitivities(), ImmutableList.of(base));
+  }
+
   //-------------------------------------------------------------------------
   public void test_build() {
     IborRateSensitivity base = IborRateSensitivity.of(GBP_LIBOR_3M_OBSERVATION, 32d);
@@ -12,6 +12,7 @@ import static com.opengamma.strata.basics.index.IborIndices.USD_LIBOR_3M;
 import static com.opengamma.strata.basics.index.OvernightIndices.EUR_EONIA;
 import static com.opengamma.strata.basics.index.OvernightIndices.USD_FED_FUND;
 import static com.opengamma.strata.basics.index.PriceIndices.GB_RPI;
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
 import static com.opengamma.strata.collect.TestHelper.date;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertTrue;
@@ -123,6 +124,43 @@ public class ImmutableRatesProviderParameterSensitivityTest {
     assertTrue(psComputed.equalWithTolerance(psExpected, TOLERANCE_SENSI));
   }
 
+  // two curves with the same name are added by position, as per combinedWith
+  public void pointToParameterSameCurveName() {
+    CurveInterpolator interp = CurveInterpolators.LINEAR;
+    Curve dsc = InterpolatedNodalCurve.of(
+        Curves.zeroRates("USD-Shared", DAY_COUNT),
+        DoubleArray.of(0.5, 1d, 5d),
+        DoubleArray.of(0.01, 0.02, 0.03),
+        interp);
+    Curve fwd = InterpolatedNodalCurve.of(
+        Curves.zeroRates("USD-Shared", DAY_COUNT),
+        DoubleArray.of(1d, 2d, 3d),
+        DoubleArray.of(0.01, 0.02, 0.03),
+        interp);
+    Curve fwdShort = InterpolatedNodalCurve.of(
+        Curves.zeroRates("USD-Shared", DAY_COUNT),
+        DoubleArray.of(1d, 2d),
+        DoubleArray.of(0.01, 0.02),
+        interp);
+    PointSensitivities points = POINT_ZERO_1.combinedWith(POINT_IBOR_1);
+    ImmutableRatesProvider provider = ImmutableRatesProvider.builder(VAL_DATE)
+        .discountCurve(USD, dsc)
+        .iborIndexCurve(USD_LIBOR_3M, fwd)
+        .build();
+    CurrencyParameterSensitivities computed = provider.parameterSensitivity(points);
+    CurrencyParameterSensitivities expected = provider.parameterSensitivity(POINT_ZERO_1)
+        .combinedWith(provider.parameterSensitivity(POINT_IBOR_1));
+    assertEquals(computed, expected);
+    assertEquals(
+        computed.getSensitivities().get(0).getParameterMetadata(),
+        provider.parameterSensitivity(POINT_ZERO_1).getSensitivities().get(0).getParameterMetadata());
+    ImmutableRatesProvider providerShort = ImmutableRatesProvider.builder(VAL_DATE)
+        .discountCurve(USD, dsc)
+        .iborIndexCurve(USD_LIBOR_3M, fwdShort)
+        .build();
+    assertThrowsIllegalArg(() -> providerShort.parameterSensitivity(points));
+  }
+
   //-------------------------------------------------------------------------
   private static final double GBP_DSC = 0.99d;
   private static final double USD_DSC = 0.95d;
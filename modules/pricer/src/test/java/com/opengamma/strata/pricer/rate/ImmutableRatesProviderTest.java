@@ -12,6 +12,7 @@ import static com.opengamma.strata.basics.index.FxIndices.GBP_USD_WM;
 import static com.opengamma.strata.basics.index.IborIndices.USD_LIBOR_3M;
 import static com.opengamma.strata.basics.index.OvernightIndices.USD_FED_FUND;
 import static com.opengamma.strata.basics.index.PriceIndices.GB_RPI;
+import static com.opengamma.strata.collect.TestHelper.assertSerialization;
 import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
 import static com.opengamma.strata.collect.TestHelper.coverBeanEquals;
 import static com.opengamma.strata.collect.TestHelper.coverImmutableBean;
@@ -87,6 +88,16 @@ public class ImmutableRatesProviderTest {
     assertEquals(test.discountFactors(GBP).getCurrency(), GBP);
   }
 
+  public void test_discountFactors_cached() {
+    ImmutableRatesProvider test = ImmutableRatesProvider.builder(VAL_DATE)
+        .discountCurve(GBP, DISCOUNT_CURVE_GBP)
+        .discountCurve(USD, DISCOUNT_CURVE_USD)
+        .build();
+    assertSame(test.discountFactors(GBP), test.discountFactors(GBP));
+    assertEquals(test.discountFactors(USD).getCurrency(), USD);
+    assertEquals(test.toBuilder().build().discountFactors(GBP), test.discountFactors(GBP));
+  }
+
   public void test_discountFactors_notKnown() {
     ImmutableRatesProvider test = ImmutableRatesProvider.builder(VAL_DATE)
         .build();
@@ -150,6 +161,7 @@ public class ImmutableRatesProviderTest {
     assertEquals(test.iborIndexRates(USD_LIBOR_3M).getFixings(), ts);
     assertEquals(test.getIborIndices(), ImmutableSet.of(USD_LIBOR_3M));
     assertEquals(test.getTimeSeriesIndices(), ImmutableSet.of(USD_LIBOR_3M));
+    assertSame(test.iborIndexRates(USD_LIBOR_3M), test.iborIndexRates(USD_LIBOR_3M));
   }
 
   //-------------------------------------------------------------------------
@@ -163,6 +175,7 @@ public class ImmutableRatesProviderTest {
     assertEquals(test.overnightIndexRates(USD_FED_FUND).getFixings(), ts);
     assertEquals(test.getOvernightIndices(), ImmutableSet.of(USD_FED_FUND));
     assertEquals(test.getTimeSeriesIndices(), ImmutableSet.of(USD_FED_FUND));
+    assertSame(test.overnightIndexRates(USD_FED_FUND), test.overnightIndexRates(USD_FED_FUND));
   }
 
   //-------------------------------------------------------------------------
@@ -220,6 +233,14 @@ public class ImmutableRatesProviderTest {
   public void testSerializeDeserialize() {
     cycleBean(ImmutableRatesProvider.builder(VAL_DATE).build());
   }
+
+  public void test_serialization() {
+    ImmutableRatesProvider test = ImmutableRatesProvider.builder(VAL_DATE)
+        .discountCurve(GBP, DISCOUNT_CURVE_GBP)
+        .build();
+    test.discountFactors(GBP);
+    assertSerialization(test);
+  }
   
   private void cycleBean(Bean bean) {
     JodaBeanSer ser = JodaBeanSer.COMPACT;
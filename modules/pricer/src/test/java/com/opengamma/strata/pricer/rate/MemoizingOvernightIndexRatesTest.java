@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2018 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.rate;
+
+import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.basics.date.DayCounts.ACT_365F;
+import static com.opengamma.strata.basics.index.OvernightIndices.GBP_SONIA;
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+import java.time.LocalDate;
+
+import org.testng.annotations.Test;
+
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.index.OvernightIndexObservation;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.market.curve.Curves;
+import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
+import com.opengamma.strata.market.sensitivity.MutablePointSensitivities;
+import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
+import com.opengamma.strata.pricer.ZeroRateDiscountFactors;
+
+/**
+ * Test {@link MemoizingOvernightIndexRates}.
+ */
+@Test
+public class MemoizingOvernightIndexRatesTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final LocalDate DATE_VAL = date(2015, 6, 3);
+  private static final LocalDate DATE_BEFORE = date(2015, 6, 2);
+  private static final LocalDate DATE_AFTER = date(2015, 7, 30);
+  private static final LocalDate DATE_END = date(2015, 10, 30);
+  private static final OvernightIndexObservation OBS_BEFORE =
+      OvernightIndexObservation.of(GBP_SONIA, DATE_BEFORE, REF_DATA);
+  private static final OvernightIndexObservation OBS_AFTER =
+      OvernightIndexObservation.of(GBP_SONIA, DATE_AFTER, REF_DATA);
+  private static final InterpolatedNodalCurve CURVE = InterpolatedNodalCurve.of(
+      Curves.zeroRates("TestCurve", ACT_365F),
+      DoubleArray.of(0, 10),
+      DoubleArray.of(0.01, 0.02),
+      CurveInterpolators.LINEAR);
+  private static final LocalDateDoubleTimeSeries SERIES = LocalDateDoubleTimeSeries.of(DATE_BEFORE, 0.013d);
+  private static final DiscountOvernightIndexRates RATES =
+      DiscountOvernightIndexRates.of(GBP_SONIA, ZeroRateDiscountFactors.of(GBP, DATE_VAL, CURVE), SERIES);
+
+  //-------------------------------------------------------------------------
+  public void test_of() {
+    MemoizingOvernightIndexRates test = MemoizingOvernightIndexRates.of(RATES, 10);
+    assertSame(test.getUnderlying(), RATES);
+    assertSame(MemoizingOvernightIndexRates.of(test, 10), test);
+    assertEquals(test.getIndex(), GBP_SONIA);
+    assertEquals(test.getValuationDate(), DATE_VAL);
+    assertEquals(test.getFixings(), SERIES);
+    assertEquals(test.findData(CURVE.getName()), RATES.findData(CURVE.getName()));
+    assertEquals(test.getParameterCount(), RATES.getParameterCount());
+    assertEquals(test.getParameter(0), RATES.getParameter(0));
+    assertEquals(test.getParameterMetadata(0), RATES.getParameterMetadata(0));
+    assertEquals(test.withParameter(0, 1d), RATES.withParameter(0, 1d));
+    assertEquals(test.withPerturbation((i, v, m) -> v + 1d), RATES.withPerturbation((i, v, m) -> v + 1d));
+    assertEquals(test.toString().startsWith("MemoizingOvernightIndexRates{"), true);
+    assertThrowsIllegalArg(() -> MemoizingOvernightIndexRates.of(RATES, -1));
+  }
+
+  public void test_rates() {
+    MemoizingOvernightIndexRates test = MemoizingOvernightIndexRates.of(RATES, 10);
+    for (OvernightIndexObservation obs : new OvernightIndexObservation[] {OBS_BEFORE, OBS_AFTER, OBS_AFTER}) {
+      assertEquals(test.rate(obs), RATES.rate(obs));
+      assertEquals(test.rateIgnoringFixings(obs), RATES.rateIgnoringFixings(obs));
+      assertEquals(test.ratePointSensitivity(obs), RATES.ratePointSensitivity(obs));
+      assertEquals(test.rateIgnoringFixingsPointSensitivity(obs), RATES.rateIgnoringFixingsPointSensitivity(obs));
+    }
+    OvernightRateSensitivity point = OvernightRateSensitivity.of(OBS_AFTER, 1d);
+    assertEquals(test.parameterSensitivity(point), RATES.parameterSensitivity(point));
+    DoubleArray sensitivities = DoubleArray.of(1d, 2d);
+    assertEquals(
+        test.createParameterSensitivity(GBP, sensitivities), RATES.createParameterSensitivity(GBP, sensitivities));
+    for (int i = 0; i < 2; i++) {
+      assertEquals(test.periodRate(OBS_AFTER, DATE_END), RATES.periodRate(OBS_AFTER, DATE_END));
+      assertEquals(
+          test.periodRatePointSensitivity(OBS_AFTER, DATE_END), RATES.periodRatePointSensitivity(OBS_AFTER, DATE_END));
+    }
+  }
+
+  public void test_memo() {
+    OvernightIndexRates mockRates = mock(OvernightIndexRates.class);
+    when(mockRates.rate(OBS_AFTER)).thenReturn(0.02);
+    when(mockRates.rateIgnoringFixings(OBS_AFTER)).thenReturn(0.03);
+    when(mockRates.ratePointSensitivity(OBS_AFTER)).thenReturn(OvernightRateSensitivity.of(OBS_AFTER, 1d));
+    when(mockRates.rateIgnoringFixingsPointSensitivity(OBS_AFTER)).thenReturn(new MutablePointSensitivities());
+    MemoizingOvernightIndexRates test = MemoizingOvernightIndexRates.of(mockRates, 10);
+    for (int i = 0; i < 3; i++) {
+      assertEquals(test.rate(OBS_AFTER), 0.02);
+      assertEquals(test.rateIgnoringFixings(OBS_AFTER), 0.03);
+      test.ratePointSensitivity(OBS_AFTER);
+      test.rateIgnoringFixingsPointSensitivity(OBS_AFTER);
+    }
+    verify(mockRates, times(1)).rate(OBS_AFTER);
+    verify(mockRates, times(1)).rateIgnoringFixings(OBS_AFTER);
+    verify(mockRates, times(1)).ratePointSensitivity(OBS_AFTER);
+    // mutable sensitivities are not retained
+    verify(mockRates, times(3)).rateIgnoringFixingsPointSensitivity(OBS_AFTER);
+  }
+
+  public void test_memo_period() {
+    OvernightIndexRates mockRates = mock(OvernightIndexRates.class);
+    when(mockRates.periodRate(OBS_AFTER, DATE_END)).thenReturn(0.02);
+    when(mockRates.periodRate(OBS_AFTER, DATE_END.plusDays(1))).thenReturn(0.03);
+    when(mockRates.periodRatePointSensitivity(OBS_AFTER, DATE_END))
+        .thenReturn(OvernightRateSensitivity.ofPeriod(OBS_AFTER, DATE_END, 1d));
+    MemoizingOvernightIndexRates test = MemoizingOvernightIndexRates.of(mockRates, 10);
+    for (int i = 0; i < 3; i++) {
+      assertEquals(test.periodRate(OBS_AFTER, DATE_END), 0.02);
+      assertEquals(test.periodRate(OBS_AFTER, DATE_END.plusDays(1)), 0.03);
+      test.periodRatePointSensitivity(OBS_AFTER, DATE_END);
+    }
+    verify(mockRates, times(1)).periodRate(OBS_AFTER, DATE_END);
+    verify(mockRates, times(1)).periodRate(OBS_AFTER, DATE_END.plusDays(1));
+    verify(mockRates, times(1)).periodRatePointSensitivity(OBS_AFTER, DATE_END);
+  }
+
+  public void test_memo_bounded() {
+    OvernightIndexRates mockRates = mock(OvernightIndexRates.class);
+    when(mockRates.rate(OBS_BEFORE)).thenReturn(0.01);
+    when(mockRates.rate(OBS_AFTER)).thenReturn(0.02);
+    MemoizingOvernightIndexRates test = MemoizingOvernightIndexRates.of(mockRates, 1);
+    for (int i = 0; i < 3; i++) {
+      assertEquals(test.rate(OBS_BEFORE), 0.01);
+      assertEquals(test.rate(OBS_AFTER), 0.02);
+    }
+    verify(mockRates, times(1)).rate(OBS_BEFORE);
+    verify(mockRates, times(3)).rate(OBS_AFTER);
+    PointSensitivityBuilder none = PointSensitivityBuilder.none();
+    when(mockRates.ratePointSensitivity(OBS_BEFORE)).thenReturn(none);
+    assertSame(test.ratePointSensitivity(OBS_BEFORE), none);
+  }
+
+}
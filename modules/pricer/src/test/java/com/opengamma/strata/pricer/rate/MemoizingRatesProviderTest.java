@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2018 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.rate;
+
+import static com.opengamma.strata.basics.currency.Currency.EUR;
+import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.basics.index.FxIndices.GBP_USD_WM;
+import static com.opengamma.strata.basics.index.IborIndices.USD_LIBOR_3M;
+import static com.opengamma.strata.basics.index.OvernightIndices.USD_FED_FUND;
+import static com.opengamma.strata.basics.index.PriceIndices.US_CPI_U;
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static com.opengamma.strata.pricer.datasets.RatesProviderDataSets.MULTI_CPI_USD;
+import static com.opengamma.strata.pricer.datasets.RatesProviderDataSets.MULTI_GBP_USD;
+import static com.opengamma.strata.pricer.datasets.RatesProviderDataSets.MULTI_USD;
+import static com.opengamma.strata.pricer.swap.SwapDummyData.OIS;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+import java.time.LocalDate;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.currency.CurrencyPair;
+import com.opengamma.strata.basics.date.Tenor;
+import com.opengamma.strata.market.sensitivity.PointSensitivities;
+import com.opengamma.strata.pricer.GridDiscountFactors;
+import com.opengamma.strata.pricer.swap.DiscountingSwapProductPricer;
+import com.opengamma.strata.product.common.BuySell;
+import com.opengamma.strata.product.swap.ResolvedSwap;
+import com.opengamma.strata.product.swap.type.FixedIborSwapConventions;
+
+/**
+ * Test {@link MemoizingRatesProvider}.
+ */
+@Test
+public class MemoizingRatesProviderTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final DiscountingSwapProductPricer PRICER = DiscountingSwapProductPricer.DEFAULT;
+  private static final ResolvedSwap SWAP = FixedIborSwapConventions.USD_FIXED_6M_LIBOR_3M
+      .createTrade(MULTI_USD.getValuationDate(), Tenor.TENOR_10Y, BuySell.BUY, 1e8, 0.02, REF_DATA)
+      .getProduct()
+      .resolve(REF_DATA);
+
+  //-------------------------------------------------------------------------
+  public void test_of() {
+    MemoizingRatesProvider test = MemoizingRatesProvider.of(MULTI_GBP_USD);
+    assertSame(test.getUnderlying(), MULTI_GBP_USD);
+    assertEquals(test.getValuationDate(), MULTI_GBP_USD.getValuationDate());
+    assertEquals(test.getDiscountCurrencies(), MULTI_GBP_USD.getDiscountCurrencies());
+    assertEquals(test.getIborIndices(), MULTI_GBP_USD.getIborIndices());
+    assertEquals(test.getOvernightIndices(), MULTI_GBP_USD.getOvernightIndices());
+    assertEquals(test.getPriceIndices(), MULTI_GBP_USD.getPriceIndices());
+    assertEquals(test.getTimeSeriesIndices(), MULTI_GBP_USD.getTimeSeriesIndices());
+    assertEquals(test.timeSeries(USD_LIBOR_3M), MULTI_GBP_USD.timeSeries(USD_LIBOR_3M));
+    assertEquals(test.fxRate(GBP, USD), MULTI_GBP_USD.fxRate(GBP, USD));
+    assertSame(test.discountFactors(USD), MULTI_GBP_USD.discountFactors(USD));
+    assertEquals(test.fxIndexRates(GBP_USD_WM), MULTI_GBP_USD.fxIndexRates(GBP_USD_WM));
+    CurrencyPair pair = CurrencyPair.of(GBP, USD);
+    assertEquals(test.fxForwardRates(pair), MULTI_GBP_USD.fxForwardRates(pair));
+    assertSame(test.toImmutableRatesProvider(), MULTI_GBP_USD);
+    assertEquals(test.toString().startsWith("MemoizingRatesProvider{"), true);
+    assertThrowsIllegalArg(() -> MemoizingRatesProvider.of(MULTI_GBP_USD, -1));
+    MemoizingRatesProvider cpi = MemoizingRatesProvider.of(MULTI_CPI_USD);
+    assertEquals(cpi.priceIndexValues(US_CPI_U), MULTI_CPI_USD.priceIndexValues(US_CPI_U));
+  }
+
+  public void test_indexRates() {
+    MemoizingRatesProvider test = MemoizingRatesProvider.of(MULTI_USD, 10);
+    IborIndexRates iborRates = test.iborIndexRates(USD_LIBOR_3M);
+    assertEquals(iborRates instanceof MemoizingIborIndexRates, true);
+    assertSame(((MemoizingIborIndexRates) iborRates).getUnderlying(), MULTI_USD.iborIndexRates(USD_LIBOR_3M));
+    assertSame(test.iborIndexRates(USD_LIBOR_3M), iborRates);
+    OvernightIndexRates onRates = test.overnightIndexRates(USD_FED_FUND);
+    assertEquals(onRates instanceof MemoizingOvernightIndexRates, true);
+    assertSame(((MemoizingOvernightIndexRates) onRates).getUnderlying(), MULTI_USD.overnightIndexRates(USD_FED_FUND));
+    assertSame(test.overnightIndexRates(USD_FED_FUND), onRates);
+  }
+
+  public void test_withDiscountFactorGrid() {
+    LocalDate date1 = MULTI_GBP_USD.getValuationDate().plusYears(1);
+    LocalDate date2 = MULTI_GBP_USD.getValuationDate().plusYears(2);
+    MemoizingRatesProvider base = MemoizingRatesProvider.of(MULTI_GBP_USD);
+    assertSame(base.discountFactors(USD), MULTI_GBP_USD.discountFactors(USD));
+    MemoizingRatesProvider test = base
+        .withDiscountFactorGrid(ImmutableMap.of(USD, ImmutableList.of(date1), EUR, ImmutableList.of(date1)))
+        .withDiscountFactorGrid(ImmutableMap.of(GBP, ImmutableList.of(date1, date2)));
+    GridDiscountFactors usd = (GridDiscountFactors) test.discountFactors(USD);
+    assertSame(usd.getUnderlying(), MULTI_GBP_USD.discountFactors(USD));
+    assertEquals(usd.getGridSize(), 1);
+    assertEquals(((GridDiscountFactors) test.discountFactors(GBP)).getGridSize(), 2);
+    assertEquals(test.discountFactor(GBP, date2), MULTI_GBP_USD.discountFactor(GBP, date2));
+    assertThrowsIllegalArg(() -> test.discountFactors(EUR));
+  }
+
+  public void test_swap() {
+    MemoizingRatesProvider test = MemoizingRatesProvider.of(MULTI_USD);
+    for (ResolvedSwap swap : new ResolvedSwap[] {SWAP, OIS, SWAP, OIS}) {
+      assertEquals(PRICER.presentValue(swap, test), PRICER.presentValue(swap, MULTI_USD));
+      PointSensitivities expected = PRICER.presentValueSensitivity(swap, MULTI_USD).build();
+      PointSensitivities computed = PRICER.presentValueSensitivity(swap, test).build();
+      assertEquals(computed, expected);
+      assertEquals(test.parameterSensitivity(computed), MULTI_USD.parameterSensitivity(expected));
+    }
+  }
+
+}
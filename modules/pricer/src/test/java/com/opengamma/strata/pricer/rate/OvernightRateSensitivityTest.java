@@ -28,6 +28,7 @@ import com.opengamma.strata.basics.currency.FxMatrix;
 import com.opengamma.strata.basics.index.OvernightIndexObservation;
 import com.opengamma.strata.market.sensitivity.MutablePointSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
+import com.opengamma.strata.market.sensitivity.PointSensitivityAccumulator;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.ZeroRateSensitivity;
 
@@ -189,6 +190,14 @@ public class OvernightRateSensitivityTest {
     assertEquals(test.getSensitivities(), ImmutableList.of(base));
   }
 
+  public void test_buildInto_accumulator() {
+    OvernightRateSensitivity base = OvernightRateSensitivity.of(GBP_SONIA_OBSERVATION, 32d);
+    PointSensitivityAccumulator combo = new PointSensitivityAccumulator();
+    PointSensitivityAccumulator test = base.buildInto(combo);
+    assertSame(test, combo);
+    assertEquals(test.build().getSensitivities(), ImmutableList.of(base));
+  }
+
   //-------------------------------------------------------------------------
   public void test_build() {
     OvernightRateSensitivity base = OvernightRateSensitivity.of(GBP_SONIA_OBSERVATION, 32d);
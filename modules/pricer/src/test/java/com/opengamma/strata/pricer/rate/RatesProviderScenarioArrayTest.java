@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2018 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.rate;
+
+import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.basics.date.DayCounts.ACT_365F;
+import static com.opengamma.strata.basics.index.IborIndices.GBP_LIBOR_3M;
+import static com.opengamma.strata.basics.index.IborIndices.USD_LIBOR_6M;
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static com.opengamma.strata.pricer.datasets.RatesProviderDataSets.MULTI_GBP_USD;
+import static com.opengamma.strata.pricer.datasets.RatesProviderDataSets.MULTI_GBP_USD_SIMPLE;
+import static com.opengamma.strata.pricer.datasets.RatesProviderDataSets.VAL_DATE_2014_01_22;
+import static com.opengamma.strata.pricer.datasets.RatesProviderDataSets.multiGbpUsd;
+import static com.opengamma.strata.pricer.datasets.RatesProviderDataSets.shifted;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+import java.time.LocalDate;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.index.IborIndexObservation;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.market.curve.ConstantCurve;
+import com.opengamma.strata.market.curve.Curves;
+import com.opengamma.strata.pricer.DiscountFactorsScenarioArray;
+
+/**
+ * Test {@link RatesProviderScenarioArray} and {@link IborIndexRatesScenarioArray}.
+ */
+@Test
+public class RatesProviderScenarioArrayTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final ImmutableList<RatesProvider> PROVIDERS = ImmutableList.of(
+      MULTI_GBP_USD,
+      shifted(MULTI_GBP_USD, 0.001),
+      shifted(MULTI_GBP_USD, -0.002),
+      MULTI_GBP_USD_SIMPLE);
+
+  //-------------------------------------------------------------------------
+  public void test_of() {
+    RatesProviderScenarioArray test = RatesProviderScenarioArray.of(PROVIDERS);
+    assertEquals(test.getValuationDate(), VAL_DATE_2014_01_22);
+    assertEquals(test.getScenarioCount(), 4);
+    assertSame(test.get(1), PROVIDERS.get(1));
+    RatesProviderScenarioArray test2 = RatesProviderScenarioArray.of(2, PROVIDERS::get);
+    assertEquals(test2.getScenarioCount(), 2);
+    assertSame(test2.get(1), PROVIDERS.get(1));
+  }
+
+  public void test_of_mismatch() {
+    assertThrowsIllegalArg(() -> RatesProviderScenarioArray.of(
+        ImmutableList.of(MULTI_GBP_USD, multiGbpUsd(VAL_DATE_2014_01_22.plusDays(1)))));
+    assertThrowsIllegalArg(() -> RatesProviderScenarioArray.of(ImmutableList.of()));
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_discountFactor() {
+    RatesProviderScenarioArray test = RatesProviderScenarioArray.of(PROVIDERS);
+    DiscountFactorsScenarioArray dfs = test.discountFactors(USD);
+    assertSame(test.discountFactors(USD), dfs);
+    assertEquals(dfs.getCurrency(), USD);
+    LocalDate date = VAL_DATE_2014_01_22.plusYears(3);
+    DoubleArray values = test.discountFactor(USD, date);
+    for (int i = 0; i < PROVIDERS.size(); i++) {
+      assertEquals(values.get(i), PROVIDERS.get(i).discountFactor(USD, date));
+    }
+  }
+
+  public void test_iborIndexRates() {
+    RatesProviderScenarioArray test = RatesProviderScenarioArray.of(PROVIDERS);
+    IborIndexRatesScenarioArray rates = test.iborIndexRates(USD_LIBOR_6M);
+    assertSame(test.iborIndexRates(USD_LIBOR_6M), rates);
+    assertEquals(rates.getIndex(), USD_LIBOR_6M);
+    assertEquals(rates.getValuationDate(), VAL_DATE_2014_01_22);
+    assertEquals(rates.getScenarioCount(), 4);
+    for (LocalDate fixingDate : ImmutableList.of(VAL_DATE_2014_01_22, VAL_DATE_2014_01_22.plusMonths(7))) {
+      IborIndexObservation obs = IborIndexObservation.of(USD_LIBOR_6M, fixingDate, REF_DATA);
+      DoubleArray values = rates.rate(obs);
+      for (int i = 0; i < PROVIDERS.size(); i++) {
+        assertEquals(values.get(i), PROVIDERS.get(i).iborIndexRates(USD_LIBOR_6M).rate(obs));
+      }
+    }
+  }
+
+  public void test_fxRate() {
+    RatesProviderScenarioArray test = RatesProviderScenarioArray.of(PROVIDERS);
+    assertEquals(test.fxRate(GBP, GBP), DoubleArray.filled(4, 1d));
+    DoubleArray values = test.fxRate(GBP, USD);
+    for (int i = 0; i < PROVIDERS.size(); i++) {
+      assertEquals(values.get(i), PROVIDERS.get(i).fxRate(GBP, USD));
+    }
+  }
+
+  public void test_iborIndexRates_notDiscount() {
+    IborIndexObservation obs = IborIndexObservation.of(GBP_LIBOR_3M, VAL_DATE_2014_01_22.plusMonths(7), REF_DATA);
+    IborIndexRates rates = MULTI_GBP_USD.iborIndexRates(GBP_LIBOR_3M);
+    IborIndexRates simple = SimpleIborIndexRates.of(
+        GBP_LIBOR_3M, VAL_DATE_2014_01_22, ConstantCurve.of(Curves.forwardRates("Forward", ACT_365F), 0.02));
+    IborIndexRatesScenarioArray test = IborIndexRatesScenarioArray.of(ImmutableList.of(rates, simple));
+    DoubleArray values = test.rate(obs);
+    assertEquals(values.get(0), rates.rate(obs));
+    assertEquals(values.get(1), simple.rate(obs));
+  }
+
+}
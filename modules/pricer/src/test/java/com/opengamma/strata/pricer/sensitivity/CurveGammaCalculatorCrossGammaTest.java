@@ -12,14 +12,18 @@ import static org.testng.Assert.assertTrue;
 
 import java.time.LocalDate;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import org.testng.annotations.Test;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.currency.Currency;
@@ -438,6 +442,107 @@ public class CurveGammaCalculatorCrossGammaTest {
     }
   }
 
+  //-------------------------------------------------------------------------
+  public void sensitivity_executor() {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      for (CurveGammaCalculator calc : ImmutableList.of(FORWARD, CENTRAL, BACKWARD)) {
+        for (RatesProvider provider : ImmutableList.of(
+            RatesProviderDataSets.SINGLE_USD,
+            RatesProviderDataSets.MULTI_CPI_USD)) {
+          assertEquals(
+              calc.calculateCrossGammaIntraCurve(provider, this::sensiFn, executor),
+              calc.calculateCrossGammaIntraCurve(provider, this::sensiFn));
+          assertEquals(
+              calc.calculateCrossGammaCrossCurve(provider, this::sensiFn, executor),
+              calc.calculateCrossGammaCrossCurve(provider, this::sensiFn));
+        }
+      }
+      RatesProvider combined = RatesProviderDataSets.MULTI_CPI_USD_COMBINED;
+      assertEquals(
+          CENTRAL.calculateCrossGammaIntraCurve(combined, this::sensiCombinedFn, executor),
+          CENTRAL.calculateCrossGammaIntraCurve(combined, this::sensiCombinedFn));
+      assertEquals(
+          CENTRAL.calculateCrossGammaCrossCurve(combined, this::sensiCombinedFn, executor),
+          CENTRAL.calculateCrossGammaCrossCurve(combined, this::sensiCombinedFn));
+      assertEquals(
+          CENTRAL.calculateCrossGammaCrossCurve(RatesProviderDataSets.MULTI_CPI_USD, this::sensiModFn, executor),
+          CENTRAL.calculateCrossGammaCrossCurve(RatesProviderDataSets.MULTI_CPI_USD, this::sensiModFn));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  public void sensitivity_executor_batch() {
+    DiscountingSwapProductPricer pricer = DiscountingSwapProductPricer.DEFAULT;
+    List<ResolvedSwap> swaps = ImmutableList.of(
+        swap(LocalDate.of(2016, 3, 10), BuySell.BUY, 0.005),
+        swap(LocalDate.of(2019, 3, 10), BuySell.SELL, 0.010),
+        swap(LocalDate.of(2021, 3, 10), BuySell.BUY, 0.015));
+    BiFunction<ResolvedSwap, ImmutableRatesProvider, CurrencyParameterSensitivities> sensiFunction =
+        (swap, p) -> p.parameterSensitivity(pricer.presentValueSensitivity(swap, p).build());
+    RatesProvider provider = RatesProviderDataSets.MULTI_CPI_USD;
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<CrossGammaParameterSensitivities> intra =
+          CENTRAL.calculateCrossGammaIntraCurve(provider, swaps, sensiFunction, executor);
+      List<CrossGammaParameterSensitivities> cross =
+          CENTRAL.calculateCrossGammaCrossCurve(provider, swaps, sensiFunction, executor);
+      assertEquals(intra.size(), swaps.size());
+      assertEquals(cross.size(), swaps.size());
+      for (int i = 0; i < swaps.size(); i++) {
+        ResolvedSwap swap = swaps.get(i);
+        Function<ImmutableRatesProvider, CurrencyParameterSensitivities> fn = p -> sensiFunction.apply(swap, p);
+        assertEquals(intra.get(i), CENTRAL.calculateCrossGammaIntraCurve(provider, fn));
+        assertEquals(cross.get(i), CENTRAL.calculateCrossGammaCrossCurve(provider, fn));
+      }
+      assertEquals(
+          CENTRAL.calculateCrossGammaIntraCurve(provider, ImmutableList.<ResolvedSwap>of(), sensiFunction, executor),
+          ImmutableList.of());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  public void sensitivity_executor_batch_combined() {
+    // the first trade is sensitive to the combined discount curve, the second to its underlying curves
+    List<Function<ImmutableRatesProvider, CurrencyParameterSensitivities>> trades =
+        ImmutableList.of(this::sensiCombinedDiscountFn, this::sensiCombinedFn);
+    RatesProvider provider = RatesProviderDataSets.MULTI_CPI_USD_COMBINED;
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<CrossGammaParameterSensitivities> intra =
+          CENTRAL.calculateCrossGammaIntraCurve(provider, trades, Function::apply, executor);
+      List<CrossGammaParameterSensitivities> cross =
+          CENTRAL.calculateCrossGammaCrossCurve(provider, trades, Function::apply, executor);
+      for (int i = 0; i < trades.size(); i++) {
+        assertEquals(intra.get(i), CENTRAL.calculateCrossGammaIntraCurve(provider, trades.get(i)));
+        assertEquals(cross.get(i), CENTRAL.calculateCrossGammaCrossCurve(provider, trades.get(i)));
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test(expectedExceptions = IllegalStateException.class)
+  public void sensitivity_executor_exception() {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      CENTRAL.calculateCrossGammaIntraCurve(RatesProviderDataSets.SINGLE_USD, provider -> {
+        throw new IllegalStateException();
+      }, executor);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private static ResolvedSwap swap(LocalDate end, BuySell buySell, double rate) {
+    return FixedIborSwapConventions.USD_FIXED_6M_LIBOR_3M
+        .toTrade(RatesProviderDataSets.VAL_DATE_2014_01_22, LocalDate.of(2014, 3, 10), end, buySell, 1.0e6, rate)
+        .getProduct()
+        .resolve(REF_DATA);
+  }
+
   //-------------------------------------------------------------------------
   private CurrencyParameterSensitivities sensiFn(ImmutableRatesProvider provider) {
     CurrencyParameterSensitivities sensi = CurrencyParameterSensitivities.empty();
@@ -495,6 +600,18 @@ public class CurveGammaCalculatorCrossGammaTest {
     return sensi;
   }
 
+  // modified sensitivity function - sensitivities are computed only for the combined discount curves
+  private CurrencyParameterSensitivities sensiCombinedDiscountFn(ImmutableRatesProvider provider) {
+    CurrencyParameterSensitivities sensi = CurrencyParameterSensitivities.empty();
+    double sum = sumCombine(provider);
+    for (Entry<Currency, Curve> entry : provider.getDiscountCurves().entrySet()) {
+      Curve curve = entry.getValue();
+      sensi = sensi.combinedWith(CurrencyParameterSensitivity.of(curve.getName(), USD,
+          DoubleArray.of(curve.getParameterCount(), i -> 2d * sum * (i + 1d))));
+    }
+    return sensi;
+  }
+
   // modified sensitivity function - sensitivities are computed only for ibor index curves
   private CurrencyParameterSensitivities sensiModFn(ImmutableRatesProvider provider) {
     CurrencyParameterSensitivities sensi = CurrencyParameterSensitivities.empty();
@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2018 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.sensitivity;
+
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static com.opengamma.strata.pricer.datasets.RatesProviderDataSets.MULTI_USD;
+import static com.opengamma.strata.pricer.datasets.RatesProviderDataSets.VAL_DATE_2014_01_22;
+import static com.opengamma.strata.product.common.BuySell.BUY;
+import static com.opengamma.strata.product.common.BuySell.SELL;
+import static com.opengamma.strata.product.swap.type.FixedIborSwapConventions.USD_FIXED_6M_LIBOR_3M;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.date.Tenor;
+import com.opengamma.strata.collect.Guavate;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.sensitivity.PointSensitivities;
+import com.opengamma.strata.pricer.swap.DiscountingSwapProductPricer;
+import com.opengamma.strata.product.common.BuySell;
+import com.opengamma.strata.product.swap.ResolvedSwap;
+
+/**
+ * Test {@link PortfolioSensitivityCalculator}.
+ */
+@Test
+public class PortfolioSensitivityCalculatorTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final DiscountingSwapProductPricer PRICER = DiscountingSwapProductPricer.DEFAULT;
+  private static final PortfolioSensitivityCalculator CALC = PortfolioSensitivityCalculator.DEFAULT;
+  private static final List<ResolvedSwap> SWAPS = ImmutableList.of(
+      swap(Tenor.TENOR_2Y, BUY, 1_000_000d, 0.010),
+      swap(Tenor.TENOR_5Y, SELL, 2_500_000d, 0.015),
+      swap(Tenor.TENOR_5Y, BUY, 1_500_000d, 0.012),
+      swap(Tenor.TENOR_10Y, BUY, 3_000_000d, 0.020));
+  private static final double TOL = 1e-8;
+
+  private static ResolvedSwap swap(Tenor tenor, BuySell buySell, double notional, double rate) {
+    return USD_FIXED_6M_LIBOR_3M.createTrade(VAL_DATE_2014_01_22, tenor, buySell, notional, rate, REF_DATA)
+        .resolve(REF_DATA)
+        .getProduct();
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_aggregate() {
+    List<PointSensitivities> trades = SWAPS.stream()
+        .map(swap -> PRICER.presentValueSensitivity(swap, MULTI_USD).build())
+        .collect(Guavate.toImmutableList());
+    PointSensitivities combined = trades.stream().reduce(PointSensitivities.empty(), PointSensitivities::combinedWith);
+    PointSensitivities test = CALC.aggregate(trades);
+    assertTrue(test.equalWithTolerance(combined.normalized(), TOL));
+    assertTrue(test.size() < combined.size());
+    assertEquals(CALC.aggregate(SWAPS, swap -> PRICER.presentValueSensitivity(swap, MULTI_USD)), test);
+    assertEquals(CALC.aggregate(ImmutableList.of()), PointSensitivities.empty());
+  }
+
+  public void test_parameterSensitivity() {
+    CurrencyParameterSensitivities expected = CurrencyParameterSensitivities.empty();
+    for (ResolvedSwap swap : SWAPS) {
+      PointSensitivities points = PRICER.presentValueSensitivity(swap, MULTI_USD).build();
+      expected = expected.combinedWith(MULTI_USD.parameterSensitivity(points));
+    }
+    List<PointSensitivities> trades = SWAPS.stream()
+        .map(swap -> PRICER.presentValueSensitivity(swap, MULTI_USD).build())
+        .collect(Guavate.toImmutableList());
+    CurrencyParameterSensitivities test = CALC.parameterSensitivity(trades, MULTI_USD);
+    assertTrue(test.equalWithTolerance(expected, TOL));
+    CurrencyParameterSensitivities test2 = CALC.parameterSensitivity(
+        SWAPS, swap -> PRICER.presentValueSensitivity(swap, MULTI_USD), MULTI_USD);
+    assertEquals(test2, test);
+  }
+
+  public void test_null() {
+    assertThrowsIllegalArg(() -> CALC.aggregate(null));
+    assertThrowsIllegalArg(() -> CALC.parameterSensitivity(ImmutableList.of(), null));
+  }
+
+}
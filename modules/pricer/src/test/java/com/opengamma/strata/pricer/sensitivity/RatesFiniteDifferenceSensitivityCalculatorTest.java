@@ -11,9 +11,12 @@ import static org.testng.Assert.assertEquals;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map.Entry;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.testng.annotations.Test;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.opengamma.strata.basics.StandardId;
 import com.opengamma.strata.basics.currency.Currency;
@@ -94,6 +97,53 @@ public class RatesFiniteDifferenceSensitivityCalculatorTest {
     }
   }
 
+  @Test
+  public void sensitivity_executor() {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      for (ImmutableRatesProvider provider : ImmutableList.of(
+          RatesProviderDataSets.SINGLE_USD, RatesProviderDataSets.MULTI_CPI_USD)) {
+        CurrencyParameterSensitivities expected = FD_CALCULATOR.sensitivity(provider, this::fn);
+        CurrencyParameterSensitivities computed = FD_CALCULATOR.sensitivity(provider, this::fn, executor);
+        assertEquals(computed, expected);
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void sensitivity_executor_batch() {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      ImmutableRatesProvider provider = RatesProviderDataSets.MULTI_CPI_USD;
+      List<Double> trades = ImmutableList.of(1d, -2.5d, 4d);
+      List<CurrencyParameterSensitivities> computed = FD_CALCULATOR.sensitivity(
+          provider, trades, (factor, prov) -> fn(prov).multipliedBy(factor), executor);
+      assertEquals(computed.size(), trades.size());
+      for (int i = 0; i < trades.size(); i++) {
+        double factor = trades.get(i);
+        assertEquals(computed.get(i), FD_CALCULATOR.sensitivity(provider, prov -> fn(prov).multipliedBy(factor)));
+      }
+      List<Double> empty = ImmutableList.of();
+      assertEquals(FD_CALCULATOR.sensitivity(provider, empty, (factor, prov) -> fn(prov), executor).size(), 0);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test(expectedExceptions = IllegalStateException.class)
+  public void sensitivity_executor_exception() {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      FD_CALCULATOR.sensitivity(RatesProviderDataSets.SINGLE_USD, provider -> {
+        throw new IllegalStateException();
+      }, executor);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
   // private function for testing. Returns the sum of rates multiplied by time
   private CurrencyAmount fn(ImmutableRatesProvider provider) {
     double result = 0.0;
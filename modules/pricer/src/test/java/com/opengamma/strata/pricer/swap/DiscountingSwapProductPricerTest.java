@@ -67,6 +67,7 @@ import com.opengamma.strata.basics.schedule.PeriodicSchedule;
 import com.opengamma.strata.basics.value.ValueSchedule;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
 import com.opengamma.strata.market.amount.CashFlow;
 import com.opengamma.strata.market.amount.CashFlows;
 import com.opengamma.strata.market.curve.Curve;
@@ -85,6 +86,7 @@ import com.opengamma.strata.pricer.impl.MockRatesProvider;
 import com.opengamma.strata.pricer.rate.IborRateSensitivity;
 import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
 import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.pricer.rate.RatesProviderScenarioArray;
 import com.opengamma.strata.pricer.sensitivity.RatesFiniteDifferenceSensitivityCalculator;
 import com.opengamma.strata.product.swap.CompoundingMethod;
 import com.opengamma.strata.product.swap.FixedRateCalculation;
@@ -414,6 +416,51 @@ public class DiscountingSwapProductPricerTest {
     assertEquals(pvComputed.getAmount(GBP).getAmount(), pvExpected, NOTIONAL * TOLERANCE_RATE);
   }
 
+  public void test_presentValue_scenarios() {
+    DiscountingSwapProductPricer pricerSwap = DiscountingSwapProductPricer.DEFAULT;
+    DiscountingSwapTradePricer pricerTrade = DiscountingSwapTradePricer.DEFAULT;
+    RatesProviderScenarioArray providers = RatesProviderScenarioArray.of(ImmutableList.of(
+        RATES_GBP_USD,
+        RatesProviderDataSets.shifted(RATES_GBP_USD, 0.002),
+        RatesProviderDataSets.MULTI_GBP_USD_SIMPLE));
+    for (ResolvedSwap swap : ImmutableList.of(SWAP, SWAP_CROSS_CURRENCY)) {
+      MultiCurrencyScenarioArray computed = pricerSwap.presentValue(swap, providers);
+      assertEquals(computed.getScenarioCount(), 3);
+      for (int i = 0; i < 3; i++) {
+        assertEquals(computed.get(i), pricerSwap.presentValue(swap, providers.get(i)));
+      }
+    }
+    assertEquals(
+        pricerTrade.presentValue(SWAP_TRADE, providers),
+        pricerSwap.presentValue(SWAP, providers));
+    // inflation periods are valued one scenario at a time
+    RatesProviderScenarioArray inflationProviders = RatesProviderScenarioArray.of(ImmutableList.of(
+        RATES_GBP_INFLATION, RatesProviderDataSets.shifted(RATES_GBP_INFLATION, 0.001)));
+    MultiCurrencyScenarioArray computedInflation = pricerSwap.presentValue(SWAP_INFLATION, inflationProviders);
+    for (int i = 0; i < 2; i++) {
+      assertEquals(computedInflation.get(i), pricerSwap.presentValue(SWAP_INFLATION, inflationProviders.get(i)));
+    }
+  }
+
+  public void test_presentValue_scenarios_nonStandardPricers() {
+    SwapPaymentPeriodPricer<SwapPaymentPeriod> mockPeriod = mock(SwapPaymentPeriodPricer.class);
+    when(mockPeriod.presentValue(IBOR_RATE_PAYMENT_PERIOD_REC_GBP, MOCK_PROV))
+        .thenReturn(1000d);
+    when(mockPeriod.presentValue(FIXED_RATE_PAYMENT_PERIOD_PAY_GBP, MOCK_PROV))
+        .thenReturn(-500d);
+    SwapPaymentEventPricer<SwapPaymentEvent> mockEvent = mock(SwapPaymentEventPricer.class);
+    when(mockEvent.presentValue(NOTIONAL_EXCHANGE_REC_GBP, MOCK_PROV))
+        .thenReturn(35d);
+    when(mockEvent.presentValue(NOTIONAL_EXCHANGE_PAY_GBP, MOCK_PROV))
+        .thenReturn(-30d);
+    DiscountingSwapLegPricer pricerLeg = new DiscountingSwapLegPricer(mockPeriod, mockEvent);
+    DiscountingSwapProductPricer pricerSwap = new DiscountingSwapProductPricer(pricerLeg);
+    RatesProviderScenarioArray providers = RatesProviderScenarioArray.of(ImmutableList.of(MOCK_PROV, MOCK_PROV));
+    assertEquals(
+        pricerSwap.presentValue(SWAP, providers),
+        MultiCurrencyScenarioArray.of(MultiCurrencyAmount.of(GBP, 505d), MultiCurrencyAmount.of(GBP, 505d)));
+  }
+
   //-------------------------------------------------------------------------
   public void test_forecastValue_singleCurrency() {
     SwapPaymentPeriodPricer<SwapPaymentPeriod> mockPeriod = mock(SwapPaymentPeriodPricer.class);
@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2018 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.swap;
+
+import static com.opengamma.strata.basics.date.Tenor.TENOR_10Y;
+import static com.opengamma.strata.basics.index.IborIndices.USD_LIBOR_3M;
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static com.opengamma.strata.pricer.datasets.RatesProviderDataSets.MULTI_GBP;
+import static com.opengamma.strata.pricer.datasets.RatesProviderDataSets.MULTI_GBP_USD;
+import static com.opengamma.strata.pricer.datasets.RatesProviderDataSets.MULTI_USD;
+import static com.opengamma.strata.pricer.swap.SwapDummyData.SWAP;
+import static com.opengamma.strata.pricer.swap.SwapDummyData.SWAP_CROSS_CURRENCY;
+import static com.opengamma.strata.pricer.swap.SwapDummyData.SWAP_INFLATION;
+import static com.opengamma.strata.product.common.BuySell.BUY;
+import static com.opengamma.strata.product.swap.type.FixedIborSwapConventions.USD_FIXED_6M_LIBOR_3M;
+import static org.testng.Assert.assertEquals;
+
+import java.time.LocalDate;
+
+import org.testng.annotations.Test;
+
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.index.PriceIndices;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeriesBuilder;
+import com.opengamma.strata.market.curve.Curves;
+import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
+import com.opengamma.strata.pricer.datasets.RatesProviderDataSets;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.product.swap.ResolvedSwap;
+
+/**
+ * Test {@link SwapCashFlowPlan}.
+ */
+@Test
+public class SwapCashFlowPlanTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final DiscountingSwapProductPricer PRODUCT_PRICER = DiscountingSwapProductPricer.DEFAULT;
+  private static final DiscountingSwapLegPricer LEG_PRICER = DiscountingSwapLegPricer.DEFAULT;
+  private static final ResolvedSwap SWAP_USD = USD_FIXED_6M_LIBOR_3M
+      .createTrade(MULTI_USD.getValuationDate(), TENOR_10Y, BUY, 1e8, 0.02, REF_DATA)
+      .getProduct()
+      .resolve(REF_DATA);
+  private static final ResolvedSwap SWAP_USD_SEASONED = USD_FIXED_6M_LIBOR_3M
+      .toTrade(date(2012, 8, 13), date(2012, 8, 15), date(2019, 8, 15), BUY, 1e8, 0.015)
+      .getProduct()
+      .resolve(REF_DATA);
+
+  //-------------------------------------------------------------------------
+  public void test_presentValue_singleCurrency() {
+    assertPlan(SWAP, MULTI_GBP);
+    assertPlan(SWAP_USD, MULTI_USD);
+    for (double shift : new double[] {-0.01, 0.001, 0.02}) {
+      assertPlan(SWAP_USD, RatesProviderDataSets.shifted(MULTI_USD, shift));
+    }
+    SwapCashFlowPlan plan = SwapCashFlowPlan.of(SWAP_USD);
+    int expectedCount = SWAP_USD.getLegs().stream()
+        .mapToInt(leg -> leg.getPaymentPeriods().size() + leg.getPaymentEvents().size())
+        .sum();
+    assertEquals(plan.getLegCount(), 2);
+    assertEquals(plan.getCompiledCount(), expectedCount);
+  }
+
+  public void test_presentValue_seasoned() {
+    LocalDateDoubleTimeSeriesBuilder builder = LocalDateDoubleTimeSeries.builder();
+    for (LocalDate date = date(2012, 1, 1); date.isBefore(MULTI_USD.getValuationDate()); date = date.plusDays(1)) {
+      builder.put(date, 0.003);
+    }
+    ImmutableRatesProvider provider = MULTI_USD.toBuilder().timeSeries(USD_LIBOR_3M, builder.build()).build();
+    assertPlan(SWAP_USD_SEASONED, provider);
+  }
+
+  public void test_presentValue_crossCurrency() {
+    assertPlan(SWAP_CROSS_CURRENCY, MULTI_GBP_USD);
+  }
+
+  public void test_presentValue_notCompiled() {
+    LocalDate valuationDate = date(2014, 7, 8);
+    ImmutableRatesProvider provider = ImmutableRatesProvider.builder(valuationDate)
+        .discountCurves(RatesProviderDataSets.multiGbp(valuationDate).getDiscountCurves())
+        .priceIndexCurve(PriceIndices.GB_RPI, InterpolatedNodalCurve.of(
+            Curves.prices("GB_RPI_CURVE_FLAT"),
+            DoubleArray.of(1, 2, 3, 4, 5, 6),
+            DoubleArray.filled(6, 242d),
+            CurveInterpolators.LINEAR))
+        .timeSeries(PriceIndices.GB_RPI, LocalDateDoubleTimeSeries.of(date(2014, 3, 31), 218d))
+        .build();
+    SwapCashFlowPlan plan = SwapCashFlowPlan.of(SWAP_INFLATION);
+    assertEquals(plan.getCompiledCount(), 0);
+    assertEquals(plan.presentValue(provider), PRODUCT_PRICER.presentValue(SWAP_INFLATION, provider));
+  }
+
+  public void test_pvbp() {
+    SwapCashFlowPlan plan = SwapCashFlowPlan.of(SWAP_USD);
+    for (int i = 0; i < SWAP_USD.getLegs().size(); i++) {
+      assertEquals(plan.pvbp(i, MULTI_USD), LEG_PRICER.pvbp(SWAP_USD.getLegs().get(i), MULTI_USD));
+    }
+    assertThrowsIllegalArg(() -> plan.pvbp(2, MULTI_USD));
+  }
+
+  public void test_toString() {
+    assertEquals(SwapCashFlowPlan.of(SWAP).toString().startsWith("SwapCashFlowPlan{legs=2"), true);
+  }
+
+  //-------------------------------------------------------------------------
+  private static void assertPlan(ResolvedSwap swap, RatesProvider provider) {
+    SwapCashFlowPlan plan = SwapCashFlowPlan.of(swap);
+    assertEquals(plan.presentValue(provider), PRODUCT_PRICER.presentValue(swap, provider));
+    for (int i = 0; i < swap.getLegs().size(); i++) {
+      assertEquals(plan.legPresentValue(i, provider), LEG_PRICER.presentValue(swap.getLegs().get(i), provider));
+    }
+  }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2018 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.swap;
+
+import static com.opengamma.strata.basics.currency.Currency.EUR;
+import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.pricer.datasets.RatesProviderDataSets.MULTI_GBP_USD;
+import static com.opengamma.strata.pricer.swap.SwapDummyData.SWAP;
+import static com.opengamma.strata.pricer.swap.SwapDummyData.SWAP_CROSS_CURRENCY;
+import static org.testng.Assert.assertEquals;
+
+import java.time.LocalDate;
+import java.util.TreeSet;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedSet;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.pricer.GridDiscountFactors;
+import com.opengamma.strata.pricer.rate.MemoizingRatesProvider;
+import com.opengamma.strata.product.swap.ResolvedSwap;
+import com.opengamma.strata.product.swap.ResolvedSwapLeg;
+import com.opengamma.strata.product.swap.SwapPaymentEvent;
+import com.opengamma.strata.product.swap.SwapPaymentPeriod;
+
+/**
+ * Test {@link SwapPaymentDates}.
+ */
+@Test
+public class SwapPaymentDatesTest {
+
+  private static final DiscountingSwapProductPricer PRICER = DiscountingSwapProductPricer.DEFAULT;
+  private static final ImmutableList<ResolvedSwap> SWAPS = ImmutableList.of(SWAP, SWAP_CROSS_CURRENCY, SWAP);
+
+  //-------------------------------------------------------------------------
+  public void test_of() {
+    SwapPaymentDates test = SwapPaymentDates.of(SWAPS);
+    assertEquals(test.getDates().keySet(), SWAP_CROSS_CURRENCY.allPaymentCurrencies());
+    assertEquals(test.getDates(GBP), expectedDates(GBP));
+    assertEquals(test.getDates(USD), expectedDates(USD));
+    assertEquals(test.getDates(EUR), ImmutableSortedSet.of());
+    assertEquals(test.toString().startsWith("SwapPaymentDates{"), true);
+  }
+
+  public void test_discountFactorGrid() {
+    SwapPaymentDates test = SwapPaymentDates.of(SWAPS);
+    MemoizingRatesProvider provider = test.discountFactorGrid(MULTI_GBP_USD);
+    GridDiscountFactors gbp = (GridDiscountFactors) provider.discountFactors(GBP);
+    assertEquals(gbp.getGridSize(), test.getDates(GBP).size());
+    for (ResolvedSwap swap : SWAPS) {
+      assertEquals(PRICER.presentValue(swap, provider), PRICER.presentValue(swap, MULTI_GBP_USD));
+      assertEquals(
+          PRICER.presentValueSensitivity(swap, provider).build(),
+          PRICER.presentValueSensitivity(swap, MULTI_GBP_USD).build());
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  private static TreeSet<LocalDate> expectedDates(Currency currency) {
+    TreeSet<LocalDate> dates = new TreeSet<>();
+    for (ResolvedSwap swap : SWAPS) {
+      for (ResolvedSwapLeg leg : swap.getLegs()) {
+        for (SwapPaymentPeriod period : leg.getPaymentPeriods()) {
+          if (period.getCurrency().equals(currency)) {
+            dates.add(period.getPaymentDate());
+          }
+        }
+        for (SwapPaymentEvent event : leg.getPaymentEvents()) {
+          if (event.getCurrency().equals(currency)) {
+            dates.add(event.getPaymentDate());
+          }
+        }
+      }
+    }
+    return dates;
+  }
+
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (C) 2018 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.swap.e2e;
+
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.basics.date.DayCounts.THIRTY_U_360;
+import static com.opengamma.strata.basics.schedule.Frequency.P3M;
+import static com.opengamma.strata.basics.schedule.Frequency.P6M;
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+import static com.opengamma.strata.pricer.swap.e2e.SwapEnd2EndTest.BDA_MF;
+import static com.opengamma.strata.pricer.swap.e2e.SwapEnd2EndTest.BDA_P;
+import static com.opengamma.strata.pricer.swap.e2e.SwapEnd2EndTest.NOTIONAL;
+import static com.opengamma.strata.pricer.swap.e2e.SwapEnd2EndTest.USD_LIBOR_3M;
+import static com.opengamma.strata.product.common.PayReceive.PAY;
+import static com.opengamma.strata.product.common.PayReceive.RECEIVE;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
+
+import com.opengamma.strata.basics.ImmutableReferenceData;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.date.DaysAdjustment;
+import com.opengamma.strata.basics.schedule.Frequency;
+import com.opengamma.strata.basics.schedule.PeriodicSchedule;
+import com.opengamma.strata.basics.value.ValueSchedule;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+import com.opengamma.strata.pricer.rate.MemoizingRatesProvider;
+import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.pricer.swap.DiscountingSwapTradePricer;
+import com.opengamma.strata.product.TradeInfo;
+import com.opengamma.strata.product.common.PayReceive;
+import com.opengamma.strata.product.swap.FixedRateCalculation;
+import com.opengamma.strata.product.swap.IborRateCalculation;
+import com.opengamma.strata.product.swap.PaymentSchedule;
+import com.opengamma.strata.product.swap.RateCalculation;
+import com.opengamma.strata.product.swap.RateCalculationSwapLeg;
+import com.opengamma.strata.product.swap.ResolvedSwapTrade;
+import com.opengamma.strata.product.swap.Swap;
+import com.opengamma.strata.product.swap.SwapLeg;
+import com.opengamma.strata.product.swap.SwapTrade;
+
+/**
+ * Vague performance test of the present value of a book of swaps.
+ * <p>
+ * This prices a book of distinct swaps many times, reporting the time per PV and the garbage collections.
+ * The swaps start on one of a few dates and have maturities from 5 to 40 years,
+ * thus some of the Ibor fixings are observed by several swaps, as in a real book.
+ * Pricing against one provider uses the views cached by the provider.
+ * Pricing against a fresh copy of the provider for each swap shows the cost without the cache.
+ * Pricing against a memoizing provider, created once for each pricing of the book, shows the effect of
+ * sharing the forward rates between the distinct swaps observing the index on the same dates.
+ * <p>
+ * The garbage collections only separate the cases when run with a small young generation, such as {@code -Xmn8m}.
+ * With the default heap each run of the book causes at most one collection.
+ */
+public class SwapBookPerformance {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard()
+      .combinedWith(ImmutableReferenceData.of(CalendarUSD.NYC, CalendarUSD.NYC_CALENDAR));
+  private static final DiscountingSwapTradePricer PRICER = DiscountingSwapTradePricer.DEFAULT;
+  private static final ImmutableRatesProvider PROVIDER = (ImmutableRatesProvider) SwapEnd2EndTest.provider();
+  private static final int BOOK_SIZE = 200;
+  private static final int COUNT = 20;
+  private static final List<ResolvedSwapTrade> BOOK = IntStream.range(0, BOOK_SIZE)
+      .mapToObj(SwapBookPerformance::trade)
+      .collect(toImmutableList());
+
+  public static void main(String[] args) throws Exception {
+    System.out.println("Go");
+    for (int i = 0; i < 10; i++) {
+      double total = 0d;
+      total += run("shared provider   ", () -> PROVIDER, book -> book);
+      total += run("fresh provider    ", () -> PROVIDER, book -> PROVIDER.toBuilder().build());
+      total += run("memoizing provider", () -> MemoizingRatesProvider.of(PROVIDER), book -> book);
+      System.out.println("Avoiding hotspot: " + total);
+    }
+  }
+
+  // prices the book, with a provider created for each pricing of the book, and from it one for each trade
+  private static double run(
+      String description,
+      Supplier<RatesProvider> bookProvider,
+      UnaryOperator<RatesProvider> tradeProvider) {
+
+    long startCollections = collections();
+    long start = System.nanoTime();
+    double total = 0d;
+    for (int i = 0; i < COUNT; i++) {
+      RatesProvider book = bookProvider.get();
+      for (ResolvedSwapTrade trade : BOOK) {
+        total += PRICER.presentValue(trade, USD, tradeProvider.apply(book)).getAmount();
+      }
+    }
+    long end = System.nanoTime();
+    long endCollections = collections();
+    System.out.println(description + ": " + (end - start) / (COUNT * BOOK_SIZE) / 1000d + " us per PV, " +
+        (endCollections - startCollections) + " garbage collections");
+    return total;
+  }
+
+  // a distinct swap of the book, starting on one of 10 dates with a maturity of 5 to 40 years
+  private static ResolvedSwapTrade trade(int index) {
+    LocalDate startDate = LocalDate.of(2014, 9, 12).plusWeeks(index % 10);
+    int years = 5 + 5 * (index % 8);
+    return SwapTrade.builder()
+        .info(TradeInfo.builder().tradeDate(LocalDate.of(2014, 9, 10)).build())
+        .product(Swap.of(
+            leg(startDate, years, P6M, PAY, FixedRateCalculation.builder()
+                .dayCount(THIRTY_U_360)
+                .rate(ValueSchedule.of(0.01 + 0.0001 * index))
+                .build()),
+            leg(startDate, years, P3M, RECEIVE, IborRateCalculation.builder()
+                .index(USD_LIBOR_3M)
+                .fixingDateOffset(DaysAdjustment.ofBusinessDays(-2, CalendarUSD.NYC, BDA_P))
+                .build())))
+        .build()
+        .resolve(REF_DATA);
+  }
+
+  // the total number of garbage collections so far
+  private static long collections() {
+    long total = 0;
+    for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+      total += Math.max(bean.getCollectionCount(), 0);
+    }
+    return total;
+  }
+
+  private static SwapLeg leg(
+      LocalDate startDate,
+      int years,
+      Frequency frequency,
+      PayReceive payReceive,
+      RateCalculation calculation) {
+
+    return RateCalculationSwapLeg.builder()
+        .payReceive(payReceive)
+        .accrualSchedule(PeriodicSchedule.builder()
+            .startDate(startDate)
+            .endDate(startDate.plusYears(years))
+            .frequency(frequency)
+            .businessDayAdjustment(BDA_MF)
+            .build())
+        .paymentSchedule(PaymentSchedule.builder()
+            .paymentFrequency(frequency)
+            .paymentDateOffset(DaysAdjustment.NONE)
+            .build())
+        .notionalSchedule(NOTIONAL)
+        .calculation(calculation)
+        .build();
+  }
+
+}
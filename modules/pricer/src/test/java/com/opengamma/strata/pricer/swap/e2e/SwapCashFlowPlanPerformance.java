@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2018 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.swap.e2e;
+
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.basics.date.DayCounts.THIRTY_U_360;
+import static com.opengamma.strata.basics.schedule.Frequency.P3M;
+import static com.opengamma.strata.basics.schedule.Frequency.P6M;
+import static com.opengamma.strata.pricer.swap.e2e.SwapEnd2EndTest.BDA_MF;
+import static com.opengamma.strata.pricer.swap.e2e.SwapEnd2EndTest.BDA_P;
+import static com.opengamma.strata.pricer.swap.e2e.SwapEnd2EndTest.NOTIONAL;
+import static com.opengamma.strata.pricer.swap.e2e.SwapEnd2EndTest.USD_LIBOR_3M;
+import static com.opengamma.strata.product.common.PayReceive.PAY;
+import static com.opengamma.strata.product.common.PayReceive.RECEIVE;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+
+import com.opengamma.strata.basics.ImmutableReferenceData;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
+import com.opengamma.strata.basics.date.DaysAdjustment;
+import com.opengamma.strata.basics.schedule.Frequency;
+import com.opengamma.strata.basics.schedule.PeriodicSchedule;
+import com.opengamma.strata.basics.value.ValueSchedule;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+import com.opengamma.strata.pricer.swap.DiscountingSwapProductPricer;
+import com.opengamma.strata.pricer.swap.SwapCashFlowPlan;
+import com.opengamma.strata.product.TradeInfo;
+import com.opengamma.strata.product.common.PayReceive;
+import com.opengamma.strata.product.swap.FixedRateCalculation;
+import com.opengamma.strata.product.swap.IborRateCalculation;
+import com.opengamma.strata.product.swap.PaymentSchedule;
+import com.opengamma.strata.product.swap.RateCalculation;
+import com.opengamma.strata.product.swap.RateCalculationSwapLeg;
+import com.opengamma.strata.product.swap.ResolvedSwap;
+import com.opengamma.strata.product.swap.ResolvedSwapTrade;
+import com.opengamma.strata.product.swap.Swap;
+import com.opengamma.strata.product.swap.SwapLeg;
+import com.opengamma.strata.product.swap.SwapTrade;
+
+/**
+ * Vague performance test of the present value of a long swap using a {@link SwapCashFlowPlan}.
+ * <p>
+ * This prices a 40 year quarterly swap many times, reporting the time per PV and the garbage collections.
+ * The standard pricer is compared to a plan compiled once before pricing starts.
+ */
+public class SwapCashFlowPlanPerformance {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard()
+      .combinedWith(ImmutableReferenceData.of(CalendarUSD.NYC, CalendarUSD.NYC_CALENDAR));
+  private static final DiscountingSwapProductPricer PRICER = DiscountingSwapProductPricer.DEFAULT;
+  private static final ImmutableRatesProvider PROVIDER = (ImmutableRatesProvider) SwapEnd2EndTest.provider();
+  private static final int COUNT = 2_000;
+
+  private static final ResolvedSwapTrade TRADE = SwapTrade.builder()
+      .info(TradeInfo.builder().tradeDate(LocalDate.of(2014, 9, 10)).build())
+      .product(Swap.of(
+          leg(P6M, PAY, FixedRateCalculation.builder()
+              .dayCount(THIRTY_U_360)
+              .rate(ValueSchedule.of(0.015))
+              .build()),
+          leg(P3M, RECEIVE, IborRateCalculation.builder()
+              .index(USD_LIBOR_3M)
+              .fixingDateOffset(DaysAdjustment.ofBusinessDays(-2, CalendarUSD.NYC, BDA_P))
+              .build())))
+      .build()
+      .resolve(REF_DATA);
+  private static final ResolvedSwap SWAP = TRADE.getProduct();
+  private static final SwapCashFlowPlan PLAN = SwapCashFlowPlan.of(SWAP);
+
+  public static void main(String[] args) throws Exception {
+    System.out.println("Go");
+    for (int i = 0; i < 10; i++) {
+      double total = 0d;
+      total += run("standard pricer", false);
+      total += run("compiled plan  ", true);
+      System.out.println("Avoiding hotspot: " + total);
+    }
+  }
+
+  private static double run(String description, boolean plan) {
+    long startCollections = collections();
+    long start = System.nanoTime();
+    double total = 0d;
+    for (int i = 0; i < COUNT; i++) {
+      MultiCurrencyAmount pv = plan ? PLAN.presentValue(PROVIDER) : PRICER.presentValue(SWAP, PROVIDER);
+      total += pv.getAmount(USD).getAmount();
+    }
+    long end = System.nanoTime();
+    long endCollections = collections();
+    System.out.println(description + ": " + (end - start) / COUNT / 1000d + " us per PV, " +
+        (endCollections - startCollections) + " garbage collections");
+    return total;
+  }
+
+  // the total number of garbage collections so far
+  private static long collections() {
+    long total = 0;
+    for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+      total += Math.max(bean.getCollectionCount(), 0);
+    }
+    return total;
+  }
+
+  private static SwapLeg leg(
+      Frequency frequency,
+      PayReceive payReceive,
+      RateCalculation calculation) {
+
+    return RateCalculationSwapLeg.builder()
+        .payReceive(payReceive)
+        .accrualSchedule(PeriodicSchedule.builder()
+            .startDate(LocalDate.of(2014, 9, 12))
+            .endDate(LocalDate.of(2054, 9, 12))
+            .frequency(frequency)
+            .businessDayAdjustment(BDA_MF)
+            .build())
+        .paymentSchedule(PaymentSchedule.builder()
+            .paymentFrequency(frequency)
+            .paymentDateOffset(DaysAdjustment.NONE)
+            .build())
+        .notionalSchedule(NOTIONAL)
+        .calculation(calculation)
+        .build();
+  }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2018 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.swap.e2e;
+
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.product.swap.type.FixedIborSwapConventions.USD_FIXED_6M_LIBOR_3M;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.date.Tenor;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+import com.opengamma.strata.pricer.rate.MemoizingRatesProvider;
+import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.pricer.swap.DiscountingSwapProductPricer;
+import com.opengamma.strata.pricer.swap.SwapPaymentDates;
+import com.opengamma.strata.product.common.BuySell;
+import com.opengamma.strata.product.swap.ResolvedSwap;
+
+/**
+ * Vague performance test of the present value of a book of swaps using a grid of discount factors.
+ * <p>
+ * This prices a book of 100,000 swaps, starting on one of the next twelve IMM-like dates with
+ * a tenor of 1 to 30 years, thus the book pays on a small set of dates.
+ * The standard provider is compared to a memoizing provider, with and without discount factors
+ * precomputed for the payment dates of the book. The time of the pre-pass is included.
+ */
+public class SwapPortfolioGridPerformance {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final DiscountingSwapProductPricer PRICER = DiscountingSwapProductPricer.DEFAULT;
+  private static final ImmutableRatesProvider PROVIDER = (ImmutableRatesProvider) SwapEnd2EndTest.provider();
+  private static final int COUNT = 100_000;
+
+  public static void main(String[] args) throws Exception {
+    System.out.println("Go");
+    List<ResolvedSwap> book = book();
+    System.out.println("Book of " + book.size() + " swaps");
+    for (int i = 0; i < 5; i++) {
+      double total = 0d;
+      total += run("standard provider ", book, false, false);
+      total += run("memoizing provider", book, true, false);
+      total += run("memoizing and grid", book, true, true);
+      System.out.println("Avoiding hotspot: " + total);
+    }
+  }
+
+  private static double run(String description, List<ResolvedSwap> book, boolean memoizing, boolean grid) {
+    long start = System.nanoTime();
+    RatesProvider provider = PROVIDER;
+    if (grid) {
+      provider = SwapPaymentDates.of(book).discountFactorGrid(PROVIDER);
+    } else if (memoizing) {
+      provider = MemoizingRatesProvider.of(PROVIDER);
+    }
+    long prepared = System.nanoTime();
+    double total = 0d;
+    for (ResolvedSwap swap : book) {
+      total += PRICER.presentValue(swap, provider).getAmount(USD).getAmount();
+    }
+    long end = System.nanoTime();
+    System.out.println(description + ": " + (end - start) / 1_000_000 + " ms per book, " +
+        (prepared - start) / 1_000_000 + " ms of which preparing, " +
+        (end - prepared) / book.size() / 1000d + " us per swap");
+    return total;
+  }
+
+  // the book, using the IMM-like start dates and the tenors
+  private static List<ResolvedSwap> book() {
+    LocalDate valuationDate = PROVIDER.getValuationDate();
+    List<ResolvedSwap> book = new ArrayList<>(COUNT);
+    for (int i = 0; i < COUNT; i++) {
+      LocalDate startDate = valuationDate.plusMonths(1 + i % 12).withDayOfMonth(20);
+      Tenor tenor = Tenor.of(Period.ofYears(1 + (i / 12) % 30));
+      double rate = 0.01 + 0.0001 * (i % 50);
+      BuySell buySell = i % 2 == 0 ? BuySell.BUY : BuySell.SELL;
+      book.add(USD_FIXED_6M_LIBOR_3M
+          .toTrade(valuationDate, startDate, startDate.plus(tenor), buySell, 1_000_000d, rate)
+          .getProduct()
+          .resolve(REF_DATA));
+    }
+    return book;
+  }
+
+}
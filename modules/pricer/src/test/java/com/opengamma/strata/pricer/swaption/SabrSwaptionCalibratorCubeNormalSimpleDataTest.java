@@ -28,12 +28,16 @@ import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.testng.annotations.Test;
 
 import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.date.Tenor;
+import com.opengamma.strata.basics.value.ValueDerivatives;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.io.ResourceLocator;
 import com.opengamma.strata.collect.tuple.Pair;
@@ -55,6 +59,10 @@ import com.opengamma.strata.pricer.curve.CalibrationMeasures;
 import com.opengamma.strata.pricer.curve.CurveCalibrator;
 import com.opengamma.strata.pricer.impl.option.BlackFormulaRepository;
 import com.opengamma.strata.pricer.impl.option.NormalFormulaRepository;
+import com.opengamma.strata.pricer.impl.volatility.smile.SabrFormulaData;
+import com.opengamma.strata.pricer.impl.volatility.smile.SabrHaganVolatilityFunctionProvider;
+import com.opengamma.strata.pricer.impl.volatility.smile.VolatilityFunctionProvider;
+import com.opengamma.strata.pricer.model.SabrVolatilityFormula;
 import com.opengamma.strata.pricer.option.TenorRawOptionData;
 import com.opengamma.strata.pricer.rate.RatesProvider;
 import com.opengamma.strata.pricer.swap.DiscountingSwapProductPricer;
@@ -154,6 +162,97 @@ public class SabrSwaptionCalibratorCubeNormalSimpleDataTest {
     }
   }
 
+  @Test
+  public void normal_cube_parallel() {
+    Surface betaSurface = ConstantSurface.of("Beta", 0.50)
+        .withMetadata(DefaultSurfaceMetadata.builder()
+            .xValueType(ValueType.YEAR_FRACTION).yValueType(ValueType.YEAR_FRACTION)
+            .zValueType(ValueType.SABR_BETA).surfaceName("Beta").build());
+    Surface shiftSurface = ConstantSurface.of("Shift", 0.0300)
+        .withMetadata(DefaultSurfaceMetadata.builder()
+            .xValueType(ValueType.YEAR_FRACTION).yValueType(ValueType.YEAR_FRACTION).surfaceName("Shift").build());
+    SabrParametersSwaptionVolatilities expected = SABR_CALIBRATION.calibrateWithFixedBetaAndShift(
+        DEFINITION, CALIBRATION_TIME, DATA_SIMPLE, MULTICURVE, betaSurface, shiftSurface);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      SabrParametersSwaptionVolatilities computed = SABR_CALIBRATION.calibrateWithFixedBetaAndShift(
+          DEFINITION, CALIBRATION_TIME, DATA_SIMPLE, MULTICURVE, betaSurface, shiftSurface, true, executor);
+      assertEquals(computed, expected);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void normal_cube_seeded() {
+    Surface betaSurface = ConstantSurface.of("Beta", 0.50)
+        .withMetadata(DefaultSurfaceMetadata.builder()
+            .xValueType(ValueType.YEAR_FRACTION).yValueType(ValueType.YEAR_FRACTION)
+            .zValueType(ValueType.SABR_BETA).surfaceName("Beta").build());
+    Surface shiftSurface = ConstantSurface.of("Shift", 0.0300)
+        .withMetadata(DefaultSurfaceMetadata.builder()
+            .xValueType(ValueType.YEAR_FRACTION).yValueType(ValueType.YEAR_FRACTION).surfaceName("Shift").build());
+    SabrParametersSwaptionVolatilities expected = SABR_CALIBRATION.calibrateWithFixedBetaAndShift(
+        DEFINITION, CALIBRATION_TIME, DATA_SIMPLE, MULTICURVE, betaSurface, shiftSurface);
+    SabrParametersSwaptionVolatilities neighbours = SABR_CALIBRATION.calibrateWithFixedBetaAndShiftFromNeighbours(
+        DEFINITION, CALIBRATION_TIME, DATA_SIMPLE, MULTICURVE, betaSurface, shiftSurface, true);
+    SabrParametersSwaptionVolatilities prior = SABR_CALIBRATION.calibrateWithFixedBetaAndShiftFromPrior(
+        DEFINITION, CALIBRATION_TIME, DATA_SIMPLE, MULTICURVE, betaSurface, shiftSurface, true, expected);
+    for (SabrParametersSwaptionVolatilities computed : ImmutableList.of(neighbours, prior)) {
+      assertEquals(computed.getParameters().getParameterCount(), expected.getParameters().getParameterCount());
+      for (int i = 0; i < expected.getParameters().getParameterCount(); i++) {
+        assertEquals(computed.getParameters().getParameter(i), expected.getParameters().getParameter(i), 1.0E-8);
+      }
+    }
+    // on data fitted by the SABR formula, the seeded calibrations skip the four standard starting points
+    TenorRawOptionData dataSabr = sabrData(expected, 0.0300);
+    CountingSabrFormula formula = new CountingSabrFormula();
+    SabrSwaptionCalibrator calibrator = SabrSwaptionCalibrator.of(formula, SWAP_PRICER);
+    SabrParametersSwaptionVolatilities standardSabr = calibrator.calibrateWithFixedBetaAndShift(
+        DEFINITION, CALIBRATION_TIME, dataSabr, MULTICURVE, betaSurface, shiftSurface);
+    long countStandard = formula.reset();
+    SabrParametersSwaptionVolatilities neighboursSabr = calibrator.calibrateWithFixedBetaAndShiftFromNeighbours(
+        DEFINITION, CALIBRATION_TIME, dataSabr, MULTICURVE, betaSurface, shiftSurface, true);
+    long countNeighbours = formula.reset();
+    SabrParametersSwaptionVolatilities priorSabr = calibrator.calibrateWithFixedBetaAndShiftFromPrior(
+        DEFINITION, CALIBRATION_TIME, dataSabr, MULTICURVE, betaSurface, shiftSurface, true, expected);
+    long countPrior = formula.reset();
+    for (SabrParametersSwaptionVolatilities computed : ImmutableList.of(neighboursSabr, priorSabr)) {
+      for (int i = 0; i < expected.getParameters().getParameterCount(); i++) {
+        assertEquals(computed.getParameters().getParameter(i), standardSabr.getParameters().getParameter(i), 1.0E-6);
+      }
+    }
+    assertTrue(countNeighbours < countStandard / 2, countNeighbours + " not less than half of " + countStandard);
+    assertTrue(countPrior < countStandard / 4, countPrior + " not less than a quarter of " + countStandard);
+  }
+
+  // the normal volatilities of the simple data, replaced by the ones of the SABR parameters
+  private static TenorRawOptionData sabrData(SabrParametersSwaptionVolatilities sabr, double shift) {
+    double[][][] data = new double[TENORS_SIMPLE.size()][EXPIRIES_SIMPLE.size()][MONEYNESS.size()];
+    for (int looptenor = 0; looptenor < TENORS_SIMPLE.size(); looptenor++) {
+      double tenor = TENORS_SIMPLE.get(looptenor).get(ChronoUnit.YEARS);
+      for (int loopexpiry = 0; loopexpiry < EXPIRIES_SIMPLE.size(); loopexpiry++) {
+        LocalDate expiry = EUR_FIXED_1Y_EURIBOR_6M.getFloatingLeg().getStartDateBusinessDayAdjustment()
+            .adjust(CALIBRATION_DATE.plus(EXPIRIES_SIMPLE.get(loopexpiry)), REF_DATA);
+        LocalDate effectiveDate = EUR_FIXED_1Y_EURIBOR_6M.calculateSpotDateFromTradeDate(expiry, REF_DATA);
+        LocalDate endDate = effectiveDate.plus(TENORS_SIMPLE.get(looptenor));
+        SwapTrade swap = EUR_FIXED_1Y_EURIBOR_6M
+            .toTrade(CALIBRATION_DATE, effectiveDate, endDate, BuySell.BUY, 1.0, 0.0);
+        double parRate = SWAP_PRICER.parRate(swap.resolve(REF_DATA).getProduct(), MULTICURVE);
+        ZonedDateTime expiryDateTime = expiry.atTime(11, 0).atZone(ZoneId.of("Europe/Berlin"));
+        double time = sabr.relativeTime(expiryDateTime);
+        for (int loopmoney = 0; loopmoney < MONEYNESS.size(); loopmoney++) {
+          double strike = parRate + MONEYNESS.get(loopmoney);
+          double volBlack = sabr.volatility(expiryDateTime, tenor, strike, parRate);
+          data[looptenor][loopexpiry][loopmoney] = NormalFormulaRepository.impliedVolatilityFromBlackApproximated(
+              parRate + shift, strike + shift, time, volBlack);
+        }
+      }
+    }
+    return SabrSwaptionCalibratorSmileTestUtils.rawData(
+        TENORS_SIMPLE, EXPIRIES_SIMPLE, ValueType.SIMPLE_MONEYNESS, MONEYNESS, ValueType.NORMAL_VOLATILITY, data);
+  }
+
   @SuppressWarnings("unused")
   @Test
   public void normal_atm() {
@@ -309,4 +408,77 @@ public class SabrSwaptionCalibratorCubeNormalSimpleDataTest {
     }
   }
 
+  //-------------------------------------------------------------------------
+  // the Hagan formula, counting the evaluations of the volatility and its derivatives
+  private static final class CountingSabrFormula
+      extends VolatilityFunctionProvider<SabrFormulaData>
+      implements SabrVolatilityFormula {
+
+    private static final SabrHaganVolatilityFunctionProvider HAGAN = SabrHaganVolatilityFunctionProvider.DEFAULT;
+    private final AtomicLong count = new AtomicLong();
+
+    // the number of evaluations since the last reset
+    private long reset() {
+      return count.getAndSet(0);
+    }
+
+    @Override
+    public double volatility(double forward, double strike, double timeToExpiry, SabrFormulaData data) {
+      count.incrementAndGet();
+      return HAGAN.volatility(forward, strike, timeToExpiry, data);
+    }
+
+    @Override
+    public ValueDerivatives volatilityAdjoint(
+        double forward,
+        double strike,
+        double timeToExpiry,
+        SabrFormulaData data) {
+
+      count.incrementAndGet();
+      return HAGAN.volatilityAdjoint(forward, strike, timeToExpiry, data);
+    }
+
+    @Override
+    public double volatilityAdjoint2(
+        double forward,
+        double strike,
+        double timeToExpiry,
+        SabrFormulaData data,
+        double[] volatilityD,
+        double[][] volatilityD2) {
+
+      count.incrementAndGet();
+      return HAGAN.volatilityAdjoint2(forward, strike, timeToExpiry, data, volatilityD, volatilityD2);
+    }
+
+    @Override
+    public double volatility(
+        double forward,
+        double strike,
+        double timeToExpiry,
+        double alpha,
+        double beta,
+        double rho,
+        double nu) {
+
+      count.incrementAndGet();
+      return HAGAN.volatility(forward, strike, timeToExpiry, alpha, beta, rho, nu);
+    }
+
+    @Override
+    public ValueDerivatives volatilityAdjoint(
+        double forward,
+        double strike,
+        double timeToExpiry,
+        double alpha,
+        double beta,
+        double rho,
+        double nu) {
+
+      count.incrementAndGet();
+      return HAGAN.volatilityAdjoint(forward, strike, timeToExpiry, alpha, beta, rho, nu);
+    }
+  }
+
 }